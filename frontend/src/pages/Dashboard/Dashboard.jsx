@@ -1,9 +1,11 @@
-import React, { useEffect, useMemo } from 'react'
+import React, { useEffect, useMemo, useState } from 'react'
 import { useNavigate } from 'react-router-dom'
 import { useAppDispatch, useAppSelector } from '../../store/hooks'
 import {
   setStats,
   setRecommendations,
+  appendRecommendations,
+  setRecommendationsCursor,
   setRecentApplications,
   setActiveTab,
   setLoading,
@@ -11,7 +13,11 @@ import {
   clearError,
   updateLastUpdated,
 } from '../../store/slices/dashboardSlice'
-import { fetchDashboardData } from '../../services/dashboardService'
+import {
+  fetchDashboardData,
+  fetchRecommendedJobs,
+  transformRecommendedPage,
+} from '../../services/dashboardService'
 import Header from './components/Header'
 import Stats from './components/Stats'
 import Recommendations from './components/Recommendations'
@@ -30,6 +36,7 @@ function Dashboard() {
   const {
     stats,
     recommendations,
+    recommendationsCursor,
     recentApplications,
     activeTab,
     loading,
@@ -40,6 +47,8 @@ function Dashboard() {
 
   // Get user ID from auth state (adjust based on your auth implementation)
   const userId = useAppSelector((state) => state.auth?.user?.id) || 1
+  const [userProfile, setUserProfile] = useState(null)
+  const [loadingMore, setLoadingMore] = useState(false)
 
   // Fetch dashboard data on component mount
   useEffect(() => {
@@ -52,6 +61,8 @@ function Dashboard() {
 
         dispatch(setStats(dashboardData.stats))
         dispatch(setRecommendations(dashboardData.recommendations))
+        dispatch(setRecommendationsCursor(dashboardData.nextCursor))
+        setUserProfile(dashboardData.userProfile)
         dispatch(setRecentApplications([])) // TODO: Fetch from applications API when available
         dispatch(updateLastUpdated())
       } catch (err) {
@@ -126,6 +137,23 @@ function Dashboard() {
     }
   }, [filteredRecommendations, recentApplications, recommendations])
 
+  // Fetch the next page of recommendations, continuing from the server's cursor
+  const handleLoadMore = async () => {
+    if (!recommendationsCursor || loadingMore) return
+    try {
+      setLoadingMore(true)
+      const page = await fetchRecommendedJobs(userId, recommendationsCursor)
+      const { recommendations: more, nextCursor } = transformRecommendedPage(page, userProfile)
+      dispatch(appendRecommendations(more))
+      dispatch(setRecommendationsCursor(nextCursor))
+    } catch (err) {
+      console.error('Error loading more recommendations:', err)
+      dispatch(setError(err.message || 'Failed to load more recommendations.'))
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
   // Handle job view navigation
   const handleViewJob = (id) => {
     navigate(`/jobs/${id}`)
@@ -140,6 +168,9 @@ function Dashboard() {
             recommendations={filteredRecommendations}
             onView={handleViewJob}
             loading={loading}
+            hasMore={Boolean(recommendationsCursor)}
+            loadingMore={loadingMore}
+            onLoadMore={handleLoadMore}
           />
         )
       case 'Applied':
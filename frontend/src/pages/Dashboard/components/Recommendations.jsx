@@ -3,11 +3,19 @@ import React from 'react'
 /**
  * Recommendations
  * Grid of recommended jobs with fit badge and quick actions.
- * Displays jobs passed as props (filtered by parent component).
+ * Displays jobs passed as props (filtered by parent component), in the order the server ranked them.
  *
- * @param {{ recommendations: Array, onView: (id: string) => void, loading?: boolean }} props
+ * @param {{ recommendations: Array, onView: (id: string) => void, loading?: boolean,
+ *           hasMore?: boolean, loadingMore?: boolean, onLoadMore?: () => void }} props
  */
-function Recommendations({ recommendations = [], onView, loading = false }) {
+function Recommendations({
+  recommendations = [],
+  onView,
+  loading = false,
+  hasMore = false,
+  loadingMore = false,
+  onLoadMore,
+}) {
   if (loading && recommendations.length === 0) {
     return (
       <div className="dash__section dash__section--compact">
@@ -87,6 +95,13 @@ function Recommendations({ recommendations = [], onView, loading = false }) {
           </div>
         ))}
       </div>
+      {hasMore && onLoadMore && (
+        <div className="dash__card-actions">
+          <button className="dash__btn dash__btn--secondary" onClick={onLoadMore} disabled={loadingMore}>
+            {loadingMore ? 'Loading...' : 'Load more'}
+          </button>
+        </div>
+      )}
     </div>
   )
 }
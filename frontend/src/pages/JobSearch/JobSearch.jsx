@@ -2,7 +2,7 @@ import React, { useEffect, useMemo } from 'react'
 import { useSearchParams } from 'react-router-dom'
 import { useAppDispatch, useAppSelector } from '../../store/hooks'
 import { setQuery, setJobs, setFilters as setJobSearchFilters, setTotalPages, setLoading, setError } from '../../store/slices/jobSearchSlice'
-import { fetchActiveJobs, transformJobForSearch } from '../../services/dashboardService'
+import { fetchAllActiveJobs, transformJobForSearch } from '../../services/dashboardService'
 import NavigationBar from '../../components/NavigationBar/NavigationBar'
 import SearchBar from './components/SearchBar'
 import Filters from './components/Filters'
@@ -28,8 +28,8 @@ function JobSearch() {
         dispatch(setLoading(true))
         dispatch(setError(null))
         
-        // Fetch active jobs from backend
-        const activeJobs = await fetchActiveJobs()
+        // Fetch all active jobs from backend, every cursor page
+        const activeJobs = await fetchAllActiveJobs()
         
         // Transform jobs to search page format
         const transformedJobs = activeJobs.map(transformJobForSearch)
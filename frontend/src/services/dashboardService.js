@@ -7,12 +7,16 @@ import apiClient, { getAuthToken } from './authService';
  */
 
 /**
- * Fetch all active jobs
- * @returns {Promise<Array>} List of active jobs
+ * Fetch one page of active jobs
+ * @param {string} cursor - Opaque cursor from the previous page (omit for the first page)
+ * @param {number} size - Page size (server caps it at 100)
+ * @returns {Promise<Object>} Page with items, nextCursor and hasMore
  */
-export const fetchActiveJobs = async () => {
+export const fetchActiveJobs = async (cursor = null, size = 100) => {
   try {
-    const response = await apiClient.get('/v1/job/active');
+    const response = await apiClient.get('/v1/job/active', {
+      params: { cursor: cursor || undefined, size },
+    });
 
     return response.data;
   } catch (error) {
@@ -22,12 +26,32 @@ export const fetchActiveJobs = async () => {
 };
 
 /**
- * Fetch all jobs
- * @returns {Promise<Array>} List of all jobs
+ * Fetch every active job, following nextCursor page by page until the last one
+ * @param {number} size - Page size (server caps it at 100)
+ * @returns {Promise<Array>} List of all active jobs, newest first
  */
-export const fetchAllJobs = async () => {
+export const fetchAllActiveJobs = async (size = 100) => {
+  const jobs = [];
+  let cursor = null;
+  do {
+    const page = await fetchActiveJobs(cursor, size);
+    jobs.push(...page.items);
+    cursor = page.nextCursor;
+  } while (cursor);
+  return jobs;
+};
+
+/**
+ * Fetch one page of jobs
+ * @param {string} cursor - Opaque cursor from the previous page (omit for the first page)
+ * @param {number} size - Page size (server caps it at 100)
+ * @returns {Promise<Object>} Page with items, nextCursor and hasMore
+ */
+export const fetchAllJobs = async (cursor = null, size = 20) => {
   try {
-    const response = await apiClient.get('/v1/job');
+    const response = await apiClient.get('/v1/job', {
+      params: { cursor: cursor || undefined, size },
+    });
     return response.data;
   } catch (error) {
     console.error('Error fetching jobs:', error);
@@ -35,6 +59,41 @@ export const fetchAllJobs = async () => {
   }
 };
 
+/**
+ * Search jobs on the server by any combination of filters
+ * @param {Object} params - Filters (status, category, jobType, workMode, experienceLevel,
+ *                          location, minSalary, maxSalary, postedBy) plus page, size and sort
+ * @returns {Promise<Object>} Page with items, page, size, totalElements and totalPages
+ */
+export const searchJobs = async (params = {}) => {
+  try {
+    const response = await apiClient.get('/v1/job/search', { params });
+    return response.data;
+  } catch (error) {
+    console.error('Error searching jobs:', error);
+    throw error;
+  }
+};
+
+/**
+ * Fetch one page of active jobs ranked by the user's match score
+ * @param {number} userId - User ID the jobs are ranked for
+ * @param {string} cursor - Opaque cursor from the previous page (omit for the first page)
+ * @param {number} size - Page size (server caps it at 100)
+ * @returns {Promise<Object>} Page of { job, matchScore } items with nextCursor and hasMore
+ */
+export const fetchRecommendedJobs = async (userId, cursor = null, size = 12) => {
+  try {
+    const response = await apiClient.get('/v1/job/recommended', {
+      params: { userId, cursor: cursor || undefined, size },
+    });
+    return response.data;
+  } catch (error) {
+    console.error('Error fetching recommended jobs:', error);
+    throw error;
+  }
+};
+
 /**
  * Fetch jobs by company
  * @param {string} company - Company name
@@ -241,10 +300,11 @@ export const transformJobForSearch = (job) => {
  * Transform backend job data to dashboard format
  * @param {Object} job - Job from backend
  * @param {Object} userProfile - User profile for matching
+ * @param {number} matchScore - Match score computed by the server (optional)
  * @returns {Object} Transformed job for dashboard
  */
-export const transformJobForDashboard = (job, userProfile) => {
-  const match = calculateJobMatch(job, userProfile);
+export const transformJobForDashboard = (job, userProfile, matchScore = null) => {
+  const match = matchScore ?? calculateJobMatch(job, userProfile);
 
   return {
     id: job.id.toString(),
@@ -269,27 +329,38 @@ export const transformJobForDashboard = (job, userProfile) => {
   };
 };
 
+/**
+ * Transform one page of recommended jobs to dashboard format
+ * @param {Object} page - Page returned by fetchRecommendedJobs
+ * @param {Object} userProfile - User profile for matching
+ * @returns {Object} Recommendations in server rank order plus nextCursor and hasMore
+ */
+export const transformRecommendedPage = (page, userProfile) => ({
+  recommendations: page.items.map((item) =>
+    transformJobForDashboard(item.job, userProfile, item.matchScore)
+  ),
+  nextCursor: page.nextCursor,
+  hasMore: page.hasMore,
+});
+
 /**
  * Fetch dashboard data
  * @param {number} userId - User ID
- * @returns {Promise<Object>} Dashboard data including stats and recommendations
+ * @returns {Promise<Object>} Dashboard data including stats, recommendations and the cursor of the next page
  */
 export const fetchDashboardData = async (userId) => {
   try {
-    // Fetch user profile
-    const userProfile = await fetchUserProfile(userId);
-
-    // Fetch active jobs
-    const activeJobs = await fetchActiveJobs();
+    // The server ranks the jobs by match score; only the first page is fetched here
+    const [userProfile, recommendedPage, activePage] = await Promise.all([
+      fetchUserProfile(userId),
+      fetchRecommendedJobs(userId),
+      searchJobs({ status: 'ACTIVE', size: 1 }),
+    ]);
 
-    // Transform jobs for dashboard
-    const recommendations = activeJobs
-      .map((job) => transformJobForDashboard(job, userProfile))
-      .sort((a, b) => b.match - a.match) // Sort by match percentage
-      .slice(0, 12); // Limit to 12 recommendations
+    const { recommendations, nextCursor, hasMore } = transformRecommendedPage(recommendedPage, userProfile);
 
     // Calculate stats
-    const totalJobs = activeJobs.length;
+    const totalJobs = activePage.totalElements;
     const appliedCount = 0; // TODO: Get from applications endpoint when available
     const savedCount = 0; // TODO: Get from saved jobs endpoint when available
     const interviewsCount = 0; // TODO: Get from interviews endpoint when available
@@ -302,6 +373,8 @@ export const fetchDashboardData = async (userId) => {
         { label: 'Saved', value: savedCount },
       ],
       recommendations,
+      nextCursor,
+      hasMore,
       totalJobs,
       userProfile,
     };
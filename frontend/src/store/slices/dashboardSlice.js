@@ -13,6 +13,7 @@ const initialState = {
     { label: 'Saved', value: 0 },
   ],
   recommendations: [],
+  recommendationsCursor: null,
   recentApplications: [],
   activeTab: 'Recommended',
   searchQuery: '',
@@ -37,6 +38,12 @@ const dashboardSlice = createSlice({
     setRecommendations: (state, action) => {
       state.recommendations = action.payload
     },
+    appendRecommendations: (state, action) => {
+      state.recommendations = [...state.recommendations, ...action.payload]
+    },
+    setRecommendationsCursor: (state, action) => {
+      state.recommendationsCursor = action.payload
+    },
     setRecentApplications: (state, action) => {
       state.recentApplications = action.payload
     },
@@ -70,6 +77,8 @@ const dashboardSlice = createSlice({
 export const {
   setStats,
   setRecommendations,
+  appendRecommendations,
+  setRecommendationsCursor,
   setRecentApplications,
   setActiveTab,
   setSearchQuery,
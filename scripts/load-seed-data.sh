@@ -57,7 +57,7 @@ fi
 
 # Fix schema issues (Hibernate may create columns with wrong types)
 echo "3. Fixing schema issues..."
-docker exec jobportal-mysql mysql -u jobportal_user -pjobportal_pass jobportal_db -e "ALTER TABLE jobs MODIFY COLUMN company_info TEXT;" 2>/dev/null || true
+docker exec jobportal-mysql mysql -u jobportal_user -pjobportal_pass jobportal_db -e "ALTER TABLE job_contents MODIFY COLUMN company_info TEXT;" 2>/dev/null || true
 docker exec jobportal-mysql mysql -u jobportal_user -pjobportal_pass jobportal_db -e "ALTER TABLE jobs MODIFY COLUMN email VARCHAR(190) NULL, MODIFY COLUMN first_name VARCHAR(120) NULL, MODIFY COLUMN last_name VARCHAR(120) NULL;" 2>/dev/null || true
 echo "   ✅ Schema fixes applied"
 
@@ -40,10 +40,40 @@ VALUES (
 
 -- Insert test jobs
 -- Note: posted_by = 1 (employer user created above)
+-- Jobs are staged in a temporary table with all their columns, then split into
+-- jobs and job_contents (the large text fields) at the end of this file
+CREATE TEMPORARY TABLE seed_jobs (
+    id                   BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    title                VARCHAR(200),
+    company              VARCHAR(100),
+    location             VARCHAR(100),
+    job_type             VARCHAR(20),
+    status               VARCHAR(20),
+    experience_level     VARCHAR(50),
+    department           VARCHAR(100),
+    category             VARCHAR(100),
+    description          LONGTEXT,
+    requirements         LONGTEXT,
+    responsibilities     LONGTEXT,
+    benefits             LONGTEXT,
+    salary_min           DECIMAL(38, 2),
+    salary_max           DECIMAL(38, 2),
+    salary_currency      VARCHAR(255),
+    work_mode            VARCHAR(50),
+    education_level      VARCHAR(100),
+    skills               VARCHAR(500),
+    company_info         LONGTEXT,
+    company_logo_url     VARCHAR(500),
+    posted_by            BIGINT,
+    application_deadline DATETIME(6),
+    start_date           DATETIME(6),
+    created_at           DATETIME(6),
+    updated_at           DATETIME(6)
+);
 -- Application deadlines and start dates are set to future dates
 
 -- Test Job 1: Senior Software Engineer
-INSERT INTO jobs (
+INSERT INTO seed_jobs (
     title, company, location, job_type, status, experience_level, department, category,
     description, requirements, responsibilities, benefits,
     salary_min, salary_max, salary_currency, work_mode, education_level, skills,
@@ -111,7 +141,7 @@ Founded in 2015, Tech Corp has grown to over 500 employees across multiple offic
 );
 
 -- Test Job 2: Frontend Developer
-INSERT INTO jobs (
+INSERT INTO seed_jobs (
     title, company, location, job_type, status, experience_level, department, category,
     description, requirements, responsibilities, benefits,
     salary_min, salary_max, salary_currency, work_mode, education_level, skills,
@@ -172,7 +202,7 @@ Our team is distributed across the globe, and we embrace remote work culture. We
 );
 
 -- Test Job 3: DevOps Engineer
-INSERT INTO jobs (
+INSERT INTO seed_jobs (
     title, company, location, job_type, status, experience_level, department, category,
     description, requirements, responsibilities, benefits,
     salary_min, salary_max, salary_currency, work_mode, education_level, skills,
@@ -233,7 +263,7 @@ Our team consists of experienced engineers passionate about automation, scalabil
 );
 
 -- Test Job 4: Data Scientist
-INSERT INTO jobs (
+INSERT INTO seed_jobs (
     title, company, location, job_type, status, experience_level, department, category,
     description, requirements, responsibilities, benefits,
     salary_min, salary_max, salary_currency, work_mode, education_level, skills,
@@ -294,7 +324,7 @@ Our team of data scientists and engineers are experts in machine learning, stati
 );
 
 -- Test Job 5: Product Manager
-INSERT INTO jobs (
+INSERT INTO seed_jobs (
     title, company, location, job_type, status, experience_level, department, category,
     description, requirements, responsibilities, benefits,
     salary_min, salary_max, salary_currency, work_mode, education_level, skills,
@@ -355,7 +385,7 @@ Our product team works closely with engineering, design, and business teams to d
 );
 
 -- Test Job 6: Marketing Manager
-INSERT INTO jobs (
+INSERT INTO seed_jobs (
     title, company, location, job_type, status, experience_level, department, category,
     description, requirements, responsibilities, benefits,
     salary_min, salary_max, salary_currency, work_mode, education_level, skills,
@@ -416,7 +446,7 @@ Our team of marketing professionals work with clients across various industries
 );
 
 -- Test Job 7: Financial Analyst
-INSERT INTO jobs (
+INSERT INTO seed_jobs (
     title, company, location, job_type, status, experience_level, department, category,
     description, requirements, responsibilities, benefits,
     salary_min, salary_max, salary_currency, work_mode, education_level, skills,
@@ -477,7 +507,7 @@ Our finance team plays a critical role in supporting strategic decision-making a
 );
 
 -- Test Job 8: UX Designer
-INSERT INTO jobs (
+INSERT INTO seed_jobs (
     title, company, location, job_type, status, experience_level, department, category,
     description, requirements, responsibilities, benefits,
     salary_min, salary_max, salary_currency, work_mode, education_level, skills,
@@ -538,7 +568,7 @@ Our design team is passionate about creating exceptional user experiences that d
 );
 
 -- Test Job 9: Software Engineer Intern
-INSERT INTO jobs (
+INSERT INTO seed_jobs (
     title, company, location, job_type, status, experience_level, department, category,
     description, requirements, responsibilities, benefits,
     salary_min, salary_max, salary_currency, work_mode, education_level, skills,
@@ -598,7 +628,7 @@ Our engineering team works on cutting-edge projects and provides excellent learn
 );
 
 -- Test Job 10: Sales Representative
-INSERT INTO jobs (
+INSERT INTO seed_jobs (
     title, company, location, job_type, status, experience_level, department, category,
     description, requirements, responsibilities, benefits,
     salary_min, salary_max, salary_currency, work_mode, education_level, skills,
@@ -658,7 +688,7 @@ Our sales team is driven, results-oriented, and committed to helping clients ach
 );
 
 -- Test Job 11: Backend Developer
-INSERT INTO jobs (
+INSERT INTO seed_jobs (
     title, company, location, job_type, status, experience_level, department, category,
     description, requirements, responsibilities, benefits,
     salary_min, salary_max, salary_currency, work_mode, education_level, skills,
@@ -719,7 +749,7 @@ Our engineering team works with cutting-edge technologies to deliver high-qualit
 );
 
 -- Test Job 12: HR Manager
-INSERT INTO jobs (
+INSERT INTO seed_jobs (
     title, company, location, job_type, status, experience_level, department, category,
     description, requirements, responsibilities, benefits,
     salary_min, salary_max, salary_currency, work_mode, education_level, skills,
@@ -779,3 +809,62 @@ Our HR team plays a crucial role in attracting, developing, and retaining top ta
     NOW()
 );
 
+-- Split the staged jobs into job_contents and jobs
+SET @content_offset = (SELECT COALESCE(MAX(id), 0) FROM job_contents);
+
+INSERT INTO job_contents (id, description, requirements, responsibilities, benefits, company_info)
+SELECT @content_offset + id, description, requirements, responsibilities, benefits, company_info
+FROM seed_jobs
+ORDER BY id;
+
+INSERT INTO jobs (
+    title, company, location, job_type, status, experience_level, department, category,
+    salary_min, salary_max, salary_currency, work_mode, education_level, skills,
+    company_logo_url, posted_by, content_id,
+    company_key, location_key, category_key, department_key,
+    application_deadline, start_date, created_at, updated_at
+)
+SELECT
+    title, company, location, job_type, status, experience_level, department, category,
+    salary_min, salary_max, salary_currency, work_mode, education_level, skills,
+    company_logo_url, posted_by, @content_offset + id,
+    NULLIF(LOWER(TRIM(company)), ''), NULLIF(LOWER(TRIM(location)), ''),
+    NULLIF(LOWER(TRIM(category)), ''), NULLIF(LOWER(TRIM(department)), ''),
+    application_deadline, start_date, created_at, updated_at
+FROM seed_jobs
+ORDER BY id;
+
+-- Link the seeded jobs to the skill dictionary (same split as V5__add_skill_dictionary.sql)
+CREATE TEMPORARY TABLE seed_job_skills AS
+SELECT j.id AS job_id, TRIM(s.name) AS name
+FROM seed_jobs sj
+JOIN jobs j ON j.content_id = @content_offset + sj.id
+CROSS JOIN JSON_TABLE(
+    CONCAT('["', REPLACE(REPLACE(REPLACE(sj.skills, '\\', '\\\\'), '"', '\\"'), ',', '","'), '"]'),
+    '$[*]' COLUMNS (name VARCHAR(500) PATH '$')
+) s
+WHERE sj.skills IS NOT NULL;
+
+DELETE FROM seed_job_skills WHERE name = '' OR CHAR_LENGTH(name) > 100;
+
+INSERT IGNORE INTO skills (name, name_key)
+SELECT name, LOWER(name)
+FROM seed_job_skills
+ORDER BY job_id;
+
+INSERT IGNORE INTO job_skills (job_id, skill_id)
+SELECT t.job_id, k.id
+FROM seed_job_skills t
+JOIN skills k ON k.name_key = CONVERT(LOWER(t.name) USING utf8mb4) COLLATE utf8mb4_bin;
+
+DROP TEMPORARY TABLE seed_job_skills;
+DROP TEMPORARY TABLE seed_jobs;
+
+-- Keep the ID blocks the application hands out (V10__add_id_generators.sql) past the seeded rows
+UPDATE id_generators
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) FROM jobs) + 50)
+WHERE sequence_name = 'jobs';
+
+UPDATE id_generators
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) FROM job_contents) + 50)
+WHERE sequence_name = 'job_contents';
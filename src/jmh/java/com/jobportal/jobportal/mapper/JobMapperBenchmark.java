@@ -0,0 +1,119 @@
+package com.jobportal.jobportal.mapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.dto.JobDetailDTO;
+import com.jobportal.jobportal.dto.SimilarJobDTO;
+import com.jobportal.jobportal.entity.Job;
+
+/**
+ * JMH benchmarks of the JobMapper conversions and formatters that run for
+ * every job of every response.
+ *
+ * Run with {@code mvn -Pjmh test-compile exec:exec}; the gc profiler is on by
+ * default, so each result comes with its allocation rate per operation
+ * (gc.alloc.rate.norm). Pass other JMH options with -Djmh.args="...".
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JobMapperBenchmark {
+
+    private static final String REQUIREMENTS = """
+            5+ years of experience with Java
+            • Spring Boot and JPA
+            • REST API design
+            1. Kubernetes in production
+            2. CI/CD pipelines
+            - Strong communication skills
+            * Mentoring engineers""";
+
+    private static final String SKILLS = "Java, Spring Boot, Hibernate, PostgreSQL, Kubernetes, Docker, AWS, Kafka";
+
+    private Job job;
+    private List<SimilarJobDTO> similarJobs;
+    private BigDecimal salaryMin;
+    private BigDecimal salaryMax;
+    private Instant postedAt;
+
+    @Setup
+    public void setUp() {
+        postedAt = Instant.now().minus(Duration.ofDays(3));
+        salaryMin = new BigDecimal("150000");
+        salaryMax = new BigDecimal("1250000");
+        job = Job.builder()
+                .id(42L)
+                .title("Senior Java Developer")
+                .company("Tech Corp")
+                .companyLogoUrl("https://example.com/logo.png")
+                .location("Berlin")
+                .jobType(Job.JobType.FULL_TIME)
+                .status(Job.JobStatus.ACTIVE)
+                .category("IT")
+                .salaryMin(salaryMin)
+                .salaryMax(salaryMax)
+                .salaryCurrency("EUR")
+                .skills(SKILLS)
+                .postedBy(1L)
+                .createdAt(postedAt)
+                .updatedAt(postedAt)
+                .build();
+        job.setDescription("Build and run the services behind the job portal.");
+        job.setRequirements(REQUIREMENTS);
+        similarJobs = List.of(
+                SimilarJobDTO.builder().id("7").title("Java Developer").company("Data Inc").match(80).build(),
+                SimilarJobDTO.builder().id("9").title("Backend Engineer").company("Globex").match(72).build());
+    }
+
+    @Benchmark
+    public JobDTO jobEntityToDto() {
+        return JobMapper.jobEntityToDto(job);
+    }
+
+    @Benchmark
+    public JobDetailDTO toJobDetailDTO() {
+        return JobMapper.toJobDetailDTO(job, 0, List.of(), similarJobs, false);
+    }
+
+    @Benchmark
+    public String formatCompensation() {
+        return JobMapper.formatCompensation(salaryMin, salaryMax, "USD");
+    }
+
+    @Benchmark
+    public String formatPostedAt() {
+        return JobMapper.formatPostedAt(postedAt);
+    }
+
+    @Benchmark
+    public List<String> requirementsToArray() {
+        return JobMapper.requirementsToArray(REQUIREMENTS);
+    }
+
+    @Benchmark
+    public List<String> skillsToKeywords() {
+        return JobMapper.skillsToKeywords(SKILLS);
+    }
+}
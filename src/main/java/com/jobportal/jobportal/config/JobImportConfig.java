@@ -0,0 +1,38 @@
+package com.jobportal.jobportal.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration for bulk job imports.
+ *
+ * Each running import writes its chunks on a thread of this executor while the
+ * request (or command line) thread parses and validates the file. There is no
+ * queue: an import started while every thread is busy is refused instead of
+ * holding a request open until a thread frees up.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Configuration
+public class JobImportConfig {
+
+    /**
+     * Executor writing the chunks of running imports.
+     *
+     * @param threads Maximum number of imports running at once
+     * @return The executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor jobImportExecutor(@Value("${job.import.max.running:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("job-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
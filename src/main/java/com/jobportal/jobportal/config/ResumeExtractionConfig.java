@@ -0,0 +1,42 @@
+package com.jobportal.jobportal.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration for the background extraction of resume text.
+ *
+ * Extractions run on a small executor with a bounded queue, so a burst of
+ * uploads cannot exhaust memory or threads. Work the executor rejects stays
+ * pending in the database and is picked up by the scheduled retry.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+public class ResumeExtractionConfig {
+
+    /**
+     * Executor running resume extractions.
+     *
+     * @param threads Number of extraction threads
+     * @param queueCapacity Number of extractions that may wait for a thread
+     * @return The executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor resumeExtractionExecutor(
+            @Value("${resume.extraction.threads:2}") int threads,
+            @Value("${resume.extraction.queue.capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("resume-extraction-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
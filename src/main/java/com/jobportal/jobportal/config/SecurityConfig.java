@@ -86,6 +86,8 @@ public class SecurityConfig {
                 // Public endpoints
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**", "/api-docs/**").permitAll()
+                // Import progress is for whoever runs the import, not a public job read
+                .requestMatchers(HttpMethod.GET, "/api/v1/job/import/**").authenticated()
                 // Public job read endpoints (GET requests - anyone can browse jobs)
                 .requestMatchers(HttpMethod.GET, "/api/v1/job/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/job").permitAll()
@@ -2,38 +2,81 @@ package com.jobportal.jobportal.controller;
 
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.jobportal.jobportal.dto.CursorPageDTO;
+import com.jobportal.jobportal.dto.JobBatchDTO;
 import com.jobportal.jobportal.dto.JobDTO;
-import com.jobportal.jobportal.dto.JobDetailDTO;
+import com.jobportal.jobportal.dto.JobFacetsDTO;
+import com.jobportal.jobportal.dto.JobImportDTO;
+import com.jobportal.jobportal.dto.JobSearchCriteria;
+import com.jobportal.jobportal.dto.JobSummaryDTO;
+import com.jobportal.jobportal.dto.JobView;
+import com.jobportal.jobportal.dto.PageResponseDTO;
+import com.jobportal.jobportal.dto.RecommendedJobDTO;
+import com.jobportal.jobportal.dto.SuggestionDTO;
 import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.entity.JobImport;
+import com.jobportal.jobportal.service.JobExportService;
+import com.jobportal.jobportal.service.JobImportService;
 import com.jobportal.jobportal.service.JobService;
+import com.jobportal.jobportal.service.JobVersion;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * REST Controller for managing job operations.
  * Provides endpoints for CRUD operations on jobs, job detail retrieval,
  * and job search functionality.
  * 
+ * The public job reads carry a strong ETag and Last-Modified, answer a
+ * matching If-None-Match (or an If-Modified-Since that is not older) with
+ * 304 Not Modified before any job is loaded or serialized, and are marked
+ * publicly cacheable with revalidation, so a reverse proxy can keep them.
+ * 
  * @author Job Portal Team
  * @version 1.0
  */
 @RestController
 @RequestMapping("/api/v1/job")
 public class JobController {
+
+	/** Shared caches may keep public job reads but must revalidate them on every use */
+	private static final CacheControl PUBLIC_REVALIDATE = CacheControl.noCache().cachePublic();
+
+	/** Responses computed for a specific user are never stored by shared caches */
+	private static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
 	
 	private final JobService service;
+	private final JobExportService exportService;
+	private final JobImportService importService;
 	
 	/**
 	 * Constructor for JobController.
 	 * 
 	 * @param service The service layer for job operations
+	 * @param exportService The service writing job listings as streamed responses
+	 * @param importService The service importing jobs from CSV and NDJSON files
 	 */
 	@Autowired
-    public JobController(JobService service) {
+    public JobController(JobService service, JobExportService exportService, JobImportService importService) {
         this.service = service;
+        this.exportService = exportService;
+        this.importService = importService;
     }
     
     /**
@@ -47,22 +90,83 @@ public class JobController {
         return ResponseEntity.ok(service.create(job));
     }
 
+    /**
+     * Creates many jobs at once, e.g. a feed from an applicant tracking system.
+     * 
+     * All jobs are validated first and created in one transaction: either all
+     * of them are created or, if any is invalid, none is.
+     * 
+     * @param batch The jobs to create (at most {@link JobBatchDTO#MAX_JOBS})
+     * @return ResponseEntity containing the created jobs, in request order
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<JobDTO>> createAll(@Valid @RequestBody JobBatchDTO batch) {
+        return ResponseEntity.ok(service.createAll(batch.getJobs()));
+    }
+
+    /**
+     * Imports jobs from a CSV or NDJSON file sent as the request body.
+     * 
+     * The body is read as it arrives and committed in chunks, so files of any
+     * size can be imported; invalid records go to a reject file instead of
+     * failing the import. The format follows the Content-Type (text/csv or
+     * application/x-ndjson; UTF-8 unless a charset is given). If the import is
+     * interrupted, sending the same file with the same importId resumes it
+     * after the last committed chunk.
+     * 
+     * @param importId ID of the import, to poll its progress or resume it (random if omitted)
+     * @param contentType The Content-Type of the file
+     * @param body The file
+     * @return ResponseEntity containing the completed import
+     */
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<JobImportDTO> importJobs(@RequestParam(required = false) String importId,
+                                                   @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                   InputStream body) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        JobImport.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(mediaType)
+            ? JobImport.Format.NDJSON
+            : JobImport.Format.CSV;
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        return ResponseEntity.ok(importService.importJobs(importId, format, new InputStreamReader(body, charset),
+            progress -> { }));
+    }
+
+    /**
+     * Retrieves the progress of an import, e.g. while its request is still running.
+     * 
+     * @param importId The ID of the import
+     * @return ResponseEntity containing the import, or 404 if there is none with that ID
+     */
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<JobImportDTO> getImport(@PathVariable String importId) {
+        return importService.getImport(importId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * Retrieves a job by its ID.
      * 
      * @param id The ID of the job to retrieve
-     * @return ResponseEntity containing the job details
+     * @param request The current request, checked against the job's version
+     * @return ResponseEntity containing the job details, or 304 if the client's copy is current
      */
     @GetMapping("/{id}")
-    public ResponseEntity<JobDTO> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(service.getById(id));
+    public ResponseEntity<JobDTO> getById(@PathVariable Long id, WebRequest request) {
+        Optional<JobVersion> version = service.getJobVersion(id);
+        if (version.isEmpty()) {
+            // Unknown job: the service reports it as not found
+            return ResponseEntity.ok(service.getById(id));
+        }
+        return conditional(request, version.get(), "json", () -> publicResponse().body(service.getById(id)));
     }
     
     /**
      * Retrieves job detail by ID with match score and similar jobs.
      * 
      * This endpoint is specifically designed for the frontend JobDetail page.
-     * It returns a JobDetailDTO with all frontend-compatible fields including:
+     * It returns the JSON of a JobDetailDTO with all frontend-compatible fields including:
      * - Formatted compensation, type, and postedAt
      * - Keywords array (from skills)
      * - Requirements array (from requirements string)
@@ -70,81 +174,306 @@ public class JobController {
      * - Match score and match factors (computed)
      * - Similar jobs (computed)
      * 
+     * The JSON is rendered once per job and served from the off-heap detail cache,
+     * gzipped as stored to clients accepting gzip. Anonymous requests are validated
+     * against the job, the catalog its similar jobs come from and the relative
+     * posted date (see {@link JobService#getJobDetailVersion(Long)}); requests with
+     * a userId are personal and only cached privately.
+     * 
      * @param id The ID of the job to retrieve
      * @param userId Optional user ID for match score calculation (query parameter)
-     * @return ResponseEntity containing the job detail with match score and similar jobs
+     * @param request The current request, checked against the job's version
+     * @return ResponseEntity containing the job detail JSON with match score and similar jobs
      */
     @GetMapping("/{id}/detail")
-    public ResponseEntity<JobDetailDTO> getJobDetailById(
+    public ResponseEntity<byte[]> getJobDetailById(
             @PathVariable Long id,
-            @RequestParam(required = false) Long userId) {
-        return ResponseEntity.ok(service.getJobDetailById(id, userId));
+            @RequestParam(required = false) Long userId,
+            WebRequest request) {
+        if (userId != null) {
+            return ResponseEntity.ok().cacheControl(PRIVATE_REVALIDATE).contentType(MediaType.APPLICATION_JSON)
+                .body(service.getJobDetailJson(id, userId));
+        }
+        boolean gzip = acceptsGzip(request);
+        Optional<JobVersion> version = service.getJobDetailVersion(id);
+        if (version.isEmpty()) {
+            // Unknown job: the service reports it as not found
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(service.getJobDetailJson(id, null));
+        }
+        // The cached document is sent as stored when the client takes gzip, so each coding has its own tag
+        return conditional(request, version.get(), gzip ? "json.gz" : "json", () -> gzip
+            ? publicResponse().contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(service.getJobDetailGzip(id))
+            : publicResponse().contentType(MediaType.APPLICATION_JSON)
+                .body(service.getJobDetailJson(id, null)));
     }
     
     /**
-     * Retrieves all jobs in the system.
+     * Retrieves all jobs in the system, one page at a time.
+     * 
+     * Pages are ordered newest first. Pass the nextCursor of a response as the
+     * cursor parameter to fetch the following page.
+     * 
+     * Items are job summaries without the long text fields unless view=full is passed.
      * 
-     * @return ResponseEntity containing a list of all jobs
+     * @param cursor Opaque cursor from the previous page (optional, omit for the first page)
+     * @param size Page size (optional, defaults to 20, capped at 100)
+     * @param view "summary" (default) or "full"
+     * @param request The current request, checked against the catalog version
+     * @return ResponseEntity containing a page of jobs and the cursor for the next page
      */
     @GetMapping
-    public ResponseEntity<List<JobDTO>> getAll() {
-        return ResponseEntity.ok(service.getAllJobs());
+    public ResponseEntity<CursorPageDTO<?>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String view,
+            WebRequest request) {
+        boolean full = JobView.from(view) == JobView.FULL;
+        return conditional(request, service.getCatalogVersion(), "json", () -> publicResponse().body(full
+            ? service.getJobsPage(cursor, size)
+            : service.getJobSummariesPage(cursor, size)));
+    }
+
+    /**
+     * Exports the full job catalog as newline-delimited JSON (one job per line).
+     * 
+     * Selected instead of the paged listing when the client sends
+     * "Accept: application/x-ndjson". Jobs are streamed from the database as they
+     * are written, so the export runs in constant memory however large the catalog is.
+     * 
+     * @param request The current request, checked against the catalog version
+     * @return ResponseEntity streaming every job, ordered by ID
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAll(WebRequest request) {
+        return conditional(request, service.getCatalogVersion(), "ndjson", () -> stream(MediaType.APPLICATION_NDJSON,
+            out -> exportService.writeAllJobs(out, JobExportService.Format.NDJSON)));
+    }
+
+    /**
+     * Searches jobs by any combination of attributes.
+     * 
+     * All query parameters are optional: status, category, jobType, workMode,
+     * experienceLevel, location, minSalary, maxSalary, salaryAtLeast, salaryBetween
+     * (e.g. "80000,120000"), postedBy, plus page, size and sort (e.g. "createdAt,desc"
+     * or "salary,desc"). salaryAtLeast, salaryBetween and the salary sort compare pay
+     * converted to the base currency, so jobs posted in any currency rank together.
+     * A free-text query q
+     * searches active jobs by title, skills, description and requirements and
+     * orders results by relevance. Items are job summaries unless view=full is passed.
+     * 
+     * @param criteria The search criteria bound from query parameters
+     * @param view "summary" (default) or "full"
+     * @param request The current request, checked against the catalog version
+     * @return ResponseEntity containing a page of matching jobs with the total count
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageResponseDTO<?>> search(
+            @ModelAttribute JobSearchCriteria criteria,
+            @RequestParam(required = false) String view,
+            WebRequest request) {
+        boolean full = JobView.from(view) == JobView.FULL;
+        return conditional(request, service.getCatalogVersion(), "json", () -> publicResponse().body(full
+            ? service.searchJobs(criteria)
+            : service.searchJobSummaries(criteria)));
+    }
+
+    /**
+     * Returns facet counts for the job search.
+     * 
+     * Accepts the same filters as the search endpoint and reports, for active jobs,
+     * how many match each location, workMode, jobType, experienceLevel and category
+     * value. Each facet ignores its own filter so alternative values keep their counts.
+     * 
+     * @param criteria The search criteria bound from query parameters
+     * @return ResponseEntity containing the total number of matches and the counts per facet
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<JobFacetsDTO> facets(@ModelAttribute JobSearchCriteria criteria) {
+        return ResponseEntity.ok(service.getFacetCounts(criteria));
+    }
+
+    /**
+     * Suggests completions for a search box as the user types.
+     * 
+     * Returns the titles, companies, locations or skills of active jobs that start
+     * with the typed prefix (case-insensitive), most common first, each with the
+     * number of active jobs carrying it. Served from memory, so it can be called
+     * on every keystroke.
+     * 
+     * @param field "title", "company", "location" or "skill"
+     * @param prefix The text typed so far (empty for the most common values)
+     * @param limit Maximum number of suggestions (optional, defaults to 10, capped at 50)
+     * @return ResponseEntity containing the suggestions
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @RequestParam String field,
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(service.suggest(field, prefix, limit));
     }
 
     /**
      * Retrieves jobs by company name (case-insensitive).
      * 
+     * The JSON array is streamed from the database as it is written rather than
+     * built in memory first. Items are job summaries unless view=full is passed.
+     * 
      * @param company The company name to search for (case-insensitive, URL-encoded)
-     * @return ResponseEntity containing a list of jobs with the specified company name
+     * @param view "summary" (default) or "full"
+     * @param request The current request, checked against the catalog version
+     * @return ResponseEntity streaming a JSON array of jobs with the specified company name
      */
     @GetMapping("/company/{company}")
-    public ResponseEntity<List<JobDTO>> getByCompany(@PathVariable String company) {
-        return ResponseEntity.ok(service.getJobsByCompany(company));
+    public ResponseEntity<StreamingResponseBody> getByCompany(
+            @PathVariable String company,
+            @RequestParam(required = false) String view,
+            WebRequest request) {
+        boolean full = JobView.from(view) == JobView.FULL;
+        JobExportService.Format format = JobExportService.Format.JSON_ARRAY;
+        return conditional(request, service.getCatalogVersion(), "json", () -> stream(MediaType.APPLICATION_JSON, full
+            ? out -> exportService.writeJobsByCompany(company, out, format)
+            : out -> exportService.writeJobSummariesByCompany(company, out, format)));
     }
 
     /**
      * Retrieves jobs by location (case-insensitive).
      * 
+     * Items are job summaries unless view=full is passed.
+     * 
      * @param location The location to search for (case-insensitive, URL-encoded)
+     * @param view "summary" (default) or "full"
+     * @param request The current request, checked against the catalog version
      * @return ResponseEntity containing a list of jobs with the specified location
      */
     @GetMapping("/location/{location}")
-    public ResponseEntity<List<JobDTO>> getByLocation(@PathVariable String location) {
-        return ResponseEntity.ok(service.getJobsByLocation(location));
+    public ResponseEntity<List<?>> getByLocation(
+            @PathVariable String location,
+            @RequestParam(required = false) String view,
+            WebRequest request) {
+        boolean full = JobView.from(view) == JobView.FULL;
+        return conditional(request, service.getCatalogVersion(), "json", () -> publicResponse().body(full
+            ? service.getJobsByLocation(location)
+            : service.getJobSummariesByLocation(location)));
+    }
+
+    /**
+     * Retrieves active jobs requiring a skill (case-insensitive), newest first.
+     *
+     * Items are job summaries.
+     *
+     * @param skill The skill to search for (case-insensitive, URL-encoded)
+     * @param request The current request, checked against the catalog version
+     * @return ResponseEntity containing a list of active jobs requiring the skill
+     */
+    @GetMapping("/skill/{skill}")
+    public ResponseEntity<List<JobSummaryDTO>> getBySkill(@PathVariable String skill, WebRequest request) {
+        return conditional(request, service.getCatalogVersion(), "json",
+            () -> publicResponse().body(service.getJobSummariesBySkill(skill)));
     }
 
     /**
      * Retrieves jobs by job type.
      * 
+     * Items are job summaries unless view=full is passed.
+     * 
      * @param jobType The job type to search for
+     * @param view "summary" (default) or "full"
+     * @param request The current request, checked against the catalog version
      * @return ResponseEntity containing a list of jobs with the specified job type
      */
     @GetMapping("/type/{jobType}")
-    public ResponseEntity<List<JobDTO>> getByJobType(@PathVariable Job.JobType jobType) {
-        return ResponseEntity.ok(service.getJobsByJobType(jobType));
+    public ResponseEntity<List<?>> getByJobType(
+            @PathVariable Job.JobType jobType,
+            @RequestParam(required = false) String view,
+            WebRequest request) {
+        boolean full = JobView.from(view) == JobView.FULL;
+        return conditional(request, service.getCatalogVersion(), "json", () -> publicResponse().body(full
+            ? service.getJobsByJobType(jobType)
+            : service.getJobSummariesByJobType(jobType)));
+    }
+
+    /**
+     * Returns the match score of a user for every active job, so job lists can
+     * show match badges without one detail request per job.
+     *
+     * @param userId The ID of the user
+     * @return ResponseEntity containing match scores (0-100) keyed by job ID
+     */
+    @GetMapping("/match-scores")
+    public ResponseEntity<Map<Long, Integer>> getMatchScores(@RequestParam Long userId) {
+        return ResponseEntity.ok(service.getMatchScores(userId));
+    }
+
+    /**
+     * Retrieves the active jobs best matching a user, one page at a time.
+     * 
+     * Jobs are ranked by match score, best first. Pass the nextCursor of a
+     * response as the cursor parameter to fetch the following page.
+     * 
+     * @param userId The ID of the user
+     * @param cursor Opaque cursor from the previous page (optional, omit for the first page)
+     * @param size Page size (optional, defaults to 20, capped at 100)
+     * @return ResponseEntity containing a page of job summaries with their match score
+     */
+    @GetMapping("/recommended")
+    public ResponseEntity<CursorPageDTO<RecommendedJobDTO>> getRecommendedJobs(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(service.getRecommendedJobs(userId, cursor, size));
     }
 
     /**
-     * Retrieves all active jobs.
+     * Retrieves all active jobs, one page at a time.
+     * 
+     * Pages are ordered newest first. Pass the nextCursor of a response as the
+     * cursor parameter to fetch the following page.
      * 
-     * @return ResponseEntity containing a list of all active jobs
+     * Items are job summaries without the long text fields unless view=full is passed.
+     * 
+     * @param cursor Opaque cursor from the previous page (optional, omit for the first page)
+     * @param size Page size (optional, defaults to 20, capped at 100)
+     * @param view "summary" (default) or "full"
+     * @param request The current request, checked against the catalog version
+     * @return ResponseEntity containing a page of active jobs and the cursor for the next page
      */
     @GetMapping("/active")
-    public ResponseEntity<List<JobDTO>> getActiveJobs() {
-        return ResponseEntity.ok(service.getActiveJobs());
+    public ResponseEntity<CursorPageDTO<?>> getActiveJobs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String view,
+            WebRequest request) {
+        boolean full = JobView.from(view) == JobView.FULL;
+        return conditional(request, service.getCatalogVersion(), "json", () -> publicResponse().body(full
+            ? service.getActiveJobsPage(cursor, size)
+            : service.getActiveJobSummariesPage(cursor, size)));
     }
 
     /**
      * Retrieves jobs posted by a specific user.
      * 
      * This endpoint is useful for "My Job Postings" functionality.
+     * The JSON array is streamed from the database as it is written.
+     * Items are job summaries unless view=full is passed.
      * 
      * @param userId The ID of the user who posted the jobs
-     * @return ResponseEntity containing a list of jobs posted by the specified user
+     * @param view "summary" (default) or "full"
+     * @param request The current request, checked against the catalog version
+     * @return ResponseEntity streaming a JSON array of jobs posted by the specified user
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<JobDTO>> getJobsByPostedBy(@PathVariable Long userId) {
-        return ResponseEntity.ok(service.getJobsByPostedBy(userId));
+    public ResponseEntity<StreamingResponseBody> getJobsByPostedBy(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String view,
+            WebRequest request) {
+        boolean full = JobView.from(view) == JobView.FULL;
+        JobExportService.Format format = JobExportService.Format.JSON_ARRAY;
+        return conditional(request, service.getCatalogVersion(), "json", () -> stream(MediaType.APPLICATION_JSON, full
+            ? out -> exportService.writeJobsByPostedBy(userId, out, format)
+            : out -> exportService.writeJobSummariesByPostedBy(userId, out, format)));
     }
 
     /**
@@ -170,4 +499,56 @@ public class JobController {
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Answers 304 Not Modified if the client (or a proxy) already holds this
+     * version of the response, and builds the response otherwise.
+     * 
+     * Spring compares If-None-Match with the strong ETag, or If-Modified-Since
+     * with the last-modified time when no ETag is sent, and adds both headers
+     * to the response. The variant tells apart the representations of one URL.
+     * 
+     * @param request The current request
+     * @param version The version of the data the response is built from
+     * @param variant The representation, "json" or "ndjson"
+     * @param response Builds the full response, only called when the client's copy is stale
+     * @return 304 with the caching headers, or the full response
+     */
+    private static <T> ResponseEntity<T> conditional(WebRequest request, JobVersion version, String variant,
+                                                     Supplier<ResponseEntity<T>> response) {
+        String etag = "\"" + version.tag() + "-" + variant + "\"";
+        if (request.checkNotModified(etag, version.lastModified().toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(PUBLIC_REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+        return response.get();
+    }
+
+    private static ResponseEntity.BodyBuilder publicResponse() {
+        return ResponseEntity.ok().cacheControl(PUBLIC_REVALIDATE).varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    /**
+     * Returns whether the client accepts a gzip-encoded response.
+     */
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // "gzip;q=0" explicitly refuses it
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static ResponseEntity<StreamingResponseBody> stream(MediaType contentType, StreamingResponseBody body) {
+        return publicResponse().contentType(contentType).body(body);
+    }
+}
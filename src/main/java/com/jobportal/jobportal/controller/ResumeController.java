@@ -1,6 +1,7 @@
 package com.jobportal.jobportal.controller;
 
 import com.jobportal.jobportal.dto.ResumeDTO;
+import com.jobportal.jobportal.dto.ResumeExtractionDTO;
 import com.jobportal.jobportal.service.ResumeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
@@ -91,6 +92,27 @@ public class ResumeController {
         }
     }
 
+    /**
+     * Retrieves the state of the text extraction of a resume.
+     * Text is extracted in the background after upload; this reports its status
+     * and, once completed, the sections and skills found.
+     * 
+     * @param userId The ID of the user who owns the resume
+     * @param resumeId The ID of the resume
+     * @return ResponseEntity containing the extraction details or 404 if not found
+     */
+    @GetMapping("/user/{userId}/extraction/{resumeId}")
+    public ResponseEntity<ResumeExtractionDTO> getExtraction(
+            @PathVariable Long userId,
+            @PathVariable Long resumeId) {
+        
+        try {
+            return ResponseEntity.ok(resumeService.getExtraction(userId, resumeId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     /**
      * Sets a specific resume as the primary resume for a user.
      * Automatically unsets any existing primary resume before setting the new one.
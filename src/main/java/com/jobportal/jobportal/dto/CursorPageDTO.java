@@ -0,0 +1,31 @@
+package com.jobportal.jobportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a single page of a cursor-paginated listing.
+ *
+ * The nextCursor value is opaque to clients: it must be passed back unchanged
+ * as the "cursor" request parameter to fetch the following page. It is null
+ * when the current page is the last one.
+ *
+ * @param <T> The type of the items in the page
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+    private List<T> items;      // Items of the current page
+    private String nextCursor;  // Opaque cursor for the next page, or null on the last page
+    private int size;           // Effective page size applied by the server
+    private boolean hasMore;    // Whether another page follows this one
+}
@@ -0,0 +1,21 @@
+package com.jobportal.jobportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the number of jobs sharing one facet value.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacetCountDTO {
+    private String value;   // Facet value, e.g. "REMOTE" or "Engineering"
+    private long count;     // Number of matching jobs with this value
+}
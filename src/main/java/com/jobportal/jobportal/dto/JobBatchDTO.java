@@ -0,0 +1,32 @@
+package com.jobportal.jobportal.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Request body of the bulk job creation endpoint.
+ * 
+ * Every job is validated like a single POST; errors name the offending job
+ * by its position, e.g. "jobs[3].title".
+ * 
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobBatchDTO {
+    
+    /** Largest number of jobs accepted in one request */
+    public static final int MAX_JOBS = 10_000;
+    
+    @NotEmpty(message = "At least one job is required")
+    @Size(max = MAX_JOBS, message = "At most " + MAX_JOBS + " jobs can be created at once")
+    private List<@Valid JobDTO> jobs;
+}
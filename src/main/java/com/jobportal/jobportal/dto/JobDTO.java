@@ -1,17 +1,19 @@
 package com.jobportal.jobportal.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.jobportal.jobportal.entity.Job;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Set;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class JobDTO {
     private Long id;
     
@@ -88,6 +90,11 @@ public class JobDTO {
     @Future(message = "Start date must be a future date")
     private Instant startDate;
     
+    private Long normalizedSalary; // Top of the salary range in the base currency; set by the server
+
+    @JsonIgnore
+    private Set<Integer> skillIds; // Skill dictionary IDs from job_skills, typed and tagged; set by the server for the job indexes
+
     private Instant createdAt;
     private Instant updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.jobportal.jobportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the facet counts of a job search.
+ *
+ * Each facet is counted with every filter applied except the facet's own, so
+ * the UI can show how many jobs each alternative value would yield.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobFacetsDTO {
+    private long total;                                 // Active jobs matching all filters
+    private Map<String, List<FacetCountDTO>> facets;    // Facet name (e.g. "workMode") to value counts, largest first
+}
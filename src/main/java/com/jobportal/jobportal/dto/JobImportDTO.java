@@ -0,0 +1,32 @@
+package com.jobportal.jobportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object for a bulk import of jobs.
+ * Reports the progress of the import, or its outcome once it has finished.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobImportDTO {
+    private String id;              // ID of the import, used to resume it or poll its progress
+    private String format;          // CSV or NDJSON
+    private String status;          // RUNNING, COMPLETED or FAILED
+    private long records;           // Records of the file committed so far, imported or rejected
+    private long imported;          // Jobs created
+    private long rejected;          // Records written to the reject file
+    private String rejectFile;      // File holding the rejected records with their errors, if any
+    private String lastError;       // Error that stopped the last run
+    private Instant startedAt;      // Time the import was first started
+    private Instant updatedAt;      // Time of the last committed chunk
+}
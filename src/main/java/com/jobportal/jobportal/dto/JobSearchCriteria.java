@@ -0,0 +1,45 @@
+package com.jobportal.jobportal.dto;
+
+import com.jobportal.jobportal.entity.Job;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Search criteria for the faceted job search endpoint.
+ * Bound from query parameters; every attribute is optional and the
+ * non-null ones are combined with AND into a single query. When a free-text
+ * query (q) is given, results are ranked by relevance instead of the sort field.
+ *
+ * minSalary and maxSalary compare raw amounts whatever their currency;
+ * salaryAtLeast and salaryBetween compare the top of each job's range
+ * converted to the base currency (see SalaryNormalizer).
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobSearchCriteria {
+    private String q;                // Free-text query over title, skills, description and requirements
+    private Job.JobStatus status;    // ACTIVE, INACTIVE, CLOSED
+    private String category;         // Matched case-insensitively
+    private Job.JobType jobType;     // FULL_TIME, PART_TIME, CONTRACT, INTERNSHIP
+    private String workMode;         // REMOTE, ONSITE, HYBRID
+    private String experienceLevel;  // ENTRY, MID, SENIOR, EXECUTIVE
+    private String location;         // Matched case-insensitively
+    private BigDecimal minSalary;    // Jobs whose salary range reaches at least this amount
+    private BigDecimal maxSalary;    // Jobs whose salary range starts at or below this amount
+    private Long salaryAtLeast;      // Jobs paying at least this much, in the base currency
+    private List<Long> salaryBetween; // "min,max": jobs paying within this range, in the base currency
+    private Long postedBy;           // ID of the employer who posted the job
+    private Integer page;            // Zero-based page number (defaults to 0)
+    private Integer size;            // Page size (defaults to 20, capped at 100)
+    private String sort;             // "field,direction", e.g. "createdAt,desc"
+}
@@ -0,0 +1,47 @@
+package com.jobportal.jobportal.dto;
+
+import com.jobportal.jobportal.entity.Job;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Data Transfer Object for a job in a listing.
+ * Carries the same fields as JobDTO except the long text fields (description,
+ * requirements, responsibilities, benefits, companyInfo), which only the job
+ * detail view needs. Listing endpoints return the full JobDTO with view=full.
+ * 
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class JobSummaryDTO {
+    private Long id;
+    private String title;
+    private String company;
+    private String location;
+    private Job.JobType jobType;
+    private Job.JobStatus status;
+    private String experienceLevel;
+    private String department;
+    private String category;
+    private BigDecimal salaryMin;
+    private BigDecimal salaryMax;
+    private String salaryCurrency;
+    private String workMode;
+    private String educationLevel;
+    private String skills;
+    private String companyLogoUrl;
+    private Long postedBy;
+    private Instant applicationDeadline;
+    private Instant startDate;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
@@ -0,0 +1,34 @@
+package com.jobportal.jobportal.dto;
+
+import com.jobportal.jobportal.customexceptionhandler.ValidationException;
+
+import java.util.Locale;
+
+/**
+ * Shape of the jobs returned by listing endpoints, selected with the view query parameter.
+ * 
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public enum JobView {
+    SUMMARY,    // JobSummaryDTO without the long text fields (default)
+    FULL;       // Complete JobDTO
+
+    /**
+     * Parses the view query parameter (case-insensitive).
+     * 
+     * @param value "summary" or "full". Null or blank selects SUMMARY.
+     * @return The requested view
+     * @throws ValidationException if the value is not a known view
+     */
+    public static JobView from(String value) {
+        if (value == null || value.isBlank()) {
+            return SUMMARY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("View must be 'summary' or 'full'");
+        }
+    }
+}
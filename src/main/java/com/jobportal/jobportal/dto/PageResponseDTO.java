@@ -0,0 +1,29 @@
+package com.jobportal.jobportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a page of a numbered (page/size) listing.
+ * Used by search endpoints where clients need the total number of results.
+ *
+ * @param <T> The type of the items in the page
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageResponseDTO<T> {
+    private List<T> items;      // Items of the current page
+    private int page;           // Zero-based page number
+    private int size;           // Effective page size applied by the server
+    private long totalElements; // Total number of matching items
+    private int totalPages;     // Total number of pages
+}
@@ -0,0 +1,22 @@
+package com.jobportal.jobportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a recommended job.
+ * Pairs the summary of an active job with the user's match score for it.
+ * 
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendedJobDTO {
+    private JobSummaryDTO job;   // Summary of the recommended job
+    private Integer matchScore;  // Match score of the user for the job (0-100)
+}
@@ -0,0 +1,31 @@
+package com.jobportal.jobportal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the text extraction of a resume.
+ * Reports the extraction status and, once completed, what was found in the file.
+ * 
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeExtractionDTO {
+    private Long resumeId;          // ID of the resume
+    private String status;          // PENDING, PROCESSING, COMPLETED or FAILED
+    private Integer attempts;       // Number of extraction attempts so far
+    private String lastError;       // Error of the last failed attempt
+    private List<String> sections;  // Section headings found (e.g. "experience", "education")
+    private List<String> skills;    // Dictionary skills mentioned in the resume
+    private Integer textLength;     // Number of characters extracted
+    private Instant extractedAt;    // Time of the last successful extraction
+}
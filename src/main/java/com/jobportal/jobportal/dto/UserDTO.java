@@ -48,6 +48,26 @@ public class UserDTO {
     @NotBlank(message = "User type is required")
     @Pattern(regexp = "^(candidate|employer|admin)$", message = "User type must be either 'candidate', 'employer', or 'admin'")
     private String userType;
+
+    /** Candidate's skills, comma-separated (used for job matching) */
+    @Size(max = 500, message = "Skills must not exceed 500 characters")
+    private String skills;
+
+    /** Candidate's experience level (used for job matching) */
+    @Pattern(regexp = "^(ENTRY|MID|SENIOR|EXECUTIVE)$", message = "Experience level must be ENTRY, MID, SENIOR, or EXECUTIVE")
+    private String experienceLevel;
+
+    /** Candidate's highest education level (used for job matching) */
+    @Pattern(regexp = "^(HIGH_SCHOOL|BACHELOR|MASTER|PHD)$", message = "Education level must be HIGH_SCHOOL, BACHELOR, MASTER, or PHD")
+    private String educationLevel;
+
+    /** Location the candidate wants to work in (used for job matching) */
+    @Size(max = 100, message = "Preferred location must not exceed 100 characters")
+    private String preferredLocation;
+
+    /** Work mode the candidate prefers (used for job matching) */
+    @Pattern(regexp = "^(REMOTE|ONSITE|HYBRID)$", message = "Preferred work mode must be REMOTE, ONSITE, or HYBRID")
+    private String preferredWorkMode;
 }
 
 
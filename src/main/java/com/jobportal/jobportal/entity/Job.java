@@ -2,12 +2,33 @@ package com.jobportal.jobportal.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
 
 @Entity
-@Table(name = "jobs")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job")
+// Indexes mirror db/migration (V3, V4, V8, V9); the test profile builds the schema from these annotations
+@Table(name = "jobs", indexes = {
+    @Index(name = "idx_jobs_created", columnList = "createdAt, id"),
+    @Index(name = "idx_jobs_status_created", columnList = "status, createdAt, id"),
+    @Index(name = "idx_jobs_status_category_type", columnList = "status, category, jobType"),
+    @Index(name = "idx_jobs_job_type", columnList = "jobType"),
+    @Index(name = "idx_jobs_posted_by", columnList = "posted_by"),
+    @Index(name = "idx_jobs_company_key", columnList = "company_key"),
+    @Index(name = "idx_jobs_location_key", columnList = "location_key"),
+    @Index(name = "idx_jobs_category_key", columnList = "category_key"),
+    @Index(name = "idx_jobs_department_key", columnList = "department_key"),
+    @Index(name = "idx_jobs_salary", columnList = "normalized_salary, id"),
+    @Index(name = "idx_jobs_status_salary", columnList = "status, normalized_salary, id"),
+    @Index(name = "idx_jobs_updated", columnList = "updatedAt")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,8 +36,11 @@ import java.time.Instant;
 @Builder
 public class Job {
 
+    // Drawn from id_generators in blocks (V10), so inserts can be sent in JDBC batches
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_ids")
+    @TableGenerator(name = "job_ids", table = "id_generators", pkColumnName = "sequence_name",
+        valueColumnName = "next_val", pkColumnValue = "jobs", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -45,22 +69,15 @@ public class Job {
     @Column(length = 100)
     private String category; // IT, FINANCE, MARKETING, etc.
 
-    @Lob
-    private String description;
-
-    @Lob
-    private String requirements;
-
-    @Lob
-    private String responsibilities;
-
-    @Lob
-    private String benefits;
-
     private BigDecimal salaryMin;
     private BigDecimal salaryMax;
     private String salaryCurrency;
 
+    // Top of the salary range per year in the base currency, maintained by JobService
+    // through SalaryNormalizer so salaries in different currencies can be compared
+    @Column(name = "normalized_salary")
+    private Long normalizedSalary;
+
     @Column(length = 50)
     private String workMode; // REMOTE, ONSITE, HYBRID
 
@@ -70,9 +87,14 @@ public class Job {
     @Column(length = 500)
     private String skills; // Comma-separated skills
 
-    @Lob
-    @Column(name = "company_info")
-    private String companyInfo; // Company description/about text
+    // Skill dictionary IDs of the skills above (job_skills), maintained by JobService
+    @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job-skills")
+    @CollectionTable(name = "job_skills", joinColumns = @JoinColumn(name = "job_id"),
+        indexes = @Index(name = "idx_job_skills_skill", columnList = "skill_id, job_id"))
+    @Column(name = "skill_id", nullable = false)
+    @Builder.Default
+    private Set<Integer> skillIds = new HashSet<>();
 
     @Column(name = "company_logo_url", length = 500)
     private String companyLogoUrl; // URL to company logo image
@@ -86,6 +108,30 @@ public class Job {
     @Column(name = "start_date")
     private Instant startDate;
 
+    // Trimmed, lower-cased copies of company, location, category and department,
+    // maintained by onCreate/onUpdate so case-insensitive lookups can use an index
+    @Setter(AccessLevel.NONE)
+    @Column(name = "company_key", length = 100)
+    private String companyKey;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "location_key", length = 100)
+    private String locationKey;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "category_key", length = 100)
+    private String categoryKey;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "department_key", length = 100)
+    private String departmentKey;
+
+    // Description, requirements, responsibilities, benefits and company info,
+    // loaded only when one of them is read
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "content_id", unique = true)
+    private JobContent content;
+
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -96,11 +142,93 @@ public class Job {
         var now = Instant.now();
         createdAt = now;
         updatedAt = now;
+        updateKeys();
     }
 
     @PreUpdate
     public void onUpdate() {
         updatedAt = Instant.now();
+        updateKeys();
+    }
+
+    /**
+     * Normalizes a value the way the *Key columns store it: trimmed and lower-cased.
+     * Lookups against those columns must pass their argument through this method.
+     *
+     * @param value The value to normalize
+     * @return The normalized value, or null if the value is null or blank
+     */
+    public static String toKey(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalizes a coded value (workMode, experienceLevel) the way it is stored:
+     * trimmed and upper-cased, so filters can compare it exactly.
+     *
+     * @param value The value to normalize
+     * @return The normalized value, or null if the value is null or blank
+     */
+    public static String toCode(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private void updateKeys() {
+        workMode = toCode(workMode);
+        experienceLevel = toCode(experienceLevel);
+        companyKey = toKey(company);
+        locationKey = toKey(location);
+        categoryKey = toKey(category);
+        departmentKey = toKey(department);
+    }
+
+    // Accessors for the fields held by JobContent; setters create it on first use
+
+    public String getDescription() {
+        return content == null ? null : content.getDescription();
+    }
+
+    public void setDescription(String description) {
+        content().setDescription(description);
+    }
+
+    public String getRequirements() {
+        return content == null ? null : content.getRequirements();
+    }
+
+    public void setRequirements(String requirements) {
+        content().setRequirements(requirements);
+    }
+
+    public String getResponsibilities() {
+        return content == null ? null : content.getResponsibilities();
+    }
+
+    public void setResponsibilities(String responsibilities) {
+        content().setResponsibilities(responsibilities);
+    }
+
+    public String getBenefits() {
+        return content == null ? null : content.getBenefits();
+    }
+
+    public void setBenefits(String benefits) {
+        content().setBenefits(benefits);
+    }
+
+    public String getCompanyInfo() {
+        return content == null ? null : content.getCompanyInfo();
+    }
+
+    public void setCompanyInfo(String companyInfo) {
+        content().setCompanyInfo(companyInfo);
+    }
+
+    private JobContent content() {
+        if (content == null) {
+            content = new JobContent();
+        }
+        return content;
     }
 
     // Enums for better type safety
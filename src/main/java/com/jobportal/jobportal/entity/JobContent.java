@@ -0,0 +1,51 @@
+package com.jobportal.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * Large text fields of a job posting.
+ *
+ * Kept in their own table and loaded lazily from {@link Job}, so queries that
+ * only need the listing columns (lists, similar jobs, matching) read narrow rows
+ * and never pull the LONGTEXT columns into the buffer pool.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job-content")
+@Table(name = "job_contents")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobContent {
+
+    // Drawn from id_generators in blocks (V10), so inserts can be sent in JDBC batches
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_content_ids")
+    @TableGenerator(name = "job_content_ids", table = "id_generators", pkColumnName = "sequence_name",
+        valueColumnName = "next_val", pkColumnValue = "job_contents", allocationSize = 50)
+    private Long id;
+
+    @Lob
+    private String description;
+
+    @Lob
+    private String requirements;
+
+    @Lob
+    private String responsibilities;
+
+    @Lob
+    private String benefits;
+
+    @Lob
+    @Column(name = "company_info")
+    private String companyInfo; // Company description/about text
+}
@@ -0,0 +1,129 @@
+package com.jobportal.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Checkpoint and progress of a bulk import of jobs from a CSV or NDJSON file.
+ *
+ * The file is imported in chunks of records, each committed in its own
+ * transaction together with this record, so the number of records done
+ * always matches what was written. An interrupted import is resumed by
+ * importing the same file again under the same ID: the records already done
+ * are skipped. A run owns the import while its lease lasts; the lease is
+ * renewed with every committed chunk, so only one run at a time, in any
+ * process, imports the file.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "job_imports")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobImport {
+
+    public static final int MAX_ID_LENGTH = 64;
+    public static final int MAX_ERROR_LENGTH = 500;
+
+    /** Chosen by the client, so an interrupted import can be resumed */
+    @Id
+    @Column(length = MAX_ID_LENGTH)
+    private String id;
+
+    /** Format of the imported file */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Format format;
+
+    /** State of the import */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportStatus status;
+
+    /** Number of records of the file committed so far, imported or rejected */
+    @Column(name = "records_done", nullable = false)
+    private long recordsDone;
+
+    /** Number of jobs created */
+    @Column(nullable = false)
+    private long imported;
+
+    /** Number of records written to the reject file */
+    @Column(nullable = false)
+    private long rejected;
+
+    /** Error that stopped the last run */
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /** Run that holds the import, while the lease lasts */
+    @Column(length = 64)
+    private String owner;
+
+    /** Time after which another run may take over a RUNNING import */
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
+    /** Timestamp when the import was first started (immutable) */
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /** Timestamp of the last committed chunk or status change */
+    private Instant updatedAt;
+
+    /**
+     * Records a committed chunk.
+     *
+     * @param lastRecord Number of the last record of the chunk
+     * @param importedJobs Number of jobs created from the chunk
+     * @param rejectedRecords Number of records of the chunk rejected
+     */
+    public void advance(long lastRecord, int importedJobs, int rejectedRecords) {
+        recordsDone = lastRecord;
+        imported += importedJobs;
+        rejected += rejectedRecords;
+    }
+
+    /**
+     * JPA callback method executed before persisting a new entity.
+     * Sets creation and update timestamps.
+     */
+    @PrePersist
+    public void onCreate() {
+        var now = Instant.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    /**
+     * JPA callback method executed before updating an existing entity.
+     * Updates the modification timestamp.
+     */
+    @PreUpdate
+    public void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    /**
+     * Format of an imported file.
+     */
+    public enum Format {
+        /** Comma-separated values with a header row naming the job fields */
+        CSV,
+        /** Newline-delimited JSON: one job object per line */
+        NDJSON
+    }
+
+    /**
+     * State of an import.
+     */
+    public enum ImportStatus {
+        RUNNING, COMPLETED, FAILED
+    }
+}
@@ -2,6 +2,8 @@ package com.jobportal.jobportal.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 
@@ -13,7 +15,9 @@ import java.time.Instant;
  * @version 1.0
  */
 @Entity
-@Table(name = "resumes")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "resume")
+@Table(name = "resumes", indexes = @Index(name = "idx_resumes_user_primary", columnList = "user_id, isPrimary"))
 @Getter
 @Setter
 @NoArgsConstructor
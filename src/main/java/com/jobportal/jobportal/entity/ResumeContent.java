@@ -0,0 +1,128 @@
+package com.jobportal.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+
+/**
+ * Content extracted from an uploaded resume, and the state of its extraction.
+ *
+ * The file is parsed in the background after the upload commits. Instead of
+ * the full text, a compact record is kept: the section headings found, the
+ * dictionary skills mentioned and the distinct tokens. A failed extraction is
+ * retried with backoff until it reaches the maximum number of attempts.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "resume_contents", indexes = @Index(name = "idx_resume_contents_due", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeContent {
+
+    public static final int MAX_ERROR_LENGTH = 500;
+    public static final int MAX_SECTIONS_LENGTH = 500;
+    public static final int MAX_SKILLS_LENGTH = 1000;
+
+    /** Same as the ID of the resume */
+    @Id
+    @Column(name = "resume_id")
+    private Long id;
+
+    /** The resume the content was extracted from */
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "resume_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Resume resume;
+
+    /** State of the extraction */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ExtractionStatus status;
+
+    /** Number of extractions started so far */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** Earliest time the next attempt may start (or a running one is considered lost) */
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    /** Error of the last failed attempt */
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /** Section headings found, comma-separated and lower-case, in document order */
+    @Column(length = MAX_SECTIONS_LENGTH)
+    private String sections;
+
+    /** Dictionary skills mentioned, comma-separated like the skills of users and jobs */
+    @Column(length = MAX_SKILLS_LENGTH)
+    private String skills;
+
+    /** Distinct lower-case tokens, space-separated, in order of first occurrence */
+    @Lob
+    private String tokens;
+
+    /** Number of characters of the extracted text */
+    private Integer textLength;
+
+    /** Timestamp of the last successful extraction */
+    private Instant extractedAt;
+
+    /** Timestamp when the record was created (immutable) */
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /** Timestamp when the record was last updated */
+    private Instant updatedAt;
+
+    /**
+     * Creates the record of a newly uploaded resume, due for extraction now.
+     *
+     * @param resume The uploaded resume
+     * @return The pending record
+     */
+    public static ResumeContent pending(Resume resume) {
+        return ResumeContent.builder()
+            .resume(resume)
+            .status(ExtractionStatus.PENDING)
+            .nextAttemptAt(Instant.now())
+            .build();
+    }
+
+    /**
+     * JPA callback method executed before persisting a new entity.
+     * Sets creation and update timestamps.
+     */
+    @PrePersist
+    public void onCreate() {
+        var now = Instant.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    /**
+     * JPA callback method executed before updating an existing entity.
+     * Updates the modification timestamp.
+     */
+    @PreUpdate
+    public void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    /**
+     * State of the extraction of a resume.
+     */
+    public enum ExtractionStatus {
+        PENDING, PROCESSING, COMPLETED, FAILED
+    }
+}
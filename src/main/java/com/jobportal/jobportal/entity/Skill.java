@@ -0,0 +1,38 @@
+package com.jobportal.jobportal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Entry of the skill dictionary.
+ *
+ * Every distinct skill (compared trimmed and case-insensitively) gets one row
+ * and a small, dense integer ID. Jobs reference their skills by ID through the
+ * job_skills table ({@link Job#getSkillIds()}), so skill overlap can be computed
+ * on IDs and "jobs requiring X" is an index lookup.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "skills")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Skill {
+
+    /** Longest skill name the dictionary accepts */
+    public static final int MAX_NAME_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, length = MAX_NAME_LENGTH)
+    private String name; // Spelling of the first job that used the skill
+
+    @Column(name = "name_key", nullable = false, unique = true, length = MAX_NAME_LENGTH)
+    private String nameKey; // Job.toKey(name)
+}
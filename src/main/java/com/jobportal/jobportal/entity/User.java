@@ -2,6 +2,8 @@ package com.jobportal.jobportal.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.List;
@@ -14,6 +16,8 @@ import java.util.List;
  * @version 1.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Table(name = "users")
 @Getter
 @Setter
@@ -52,6 +56,26 @@ public class User {
     /** Type of user - candidate, employer, or admin */
     private String userType;  // candidate/employer/admin
 
+    /** Candidate's skills, comma-separated like Job.skills */
+    @Column(length = 500)
+    private String skills;
+
+    /** Candidate's experience level - ENTRY, MID, SENIOR, EXECUTIVE */
+    @Column(length = 50)
+    private String experienceLevel;
+
+    /** Candidate's highest education level - HIGH_SCHOOL, BACHELOR, MASTER, PHD */
+    @Column(length = 100)
+    private String educationLevel;
+
+    /** Location the candidate wants to work in */
+    @Column(length = 100)
+    private String preferredLocation;
+
+    /** Work mode the candidate prefers - REMOTE, ONSITE, HYBRID */
+    @Column(length = 50)
+    private String preferredWorkMode;
+
     /** One-to-Many relationship with Resume entities */
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Resume> resumes;
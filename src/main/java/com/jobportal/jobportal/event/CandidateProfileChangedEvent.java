@@ -0,0 +1,16 @@
+package com.jobportal.jobportal.event;
+
+/**
+ * Application event published whenever data a user is matched on changes:
+ * their profile (UserService) or their primary resume (ResumeService).
+ *
+ * Listeners caching per-user results (e.g. recommendations) drop them after
+ * the surrounding transaction commits.
+ *
+ * @param userId ID of the affected user
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record CandidateProfileChangedEvent(Long userId) {
+}
@@ -0,0 +1,28 @@
+package com.jobportal.jobportal.event;
+
+import com.jobportal.jobportal.dto.JobDTO;
+
+/**
+ * Application event published by JobService whenever a job is created, updated or deleted.
+ *
+ * Listeners that keep derived data in sync (in-memory indexes, caches) should
+ * consume it after the surrounding transaction commits, so they never observe
+ * changes that are later rolled back.
+ *
+ * @param jobId ID of the affected job
+ * @param type Kind of change
+ * @param job Snapshot of the job after the change, or null for deletions
+ * @param previous Snapshot of the job before the change, or null for creations
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record JobChangedEvent(Long jobId, ChangeType type, JobDTO job, JobDTO previous) {
+
+    /**
+     * Kind of change applied to a job.
+     */
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
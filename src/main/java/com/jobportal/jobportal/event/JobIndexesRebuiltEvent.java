@@ -0,0 +1,16 @@
+package com.jobportal.jobportal.event;
+
+/**
+ * Application event published by JobIndexMaintainer once every job index has
+ * been rebuilt from the database.
+ *
+ * Responses built while the indexes were still filling may have missed jobs,
+ * so the catalog version moves on and clients holding one of them revalidate.
+ *
+ * @param jobs Number of active jobs indexed
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record JobIndexesRebuiltEvent(int jobs) {
+}
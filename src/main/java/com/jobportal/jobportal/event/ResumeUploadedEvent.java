@@ -0,0 +1,15 @@
+package com.jobportal.jobportal.event;
+
+/**
+ * Application event published by ResumeService when a resume file is stored.
+ *
+ * The extraction of its content starts once the upload transaction commits,
+ * so the upload request never waits for the file to be parsed.
+ *
+ * @param resumeId ID of the uploaded resume
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record ResumeUploadedEvent(Long resumeId) {
+}
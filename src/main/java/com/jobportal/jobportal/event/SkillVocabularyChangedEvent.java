@@ -0,0 +1,18 @@
+package com.jobportal.jobportal.event;
+
+import java.util.List;
+
+/**
+ * Application event published by SkillService when skills are added to the
+ * dictionary it caches.
+ *
+ * Consumers derived from the whole vocabulary (e.g. the skill tagger's
+ * automaton) rebuild themselves; the new skills are already committed.
+ *
+ * @param skillIds IDs of the added skills
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record SkillVocabularyChangedEvent(List<Integer> skillIds) {
+}
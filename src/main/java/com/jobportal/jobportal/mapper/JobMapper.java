@@ -2,15 +2,15 @@ package com.jobportal.jobportal.mapper;
 
 import com.jobportal.jobportal.dto.*;
 import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.entity.JobContent;
+import com.jobportal.jobportal.repo.JobSummary;
 
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * JobMapper - Static utility class for mapping between Job entity and DTOs.
@@ -29,6 +29,13 @@ import java.util.stream.Collectors;
  */
 public class JobMapper {
 
+    /**
+     * Per-thread builder reused by {@link #formatCompensation(BigDecimal, BigDecimal, String)},
+     * so formatting allocates only the resulting string.
+     */
+    private static final ThreadLocal<StringBuilder> COMPENSATION_BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(32));
+
     /**
      * Converts a Job entity to a JobDTO.
      * 
@@ -65,6 +72,7 @@ public class JobMapper {
                 .salaryMin(job.getSalaryMin())
                 .salaryMax(job.getSalaryMax())
                 .salaryCurrency(job.getSalaryCurrency())
+                .normalizedSalary(job.getNormalizedSalary())
                 .workMode(job.getWorkMode())
                 .educationLevel(job.getEducationLevel())
                 .skills(job.getSkills())
@@ -78,6 +86,43 @@ public class JobMapper {
                 .build();
     }
 
+    /**
+     * Converts a JobSummary projection to a JobSummaryDTO.
+     * 
+     * Used by listing endpoints, which read only the summary columns from the
+     * database and leave out the long text fields.
+     * 
+     * @param summary The projection to convert. Can be null.
+     * @return JobSummaryDTO with all projected fields mapped, or null if summary is null.
+     */
+    public static JobSummaryDTO summaryToDto(JobSummary summary) {
+        if (summary == null) return null;
+        
+        return JobSummaryDTO.builder()
+                .id(summary.id())
+                .title(summary.title())
+                .company(summary.company())
+                .location(summary.location())
+                .jobType(summary.jobType())
+                .status(summary.status())
+                .experienceLevel(summary.experienceLevel())
+                .department(summary.department())
+                .category(summary.category())
+                .salaryMin(summary.salaryMin())
+                .salaryMax(summary.salaryMax())
+                .salaryCurrency(summary.salaryCurrency())
+                .workMode(summary.workMode())
+                .educationLevel(summary.educationLevel())
+                .skills(summary.skills())
+                .companyLogoUrl(summary.companyLogoUrl())
+                .postedBy(summary.postedBy())
+                .applicationDeadline(summary.applicationDeadline())
+                .startDate(summary.startDate())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+
     /**
      * Converts a JobDTO to a Job entity.
      * 
@@ -113,17 +158,19 @@ public class JobMapper {
                 .experienceLevel(dto.getExperienceLevel())
                 .department(dto.getDepartment())
                 .category(dto.getCategory())
-                .description(dto.getDescription())
-                .requirements(dto.getRequirements())
-                .responsibilities(dto.getResponsibilities())
-                .benefits(dto.getBenefits())
                 .salaryMin(dto.getSalaryMin())
                 .salaryMax(dto.getSalaryMax())
                 .salaryCurrency(dto.getSalaryCurrency())
                 .workMode(dto.getWorkMode())
                 .educationLevel(dto.getEducationLevel())
                 .skills(dto.getSkills())
-                .companyInfo(dto.getCompanyInfo())
+                .content(JobContent.builder()
+                        .description(dto.getDescription())
+                        .requirements(dto.getRequirements())
+                        .responsibilities(dto.getResponsibilities())
+                        .benefits(dto.getBenefits())
+                        .companyInfo(dto.getCompanyInfo())
+                        .build())
                 .companyLogoUrl(dto.getCompanyLogoUrl())
                 .postedBy(dto.getPostedBy())
                 .applicationDeadline(dto.getApplicationDeadline())
@@ -213,13 +260,20 @@ public class JobMapper {
      * </pre>
      */
     public static List<String> skillsToKeywords(String skills) {
-        if (skills == null || skills.trim().isEmpty()) {
-            return new ArrayList<>();
+        List<String> keywords = new ArrayList<>();
+        if (skills == null) {
+            return keywords;
+        }
+        // Scans the commas by hand: no regex, array or stream per call, only the keywords themselves
+        int length = skills.length();
+        int start = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || skills.charAt(i) == ',') {
+                addTrimmed(skills, start, i, 0, keywords);
+                start = i + 1;
+            }
         }
-        return Arrays.stream(skills.split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toList());
+        return keywords;
     }
 
     /**
@@ -249,14 +303,59 @@ public class JobMapper {
      * </pre>
      */
     public static List<String> requirementsToArray(String requirements) {
-        if (requirements == null || requirements.trim().isEmpty()) {
-            return new ArrayList<>();
+        List<String> result = new ArrayList<>();
+        if (requirements == null) {
+            return result;
+        }
+        // Split by newline (\n, \r), bullet points (•, ●), numbered lists (1., 2., etc.), or dashes/asterisks (-, *).
+        // Scanned by hand rather than with String.split, which compiles the pattern on every call.
+        int length = requirements.length();
+        int start = 0;
+        int i = 0;
+        while (i < length) {
+            char c = requirements.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u2022' || c == '\u25CF' || c == '-' || c == '*') {
+                addTrimmed(requirements, start, i, 3, result);
+                start = ++i;
+            } else if (isDigit(c)) {
+                int end = i + 1;
+                while (end < length && isDigit(requirements.charAt(end))) {
+                    end++;
+                }
+                if (end < length && requirements.charAt(end) == '.') {
+                    // "12." is a list number; digits without a dot are text
+                    addTrimmed(requirements, start, i, 3, result);
+                    start = end + 1;
+                    i = end + 1;
+                } else {
+                    i = end;
+                }
+            } else {
+                i++;
+            }
+        }
+        addTrimmed(requirements, start, length, 3, result);
+        return result;
+    }
+
+    /**
+     * Adds the given range of the text, trimmed as by {@link String#trim()}, if it
+     * is longer than minLength characters. Only the added string is allocated.
+     */
+    private static void addTrimmed(String text, int start, int end, int minLength, List<String> target) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (end - start > minLength) {
+            target.add(text.substring(start, end));
         }
-        // Split by newline (\n, \r), bullet points (•, •, ●), numbered lists (1., 2., etc.), or dashes/asterisks (-, *)
-        return Arrays.stream(requirements.split("[\n\r•\u2022\u25CF]|\\d+\\.|[-*]"))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty() && s.length() > 3) // Filter out empty strings and very short entries
-                .collect(Collectors.toList());
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     /**
@@ -312,7 +411,7 @@ public class JobMapper {
      * - Neither: "Not specified"
      * 
      * The currency symbol is automatically determined from the currency code.
-     * Salary amounts are formatted using formatSalary() (e.g., 150000 → "150k").
+     * Salary amounts are formatted using appendSalary() (e.g., 150000 → "150k").
      * 
      * @param salaryMin Minimum salary amount (BigDecimal). Can be null.
      * @param salaryMax Maximum salary amount (BigDecimal). Can be null.
@@ -350,18 +449,19 @@ public class JobMapper {
         
         String currencySymbol = getCurrencySymbol(currency != null ? currency : "USD");
         
-        StringBuilder compensation = new StringBuilder();
+        StringBuilder compensation = COMPENSATION_BUFFER.get();
+        compensation.setLength(0);
         
         if (salaryMin != null) {
-            compensation.append(currencySymbol).append(formatSalary(salaryMin));
+            appendSalary(compensation.append(currencySymbol), salaryMin);
         }
         
         if (salaryMin != null && salaryMax != null) {
             // Both min and max: "$150k–$190k"
-            compensation.append("–").append(currencySymbol).append(formatSalary(salaryMax));
+            appendSalary(compensation.append('–').append(currencySymbol), salaryMax);
         } else if (salaryMax != null) {
             // Only max: "Up to $190k"
-            compensation.append("Up to ").append(currencySymbol).append(formatSalary(salaryMax));
+            appendSalary(compensation.append("Up to ").append(currencySymbol), salaryMax);
         }
         
         // Note: Additional benefits like "+ equity" can be added here
@@ -371,7 +471,7 @@ public class JobMapper {
     }
 
     /**
-     * Formats a salary amount to a compact, readable string.
+     * Appends a salary amount as a compact, readable string.
      * 
      * This private helper method converts a BigDecimal salary amount to a
      * human-readable format:
@@ -379,40 +479,38 @@ public class JobMapper {
      * - >= 1,000: "150k" (thousands)
      * - < 1,000: "500" (exact amount)
      * 
-     * Returns an empty string if the salary is null.
+     * Appends nothing if the salary is null. Written with plain arithmetic
+     * instead of String.format, which parses its pattern and boxes its arguments
+     * on every call; millions are rounded half up like "%.1f", but always with
+     * a '.' separator whatever the default locale.
      * 
+     * @param target The builder to append to
      * @param salary The salary amount to format (BigDecimal). Can be null.
-     * @return Formatted salary string:
-     *         - "1.5M" (for amounts >= 1,000,000)
-     *         - "150k" (for amounts >= 1,000)
-     *         - "500" (for amounts < 1,000)
-     *         - "" (if salary is null)
+     * @return The builder, with "1.5M", "150k" or "500" appended
      * 
      * @example
      * <pre>
-     * String formatted1 = formatSalary(new BigDecimal("1500000"));
-     * // Result: "1.5M"
-     * 
-     * String formatted2 = formatSalary(new BigDecimal("150000"));
-     * // Result: "150k"
+     * appendSalary(new StringBuilder("$"), new BigDecimal("1500000"));
+     * // Result: "$1.5M"
      * 
-     * String formatted3 = formatSalary(new BigDecimal("500"));
-     * // Result: "500"
+     * appendSalary(new StringBuilder("$"), new BigDecimal("150000"));
+     * // Result: "$150k"
      * </pre>
      */
-    private static String formatSalary(BigDecimal salary) {
-        if (salary == null) return "";
+    private static StringBuilder appendSalary(StringBuilder target, BigDecimal salary) {
+        if (salary == null) return target;
         
         long amount = salary.longValue();
         if (amount >= 1000000) {
             // Format as millions with one decimal place (e.g., "1.5M")
-            return String.format("%.1fM", amount / 1000000.0);
+            long tenths = (amount + 50000) / 100000;
+            return target.append(tenths / 10).append('.').append(tenths % 10).append('M');
         } else if (amount >= 1000) {
             // Format as thousands (e.g., "150k")
-            return String.format("%dk", amount / 1000);
+            return target.append(amount / 1000).append('k');
         } else {
             // Format as exact amount (e.g., "500")
-            return String.valueOf(amount);
+            return target.append(amount);
         }
     }
 
@@ -459,21 +557,20 @@ public class JobMapper {
      */
     private static String getCurrencySymbol(String currency) {
         if (currency == null) return "$"; // Default to USD
-        switch (currency.toUpperCase()) {
-            case "USD":
-                return "$";
-            case "EUR":
-                return "€";
-            case "GBP":
-                return "£";
-            case "INR":
-                return "₹";
-            case "JPY":
-                return "¥";
-            default:
-                // Return currency code with space for unrecognized currencies
-                return currency + " ";
+        // equalsIgnoreCase rather than switching on toUpperCase(), which copies the code on every call
+        if (currency.equalsIgnoreCase("USD")) {
+            return "$";
+        } else if (currency.equalsIgnoreCase("EUR")) {
+            return "€";
+        } else if (currency.equalsIgnoreCase("GBP")) {
+            return "£";
+        } else if (currency.equalsIgnoreCase("INR")) {
+            return "₹";
+        } else if (currency.equalsIgnoreCase("JPY")) {
+            return "¥";
         }
+        // Return currency code with space for unrecognized currencies
+        return currency + " ";
     }
 
     /**
@@ -523,11 +620,14 @@ public class JobMapper {
     public static String formatPostedAt(Instant instant) {
         if (instant == null) return "";
         
+        // Whole seconds elapsed, as Duration.between(instant, now).getSeconds() without the Duration
         Instant now = Instant.now();
-        Duration duration = Duration.between(instant, now);
+        long seconds = now.getEpochSecond() - instant.getEpochSecond();
+        if (now.getNano() < instant.getNano()) {
+            seconds--;
+        }
         
         // Calculate time units
-        long seconds = duration.getSeconds();
         long minutes = seconds / 60;
         long hours = minutes / 60;
         long days = hours / 24;
@@ -553,6 +653,47 @@ public class JobMapper {
         }
     }
 
+    /**
+     * Returns when {@link #formatPostedAt(Instant)} may next return a different text.
+     * 
+     * The text counts minutes during the first hour, hours during the first day,
+     * and whole days (as days, weeks, months or years) after that, so it can only
+     * change at the next such boundary after the instant.
+     * 
+     * @param instant The Instant timestamp that is formatted. Can be null.
+     * @return The time the formatted text may change, or null if it never does
+     */
+    public static Instant postedAtChangesAt(Instant instant) {
+        if (instant == null) return null;
+        
+        Duration elapsed = Duration.between(instant, Instant.now());
+        if (elapsed.toHours() < 1) {
+            return instant.plus(Duration.ofMinutes(Math.max(0, elapsed.toMinutes()) + 1));
+        } else if (elapsed.toDays() < 1) {
+            return instant.plus(Duration.ofHours(elapsed.toHours() + 1));
+        }
+        return instant.plus(Duration.ofDays(elapsed.toDays() + 1));
+    }
+
+    /**
+     * Returns when {@link #formatPostedAt(Instant)} last started returning its current text,
+     * the boundary before {@link #postedAtChangesAt(Instant)}.
+     * 
+     * @param instant The Instant timestamp that is formatted. Can be null.
+     * @return The time the formatted text last changed, or null if it never does
+     */
+    public static Instant postedAtChangedAt(Instant instant) {
+        if (instant == null) return null;
+        
+        Duration elapsed = Duration.between(instant, Instant.now());
+        if (elapsed.toHours() < 1) {
+            return instant.plus(Duration.ofMinutes(Math.max(0, elapsed.toMinutes())));
+        } else if (elapsed.toDays() < 1) {
+            return instant.plus(Duration.ofHours(elapsed.toHours()));
+        }
+        return instant.plus(Duration.ofDays(elapsed.toDays()));
+    }
+
     /**
      * Creates a CompanyDTO from a Job entity.
      * 
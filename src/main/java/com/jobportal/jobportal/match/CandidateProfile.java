@@ -0,0 +1,38 @@
+package com.jobportal.jobportal.match;
+
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.search.JobSkillIndex;
+
+/**
+ * Features of a candidate, built once per user and scored against every
+ * {@link JobVector}.
+ *
+ * @param skills Skill bitset (see {@link JobSkillIndex})
+ * @param experienceRank Rank of the experience level, -1 if unknown
+ * @param educationRank Rank of the education level, -1 if unknown
+ * @param locationKey Normalized preferred location, null if none
+ * @param workModeKey Normalized preferred work mode, null if none
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record CandidateProfile(long[] skills, int experienceRank, int educationRank,
+                               String locationKey, String workModeKey) {
+
+    /**
+     * Builds the profile of a candidate from their attributes.
+     *
+     * @param skills Skill bitset of the candidate
+     * @param experienceLevel Experience level (ENTRY, MID, SENIOR, EXECUTIVE)
+     * @param educationLevel Highest education level (HIGH_SCHOOL, BACHELOR, MASTER, PHD)
+     * @param preferredLocation Location the candidate wants to work in
+     * @param preferredWorkMode Work mode the candidate prefers (REMOTE, ONSITE, HYBRID)
+     * @return The profile
+     */
+    public static CandidateProfile of(long[] skills, String experienceLevel, String educationLevel,
+                                      String preferredLocation, String preferredWorkMode) {
+        return new CandidateProfile(skills,
+            MatchScorer.experienceRank(experienceLevel), MatchScorer.educationRank(educationLevel),
+            Job.toKey(preferredLocation), Job.toKey(preferredWorkMode));
+    }
+}
@@ -0,0 +1,50 @@
+package com.jobportal.jobportal.match;
+
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.search.JobSkillIndex;
+
+/**
+ * Features of a job that a candidate is scored against, precomputed so that
+ * scoring is integer and bit arithmetic only.
+ *
+ * @param jobId ID of the job
+ * @param skills Skill bitset (see {@link JobSkillIndex})
+ * @param skillCount Number of skills in the bitset
+ * @param experienceRank Rank of the experience level, -1 if unknown
+ * @param educationRank Rank of the education level, -1 if unknown
+ * @param locationKey Normalized location, null if unknown
+ * @param workModeKey Normalized work mode, null if unknown
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record JobVector(long jobId, long[] skills, int skillCount, int experienceRank, int educationRank,
+                        String locationKey, String workModeKey) {
+
+    /**
+     * Builds the vector of a job from its attributes.
+     *
+     * @param jobId ID of the job
+     * @param skills Skill bitset of the job
+     * @param experienceLevel Required experience level (ENTRY, MID, SENIOR, EXECUTIVE)
+     * @param educationLevel Required education level (HIGH_SCHOOL, BACHELOR, MASTER, PHD)
+     * @param location Job location
+     * @param workMode Work mode (REMOTE, ONSITE, HYBRID)
+     * @return The vector
+     */
+    public static JobVector of(long jobId, long[] skills, String experienceLevel, String educationLevel,
+                               String location, String workMode) {
+        return new JobVector(jobId, skills, JobSkillIndex.cardinality(skills),
+            MatchScorer.experienceRank(experienceLevel), MatchScorer.educationRank(educationLevel),
+            Job.toKey(location), Job.toKey(workMode));
+    }
+
+    /**
+     * Returns whether the job can be done from anywhere.
+     *
+     * @return true for remote jobs
+     */
+    public boolean remote() {
+        return MatchScorer.REMOTE.equals(workModeKey);
+    }
+}
@@ -0,0 +1,169 @@
+package com.jobportal.jobportal.match;
+
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.search.JobIndex;
+import com.jobportal.jobportal.search.JobIndexMaintainer;
+import com.jobportal.jobportal.search.JobSkillIndex;
+import com.jobportal.jobportal.service.SkillService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed {@link JobVector}s of all active jobs, and batch scoring of a
+ * candidate against them.
+ *
+ * Vectors are built at startup and kept in sync with job writes by
+ * {@link JobIndexMaintainer}. Scoring the catalog splits it across a dedicated
+ * fork/join pool, so a large batch does not compete with parallel streams
+ * elsewhere in the application.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class MatchEngine implements JobIndex {
+
+    private final SkillService skillService;
+    private final Map<Long, JobVector> vectors = new ConcurrentHashMap<>();
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Constructor for MatchEngine.
+     *
+     * @param skillService The skill dictionary used to build skill bitsets
+     */
+    @Autowired
+    public MatchEngine(SkillService skillService) {
+        this.skillService = skillService;
+    }
+
+    @Override
+    public void clear() {
+        vectors.clear();
+    }
+
+    @Override
+    public void index(JobDTO job) {
+        if (job.getId() == null) {
+            return;
+        }
+        if (job.getStatus() != Job.JobStatus.ACTIVE) {
+            remove(job.getId());
+            return;
+        }
+        vectors.put(job.getId(), JobVector.of(job.getId(), JobSkillIndex.bitsetOf(job, skillService),
+            job.getExperienceLevel(), job.getEducationLevel(), job.getLocation(), job.getWorkMode()));
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        vectors.remove(jobId);
+    }
+
+    /**
+     * Returns the vector of a job: the precomputed one for active jobs,
+     * otherwise built from the entity, from its skill IDs when it has any
+     * (which include the skills tagged from the description).
+     *
+     * @param job The job
+     * @return The vector
+     */
+    public JobVector vectorOf(Job job) {
+        JobVector vector = job.getId() != null ? vectors.get(job.getId()) : null;
+        if (vector != null) {
+            return vector;
+        }
+        long[] skills = job.getSkillIds() != null && !job.getSkillIds().isEmpty()
+            ? JobSkillIndex.toBitset(job.getSkillIds())
+            : skillService.bitsetOf(job.getSkills());
+        return JobVector.of(job.getId() != null ? job.getId() : 0L, skills,
+            job.getExperienceLevel(), job.getEducationLevel(), job.getLocation(), job.getWorkMode());
+    }
+
+    /**
+     * Scores a candidate against every active job in one parallel pass.
+     *
+     * @param candidate The candidate
+     * @return Match score (0-100) by job ID
+     */
+    public Map<Long, Integer> scoreAll(CandidateProfile candidate) {
+        JobVector[] snapshot = vectors.values().toArray(new JobVector[0]);
+        int[] scores = scoreAll(candidate, snapshot);
+
+        Map<Long, Integer> scoresByJob = new HashMap<>(snapshot.length * 4 / 3 + 1);
+        for (int i = 0; i < snapshot.length; i++) {
+            scoresByJob.put(snapshot[i].jobId(), scores[i]);
+        }
+        return scoresByJob;
+    }
+
+    /**
+     * Returns the best matching active jobs for a candidate.
+     *
+     * Scores the catalog like {@link #scoreAll(CandidateProfile)}, then keeps the
+     * best k in a bounded min-heap: each job is compared with the weakest of
+     * the current top k only, so selection is O(n log k) rather than a full sort.
+     *
+     * @param candidate The candidate
+     * @param k Maximum number of jobs to return
+     * @return Jobs with a score above 0, best first ({@link RankedJob#BEST_FIRST})
+     */
+    public List<RankedJob> topMatches(CandidateProfile candidate, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        JobVector[] snapshot = vectors.values().toArray(new JobVector[0]);
+        int[] scores = scoreAll(candidate, snapshot);
+
+        // Head is the weakest of the best k seen so far
+        PriorityQueue<RankedJob> best = new PriorityQueue<>(k + 1, RankedJob.BEST_FIRST.reversed());
+        for (int i = 0; i < snapshot.length; i++) {
+            if (scores[i] == 0) {
+                continue;
+            }
+            RankedJob job = new RankedJob(snapshot[i].jobId(), scores[i]);
+            if (best.size() < k) {
+                best.add(job);
+            } else if (RankedJob.BEST_FIRST.compare(job, best.peek()) < 0) {
+                best.poll();
+                best.add(job);
+            }
+        }
+        List<RankedJob> ranked = new ArrayList<>(best);
+        ranked.sort(RankedJob.BEST_FIRST);
+        return ranked;
+    }
+
+    /**
+     * Returns the number of active jobs with a precomputed vector.
+     *
+     * @return Number of vectors
+     */
+    public int size() {
+        return vectors.size();
+    }
+
+    private int[] scoreAll(CandidateProfile candidate, JobVector[] jobs) {
+        int[] scores = new int[jobs.length];
+        pool.submit(() -> IntStream.range(0, jobs.length).parallel()
+            .forEach(i -> scores[i] = MatchScorer.score(candidate, jobs[i])))
+            .join();
+        return scores;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,165 @@
+package com.jobportal.jobportal.match;
+
+import com.jobportal.jobportal.dto.MatchFactorDTO;
+import com.jobportal.jobportal.search.JobSkillIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+/**
+ * Scores a candidate against a job.
+ *
+ * The score is a weighted average over the factors both sides provide:
+ * skills (share of the job's skills the candidate has), experience and
+ * education level (full marks at or above the required level, half a mark
+ * less per level below), location (same location, or a remote job) and work
+ * mode (same mode). Factors that either side leaves empty are left out and
+ * the remaining weights are scaled up, so missing data neither helps nor hurts.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public final class MatchScorer {
+
+    static final double SKILLS_WEIGHT = 0.5;
+    static final double EXPERIENCE_WEIGHT = 0.2;
+    static final double EDUCATION_WEIGHT = 0.1;
+    static final double LOCATION_WEIGHT = 0.1;
+    static final double WORK_MODE_WEIGHT = 0.1;
+
+    static final String REMOTE = "remote";
+
+    private static final List<String> EXPERIENCE_LEVELS = List.of("ENTRY", "MID", "SENIOR", "EXECUTIVE");
+    private static final List<String> EDUCATION_LEVELS = List.of("HIGH_SCHOOL", "BACHELOR", "MASTER", "PHD");
+
+    private MatchScorer() {
+    }
+
+    /**
+     * Scores a candidate against a job. Does not allocate, so it can run over
+     * the whole catalog.
+     *
+     * @param candidate The candidate
+     * @param job The job
+     * @return Match score (0-100); 0 if the two have no factor in common
+     */
+    public static int score(CandidateProfile candidate, JobVector job) {
+        double total = 0;
+        double achieved = 0;
+        if (job.skillCount() > 0) {
+            total += SKILLS_WEIGHT;
+            achieved += SKILLS_WEIGHT * JobSkillIndex.intersectionCount(candidate.skills(), job.skills()) / job.skillCount();
+        }
+        if (candidate.experienceRank() >= 0 && job.experienceRank() >= 0) {
+            total += EXPERIENCE_WEIGHT;
+            achieved += EXPERIENCE_WEIGHT * levelScore(candidate.experienceRank(), job.experienceRank());
+        }
+        if (candidate.educationRank() >= 0 && job.educationRank() >= 0) {
+            total += EDUCATION_WEIGHT;
+            achieved += EDUCATION_WEIGHT * levelScore(candidate.educationRank(), job.educationRank());
+        }
+        if (hasLocation(candidate, job)) {
+            total += LOCATION_WEIGHT;
+            achieved += LOCATION_WEIGHT * locationScore(candidate, job);
+        }
+        if (candidate.workModeKey() != null && job.workModeKey() != null) {
+            total += WORK_MODE_WEIGHT;
+            achieved += WORK_MODE_WEIGHT * workModeScore(candidate, job);
+        }
+        return total == 0 ? 0 : (int) Math.round(100 * achieved / total);
+    }
+
+    /**
+     * Explains the score of a candidate against a job: one factor per job skill,
+     * then experience, education, location and work mode. Weights add up to 1,
+     * and the weighted scores add up to the match score.
+     *
+     * @param candidate The candidate
+     * @param job The job
+     * @param skillNames Display name of a skill ID
+     * @return The factors; empty if the two have no factor in common
+     */
+    public static List<MatchFactorDTO> factors(CandidateProfile candidate, JobVector job, IntFunction<String> skillNames) {
+        double total = (job.skillCount() > 0 ? SKILLS_WEIGHT : 0)
+            + (candidate.experienceRank() >= 0 && job.experienceRank() >= 0 ? EXPERIENCE_WEIGHT : 0)
+            + (candidate.educationRank() >= 0 && job.educationRank() >= 0 ? EDUCATION_WEIGHT : 0)
+            + (hasLocation(candidate, job) ? LOCATION_WEIGHT : 0)
+            + (candidate.workModeKey() != null && job.workModeKey() != null ? WORK_MODE_WEIGHT : 0);
+        List<MatchFactorDTO> factors = new ArrayList<>();
+        if (total == 0) {
+            return factors;
+        }
+
+        if (job.skillCount() > 0) {
+            double weightPerSkill = SKILLS_WEIGHT / job.skillCount() / total;
+            JobSkillIndex.ids(job.skills()).forEach(skillId ->
+                factors.add(factor(skillNames.apply(skillId), weightPerSkill, has(candidate.skills(), skillId) ? 1.0 : 0.0)));
+        }
+        if (candidate.experienceRank() >= 0 && job.experienceRank() >= 0) {
+            factors.add(factor("Experience level", EXPERIENCE_WEIGHT / total,
+                levelScore(candidate.experienceRank(), job.experienceRank())));
+        }
+        if (candidate.educationRank() >= 0 && job.educationRank() >= 0) {
+            factors.add(factor("Education", EDUCATION_WEIGHT / total,
+                levelScore(candidate.educationRank(), job.educationRank())));
+        }
+        if (hasLocation(candidate, job)) {
+            factors.add(factor("Location", LOCATION_WEIGHT / total, locationScore(candidate, job)));
+        }
+        if (candidate.workModeKey() != null && job.workModeKey() != null) {
+            factors.add(factor("Work mode", WORK_MODE_WEIGHT / total, workModeScore(candidate, job)));
+        }
+        return factors;
+    }
+
+    /**
+     * Ranks an experience level.
+     *
+     * @param level ENTRY, MID, SENIOR or EXECUTIVE (case-insensitive)
+     * @return 0 for ENTRY up to 3 for EXECUTIVE; -1 if null or unknown
+     */
+    public static int experienceRank(String level) {
+        return rank(EXPERIENCE_LEVELS, level);
+    }
+
+    /**
+     * Ranks an education level.
+     *
+     * @param level HIGH_SCHOOL, BACHELOR, MASTER or PHD (case-insensitive)
+     * @return 0 for HIGH_SCHOOL up to 3 for PHD; -1 if null or unknown
+     */
+    public static int educationRank(String level) {
+        return rank(EDUCATION_LEVELS, level);
+    }
+
+    private static int rank(List<String> levels, String level) {
+        return level == null ? -1 : levels.indexOf(level.trim().toUpperCase(Locale.ROOT));
+    }
+
+    private static double levelScore(int candidateRank, int requiredRank) {
+        return candidateRank >= requiredRank ? 1.0 : Math.max(0.0, 1.0 - 0.5 * (requiredRank - candidateRank));
+    }
+
+    private static boolean hasLocation(CandidateProfile candidate, JobVector job) {
+        return candidate.locationKey() != null && (job.locationKey() != null || job.remote());
+    }
+
+    private static double locationScore(CandidateProfile candidate, JobVector job) {
+        return job.remote() || candidate.locationKey().equals(job.locationKey()) ? 1.0 : 0.0;
+    }
+
+    private static double workModeScore(CandidateProfile candidate, JobVector job) {
+        return candidate.workModeKey().equals(job.workModeKey()) ? 1.0 : 0.0;
+    }
+
+    private static boolean has(long[] bitset, int skillId) {
+        int word = skillId >>> 6;
+        return word < bitset.length && (bitset[word] & (1L << skillId)) != 0;
+    }
+
+    private static MatchFactorDTO factor(String label, double weight, double score) {
+        return MatchFactorDTO.builder().label(label).weight(weight).score(score).build();
+    }
+}
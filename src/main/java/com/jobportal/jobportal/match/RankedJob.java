@@ -0,0 +1,19 @@
+package com.jobportal.jobportal.match;
+
+import java.util.Comparator;
+
+/**
+ * A job with the match score of a candidate, as ranked by {@link MatchEngine#topMatches}.
+ *
+ * @param jobId ID of the job
+ * @param score Match score (0-100)
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record RankedJob(long jobId, int score) {
+
+    /** Ranking order: highest score first, then newest (highest ID) first */
+    public static final Comparator<RankedJob> BEST_FIRST =
+        Comparator.comparingInt(RankedJob::score).thenComparingLong(RankedJob::jobId).reversed();
+}
@@ -0,0 +1,102 @@
+package com.jobportal.jobportal.match;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobportal.jobportal.event.CandidateProfileChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-user cache of ranked recommendations.
+ *
+ * Entries live for a short time-to-live, so paging through the recommendations
+ * does not score the catalog again for every page, and are dropped as soon as
+ * the user's profile or primary resume changes. Job changes are not tracked:
+ * they reach the ranking when the entry expires.
+ *
+ * Rankings are held in a Caffeine cache bounded by the number of users, so
+ * a burst of distinct users cannot grow the heap past the bound.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class RecommendationCache {
+
+    private final Cache<Long, List<RankedJob>> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Constructor for RecommendationCache.
+     *
+     * @param maxUsers Number of users whose ranking is kept
+     * @param ttlMillis How long a user's ranking is reused, in milliseconds
+     */
+    public RecommendationCache(@Value("${recommendation.cache.max.users:10000}") long maxUsers,
+                               @Value("${recommendation.cache.ttl:300000}") long ttlMillis) {
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .build();
+    }
+
+    /**
+     * Returns the cached ranking of a user, computing it if absent or expired.
+     *
+     * @param userId The ID of the user
+     * @param loader Computes the ranking
+     * @return The ranking
+     */
+    public List<RankedJob> get(Long userId, Supplier<List<RankedJob>> loader) {
+        List<RankedJob> cached = entries.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = invalidations.get();
+        List<RankedJob> jobs = loader.get();
+        entries.put(userId, jobs);
+        if (invalidations.get() != generation) {
+            // An invalidation raced with the computation; do not keep a possibly stale ranking
+            entries.invalidate(userId);
+        }
+        return jobs;
+    }
+
+    /**
+     * Drops the cached ranking of a user.
+     *
+     * @param userId The ID of the user
+     */
+    public void invalidate(Long userId) {
+        invalidations.incrementAndGet();
+        entries.invalidate(userId);
+    }
+
+    /**
+     * Returns the number of cached rankings.
+     *
+     * @return Number of users whose ranking is currently held
+     */
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    /**
+     * Drops the ranking of a user whose profile or primary resume changed,
+     * once the change is committed.
+     *
+     * @param event The change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(CandidateProfileChangedEvent event) {
+        invalidate(event.userId());
+    }
+}
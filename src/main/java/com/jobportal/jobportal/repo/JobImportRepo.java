@@ -0,0 +1,63 @@
+package com.jobportal.jobportal.repo;
+
+import com.jobportal.jobportal.entity.JobImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * Repository interface for JobImport entity operations.
+ * Stores the checkpoints of bulk job imports.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Repository
+public interface JobImportRepo extends JpaRepository<JobImport, String> {
+
+    /**
+     * Claims an import for a run: marks it RUNNING under the given owner and
+     * leases it until the given time. An import that has completed, or is
+     * running under a lease that has not expired, cannot be claimed.
+     *
+     * @param id The ID of the import
+     * @param running The RUNNING status
+     * @param completed The COMPLETED status, which is never claimed
+     * @param owner The run claiming the import
+     * @param now The current time
+     * @param leaseUntil Time after which another run may claim the import
+     * @return 1 if the import was claimed, 0 otherwise
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobImport i SET i.status = :running, i.owner = :owner, i.leaseUntil = :leaseUntil, "
+        + "i.lastError = NULL, i.updatedAt = :now "
+        + "WHERE i.id = :id AND i.status <> :completed "
+        + "AND (i.status <> :running OR i.leaseUntil IS NULL OR i.leaseUntil <= :now)")
+    int claim(@Param("id") String id,
+              @Param("running") JobImport.ImportStatus running,
+              @Param("completed") JobImport.ImportStatus completed,
+              @Param("owner") String owner,
+              @Param("now") Instant now,
+              @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Extends the lease of a run on an import it still holds.
+     *
+     * @param id The ID of the import
+     * @param running The RUNNING status
+     * @param owner The run holding the import
+     * @param leaseUntil The new end of the lease
+     * @return 1 if the lease was extended, 0 if the run no longer holds the import
+     */
+    @Modifying
+    @Query("UPDATE JobImport i SET i.leaseUntil = :leaseUntil "
+        + "WHERE i.id = :id AND i.status = :running AND i.owner = :owner")
+    int renew(@Param("id") String id,
+              @Param("running") JobImport.ImportStatus running,
+              @Param("owner") String owner,
+              @Param("leaseUntil") Instant leaseUntil);
+}
@@ -1,37 +1,127 @@
 package com.jobportal.jobportal.repo;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.jobportal.jobportal.entity.Job;
 
+import jakarta.persistence.QueryHint;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Job entity operations.
- * Extends JpaRepository to provide basic CRUD operations and custom queries.
+ * Extends JpaRepository to provide basic CRUD operations and custom queries,
+ * and JpaSpecificationExecutor for composing search queries from optional filters
+ * (see {@link JobSpecifications}).
+ * 
+ * Listing queries come in two forms: returning full Job entities, or returning
+ * {@link JobSummary} projections that skip the large text columns.
  * 
+ * The large text fields live in {@link com.jobportal.jobportal.entity.JobContent},
+ * loaded lazily. Queries whose results are mapped to full JobDTOs fetch it in the
+ * same statement ({@link #CONTENT} entity graph or JOIN FETCH) instead of issuing
+ * one extra select per job.
+ *
+ * Jobs and their content are held in the Hibernate second-level cache, and the
+ * hot status listings ({@link #findByStatus}, {@link #findFirstPageByStatus},
+ * {@link #findFirstSummaryPageByStatus}) in the query cache; Hibernate drops a
+ * cached listing as soon as any write to the jobs table commits.
+ *
  * @author Job Portal Team
  * @version 1.0
  */
-public interface JobRepo extends JpaRepository<Job, Long> {
+public interface JobRepo extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job>, JobRepoCustom {
+    
+    /**
+     * JDBC fetch size for streaming queries: rows are pulled from the database
+     * in batches of this size instead of buffering the whole result set.
+     */
+    String STREAM_FETCH_SIZE = "500";
+    
+    /**
+     * Entity graph attribute holding the large text fields of a job.
+     */
+    String CONTENT = "content";
+    
+    /**
+     * Top of a job's salary range converted at :rate, rounded to whole units
+     * like {@link com.jobportal.jobportal.service.SalaryNormalizer#normalize}.
+     */
+    String NORMALIZED_SALARY = "CAST(ROUND(COALESCE(j.salaryMax, j.salaryMin) * :rate, 0) AS Long)";
+    
+    /**
+     * Finds all jobs, with their content.
+     * 
+     * @return List of all jobs
+     */
+    @Override
+    @EntityGraph(attributePaths = CONTENT)
+    List<Job> findAll();
     
     /**
-     * Finds jobs by company name (case-insensitive).
+     * Finds the jobs with the given IDs, with their content.
      * 
-     * @param company The company name to search for (case-insensitive)
+     * @param ids The job IDs
+     * @return List of the existing jobs among the IDs, in no particular order
+     */
+    @Override
+    @EntityGraph(attributePaths = CONTENT)
+    List<Job> findAllById(Iterable<Long> ids);
+    
+    /**
+     * Finds a page of jobs matching a specification, with their content.
+     * 
+     * @param spec The filters to apply
+     * @param pageable Page and sort to apply
+     * @return Page of matching jobs
+     */
+    @Override
+    @EntityGraph(attributePaths = CONTENT)
+    Page<Job> findAll(Specification<Job> spec, Pageable pageable);
+    
+    /**
+     * JPQL select clause building a {@link JobSummary} from a Job aliased as j.
+     */
+    String SUMMARY_SELECT = "SELECT new com.jobportal.jobportal.repo.JobSummary(" +
+           "j.id, j.title, j.company, j.location, j.jobType, j.status, j.experienceLevel, " +
+           "j.department, j.category, j.salaryMin, j.salaryMax, j.salaryCurrency, j.workMode, " +
+           "j.educationLevel, j.skills, j.companyLogoUrl, j.postedBy, j.applicationDeadline, " +
+           "j.startDate, j.createdAt, j.updatedAt) FROM Job j ";
+    
+    /**
+     * Finds jobs by company name, matched case-insensitively through the
+     * indexed company_key column.
+     * 
+     * @param companyKey The normalized company name, see {@link Job#toKey(String)}
      * @return List of jobs with the specified company name
      */
-    List<Job> findByCompanyIgnoreCase(String company);
+    @EntityGraph(attributePaths = CONTENT)
+    List<Job> findByCompanyKey(String companyKey);
     
     /**
-     * Finds jobs by location (case-insensitive).
+     * Finds jobs by location, matched case-insensitively through the
+     * indexed location_key column.
      * 
-     * @param location The location to search for (case-insensitive)
+     * @param locationKey The normalized location, see {@link Job#toKey(String)}
      * @return List of jobs with the specified location
      */
-    List<Job> findByLocationIgnoreCase(String location);
+    @EntityGraph(attributePaths = CONTENT)
+    List<Job> findByLocationKey(String locationKey);
     
     /**
      * Finds jobs by job type.
@@ -39,6 +129,7 @@ public interface JobRepo extends JpaRepository<Job, Long> {
      * @param jobType The job type to search for
      * @return List of jobs with the specified job type
      */
+    @EntityGraph(attributePaths = CONTENT)
     List<Job> findByJobType(Job.JobType jobType);
     
     /**
@@ -47,23 +138,29 @@ public interface JobRepo extends JpaRepository<Job, Long> {
      * @param status The job status to search for
      * @return List of jobs with the specified status
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @EntityGraph(attributePaths = CONTENT)
     List<Job> findByStatus(Job.JobStatus status);
     
     /**
-     * Finds jobs by category (case-insensitive).
+     * Finds jobs by category, matched case-insensitively through the
+     * indexed category_key column.
      * 
-     * @param category The category to search for (case-insensitive)
+     * @param categoryKey The normalized category, see {@link Job#toKey(String)}
      * @return List of jobs with the specified category
      */
-    List<Job> findByCategoryIgnoreCase(String category);
+    @EntityGraph(attributePaths = CONTENT)
+    List<Job> findByCategoryKey(String categoryKey);
     
     /**
-     * Finds jobs by department (case-insensitive).
+     * Finds jobs by department, matched case-insensitively through the
+     * indexed department_key column.
      * 
-     * @param department The department to search for (case-insensitive)
+     * @param departmentKey The normalized department, see {@link Job#toKey(String)}
      * @return List of jobs with the specified department
      */
-    List<Job> findByDepartmentIgnoreCase(String department);
+    @EntityGraph(attributePaths = CONTENT)
+    List<Job> findByDepartmentKey(String departmentKey);
     
     /**
      * Finds jobs posted by a specific user.
@@ -71,8 +168,278 @@ public interface JobRepo extends JpaRepository<Job, Long> {
      * @param postedBy The user ID who posted the jobs
      * @return List of jobs posted by the specified user
      */
+    @EntityGraph(attributePaths = CONTENT)
     List<Job> findByPostedBy(Long postedBy);
     
+    /**
+     * Streams all jobs ordered by ID.
+     * Must be consumed inside a transaction and closed after use.
+     * 
+     * @return Stream of all jobs, fetched from the database in batches
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.content ORDER BY j.id")
+    Stream<Job> streamAll();
+    
+    /**
+     * Streams jobs by company name (case-insensitive), ordered by ID.
+     * Must be consumed inside a transaction and closed after use.
+     * 
+     * @param companyKey The normalized company name, see {@link Job#toKey(String)}
+     * @return Stream of jobs with the specified company name
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.content WHERE j.companyKey = :companyKey ORDER BY j.id")
+    Stream<Job> streamByCompanyKey(@Param("companyKey") String companyKey);
+    
+    /**
+     * Streams jobs posted by a specific user, ordered by ID.
+     * Must be consumed inside a transaction and closed after use.
+     * 
+     * @param postedBy The user ID who posted the jobs
+     * @return Stream of jobs posted by the specified user
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.content WHERE j.postedBy = :postedBy ORDER BY j.id")
+    Stream<Job> streamByPostedBy(@Param("postedBy") Long postedBy);
+    
+    /**
+     * Finds the first page of jobs for keyset pagination.
+     * Jobs are ordered newest first, using the ID as a tie-breaker.
+     * 
+     * @param pageable Page request carrying only the page size (offset must be 0)
+     * @return First page of jobs ordered by createdAt and id descending
+     */
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.content ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findFirstPage(Pageable pageable);
+    
+    /**
+     * Finds the page of jobs following the given keyset position.
+     * Seeks directly past the last row of the previous page instead of using OFFSET,
+     * so the cost of a page does not grow with its depth.
+     * 
+     * @param createdAt Creation timestamp of the last row of the previous page
+     * @param id ID of the last row of the previous page
+     * @param pageable Page request carrying only the page size (offset must be 0)
+     * @return Next page of jobs ordered by createdAt and id descending
+     */
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.content " +
+           "WHERE j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findPageAfter(@Param("createdAt") Instant createdAt,
+                            @Param("id") Long id,
+                            Pageable pageable);
+    
+    /**
+     * Finds the first page of jobs with the given status for keyset pagination.
+     * 
+     * @param status The job status to filter by
+     * @param pageable Page request carrying only the page size (offset must be 0)
+     * @return First page of matching jobs ordered by createdAt and id descending
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.content WHERE j.status = :status ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findFirstPageByStatus(@Param("status") Job.JobStatus status, Pageable pageable);
+    
+    /**
+     * Finds the page of jobs with the given status following the given keyset position.
+     * 
+     * @param status The job status to filter by
+     * @param createdAt Creation timestamp of the last row of the previous page
+     * @param id ID of the last row of the previous page
+     * @param pageable Page request carrying only the page size (offset must be 0)
+     * @return Next page of matching jobs ordered by createdAt and id descending
+     */
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.content WHERE j.status = :status " +
+           "AND (j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id)) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findPageByStatusAfter(@Param("status") Job.JobStatus status,
+                                    @Param("createdAt") Instant createdAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+    
+    /**
+     * Recomputes the normalized salary of the jobs posted in one currency,
+     * writing only the rows whose value changes.
+     * 
+     * @param currency The currency code
+     * @param rate Value of one unit of the currency in the base currency
+     * @param now New updatedAt of the jobs updated
+     * @return Number of jobs updated
+     * @see com.jobportal.jobportal.service.SalaryNormalizer
+     */
+    @Modifying
+    @Query("UPDATE Job j SET j.normalizedSalary = " + NORMALIZED_SALARY + ", j.updatedAt = :now " +
+           "WHERE j.salaryCurrency = :currency AND (j.salaryMax IS NOT NULL OR j.salaryMin IS NOT NULL) " +
+           "AND (j.normalizedSalary IS NULL OR j.normalizedSalary <> " + NORMALIZED_SALARY + ")")
+    int normalizeSalaries(@Param("currency") String currency, @Param("rate") BigDecimal rate,
+                          @Param("now") Instant now);
+    
+    /**
+     * Clears the normalized salary of jobs posted in a currency without a rate.
+     * 
+     * @param currencies The currency codes that have a rate
+     * @param now New updatedAt of the jobs updated
+     * @return Number of jobs updated
+     */
+    @Modifying
+    @Query("UPDATE Job j SET j.normalizedSalary = NULL, j.updatedAt = :now WHERE j.normalizedSalary IS NOT NULL " +
+           "AND (j.salaryCurrency IS NULL OR j.salaryCurrency NOT IN :currencies)")
+    int clearNormalizedSalariesExcept(@Param("currencies") Collection<String> currencies,
+                                      @Param("now") Instant now);
+    
+    /**
+     * Returns when a job last changed, without loading it.
+     * 
+     * @param id The job ID
+     * @return The job's updatedAt with a count of 1, or empty if the job does not exist
+     */
+    @Query("SELECT new com.jobportal.jobportal.repo.JobStamp(j.updatedAt, 1L) FROM Job j WHERE j.id = :id")
+    Optional<JobStamp> findStampById(@Param("id") Long id);
+    
+    /**
+     * Returns when a job was posted, without loading it.
+     * 
+     * @param id The job ID
+     * @return The job's createdAt, or empty if the job does not exist
+     */
+    @Query("SELECT j.createdAt FROM Job j WHERE j.id = :id")
+    Optional<Instant> findCreatedAtById(@Param("id") Long id);
+    
+    /**
+     * Returns when the job catalog last changed: the latest updatedAt (read from
+     * the updatedAt index) and the number of jobs, which also changes on deletion.
+     * 
+     * @return Stamp of the whole jobs table
+     */
+    @Query("SELECT new com.jobportal.jobportal.repo.JobStamp(MAX(j.updatedAt), COUNT(j)) FROM Job j")
+    JobStamp findCatalogStamp();
+    
+    /**
+     * Finds summaries of jobs by location (case-insensitive).
+     * 
+     * @param locationKey The normalized location, see {@link Job#toKey(String)}
+     * @return List of job summaries with the specified location
+     */
+    @Query(SUMMARY_SELECT + "WHERE j.locationKey = :locationKey")
+    List<JobSummary> findSummariesByLocationKey(@Param("locationKey") String locationKey);
+
+    /**
+     * Finds summaries of jobs with the given status that require a skill, newest first.
+     * Served by the skill index of job_skills.
+     *
+     * @param skillId The skill dictionary ID
+     * @param status The job status to filter by
+     * @return List of job summaries requiring the skill
+     */
+    @Query(SUMMARY_SELECT + "JOIN j.skillIds s WHERE s = :skillId AND j.status = :status " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummary> findSummariesBySkillIdAndStatus(@Param("skillId") Integer skillId,
+                                                     @Param("status") Job.JobStatus status);
+
+    /**
+     * Returns the skill dictionary IDs of the given jobs, from job_skills.
+     * 
+     * @param jobIds The job IDs
+     * @return One row per job and skill
+     */
+    @Query("SELECT new com.jobportal.jobportal.repo.JobSkill(j.id, s) FROM Job j JOIN j.skillIds s WHERE j.id IN :jobIds")
+    List<JobSkill> findSkillIdsByJobIdIn(@Param("jobIds") Collection<Long> jobIds);
+
+    /**
+     * Finds summaries of jobs by job type.
+     * 
+     * @param jobType The job type to search for
+     * @return List of job summaries with the specified job type
+     */
+    @Query(SUMMARY_SELECT + "WHERE j.jobType = :jobType")
+    List<JobSummary> findSummariesByJobType(@Param("jobType") Job.JobType jobType);
+    
+    /**
+     * Finds summaries of the jobs with the given IDs, in no particular order.
+     * 
+     * @param ids The job IDs
+     * @return List of summaries of the existing jobs among the IDs
+     */
+    @Query(SUMMARY_SELECT + "WHERE j.id IN :ids")
+    List<JobSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Finds the first page of job summaries for keyset pagination.
+     * 
+     * @param pageable Page request carrying only the page size (offset must be 0)
+     * @return First page of job summaries ordered by createdAt and id descending
+     * @see #findFirstPage(Pageable)
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummary> findFirstSummaryPage(Pageable pageable);
+    
+    /**
+     * Finds the page of job summaries following the given keyset position.
+     * 
+     * @param createdAt Creation timestamp of the last row of the previous page
+     * @param id ID of the last row of the previous page
+     * @param pageable Page request carrying only the page size (offset must be 0)
+     * @return Next page of job summaries ordered by createdAt and id descending
+     * @see #findPageAfter(Instant, Long, Pageable)
+     */
+    @Query(SUMMARY_SELECT +
+           "WHERE j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummary> findSummaryPageAfter(@Param("createdAt") Instant createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+    
+    /**
+     * Finds the first page of summaries of jobs with the given status for keyset pagination.
+     * 
+     * @param status The job status to filter by
+     * @param pageable Page request carrying only the page size (offset must be 0)
+     * @return First page of matching job summaries ordered by createdAt and id descending
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SUMMARY_SELECT + "WHERE j.status = :status ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummary> findFirstSummaryPageByStatus(@Param("status") Job.JobStatus status, Pageable pageable);
+    
+    /**
+     * Finds the page of summaries of jobs with the given status following the given keyset position.
+     * 
+     * @param status The job status to filter by
+     * @param createdAt Creation timestamp of the last row of the previous page
+     * @param id ID of the last row of the previous page
+     * @param pageable Page request carrying only the page size (offset must be 0)
+     * @return Next page of matching job summaries ordered by createdAt and id descending
+     */
+    @Query(SUMMARY_SELECT + "WHERE j.status = :status " +
+           "AND (j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id)) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummary> findSummaryPageByStatusAfter(@Param("status") Job.JobStatus status,
+                                                  @Param("createdAt") Instant createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+    
+    /**
+     * Streams summaries of jobs by company name (case-insensitive), ordered by ID.
+     * Must be consumed inside a transaction and closed after use.
+     * 
+     * @param companyKey The normalized company name, see {@link Job#toKey(String)}
+     * @return Stream of job summaries with the specified company name
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "WHERE j.companyKey = :companyKey ORDER BY j.id")
+    Stream<JobSummary> streamSummariesByCompanyKey(@Param("companyKey") String companyKey);
+    
+    /**
+     * Streams summaries of jobs posted by a specific user, ordered by ID.
+     * Must be consumed inside a transaction and closed after use.
+     * 
+     * @param postedBy The user ID who posted the jobs
+     * @return Stream of job summaries posted by the specified user
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(SUMMARY_SELECT + "WHERE j.postedBy = :postedBy ORDER BY j.id")
+    Stream<JobSummary> streamSummariesByPostedBy(@Param("postedBy") Long postedBy);
+    
     /**
      * Finds similar jobs based on category and job type.
      * Excludes the current job and returns active jobs only.
@@ -85,12 +452,14 @@ public interface JobRepo extends JpaRepository<Job, Long> {
      * Results are ordered by relevance:
      * 1. Jobs with matching category (priority)
      * 2. Jobs with matching job type (secondary)
+     * 3. Newest first, using the ID as a tie-breaker
      * 
-     * Note: The limit should be applied in the service layer using stream().limit().
+     * The limit is applied in SQL through the page request.
      * 
      * @param jobId The ID of the current job to exclude from results
      * @param category The category to match (can be null to match any category)
      * @param jobType The job type to match (can be null to match any job type)
+     * @param limit Page request carrying only the maximum number of jobs (offset must be 0)
      * @return List of similar jobs ordered by relevance
      */
     @Query("SELECT j FROM Job j WHERE j.id != :jobId " +
@@ -99,16 +468,18 @@ public interface JobRepo extends JpaRepository<Job, Long> {
            "AND (:jobType IS NULL OR j.jobType = :jobType) " +
            "ORDER BY " +
            "CASE WHEN :category IS NOT NULL AND j.category = :category THEN 1 ELSE 2 END, " +
-           "CASE WHEN :jobType IS NOT NULL AND j.jobType = :jobType THEN 1 ELSE 2 END")
+           "CASE WHEN :jobType IS NOT NULL AND j.jobType = :jobType THEN 1 ELSE 2 END, " +
+           "j.createdAt DESC, j.id DESC")
     List<Job> findSimilarJobs(@Param("jobId") Long jobId, 
                               @Param("category") String category,
-                              @Param("jobType") Job.JobType jobType);
+                              @Param("jobType") Job.JobType jobType,
+                              Pageable limit);
     
     /**
      * Legacy method: Finds jobs by company name (case-sensitive).
-     * Deprecated: Use findByCompanyIgnoreCase instead.
+     * Deprecated: Use findByCompanyKey instead.
      * 
-     * @deprecated Use {@link #findByCompanyIgnoreCase(String)} for case-insensitive search
+     * @deprecated Use {@link #findByCompanyKey(String)} for case-insensitive search
      * @param company The company name to search for
      * @return List of jobs with the specified company name
      */
@@ -117,9 +488,9 @@ public interface JobRepo extends JpaRepository<Job, Long> {
     
     /**
      * Legacy method: Finds jobs by location (case-sensitive).
-     * Deprecated: Use findByLocationIgnoreCase instead.
+     * Deprecated: Use findByLocationKey instead.
      * 
-     * @deprecated Use {@link #findByLocationIgnoreCase(String)} for case-insensitive search
+     * @deprecated Use {@link #findByLocationKey(String)} for case-insensitive search
      * @param location The location to search for
      * @return List of jobs with the specified location
      */
@@ -128,9 +499,9 @@ public interface JobRepo extends JpaRepository<Job, Long> {
     
     /**
      * Legacy method: Finds jobs by category (case-sensitive).
-     * Deprecated: Use findByCategoryIgnoreCase instead.
+     * Deprecated: Use findByCategoryKey instead.
      * 
-     * @deprecated Use {@link #findByCategoryIgnoreCase(String)} for case-insensitive search
+     * @deprecated Use {@link #findByCategoryKey(String)} for case-insensitive search
      * @param category The category to search for
      * @return List of jobs with the specified category
      */
@@ -139,9 +510,9 @@ public interface JobRepo extends JpaRepository<Job, Long> {
     
     /**
      * Legacy method: Finds jobs by department (case-sensitive).
-     * Deprecated: Use findByDepartmentIgnoreCase instead.
+     * Deprecated: Use findByDepartmentKey instead.
      * 
-     * @deprecated Use {@link #findByDepartmentIgnoreCase(String)} for case-insensitive search
+     * @deprecated Use {@link #findByDepartmentKey(String)} for case-insensitive search
      * @param department The department to search for
      * @return List of jobs with the specified department
      */
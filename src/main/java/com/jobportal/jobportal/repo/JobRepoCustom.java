@@ -0,0 +1,66 @@
+package com.jobportal.jobportal.repo;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jobportal.jobportal.entity.Job;
+
+/**
+ * Custom Job repository operations that Spring Data cannot derive.
+ * Implemented by {@link JobRepoCustomImpl} and exposed through {@link JobRepo}.
+ * 
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public interface JobRepoCustom {
+    
+    /**
+     * Finds summaries of the jobs matching a specification.
+     * 
+     * Works like {@code findAll(Specification, Pageable)} but selects only the
+     * {@link JobSummary} columns instead of loading full entities.
+     * 
+     * @param spec The filter to apply. Can be null (matches all jobs).
+     * @param pageable Page and sort to apply; unpaged returns all matches without a count query
+     * @return Page of job summaries
+     */
+    Page<JobSummary> findSummaries(Specification<Job> spec, Pageable pageable);
+    
+    /**
+     * Finds the IDs of the jobs matching a specification, selecting nothing else.
+     * 
+     * @param spec The filter to apply. Can be null (matches all jobs).
+     * @return IDs of the matching jobs, in no particular order
+     */
+    List<Long> findIds(Specification<Job> spec);
+    
+    /**
+     * Finds a job by ID together with its content.
+     * 
+     * A job held in the second-level cache is served from it (its content too,
+     * when cached), without a query; otherwise the job and its content are read
+     * in a single query, which also caches both.
+     * 
+     * @param id The job ID
+     * @return The job, or empty if it does not exist
+     */
+    Optional<Job> findWithContentById(Long id);
+    
+    /**
+     * Inserts new jobs (with their contents and skill links) in JDBC batches.
+     * 
+     * The jobs are persisted and flushed one JDBC batch (hibernate.jdbc.batch_size)
+     * at a time, and the jobs of each batch (with their contents) are detached
+     * once flushed, so memory use and flush time stay flat however many jobs are
+     * inserted. Must run inside a transaction; other entities it has loaded stay
+     * managed.
+     * 
+     * @param jobs The new jobs, without IDs
+     * @return The same jobs, now detached, with their generated IDs
+     */
+    List<Job> insertAll(List<Job> jobs);
+}
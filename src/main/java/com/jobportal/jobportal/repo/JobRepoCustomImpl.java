@@ -0,0 +1,130 @@
+package com.jobportal.jobportal.repo;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.Hibernate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.jobportal.jobportal.entity.Job;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Criteria API implementation of {@link JobRepoCustom}.
+ * 
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public class JobRepoCustomImpl implements JobRepoCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+    
+    @Override
+    public Page<JobSummary> findSummaries(Specification<Job> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobSummary> query = cb.createQuery(JobSummary.class);
+        Root<Job> root = query.from(Job.class);
+        Selection<?>[] columns = Arrays.stream(JobSummary.ATTRIBUTES)
+            .map(root::get)
+            .toArray(Selection<?>[]::new);
+        query.select(cb.construct(JobSummary.class, columns));
+        Predicate predicate = toPredicate(spec, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+        
+        TypedQuery<JobSummary> typed = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            List<JobSummary> all = typed.getResultList();
+            return new PageImpl<>(all, pageable, all.size());
+        }
+        typed.setFirstResult((int) pageable.getOffset());
+        typed.setMaxResults(pageable.getPageSize());
+        return PageableExecutionUtils.getPage(typed.getResultList(), pageable, () -> count(spec));
+    }
+    
+    @Override
+    public List<Long> findIds(Specification<Job> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Job> root = query.from(Job.class);
+        query.select(root.get("id"));
+        Predicate predicate = toPredicate(spec, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+    
+    @Override
+    public Optional<Job> findWithContentById(Long id) {
+        if (entityManager.getEntityManagerFactory().getCache().contains(Job.class, id)) {
+            Job job = entityManager.find(Job.class, id);
+            if (job != null) {
+                Hibernate.initialize(job.getContent());
+                return Optional.of(job);
+            }
+        }
+        return entityManager.createQuery(
+                "SELECT j FROM Job j LEFT JOIN FETCH j.content WHERE j.id = :id", Job.class)
+            .setParameter("id", id)
+            .getResultStream()
+            .findFirst();
+    }
+    
+    @Override
+    public List<Job> insertAll(List<Job> jobs) {
+        int flushed = 0;
+        for (int i = 0; i < jobs.size(); i++) {
+            entityManager.persist(jobs.get(i));
+            if ((i + 1) % batchSize == 0 || i == jobs.size() - 1) {
+                entityManager.flush();
+                // Only the jobs just written; the caller's other entities stay managed
+                for (; flushed <= i; flushed++) {
+                    entityManager.detach(jobs.get(flushed));
+                }
+            }
+        }
+        return jobs;
+    }
+    
+    private long count(Specification<Job> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Job> root = query.from(Job.class);
+        query.select(cb.count(root));
+        Predicate predicate = toPredicate(spec, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+    
+    private static Predicate toPredicate(Specification<Job> spec, Root<Job> root,
+                                         CriteriaQuery<?> query, CriteriaBuilder cb) {
+        return spec == null ? null : spec.toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,15 @@
+package com.jobportal.jobportal.repo;
+
+/**
+ * One row of job_skills: a skill required by a job, either typed in its skills
+ * or tagged from its description and requirements. Instances are created
+ * directly by JPQL constructor expressions in {@link JobRepo}.
+ *
+ * @param jobId ID of the job
+ * @param skillId Skill dictionary ID
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record JobSkill(Long jobId, Integer skillId) {
+}
@@ -0,0 +1,194 @@
+package com.jobportal.jobportal.repo;
+
+import com.jobportal.jobportal.dto.JobSearchCriteria;
+import com.jobportal.jobportal.entity.Job;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA Specifications for composing Job queries from optional filters.
+ *
+ * Each method returns null when its filter value is absent; Spring Data ignores
+ * null specifications when combining them, so only the filters actually supplied
+ * end up in the WHERE clause of the single generated query.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public final class JobSpecifications {
+
+    private JobSpecifications() {
+    }
+
+    /**
+     * Builds the combined specification for a search request.
+     *
+     * @param criteria The search criteria. Can be null (matches all jobs).
+     * @return Specification matching all supplied criteria
+     */
+    public static Specification<Job> fromCriteria(JobSearchCriteria criteria) {
+        if (criteria == null) {
+            return Specification.unrestricted();
+        }
+        return Specification.allOf(
+            hasStatus(criteria.getStatus()),
+            hasCategory(criteria.getCategory()),
+            hasJobType(criteria.getJobType()),
+            hasWorkMode(criteria.getWorkMode()),
+            hasExperienceLevel(criteria.getExperienceLevel()),
+            hasLocation(criteria.getLocation()),
+            salaryReaches(criteria.getMinSalary()),
+            salaryStartsBelow(criteria.getMaxSalary()),
+            paysAtLeast(criteria.getSalaryAtLeast()),
+            paysBetween(criteria.getSalaryBetween()),
+            isPostedBy(criteria.getPostedBy()));
+    }
+
+    /**
+     * Matches jobs with the given status.
+     *
+     * @param status The job status (null to skip this filter)
+     * @return Specification or null
+     */
+    public static Specification<Job> hasStatus(Job.JobStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Matches jobs with the given category (case-insensitive).
+     *
+     * @param category The category (null or blank to skip this filter)
+     * @return Specification or null
+     */
+    public static Specification<Job> hasCategory(String category) {
+        return equalsKey("categoryKey", category);
+    }
+
+    /**
+     * Matches jobs with the given job type.
+     *
+     * @param jobType The job type (null to skip this filter)
+     * @return Specification or null
+     */
+    public static Specification<Job> hasJobType(Job.JobType jobType) {
+        return jobType == null ? null : (root, query, cb) -> cb.equal(root.get("jobType"), jobType);
+    }
+
+    /**
+     * Matches jobs with the given work mode (REMOTE, ONSITE, HYBRID).
+     *
+     * @param workMode The work mode (null or blank to skip this filter)
+     * @return Specification or null
+     */
+    public static Specification<Job> hasWorkMode(String workMode) {
+        return equalsCode("workMode", workMode);
+    }
+
+    /**
+     * Matches jobs with the given experience level (ENTRY, MID, SENIOR, EXECUTIVE).
+     *
+     * @param experienceLevel The experience level (null or blank to skip this filter)
+     * @return Specification or null
+     */
+    public static Specification<Job> hasExperienceLevel(String experienceLevel) {
+        return equalsCode("experienceLevel", experienceLevel);
+    }
+
+    /**
+     * Matches jobs with the given location (case-insensitive).
+     *
+     * @param location The location (null or blank to skip this filter)
+     * @return Specification or null
+     */
+    public static Specification<Job> hasLocation(String location) {
+        return equalsKey("locationKey", location);
+    }
+
+    /**
+     * Matches jobs whose salary range reaches at least the given amount,
+     * i.e. salaryMax >= amount, or salaryMin >= amount when no maximum is set.
+     *
+     * @param amount The minimum acceptable salary (null to skip this filter)
+     * @return Specification or null
+     */
+    public static Specification<Job> salaryReaches(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+            cb.greaterThanOrEqualTo(root.<BigDecimal>get("salaryMax"), amount),
+            cb.and(cb.isNull(root.get("salaryMax")), cb.greaterThanOrEqualTo(root.<BigDecimal>get("salaryMin"), amount))
+        );
+    }
+
+    /**
+     * Matches jobs whose salary range starts at or below the given amount.
+     *
+     * @param amount The maximum salary of interest (null to skip this filter)
+     * @return Specification or null
+     */
+    public static Specification<Job> salaryStartsBelow(BigDecimal amount) {
+        return amount == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.<BigDecimal>get("salaryMin"), amount);
+    }
+
+    /**
+     * Matches jobs whose normalized salary (top of the range in the base
+     * currency) is at least the given amount. Served by a range scan of the
+     * salary indexes.
+     *
+     * @param amount The minimum normalized salary (null to skip this filter)
+     * @return Specification or null
+     */
+    public static Specification<Job> paysAtLeast(Long amount) {
+        return amount == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.<Long>get("normalizedSalary"), amount);
+    }
+
+    /**
+     * Matches jobs whose normalized salary (top of the range in the base
+     * currency) lies within the given bounds, both inclusive.
+     *
+     * @param range The lowest and highest normalized salary (null to skip this filter)
+     * @return Specification or null
+     */
+    public static Specification<Job> paysBetween(List<Long> range) {
+        if (range == null) {
+            return null;
+        }
+        Long from = range.get(0);
+        Long to = range.get(1);
+        return (root, query, cb) -> cb.between(root.<Long>get("normalizedSalary"), from, to);
+    }
+
+    /**
+     * Matches jobs posted by the given user.
+     *
+     * @param postedBy The employer's user ID (null to skip this filter)
+     * @return Specification or null
+     */
+    public static Specification<Job> isPostedBy(Long postedBy) {
+        return postedBy == null ? null : (root, query, cb) -> cb.equal(root.get("postedBy"), postedBy);
+    }
+
+    /**
+     * Matches jobs whose ID is in the given collection.
+     *
+     * @param ids Candidate job IDs (null to skip this filter)
+     * @return Specification or null
+     */
+    public static Specification<Job> idIn(Collection<Long> ids) {
+        return ids == null ? null : (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    private static Specification<Job> equalsKey(String keyAttribute, String value) {
+        String key = Job.toKey(value);
+        return key == null ? null : (root, query, cb) -> cb.equal(root.get(keyAttribute), key);
+    }
+
+    private static Specification<Job> equalsCode(String attribute, String value) {
+        String code = Job.toCode(value);
+        return code == null ? null : (root, query, cb) -> cb.equal(root.get(attribute), code);
+    }
+}
@@ -0,0 +1,19 @@
+package com.jobportal.jobportal.repo;
+
+import java.time.Instant;
+
+/**
+ * When a set of jobs last changed, used to validate cached responses.
+ *
+ * A write moves lastModified forward, and a deletion changes count, so two
+ * equal stamps describe the same rows. Instances are created directly by JPQL
+ * constructor expressions in {@link JobRepo}.
+ *
+ * @param lastModified Latest updatedAt of the jobs, or null if there are none
+ * @param count Number of jobs
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record JobStamp(Instant lastModified, Long count) {
+}
@@ -0,0 +1,52 @@
+package com.jobportal.jobportal.repo;
+
+import com.jobportal.jobportal.entity.Job;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Read-only projection of the Job columns needed by job listings.
+ *
+ * Leaves out the large text columns (description, requirements, responsibilities,
+ * benefits, companyInfo), so listing queries neither read them from disk nor
+ * transfer them over the wire. Instances are created directly by JPQL constructor
+ * expressions in {@link JobRepo} and by {@link JobRepoCustomImpl}.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record JobSummary(
+    Long id,
+    String title,
+    String company,
+    String location,
+    Job.JobType jobType,
+    Job.JobStatus status,
+    String experienceLevel,
+    String department,
+    String category,
+    BigDecimal salaryMin,
+    BigDecimal salaryMax,
+    String salaryCurrency,
+    String workMode,
+    String educationLevel,
+    String skills,
+    String companyLogoUrl,
+    Long postedBy,
+    Instant applicationDeadline,
+    Instant startDate,
+    Instant createdAt,
+    Instant updatedAt
+) {
+
+    /**
+     * Job attributes selected for a summary, in constructor order.
+     */
+    static final String[] ATTRIBUTES = {
+        "id", "title", "company", "location", "jobType", "status", "experienceLevel",
+        "department", "category", "salaryMin", "salaryMax", "salaryCurrency", "workMode",
+        "educationLevel", "skills", "companyLogoUrl", "postedBy", "applicationDeadline",
+        "startDate", "createdAt", "updatedAt"
+    };
+}
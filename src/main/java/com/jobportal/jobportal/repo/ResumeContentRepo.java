@@ -0,0 +1,96 @@
+package com.jobportal.jobportal.repo;
+
+import com.jobportal.jobportal.entity.ResumeContent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for ResumeContent entity operations.
+ * Provides the queries of the background resume extraction.
+ * 
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Repository
+public interface ResumeContentRepo extends JpaRepository<ResumeContent, Long> {
+
+    /**
+     * Claims a resume for extraction: marks it PROCESSING, counts the attempt
+     * and leases it until the given time. Only one caller can claim a due resume.
+     *
+     * @param id The ID of the resume
+     * @param processing The PROCESSING status
+     * @param completed The COMPLETED status, which is never claimed
+     * @param maxAttempts Number of attempts after which a resume is no longer claimed
+     * @param now The current time; the resume must be due by then
+     * @param leaseUntil Time after which an unfinished attempt may be claimed again
+     * @return 1 if the resume was claimed, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE ResumeContent c SET c.status = :processing, c.attempts = c.attempts + 1, "
+        + "c.nextAttemptAt = :leaseUntil, c.updatedAt = :now "
+        + "WHERE c.id = :id AND c.status <> :completed AND c.attempts < :maxAttempts AND c.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id,
+              @Param("processing") ResumeContent.ExtractionStatus processing,
+              @Param("completed") ResumeContent.ExtractionStatus completed,
+              @Param("maxAttempts") int maxAttempts,
+              @Param("now") Instant now,
+              @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Marks FAILED the resumes whose last allowed attempt was lost: still
+     * PROCESSING after the lease of that attempt expired. No attempt would
+     * claim them again, so they would otherwise stay PROCESSING forever.
+     *
+     * @param processing The PROCESSING status
+     * @param failed The FAILED status
+     * @param maxAttempts Maximum number of attempts
+     * @param error Error recorded for the lost attempt
+     * @param now The current time
+     * @return Number of resumes marked FAILED
+     */
+    @Modifying
+    @Query("UPDATE ResumeContent c SET c.status = :failed, c.lastError = :error, c.updatedAt = :now "
+        + "WHERE c.status = :processing AND c.attempts >= :maxAttempts AND c.nextAttemptAt <= :now")
+    int failAbandoned(@Param("processing") ResumeContent.ExtractionStatus processing,
+                      @Param("failed") ResumeContent.ExtractionStatus failed,
+                      @Param("maxAttempts") int maxAttempts,
+                      @Param("error") String error,
+                      @Param("now") Instant now);
+
+    /**
+     * Finds the resumes due for an extraction attempt: not completed, attempts
+     * left, and due by now (pending, failed, or a lost attempt whose lease expired).
+     *
+     * @param completed The COMPLETED status
+     * @param maxAttempts Maximum number of attempts
+     * @param now The current time
+     * @param limit Maximum number of resumes to return
+     * @return IDs of the due resumes, longest due first
+     */
+    @Query("SELECT c.id FROM ResumeContent c "
+        + "WHERE c.status <> :completed AND c.attempts < :maxAttempts AND c.nextAttemptAt <= :now "
+        + "ORDER BY c.nextAttemptAt")
+    List<Long> findDueIds(@Param("completed") ResumeContent.ExtractionStatus completed,
+                          @Param("maxAttempts") int maxAttempts,
+                          @Param("now") Instant now,
+                          Pageable limit);
+
+    /**
+     * Finds the skills extracted from the primary resume of a user.
+     *
+     * @param userId The ID of the user
+     * @return Comma-separated skills, or empty if the user has no extracted primary resume
+     */
+    @Query("SELECT c.skills FROM ResumeContent c "
+        + "WHERE c.resume.user.id = :userId AND c.resume.isPrimary = true AND c.skills IS NOT NULL")
+    Optional<String> findSkillsOfPrimaryResume(@Param("userId") Long userId);
+}
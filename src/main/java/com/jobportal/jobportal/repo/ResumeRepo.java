@@ -30,11 +30,14 @@ public interface ResumeRepo extends JpaRepository<Resume, Long> {
 
     /**
      * Finds the primary resume for a specific user.
+     * Filters on the user_id column directly so idx_resumes_user_primary is used;
+     * the derived query joined users and scanned resumes.
      * 
      * @param userId The ID of the user
      * @return Optional containing the primary resume, or empty if none exists
      */
-    Optional<Resume> findByUserIdAndIsPrimaryTrue(Long userId);
+    @Query("SELECT r FROM Resume r WHERE r.user.id = :userId AND r.isPrimary = true")
+    Optional<Resume> findByUserIdAndIsPrimaryTrue(@Param("userId") Long userId);
 
     /**
      * Finds a specific resume by user ID and resume ID.
@@ -0,0 +1,24 @@
+package com.jobportal.jobportal.repo;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import com.jobportal.jobportal.entity.Skill;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the skill dictionary.
+ * 
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public interface SkillRepo extends JpaRepository<Skill, Integer> {
+    
+    /**
+     * Finds the dictionary entries for the given normalized skill names.
+     * 
+     * @param nameKeys Skill names normalized with Job.toKey
+     * @return Entries that exist; unknown keys are skipped
+     */
+    List<Skill> findByNameKeyIn(Collection<String> nameKeys);
+}
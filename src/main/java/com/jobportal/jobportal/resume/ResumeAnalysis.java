@@ -0,0 +1,17 @@
+package com.jobportal.jobportal.resume;
+
+import java.util.List;
+
+/**
+ * What {@link ResumeAnalyzer} found in the text of a resume.
+ *
+ * @param sections Section headings, lower-case, in document order
+ * @param skills Dictionary skills mentioned, by their dictionary name
+ * @param tokens Distinct lower-case tokens, in order of first occurrence
+ * @param textLength Number of characters of the text
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record ResumeAnalysis(List<String> sections, List<String> skills, List<String> tokens, int textLength) {
+}
@@ -0,0 +1,115 @@
+package com.jobportal.jobportal.resume;
+
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.search.SkillTagger;
+import com.jobportal.jobportal.service.SkillService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns the plain text of a resume into its section structure, skills and tokens.
+ *
+ * A line is a section heading when it consists of a known heading ("Experience",
+ * "Technical Skills:", "EDUCATION", ...). Skills are found by {@link SkillTagger}
+ * in one pass over the whole text, aliases included.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class ResumeAnalyzer {
+
+    /** Maximum number of distinct tokens kept */
+    static final int MAX_TOKENS = 5_000;
+
+    // Keeps the symbols of names like C++, C#, Node.js and CI/CD inside the word
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}][\\p{L}\\p{N}+#./-]*");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[./-]+$");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_HEADING_LENGTH = 40;
+
+    private static final Set<String> SECTION_HEADINGS = Set.of(
+        "summary", "professional summary", "profile", "objective", "about me",
+        "experience", "work experience", "professional experience", "employment history", "work history",
+        "education", "skills", "technical skills", "core competencies",
+        "projects", "certifications", "languages", "awards", "publications",
+        "volunteer experience", "interests", "references");
+
+    private final SkillService skillService;
+    private final SkillTagger skillTagger;
+
+    /**
+     * Constructor for ResumeAnalyzer.
+     *
+     * @param skillService The skill dictionary, for the names of the skills found
+     * @param skillTagger Finds the skills mentioned in the text
+     */
+    @Autowired
+    public ResumeAnalyzer(SkillService skillService, SkillTagger skillTagger) {
+        this.skillService = skillService;
+        this.skillTagger = skillTagger;
+    }
+
+    /**
+     * Analyzes the text of a resume.
+     *
+     * @param text Plain text, lines separated by line breaks
+     * @return The sections, skills and tokens found
+     */
+    public ResumeAnalysis analyze(String text) {
+        Set<String> sections = new LinkedHashSet<>();
+        Set<String> tokens = new LinkedHashSet<>();
+
+        for (String line : text.split("\\R")) {
+            String heading = headingOf(line);
+            if (heading != null) {
+                sections.add(heading);
+                continue;
+            }
+            for (String word : wordsOf(line)) {
+                if (tokens.size() >= MAX_TOKENS) {
+                    break;
+                }
+                tokens.add(word);
+            }
+        }
+        List<String> skills = skillTagger.tag(text).stream()
+            .map(skillService::nameOf)
+            .filter(Objects::nonNull)
+            .toList();
+        return new ResumeAnalysis(List.copyOf(sections), skills, List.copyOf(tokens), text.length());
+    }
+
+    private static String headingOf(String line) {
+        String candidate = line.strip();
+        if (candidate.isEmpty() || candidate.length() > MAX_HEADING_LENGTH) {
+            return null;
+        }
+        if (candidate.endsWith(":")) {
+            candidate = candidate.substring(0, candidate.length() - 1).strip();
+        }
+        String key = WHITESPACE.matcher(candidate.toLowerCase(Locale.ROOT)).replaceAll(" ");
+        return SECTION_HEADINGS.contains(key) ? key : null;
+    }
+
+    private static List<String> wordsOf(String line) {
+        List<String> words = new ArrayList<>();
+        Matcher matcher = WORD.matcher(line);
+        while (matcher.find()) {
+            String word = TRAILING_PUNCTUATION.matcher(matcher.group()).replaceAll("");
+            if (!word.isEmpty()) {
+                words.add(Job.toKey(word));
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,76 @@
+package com.jobportal.jobportal.resume;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.poi.hwpf.HWPFDocument;
+import org.apache.poi.hwpf.extractor.WordExtractor;
+import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Reads the plain text of a stored resume file: PDF with PDFBox, DOCX and DOC
+ * with Apache POI.
+ *
+ * Only the first {@value #MAX_PDF_PAGES} pages of a PDF are read and the text is
+ * cut at {@value #MAX_TEXT_LENGTH} characters, so an unusual file cannot tie up
+ * an extraction thread.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class ResumeTextExtractor {
+
+    static final int MAX_PDF_PAGES = 20;
+    static final int MAX_TEXT_LENGTH = 200_000;
+
+    /**
+     * Extracts the text of a resume file.
+     *
+     * @param file Path of the stored file
+     * @param fileType PDF, DOCX or DOC (case-insensitive)
+     * @return The text, lines separated by line breaks
+     * @throws IOException if the file cannot be read or parsed, or its type is not supported
+     */
+    public String extract(Path file, String fileType) throws IOException {
+        String text = switch (fileType == null ? "" : fileType.toUpperCase(Locale.ROOT)) {
+            case "PDF" -> extractPdf(file);
+            case "DOCX" -> extractDocx(file);
+            case "DOC" -> extractDoc(file);
+            default -> throw new IOException("Unsupported resume file type: " + fileType);
+        };
+        return text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text;
+    }
+
+    private static String extractPdf(Path file) throws IOException {
+        try (PDDocument document = Loader.loadPDF(file.toFile())) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setEndPage(MAX_PDF_PAGES);
+            return stripper.getText(document);
+        }
+    }
+
+    private static String extractDocx(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file);
+             XWPFDocument document = new XWPFDocument(in);
+             XWPFWordExtractor extractor = new XWPFWordExtractor(document)) {
+            return extractor.getText();
+        }
+    }
+
+    private static String extractDoc(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file);
+             HWPFDocument document = new HWPFDocument(in);
+             WordExtractor extractor = new WordExtractor(document)) {
+            return extractor.getText();
+        }
+    }
+}
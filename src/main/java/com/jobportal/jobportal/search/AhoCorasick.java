@@ -0,0 +1,193 @@
+package com.jobportal.jobportal.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aho-Corasick automaton finding every occurrence of a fixed set of patterns
+ * in a text in one pass, whatever the number of patterns.
+ *
+ * Patterns are inserted into a trie; failure links send a state that cannot
+ * continue to the state of its longest proper suffix that is also a pattern
+ * prefix, and output links chain the patterns ending at that position. Scanning
+ * costs O(text length + number of matches). Matching ignores case (per
+ * character, so offsets always refer to the original text).
+ *
+ * Instances are immutable once compiled and safe to share between threads.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public final class AhoCorasick {
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    /** Edge characters of each state, sorted, and the states they lead to */
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    /** Pattern ending at each state, or -1 */
+    private final int[] output;
+    /** Nearest state on the failure chain that ends a pattern, or -1 */
+    private final int[] outputLink;
+    private final int[] patternLengths;
+
+    private AhoCorasick(char[][] labels, int[][] targets, int[] fail, int[] output, int[] outputLink,
+                        int[] patternLengths) {
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.output = output;
+        this.outputLink = outputLink;
+        this.patternLengths = patternLengths;
+    }
+
+    /**
+     * Receives the matches of a scan.
+     */
+    @FunctionalInterface
+    public interface MatchListener {
+
+        /**
+         * Called for each occurrence of a pattern, in order of end offset.
+         *
+         * @param pattern Index of the pattern in the compiled list
+         * @param start Offset of the first character of the occurrence
+         * @param end Offset after the last character of the occurrence
+         */
+        void onMatch(int pattern, int start, int end);
+    }
+
+    /**
+     * Compiles an automaton.
+     *
+     * @param patterns The patterns; empty ones never match, and of patterns
+     *                 equal ignoring case only the first is reported
+     * @return The automaton
+     */
+    public static AhoCorasick compile(List<String> patterns) {
+        List<Map<Character, Integer>> edges = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        edges.add(new HashMap<>());
+        outputs.add(-1);
+        int[] patternLengths = new int[patterns.size()];
+
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            patternLengths[p] = pattern.length();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = Character.toLowerCase(pattern.charAt(i));
+                Integer next = edges.get(state).get(c);
+                if (next == null) {
+                    next = edges.size();
+                    edges.add(new HashMap<>());
+                    outputs.add(-1);
+                    edges.get(state).put(c, next);
+                }
+                state = next;
+            }
+            if (outputs.get(state) < 0) {
+                outputs.set(state, p);
+            }
+        }
+
+        int size = edges.size();
+        int[] fail = new int[size];
+        int[] output = outputs.stream().mapToInt(Integer::intValue).toArray();
+        int[] outputLink = new int[size];
+        outputLink[0] = -1;
+        // Breadth-first, so the failure target of a state is always resolved before the state
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : edges.get(0).values()) {
+            fail[child] = 0;
+            outputLink[child] = -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : edges.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+                int f = fail[state];
+                while (f != 0 && !edges.get(f).containsKey(c)) {
+                    f = fail[f];
+                }
+                Integer target = edges.get(f).get(c);
+                fail[child] = target != null ? target : 0;
+                outputLink[child] = output[fail[child]] >= 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+
+        char[][] labels = new char[size][];
+        int[][] targets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            Map<Character, Integer> stateEdges = edges.get(state);
+            if (stateEdges.isEmpty()) {
+                labels[state] = NO_LABELS;
+                targets[state] = NO_TARGETS;
+                continue;
+            }
+            char[] chars = new char[stateEdges.size()];
+            int i = 0;
+            for (char c : stateEdges.keySet()) {
+                chars[i++] = c;
+            }
+            Arrays.sort(chars);
+            int[] next = new int[chars.length];
+            for (i = 0; i < chars.length; i++) {
+                next[i] = stateEdges.get(chars[i]);
+            }
+            labels[state] = chars;
+            targets[state] = next;
+        }
+        return new AhoCorasick(labels, targets, fail, output, outputLink, patternLengths);
+    }
+
+    /**
+     * Reports every occurrence of every pattern in a text, overlapping ones included.
+     *
+     * @param text The text
+     * @param listener Receives the matches
+     */
+    public void scan(CharSequence text, MatchListener listener) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next = child(state, c);
+            while (next < 0 && state != 0) {
+                state = fail[state];
+                next = child(state, c);
+            }
+            state = Math.max(next, 0);
+            for (int s = output[state] >= 0 ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+                int pattern = output[s];
+                listener.onMatch(pattern, i + 1 - patternLengths[pattern], i + 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of states of the automaton.
+     *
+     * @return Number of states, including the root
+     */
+    public int size() {
+        return fail.length;
+    }
+
+    private int child(int state, char c) {
+        int i = Arrays.binarySearch(labels[state], c);
+        return i >= 0 ? targets[state][i] : -1;
+    }
+}
@@ -0,0 +1,445 @@
+package com.jobportal.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory inverted index with BM25 ranking.
+ *
+ * Documents are identified externally by a long key (the job ID) and internally
+ * by a dense int document number assigned in insertion order. Each term maps to
+ * a postings list held in two parallel primitive arrays (document numbers and
+ * term frequencies), so a list costs 8 bytes per entry and is scanned without
+ * boxing. Because document numbers only grow, postings stay sorted.
+ *
+ * Replacing or removing a document marks its old number as deleted; deleted
+ * entries are skipped while scoring and physically dropped by a compaction pass
+ * once they make up half of the index.
+ *
+ * Reads (search) run concurrently; writes take an exclusive lock.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public class InvertedIndex {
+
+    /** BM25 term frequency saturation parameter */
+    private static final float K1 = 1.2f;
+
+    /** BM25 document length normalization parameter */
+    private static final float B = 0.75f;
+
+    /** Compaction is not worth it below this many document numbers */
+    private static final int MIN_DOCS_FOR_COMPACTION = 1024;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is",
+        "it", "of", "on", "or", "our", "that", "the", "this", "to", "we", "will", "with", "you", "your"
+    );
+
+    /**
+     * Per-thread score accumulator reused by {@link #search(String, int)}, so a
+     * query allocates only its hits rather than a score per document.
+     */
+    private static final ThreadLocal<Accumulator> ACCUMULATOR = ThreadLocal.withInitial(Accumulator::new);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<Long, Integer> docByKey = new HashMap<>();
+    private long[] keyByDoc = new long[256];
+    private int[] lengthByDoc = new int[256];
+    private BitSet deleted = new BitSet();
+    private int docCount;       // document numbers handed out (live + deleted)
+    private int liveCount;      // documents currently searchable
+    private long liveLength;    // total length of live documents
+
+    /**
+     * Adds a document, replacing any previous version with the same key.
+     *
+     * @param key External document key (e.g. job ID)
+     * @param terms Term frequencies of the document
+     */
+    public void put(long key, TermCounter terms) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            if (terms.length() == 0) {
+                return;
+            }
+            int doc = docCount++;
+            ensureDocCapacity(docCount);
+            keyByDoc[doc] = key;
+            lengthByDoc[doc] = terms.length();
+            docByKey.put(key, doc);
+            liveCount++;
+            liveLength += terms.length();
+            for (Map.Entry<String, int[]> entry : terms.counts().entrySet()) {
+                postingsByTerm.computeIfAbsent(entry.getKey(), t -> new Postings())
+                    .append(doc, entry.getValue()[0]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document from the index. Does nothing if the key is unknown.
+     *
+     * @param key External document key
+     */
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all documents.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postingsByTerm = new HashMap<>();
+            docByKey.clear();
+            keyByDoc = new long[256];
+            lengthByDoc = new int[256];
+            deleted = new BitSet();
+            docCount = 0;
+            liveCount = 0;
+            liveLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of searchable documents.
+     *
+     * @return Live document count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks documents against a free-text query using BM25.
+     *
+     * A document matches if it contains at least one query term; documents
+     * containing more (and rarer) query terms score higher.
+     *
+     * @param query Free-text query
+     * @param limit Maximum number of hits to return
+     * @return Hits ordered by descending score
+     */
+    public List<Hit> search(String query, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>();
+        tokenize(query, queryTerms::add);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return List.of();
+            }
+            float avgLength = (float) liveLength / liveCount;
+            Accumulator accumulator = ACCUMULATOR.get();
+            float[] scores = accumulator.scores(docCount);
+            int[] touched = accumulator.touched;
+            int touchedCount = 0;
+
+            try {
+                for (String term : queryTerms) {
+                    Postings postings = postingsByTerm.get(term);
+                    if (postings == null) {
+                        continue;
+                    }
+                    // Postings may still hold deleted entries until the next compaction
+                    int df = Math.min(postings.size, liveCount);
+                    float idf = (float) Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+                    int[] docs = postings.docs;
+                    int[] freqs = postings.freqs;
+                    for (int i = 0; i < postings.size; i++) {
+                        int doc = docs[i];
+                        if (deleted.get(doc)) {
+                            continue;
+                        }
+                        float tf = freqs[i];
+                        float norm = K1 * (1 - B + B * lengthByDoc[doc] / avgLength);
+                        if (scores[doc] == 0f) {
+                            if (touchedCount == touched.length) {
+                                touched = Arrays.copyOf(touched, touched.length * 2);
+                                accumulator.touched = touched;
+                            }
+                            touched[touchedCount++] = doc;
+                        }
+                        scores[doc] += idf * (tf * (K1 + 1)) / (tf + norm);
+                    }
+                }
+                return topHits(scores, touched, touchedCount, limit);
+            } finally {
+                // Only the touched scores are non-zero; reset them for the next query on this thread
+                for (int i = 0; i < touchedCount; i++) {
+                    scores[touched[i]] = 0f;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds every document matching a free-text query, without ranking or limit.
+     *
+     * Matches the same documents as {@link #search}, so counts over them cover
+     * all hits rather than the top ones only.
+     *
+     * @param query Free-text query
+     * @return Keys of the matching documents, in index order
+     */
+    public List<Long> matchingKeys(String query) {
+        Set<String> queryTerms = new LinkedHashSet<>();
+        tokenize(query, queryTerms::add);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet matched = new BitSet(docCount);
+            for (String term : queryTerms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                for (int i = 0; i < postings.size; i++) {
+                    matched.set(postings.docs[i]);
+                }
+            }
+            matched.andNot(deleted);
+            List<Long> keys = new ArrayList<>(matched.cardinality());
+            for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+                keys.add(keyByDoc[doc]);
+            }
+            return keys;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits text into lower-case index terms.
+     *
+     * Terms are maximal runs of letters and digits; '+' and '#' are kept so that
+     * skills such as "C++" and "C#" survive. Common English stop words are dropped.
+     *
+     * @param text Text to tokenize. Can be null.
+     * @param sink Receives each term in order of appearance
+     */
+    public static void tokenize(String text, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            boolean termChar = Character.isLetterOrDigit(c) || c == '+' || c == '#';
+            if (termChar) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                String term = text.substring(start, i).toLowerCase(Locale.ROOT);
+                if (!STOP_WORDS.contains(term)) {
+                    sink.accept(term);
+                }
+                start = -1;
+            }
+        }
+    }
+
+    private List<Hit> topHits(float[] scores, int[] touched, int touchedCount, int limit) {
+        PriorityQueue<Hit> heap = new PriorityQueue<>(Math.min(limit, touchedCount) + 1,
+            (a, b) -> Float.compare(a.score(), b.score()));
+        for (int i = 0; i < touchedCount; i++) {
+            int doc = touched[i];
+            float score = scores[doc];
+            if (heap.size() < limit) {
+                heap.add(new Hit(keyByDoc[doc], score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new Hit(keyByDoc[doc], score));
+            }
+        }
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort((a, b) -> Float.compare(b.score(), a.score()));
+        return hits;
+    }
+
+    private void removeInternal(long key) {
+        Integer doc = docByKey.remove(key);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        liveCount--;
+        liveLength -= lengthByDoc[doc];
+        if (docCount >= MIN_DOCS_FOR_COMPACTION && deleted.cardinality() * 2 >= docCount) {
+            compact();
+        }
+    }
+
+    /**
+     * Drops deleted entries from every postings list and renumbers the
+     * remaining documents densely, preserving their relative order.
+     */
+    private void compact() {
+        int[] newDocByOld = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                newDocByOld[doc] = -1;
+            } else {
+                newDocByOld[doc] = next;
+                keyByDoc[next] = keyByDoc[doc];
+                lengthByDoc[next] = lengthByDoc[doc];
+                docByKey.put(keyByDoc[next], next);
+                next++;
+            }
+        }
+        Map<String, Postings> compacted = new HashMap<>(postingsByTerm.size());
+        for (Map.Entry<String, Postings> entry : postingsByTerm.entrySet()) {
+            Postings postings = entry.getValue().remap(newDocByOld);
+            if (postings.size > 0) {
+                compacted.put(entry.getKey(), postings);
+            }
+        }
+        postingsByTerm = compacted;
+        docCount = next;
+        deleted = new BitSet();
+    }
+
+    private void ensureDocCapacity(int capacity) {
+        if (capacity > keyByDoc.length) {
+            int newLength = Math.max(capacity, keyByDoc.length * 2);
+            keyByDoc = Arrays.copyOf(keyByDoc, newLength);
+            lengthByDoc = Arrays.copyOf(lengthByDoc, newLength);
+        }
+    }
+
+    /**
+     * A ranked search result.
+     *
+     * @param key External document key
+     * @param score BM25 score (higher is more relevant)
+     */
+    public record Hit(long key, float score) {
+    }
+
+    /**
+     * Accumulates term frequencies for one document across weighted fields.
+     * A weight of 3 counts every term of that field three times, which lets
+     * short fields such as the title outrank long descriptions.
+     */
+    public static class TermCounter {
+
+        private final Map<String, int[]> counts = new HashMap<>();
+        private int length;
+
+        /**
+         * Adds the terms of a field.
+         *
+         * @param text Field text. Can be null.
+         * @param weight Number of times each term is counted (at least 1)
+         * @return this counter for chaining
+         */
+        public TermCounter add(String text, int weight) {
+            tokenize(text, term -> {
+                counts.computeIfAbsent(term, t -> new int[1])[0] += weight;
+                length += weight;
+            });
+            return this;
+        }
+
+        int length() {
+            return length;
+        }
+
+        Map<String, int[]> counts() {
+            return counts;
+        }
+    }
+
+    /**
+     * Postings list of one term as parallel, growable primitive arrays.
+     */
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void append(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        Postings remap(int[] newDocByOld) {
+            Postings result = new Postings();
+            result.docs = new int[Math.max(4, size)];
+            result.freqs = new int[Math.max(4, size)];
+            for (int i = 0; i < size; i++) {
+                int doc = newDocByOld[docs[i]];
+                if (doc >= 0) {
+                    result.docs[result.size] = doc;
+                    result.freqs[result.size] = freqs[i];
+                    result.size++;
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Score per document number and the document numbers scored so far.
+     * Scores are all zero between queries; only the touched ones are reset.
+     */
+    private static final class Accumulator {
+
+        private float[] scores = new float[256];
+        private int[] touched = new int[1024];
+
+        float[] scores(int docCount) {
+            if (scores.length < docCount) {
+                scores = new float[Math.max(docCount, scores.length * 2)];
+            }
+            return scores;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.dto.FacetCountDTO;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.dto.JobFacetsDTO;
+import com.jobportal.jobportal.dto.JobSearchCriteria;
+import com.jobportal.jobportal.entity.Job;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Facet counts over active jobs, backed by one compressed bitmap per attribute value.
+ *
+ * For every facet (location, workMode, jobType, experienceLevel, category) each
+ * distinct value owns a RoaringBitmap of the IDs of the active jobs carrying it.
+ * A count request intersects those bitmaps with the current filter instead of
+ * running a GROUP BY per facet, so its cost depends on the number of distinct
+ * values rather than on the number of jobs.
+ *
+ * Values are grouped case-insensitively, matching how the search endpoint filters.
+ * Job IDs are used directly as bitmap positions and must fit in an int.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class JobFacetIndex implements JobIndex {
+
+    /**
+     * Job attributes that facet counts are reported for.
+     */
+    public enum Facet {
+        LOCATION("location", JobDTO::getLocation, JobSearchCriteria::getLocation),
+        // Labelled as stored (Job.toCode), the exact value the search filter matches
+        WORK_MODE("workMode", job -> Job.toCode(job.getWorkMode()), JobSearchCriteria::getWorkMode),
+        JOB_TYPE("jobType", job -> nameOf(job.getJobType()), criteria -> nameOf(criteria.getJobType())),
+        EXPERIENCE_LEVEL("experienceLevel", job -> Job.toCode(job.getExperienceLevel()),
+            JobSearchCriteria::getExperienceLevel),
+        CATEGORY("category", JobDTO::getCategory, JobSearchCriteria::getCategory);
+
+        private final String fieldName;
+        private final Function<JobDTO, String> valueOf;
+        private final Function<JobSearchCriteria, String> filterOf;
+
+        Facet(String fieldName, Function<JobDTO, String> valueOf, Function<JobSearchCriteria, String> filterOf) {
+            this.fieldName = fieldName;
+            this.valueOf = valueOf;
+            this.filterOf = filterOf;
+        }
+
+        /**
+         * Returns the name of the facet as used in requests and responses.
+         *
+         * @return Field name, e.g. "workMode"
+         */
+        public String fieldName() {
+            return fieldName;
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RoaringBitmap allJobs = new RoaringBitmap();
+    private final Map<Facet, Map<String, Bucket>> bucketsByFacet = new EnumMap<>(Facet.class);
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    /**
+     * Constructor for JobFacetIndex.
+     */
+    public JobFacetIndex() {
+        for (Facet facet : Facet.values()) {
+            bucketsByFacet.put(facet, new HashMap<>());
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            allJobs.clear();
+            bucketsByFacet.values().forEach(Map::clear);
+            entries.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(JobDTO job) {
+        if (job.getId() == null) {
+            return;
+        }
+        int position = Math.toIntExact(job.getId());
+        lock.writeLock().lock();
+        try {
+            removeInternal(position);
+            if (job.getStatus() != Job.JobStatus.ACTIVE) {
+                return;
+            }
+            Map<Facet, String> keys = new EnumMap<>(Facet.class);
+            for (Facet facet : Facet.values()) {
+                String value = facet.valueOf.apply(job);
+                String key = Job.toKey(value);
+                if (key != null) {
+                    bucketsByFacet.get(facet)
+                        .computeIfAbsent(key, k -> new Bucket(value.trim()))
+                        .jobs.add(position);
+                    keys.put(facet, key);
+                }
+            }
+            allJobs.add(position);
+            entries.put(position, new Entry(keys, job.getSalaryMin(), job.getSalaryMax(),
+                job.getNormalizedSalary(), job.getPostedBy()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(Math.toIntExact(jobId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts active jobs per facet value under the given filter.
+     *
+     * Facet filters (location, workMode, jobType, experienceLevel, category) are
+     * applied as bitmap intersections; salary and postedBy filters are checked
+     * against the indexed attributes of the remaining candidates. Each facet is
+     * counted with all filters except its own applied, and values with no
+     * matching jobs are omitted.
+     *
+     * @param criteria The search filter. Status and paging attributes are ignored.
+     * @param candidateIds IDs to restrict the counts to (e.g. full-text hits), or null for all active jobs
+     * @return Total number of matching jobs and the counts per facet value
+     */
+    public JobFacetsDTO count(JobSearchCriteria criteria, Collection<Long> candidateIds) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap base = allJobs.clone();
+            if (candidateIds != null) {
+                RoaringBitmap candidates = new RoaringBitmap();
+                candidateIds.forEach(id -> candidates.add(Math.toIntExact(id)));
+                base.and(candidates);
+            }
+            if (hasAttributeFilters(criteria)) {
+                base = filterByAttributes(base, criteria);
+            }
+
+            Map<Facet, RoaringBitmap> selected = new EnumMap<>(Facet.class);
+            for (Facet facet : Facet.values()) {
+                String key = Job.toKey(facet.filterOf.apply(criteria));
+                if (key != null) {
+                    Bucket bucket = bucketsByFacet.get(facet).get(key);
+                    selected.put(facet, bucket != null ? bucket.jobs : new RoaringBitmap());
+                }
+            }
+
+            Map<String, List<FacetCountDTO>> facets = new LinkedHashMap<>();
+            for (Facet facet : Facet.values()) {
+                RoaringBitmap others = intersectExcept(base, selected, facet);
+                List<FacetCountDTO> counts = new ArrayList<>();
+                for (Bucket bucket : bucketsByFacet.get(facet).values()) {
+                    long count = RoaringBitmap.andCardinality(bucket.jobs, others);
+                    if (count > 0) {
+                        counts.add(new FacetCountDTO(bucket.label, count));
+                    }
+                }
+                counts.sort(Comparator.comparingLong(FacetCountDTO::getCount).reversed()
+                    .thenComparing(FacetCountDTO::getValue));
+                facets.put(facet.fieldName(), counts);
+            }
+
+            return JobFacetsDTO.builder()
+                .total(intersectExcept(base, selected, null).getLongCardinality())
+                .facets(facets)
+                .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed jobs.
+     *
+     * @return Number of active jobs in the index
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return allJobs.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(int position) {
+        Entry entry = entries.remove(position);
+        if (entry == null) {
+            return;
+        }
+        allJobs.remove(position);
+        for (Map.Entry<Facet, String> key : entry.keys().entrySet()) {
+            Map<String, Bucket> buckets = bucketsByFacet.get(key.getKey());
+            Bucket bucket = buckets.get(key.getValue());
+            if (bucket != null) {
+                bucket.jobs.remove(position);
+                if (bucket.jobs.isEmpty()) {
+                    buckets.remove(key.getValue());
+                }
+            }
+        }
+    }
+
+    private static RoaringBitmap intersectExcept(RoaringBitmap base, Map<Facet, RoaringBitmap> selected, Facet excluded) {
+        RoaringBitmap result = base;
+        for (Map.Entry<Facet, RoaringBitmap> filter : selected.entrySet()) {
+            if (filter.getKey() != excluded) {
+                result = RoaringBitmap.and(result, filter.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static boolean hasAttributeFilters(JobSearchCriteria criteria) {
+        return criteria.getMinSalary() != null || criteria.getMaxSalary() != null
+            || criteria.getSalaryAtLeast() != null || criteria.getSalaryBetween() != null
+            || criteria.getPostedBy() != null;
+    }
+
+    private RoaringBitmap filterByAttributes(RoaringBitmap candidates, JobSearchCriteria criteria) {
+        RoaringBitmap result = new RoaringBitmap();
+        candidates.forEach((int position) -> {
+            if (entries.get(position).matches(criteria)) {
+                result.add(position);
+            }
+        });
+        return result;
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    /**
+     * Jobs sharing one facet value, with the value as first seen for display.
+     */
+    private static final class Bucket {
+
+        private final String label;
+        private final RoaringBitmap jobs = new RoaringBitmap();
+
+        Bucket(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Indexed attributes of one job, used for removal and for the salary and
+     * postedBy filters. Salary semantics match the search endpoint.
+     */
+    private record Entry(Map<Facet, String> keys, BigDecimal salaryMin, BigDecimal salaryMax,
+                         Long normalizedSalary, Long postedBy) {
+
+        boolean matches(JobSearchCriteria criteria) {
+            if (criteria.getPostedBy() != null && !criteria.getPostedBy().equals(postedBy)) {
+                return false;
+            }
+            BigDecimal atLeast = criteria.getMinSalary();
+            if (atLeast != null) {
+                BigDecimal upper = salaryMax != null ? salaryMax : salaryMin;
+                if (upper == null || upper.compareTo(atLeast) < 0) {
+                    return false;
+                }
+            }
+            BigDecimal atMost = criteria.getMaxSalary();
+            if (atMost != null && (salaryMin == null || salaryMin.compareTo(atMost) > 0)) {
+                return false;
+            }
+            if (criteria.getSalaryAtLeast() != null
+                    && (normalizedSalary == null || normalizedSalary < criteria.getSalaryAtLeast())) {
+                return false;
+            }
+            List<Long> range = criteria.getSalaryBetween();
+            return range == null || (normalizedSalary != null
+                && normalizedSalary >= range.get(0) && normalizedSalary <= range.get(1));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.dto.JobDTO;
+
+/**
+ * An in-memory structure derived from the job catalog.
+ *
+ * Implementations are discovered as Spring beans by {@link JobIndexMaintainer},
+ * which builds them from the database at startup and keeps them in sync with
+ * job writes after each transaction commits. Implementations must be thread-safe.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public interface JobIndex {
+
+    /**
+     * Removes all entries, before a full rebuild.
+     */
+    void clear();
+
+    /**
+     * Adds or replaces the entry for a job. Implementations decide whether the
+     * job belongs in the index (e.g. active jobs only) and drop it otherwise.
+     *
+     * @param job Snapshot of the job
+     */
+    void index(JobDTO job);
+
+    /**
+     * Removes the entry for a job, if present.
+     *
+     * @param jobId ID of the job
+     */
+    void remove(Long jobId);
+}
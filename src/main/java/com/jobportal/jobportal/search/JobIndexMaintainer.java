@@ -0,0 +1,137 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.dto.CursorPageDTO;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.event.JobChangedEvent;
+import com.jobportal.jobportal.event.JobIndexesRebuiltEvent;
+import com.jobportal.jobportal.service.JobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds every {@link JobIndex} from the database at startup and applies job
+ * writes to them after the writing transaction commits.
+ *
+ * The initial load walks the active catalog with keyset pagination, so it reads
+ * one bounded page at a time instead of materializing the whole table. It runs
+ * before the application reports itself ready, so readiness probes keep traffic
+ * away until the indexes are complete. Changes committed while it runs are
+ * applied right away and again once the last page is indexed, so a page read
+ * before a change cannot leave the old version of a job behind.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class JobIndexMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(JobIndexMaintainer.class);
+
+    private final JobService jobService;
+    private final List<JobIndex> indexes;
+    private final ApplicationEventPublisher events;
+    private final Object rebuildLock = new Object();
+    /** Changes committed during a rebuild, re-applied after it; null when no rebuild runs */
+    private List<JobChangedEvent> changedDuringRebuild;
+
+    /**
+     * Constructor for JobIndexMaintainer.
+     *
+     * @param jobService Service used to page through the active catalog
+     * @param indexes All JobIndex beans in the application context
+     * @param events Publisher for the end of a rebuild, which moves the catalog version on
+     */
+    @Autowired
+    public JobIndexMaintainer(JobService jobService, List<JobIndex> indexes, ApplicationEventPublisher events) {
+        this.jobService = jobService;
+        this.indexes = indexes;
+        this.events = events;
+    }
+
+    /**
+     * Rebuilds all indexes from the active jobs once the application has started,
+     * after the stored salaries are renormalized and before it is ready.
+     */
+    @Order(1)
+    @EventListener(ApplicationStartedEvent.class)
+    public void rebuildAll() {
+        long started = System.nanoTime();
+        synchronized (rebuildLock) {
+            changedDuringRebuild = new ArrayList<>();
+        }
+        indexes.forEach(JobIndex::clear);
+        int loaded = 0;
+        String cursor = null;
+        do {
+            CursorPageDTO<JobDTO> page = jobService.getActiveJobsPageWithSkillIds(cursor, JobService.MAX_PAGE_SIZE);
+            for (JobDTO job : page.getItems()) {
+                indexes.forEach(index -> index.index(job));
+            }
+            loaded += page.getItems().size();
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        int replayed = 0;
+        while (true) {
+            List<JobChangedEvent> changes;
+            synchronized (rebuildLock) {
+                changes = changedDuringRebuild;
+                if (changes.isEmpty()) {
+                    changedDuringRebuild = null;
+                    break;
+                }
+                changedDuringRebuild = new ArrayList<>();
+            }
+            changes.forEach(this::apply);
+            replayed += changes.size();
+        }
+        log.info("Built {} job index(es) from {} active jobs ({} changes re-applied) in {} ms",
+            indexes.size(), loaded, replayed, (System.nanoTime() - started) / 1_000_000);
+        events.publishEvent(new JobIndexesRebuiltEvent(loaded));
+    }
+
+    /**
+     * Applies a committed job change to all indexes.
+     * Runs directly if the change was published outside a transaction, and
+     * before {@link com.jobportal.jobportal.service.JobListingCache} marks the
+     * change as applied.
+     *
+     * @param event The job change
+     */
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        synchronized (rebuildLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event);
+            }
+        }
+        apply(event);
+    }
+
+    private void apply(JobChangedEvent event) {
+        for (JobIndex index : indexes) {
+            try {
+                if (event.type() == JobChangedEvent.ChangeType.DELETED || event.job() == null) {
+                    index.remove(event.jobId());
+                } else {
+                    index.index(event.job());
+                }
+            } catch (RuntimeException e) {
+                // An index failing must not affect the committed write or the other indexes
+                log.error("Failed to apply change of job {} to {}", event.jobId(),
+                    index.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
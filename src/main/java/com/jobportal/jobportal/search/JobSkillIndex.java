@@ -0,0 +1,155 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.service.SkillService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Skill bitsets of active jobs.
+ *
+ * A bitset is a long[] with bit n set when the job requires the skill with
+ * dictionary ID n ({@link SkillService}). Since IDs are dense, a job with a
+ * handful of skills takes a few words, and the skill overlap of two jobs is a
+ * popcount over the AND of their words instead of splitting and comparing strings.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class JobSkillIndex implements JobIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final SkillService skillService;
+    private final Map<Long, long[]> bitsets = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for JobSkillIndex.
+     *
+     * @param skillService The skill dictionary used to turn skill names into IDs
+     */
+    @Autowired
+    public JobSkillIndex(SkillService skillService) {
+        this.skillService = skillService;
+    }
+
+    @Override
+    public void clear() {
+        bitsets.clear();
+    }
+
+    @Override
+    public void index(JobDTO job) {
+        if (job.getId() == null) {
+            return;
+        }
+        if (job.getStatus() != Job.JobStatus.ACTIVE) {
+            remove(job.getId());
+            return;
+        }
+        bitsets.put(job.getId(), bitsetOf(job, skillService));
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        bitsets.remove(jobId);
+    }
+
+    /**
+     * Returns the skill bitset of a job: the indexed one for active jobs,
+     * otherwise built from the given skills through the cached dictionary.
+     *
+     * @param jobId ID of the job (can be null)
+     * @param skills Comma-separated skills of the job, used when it is not indexed
+     * @return The bitset; must not be modified
+     */
+    public long[] bitsetOf(Long jobId, String skills) {
+        long[] bitset = jobId != null ? bitsets.get(jobId) : null;
+        return bitset != null ? bitset : skillService.bitsetOf(skills);
+    }
+
+    /**
+     * Returns the skill bitset of a job DTO: from its skill IDs in job_skills,
+     * which include the skills tagged from its description and requirements,
+     * or from its typed skills when those IDs were not loaded.
+     *
+     * @param job The job
+     * @param skillService The skill dictionary used when the skill IDs are missing
+     * @return The bitset
+     */
+    public static long[] bitsetOf(JobDTO job, SkillService skillService) {
+        return job.getSkillIds() != null ? toBitset(job.getSkillIds()) : skillService.bitsetOf(job.getSkills());
+    }
+
+    /**
+     * Builds a bitset from skill IDs.
+     *
+     * @param ids Non-negative skill IDs
+     * @return Bitset just long enough for the largest ID
+     */
+    public static long[] toBitset(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        int max = ids.stream().mapToInt(Integer::intValue).max().getAsInt();
+        long[] bitset = new long[(max >>> 6) + 1];
+        for (int id : ids) {
+            bitset[id >>> 6] |= 1L << id;
+        }
+        return bitset;
+    }
+
+    /**
+     * Counts the skills in a bitset.
+     *
+     * @param bitset Skill bitset
+     * @return Number of bits set
+     */
+    public static int cardinality(long[] bitset) {
+        int count = 0;
+        for (long word : bitset) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the skills two bitsets have in common.
+     *
+     * @param a First skill bitset
+     * @param b Second skill bitset
+     * @return Number of bits set in both
+     */
+    public static int intersectionCount(long[] a, long[] b) {
+        int words = Math.min(a.length, b.length);
+        int count = 0;
+        for (int i = 0; i < words; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Lists the skill IDs in a bitset.
+     *
+     * @param bitset Skill bitset
+     * @return Skill IDs in ascending order
+     */
+    public static IntStream ids(long[] bitset) {
+        return IntStream.range(0, bitset.length)
+            .flatMap(i -> {
+                IntStream.Builder ids = IntStream.builder();
+                for (long word = bitset[i]; word != 0; word &= word - 1) {
+                    ids.add((i << 6) + Long.numberOfTrailingZeros(word));
+                }
+                return ids.build();
+            });
+    }
+}
@@ -0,0 +1,179 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.customexceptionhandler.ValidationException;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.mapper.JobMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Typeahead suggestions for job titles, companies, locations and skills.
+ *
+ * Each field has a {@link WeightedTrie} of the distinct values found on active
+ * jobs, weighted by the number of jobs carrying them, so the most common
+ * matches are suggested first. Values are matched case-insensitively and
+ * reported as first seen. Built at startup and updated on every job write by
+ * {@link JobIndexMaintainer}; lookups never reach the database.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class JobSuggestIndex implements JobIndex {
+
+    /**
+     * Job attributes that suggestions are offered for.
+     */
+    public enum Field {
+        TITLE(job -> single(job.getTitle())),
+        COMPANY(job -> single(job.getCompany())),
+        LOCATION(job -> single(job.getLocation())),
+        SKILL(job -> JobMapper.skillsToKeywords(job.getSkills()));
+
+        private final Function<JobDTO, Collection<String>> valuesOf;
+
+        Field(Function<JobDTO, Collection<String>> valuesOf) {
+            this.valuesOf = valuesOf;
+        }
+
+        /**
+         * Parses the field query parameter (case-insensitive).
+         *
+         * @param value "title", "company", "location" or "skill"
+         * @return The requested field
+         * @throws ValidationException if the value is missing or not a known field
+         */
+        public static Field from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new ValidationException("Field must be one of " + Arrays.stream(values())
+                    .map(field -> field.name().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.joining(", ")));
+            }
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Field, WeightedTrie> tries = new EnumMap<>(Field.class);
+    private final Map<Long, Map<Field, Set<String>>> keysByJob = new HashMap<>();
+
+    /**
+     * Constructor for JobSuggestIndex.
+     */
+    public JobSuggestIndex() {
+        for (Field field : Field.values()) {
+            tries.put(field, new WeightedTrie());
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            tries.values().forEach(WeightedTrie::clear);
+            keysByJob.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(JobDTO job) {
+        if (job.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(job.getId());
+            if (job.getStatus() != Job.JobStatus.ACTIVE) {
+                return;
+            }
+            Map<Field, Set<String>> keys = new EnumMap<>(Field.class);
+            for (Field field : Field.values()) {
+                // Distinct values by key, so a skill listed twice counts once
+                Map<String, String> byKey = new LinkedHashMap<>();
+                for (String value : field.valuesOf.apply(job)) {
+                    String key = Job.toKey(value);
+                    if (key != null) {
+                        byKey.putIfAbsent(key, value.trim());
+                    }
+                }
+                byKey.forEach((key, value) -> tries.get(field).adjust(key, value, 1));
+                keys.put(field, Set.copyOf(byKey.keySet()));
+            }
+            keysByJob.put(job.getId(), keys);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Suggests values of a field starting with a prefix.
+     *
+     * @param field The field to complete
+     * @param prefix Typed text, matched case-insensitively against the start of each value
+     * @param limit Maximum number of suggestions
+     * @return Up to limit values with the number of active jobs carrying each, most common first
+     */
+    public List<WeightedTrie.Suggestion> suggest(Field field, String prefix, int limit) {
+        String key = prefix == null ? "" : prefix.stripLeading().toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            return tries.get(field).top(key, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of distinct values indexed for a field.
+     *
+     * @param field The field
+     * @return Number of distinct values
+     */
+    public int size(Field field) {
+        lock.readLock().lock();
+        try {
+            return tries.get(field).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long jobId) {
+        Map<Field, Set<String>> keys = keysByJob.remove(jobId);
+        if (keys == null) {
+            return;
+        }
+        keys.forEach((field, fieldKeys) -> fieldKeys.forEach(key -> tries.get(field).adjust(key, null, -1)));
+    }
+
+    private static List<String> single(String value) {
+        return value == null ? List.of() : List.of(value);
+    }
+}
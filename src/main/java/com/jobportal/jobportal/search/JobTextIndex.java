@@ -0,0 +1,83 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.entity.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Full-text index over the title, skills, description and requirements of active jobs.
+ *
+ * Terms are weighted by field (title x3, skills x2, description and requirements x1)
+ * and ranked with BM25. The index is rebuilt at startup and updated on every job
+ * write by {@link JobIndexMaintainer}.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class JobTextIndex implements JobIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SKILLS_WEIGHT = 2;
+    private static final int BODY_WEIGHT = 1;
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Override
+    public void clear() {
+        index.clear();
+    }
+
+    @Override
+    public void index(JobDTO job) {
+        if (job.getId() == null) {
+            return;
+        }
+        if (job.getStatus() != Job.JobStatus.ACTIVE) {
+            index.remove(job.getId());
+            return;
+        }
+        index.put(job.getId(), new InvertedIndex.TermCounter()
+            .add(job.getTitle(), TITLE_WEIGHT)
+            .add(job.getSkills(), SKILLS_WEIGHT)
+            .add(job.getDescription(), BODY_WEIGHT)
+            .add(job.getRequirements(), BODY_WEIGHT));
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        index.remove(jobId);
+    }
+
+    /**
+     * Ranks active jobs against a free-text query.
+     *
+     * @param query Free-text query (e.g. "senior java spring")
+     * @param limit Maximum number of hits to return
+     * @return Hits ordered by descending relevance
+     */
+    public List<InvertedIndex.Hit> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    /**
+     * Finds every active job matching a free-text query, without ranking or limit.
+     *
+     * @param query Free-text query (e.g. "senior java spring")
+     * @return IDs of all matching jobs
+     */
+    public List<Long> matchingIds(String query) {
+        return index.matchingKeys(query);
+    }
+
+    /**
+     * Returns the number of indexed jobs.
+     *
+     * @return Number of active jobs in the index
+     */
+    public int size() {
+        return index.size();
+    }
+}
@@ -0,0 +1,384 @@
+package com.jobportal.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Nearest-neighbor graph over feature sets, maintained with MinHash and
+ * locality-sensitive hashing (LSH).
+ *
+ * Each item is a set of string features (e.g. skills). Its MinHash signature is
+ * split into bands; items sharing any band land in the same bucket and become
+ * candidates for each other. Candidates are scored by their exact Jaccard
+ * similarity, and every item keeps its top neighbors precomputed, so reading
+ * them is a map lookup.
+ *
+ * With the default 16 bands of 3 rows, pairs with a Jaccard similarity of 0.6
+ * become candidates with probability 0.98, pairs at 0.2 with probability 0.12.
+ *
+ * Adding, replacing or removing an item updates only the items sharing a bucket
+ * with it. Reads run concurrently; writes take an exclusive lock.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public class MinHashLsh {
+
+    private static final int DEFAULT_BANDS = 16;
+    private static final int DEFAULT_ROWS = 3;
+
+    private static final Comparator<Neighbor> BY_SIMILARITY =
+        Comparator.comparingDouble(Neighbor::similarity).reversed()
+            .thenComparing(Comparator.comparingLong(Neighbor::key).reversed());
+
+    private final int bands;
+    private final int rows;
+    private final int neighborsPerItem;
+    private final long[] seeds;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Item> items = new HashMap<>();
+    private final List<Map<Long, Set<Long>>> buckets;
+
+    /**
+     * Creates an index with 16 bands of 3 rows.
+     *
+     * @param neighborsPerItem Number of neighbors precomputed for each item
+     */
+    public MinHashLsh(int neighborsPerItem) {
+        this(DEFAULT_BANDS, DEFAULT_ROWS, neighborsPerItem);
+    }
+
+    /**
+     * Creates an index with the given LSH parameters.
+     * More rows per band make candidates stricter; more bands make them looser.
+     *
+     * @param bands Number of bands the signature is split into
+     * @param rows Number of MinHash values per band
+     * @param neighborsPerItem Number of neighbors precomputed for each item
+     */
+    public MinHashLsh(int bands, int rows, int neighborsPerItem) {
+        this.bands = bands;
+        this.rows = rows;
+        this.neighborsPerItem = neighborsPerItem;
+        // Fixed seed: signatures must not change between rebuilds
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        this.seeds = new long[bands * rows];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = random.nextLong();
+        }
+        this.buckets = new ArrayList<>(bands);
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds an item, replacing any previous version with the same key.
+     * Items without features are removed instead.
+     *
+     * @param key External item key (e.g. job ID)
+     * @param features Features of the item
+     */
+    public void put(long key, Collection<String> features) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> affected = removeInternal(key);
+            if (features.isEmpty()) {
+                refresh(affected);
+                return;
+            }
+            Item item = new Item(hashes(features));
+            item.bucketKeys = bucketKeys(signature(item.hashes));
+            items.put(key, item);
+            for (int band = 0; band < bands; band++) {
+                buckets.get(band).computeIfAbsent(item.bucketKeys[band], k -> new HashSet<>()).add(key);
+            }
+
+            List<Neighbor> neighbors = new ArrayList<>();
+            for (long candidate : candidates(key, item)) {
+                Item other = items.get(candidate);
+                double similarity = jaccard(item.hashes, other.hashes);
+                neighbors.add(new Neighbor(candidate, similarity));
+                if (!affected.contains(candidate)) {
+                    other.offer(new Neighbor(key, similarity), neighborsPerItem);
+                }
+            }
+            item.neighbors = top(neighbors);
+            refresh(affected);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an item. Does nothing if the key is unknown.
+     *
+     * @param key External item key
+     */
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            refresh(removeInternal(key));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all items.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            items.clear();
+            buckets.forEach(Map::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether an item is indexed.
+     *
+     * @param key External item key
+     * @return true if the item is present
+     */
+    public boolean contains(long key) {
+        lock.readLock().lock();
+        try {
+            return items.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed items.
+     *
+     * @return Item count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return items.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the precomputed neighbors of an item.
+     *
+     * @param key External item key
+     * @param limit Maximum number of neighbors (at most the per-item count)
+     * @return Neighbors by descending similarity, then descending key;
+     *         empty if the item is unknown
+     */
+    public List<Neighbor> neighbors(long key, int limit) {
+        lock.readLock().lock();
+        try {
+            Item item = items.get(key);
+            if (item == null || limit <= 0) {
+                return List.of();
+            }
+            return List.copyOf(item.neighbors.subList(0, Math.min(limit, item.neighbors.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the items that list an item among their precomputed neighbors.
+     *
+     * @param key External item key
+     * @return Keys of the items listing it; empty if the item is unknown
+     */
+    public Set<Long> listedBy(long key) {
+        lock.readLock().lock();
+        try {
+            Item item = items.get(key);
+            if (item == null) {
+                return Set.of();
+            }
+            Set<Long> listing = new HashSet<>();
+            for (long candidate : candidates(key, item)) {
+                if (items.get(candidate).lists(key)) {
+                    listing.add(candidate);
+                }
+            }
+            return listing;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an item from its buckets.
+     *
+     * @return Keys of the items that listed it as a neighbor and need their list rebuilt
+     */
+    private Set<Long> removeInternal(long key) {
+        Item item = items.remove(key);
+        if (item == null) {
+            return Set.of();
+        }
+        Set<Long> affected = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            Set<Long> bucket = buckets.get(band).get(item.bucketKeys[band]);
+            bucket.remove(key);
+            if (bucket.isEmpty()) {
+                buckets.get(band).remove(item.bucketKeys[band]);
+            }
+            // Neighbors only ever come from shared buckets, so only these can list the item
+            for (long other : bucket) {
+                if (items.get(other).lists(key)) {
+                    affected.add(other);
+                }
+            }
+        }
+        return affected;
+    }
+
+    private void refresh(Set<Long> keys) {
+        for (long key : keys) {
+            Item item = items.get(key);
+            List<Neighbor> neighbors = new ArrayList<>();
+            for (long candidate : candidates(key, item)) {
+                neighbors.add(new Neighbor(candidate, jaccard(item.hashes, items.get(candidate).hashes)));
+            }
+            item.neighbors = top(neighbors);
+        }
+    }
+
+    private Set<Long> candidates(long key, Item item) {
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            candidates.addAll(buckets.get(band).get(item.bucketKeys[band]));
+        }
+        candidates.remove(key);
+        return candidates;
+    }
+
+    private List<Neighbor> top(List<Neighbor> neighbors) {
+        neighbors.sort(BY_SIMILARITY);
+        return neighbors.size() > neighborsPerItem
+            ? new ArrayList<>(neighbors.subList(0, neighborsPerItem))
+            : neighbors;
+    }
+
+    /**
+     * Hashes the features into a sorted array of distinct ints,
+     * so Jaccard similarity is a linear merge.
+     */
+    private static int[] hashes(Collection<String> features) {
+        return features.stream().mapToInt(feature -> (int) mix(feature.hashCode())).distinct().sorted().toArray();
+    }
+
+    private long[] signature(int[] hashes) {
+        long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int hash : hashes) {
+            for (int i = 0; i < seeds.length; i++) {
+                long value = mix(hash ^ seeds[i]);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private long[] bucketKeys(long[] signature) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long key = band;
+            for (int row = 0; row < rows; row++) {
+                key = key * 31 + signature[band * rows + row];
+            }
+            keys[band] = mix(key);
+        }
+        return keys;
+    }
+
+    private static double jaccard(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) common / (a.length + b.length - common);
+    }
+
+    /** SplitMix64 finalizer: spreads input bits over the whole long */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * A precomputed neighbor.
+     *
+     * @param key External key of the neighbor
+     * @param similarity Jaccard similarity of the two feature sets (0-1)
+     */
+    public record Neighbor(long key, double similarity) {
+    }
+
+    private static final class Item {
+
+        private final int[] hashes;
+        private long[] bucketKeys;
+        private List<Neighbor> neighbors = new ArrayList<>();
+
+        Item(int[] hashes) {
+            this.hashes = hashes;
+        }
+
+        boolean lists(long key) {
+            for (Neighbor neighbor : neighbors) {
+                if (neighbor.key() == key) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Inserts a neighbor if it ranks within the top entries.
+         */
+        void offer(Neighbor neighbor, int capacity) {
+            int position = 0;
+            while (position < neighbors.size() && BY_SIMILARITY.compare(neighbors.get(position), neighbor) < 0) {
+                position++;
+            }
+            if (position >= capacity) {
+                return;
+            }
+            neighbors.add(position, neighbor);
+            if (neighbors.size() > capacity) {
+                neighbors.remove(neighbors.size() - 1);
+            }
+        }
+    }
+}
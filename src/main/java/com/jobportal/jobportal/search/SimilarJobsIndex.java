@@ -0,0 +1,136 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.dto.SimilarJobDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.mapper.JobMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed similar-jobs graph over active jobs.
+ *
+ * Each job is described by its skills, category and job type, and keeps its
+ * nearest neighbors by Jaccard similarity of those features ({@link MinHashLsh}).
+ * Title and company of every job are kept alongside, so the similar-jobs panel
+ * is served without touching the database. The graph is rebuilt at startup and
+ * updated on every job write by {@link JobIndexMaintainer}.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class SimilarJobsIndex implements JobIndex {
+
+    /** Neighbors kept per job; requests for more are capped at this */
+    public static final int NEIGHBORS_PER_JOB = 10;
+
+    private final MinHashLsh graph = new MinHashLsh(NEIGHBORS_PER_JOB);
+    private final Map<Long, Listing> listings = new ConcurrentHashMap<>();
+
+    @Override
+    public void clear() {
+        graph.clear();
+        listings.clear();
+    }
+
+    @Override
+    public void index(JobDTO job) {
+        if (job.getId() == null) {
+            return;
+        }
+        if (job.getStatus() != Job.JobStatus.ACTIVE) {
+            remove(job.getId());
+            return;
+        }
+        listings.put(job.getId(), new Listing(job.getTitle(), job.getCompany()));
+        graph.put(job.getId(), featuresOf(job));
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        graph.remove(jobId);
+        listings.remove(jobId);
+    }
+
+    /**
+     * Returns the most similar active jobs to a job.
+     *
+     * @param jobId ID of the job
+     * @param limit Maximum number of similar jobs
+     * @return Similar jobs, most similar first, with the similarity as match
+     *         percentage; empty if the job is not in the index (e.g. not active)
+     */
+    public Optional<List<SimilarJobDTO>> findSimilar(Long jobId, int limit) {
+        if (jobId == null || !graph.contains(jobId)) {
+            return Optional.empty();
+        }
+        List<SimilarJobDTO> similarJobs = new ArrayList<>();
+        for (MinHashLsh.Neighbor neighbor : graph.neighbors(jobId, limit)) {
+            Listing listing = listings.get(neighbor.key());
+            if (listing == null) {
+                continue; // removed concurrently
+            }
+            similarJobs.add(SimilarJobDTO.builder()
+                .id(Long.toString(neighbor.key()))
+                .title(listing.title())
+                .company(listing.company())
+                .match((int) Math.round(neighbor.similarity() * 100))
+                .build());
+        }
+        return Optional.of(similarJobs);
+    }
+
+    /**
+     * Returns whether a job's similar jobs are served from the index.
+     *
+     * @param jobId ID of the job
+     * @return true if the job is indexed (i.e. active)
+     */
+    public boolean contains(Long jobId) {
+        return jobId != null && graph.contains(jobId);
+    }
+
+    /**
+     * Returns the active jobs that have a job among their similar jobs.
+     *
+     * @param jobId ID of the job
+     * @return IDs of the jobs listing it; empty if the job is not in the index
+     */
+    public Set<Long> findJobsListing(Long jobId) {
+        return jobId == null ? Set.of() : graph.listedBy(jobId);
+    }
+
+    /**
+     * Returns the number of indexed jobs.
+     *
+     * @return Number of active jobs in the index
+     */
+    public int size() {
+        return graph.size();
+    }
+
+    private static List<String> featuresOf(JobDTO job) {
+        List<String> features = new ArrayList<>();
+        for (String skill : JobMapper.skillsToKeywords(job.getSkills())) {
+            features.add("skill:" + Job.toKey(skill));
+        }
+        String category = Job.toKey(job.getCategory());
+        if (category != null) {
+            features.add("category:" + category);
+        }
+        if (job.getJobType() != null) {
+            features.add("type:" + job.getJobType().name());
+        }
+        return features;
+    }
+
+    private record Listing(String title, String company) {
+    }
+}
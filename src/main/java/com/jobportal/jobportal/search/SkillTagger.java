@@ -0,0 +1,203 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.event.SkillVocabularyChangedEvent;
+import com.jobportal.jobportal.service.SkillService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Finds the dictionary skills mentioned in free text (job descriptions and
+ * requirements, resume text).
+ *
+ * The skill names and their aliases ({@value #ALIASES_RESOURCE}, e.g. "JS" for
+ * JavaScript) are compiled into one {@link AhoCorasick} automaton, so a document
+ * is tagged in a single pass however large the vocabulary is. A match counts
+ * only as a whole word: "Java" is not found in "JavaScript", nor "C" in "C++".
+ *
+ * When skills are added to the dictionary, a new automaton is built on a
+ * background thread and swapped in with a volatile write; tagging never waits
+ * and keeps using the previous automaton until then. Bursts of changes are
+ * coalesced into one rebuild.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class SkillTagger {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillTagger.class);
+
+    static final String ALIASES_RESOURCE = "skill-aliases.txt";
+
+    private final SkillService skillService;
+    private final Map<String, String> aliases;
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "skill-tagger-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private volatile Vocabulary vocabulary = Vocabulary.EMPTY;
+
+    /**
+     * Constructor for SkillTagger.
+     *
+     * @param skillService The skill dictionary the automaton is compiled from
+     */
+    @Autowired
+    public SkillTagger(SkillService skillService) {
+        this(skillService, loadAliases());
+    }
+
+    SkillTagger(SkillService skillService, Map<String, String> aliases) {
+        this.skillService = skillService;
+        this.aliases = aliases;
+    }
+
+    /**
+     * Builds the automaton once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRebuild();
+    }
+
+    /**
+     * Rebuilds the automaton in the background after skills were added.
+     *
+     * @param event The added skills
+     */
+    @EventListener
+    public void onVocabularyChanged(SkillVocabularyChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    /**
+     * Finds the skills mentioned in texts.
+     *
+     * @param texts The texts; null ones are skipped
+     * @return Mutable set of the skill IDs, in order of first mention
+     */
+    public Set<Integer> tag(String... texts) {
+        Vocabulary current = vocabulary;
+        Set<Integer> skillIds = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null || text.isEmpty()) {
+                continue;
+            }
+            current.matcher().scan(text, (pattern, start, end) -> {
+                if (isWordBoundary(text, start - 1) && isWordBoundary(text, end)) {
+                    skillIds.add(current.skillIds()[pattern]);
+                }
+            });
+        }
+        return skillIds;
+    }
+
+    /**
+     * Compiles the automaton from the current dictionary and swaps it in.
+     */
+    public void rebuild() {
+        Map<String, Integer> idsByPattern = new LinkedHashMap<>();
+        skillService.vocabulary().forEach((id, name) -> idsByPattern.putIfAbsent(Job.toKey(name), id));
+        aliases.forEach((alias, skill) -> {
+            Integer id = skillService.cachedId(skill);
+            if (id != null) {
+                idsByPattern.putIfAbsent(alias, id);
+            }
+        });
+        idsByPattern.remove(null);
+
+        List<String> patterns = new ArrayList<>(idsByPattern.keySet());
+        int[] skillIds = idsByPattern.values().stream().mapToInt(Integer::intValue).toArray();
+        vocabulary = new Vocabulary(AhoCorasick.compile(patterns), skillIds);
+    }
+
+    private void scheduleRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                // Cleared first, so a change arriving during the rebuild queues another one
+                rebuildQueued.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("Rebuilding the skill tagger failed, keeping the previous vocabulary", e);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    /**
+     * Returns whether the character at an offset does not continue a word;
+     * offsets outside the text are boundaries.
+     */
+    private static boolean isWordBoundary(String text, int offset) {
+        if (offset < 0 || offset >= text.length()) {
+            return true;
+        }
+        char c = text.charAt(offset);
+        return !Character.isLetterOrDigit(c) && c != '+' && c != '#';
+    }
+
+    private static Map<String, String> loadAliases() {
+        Map<String, String> aliases = new HashMap<>();
+        ClassPathResource resource = new ClassPathResource(ALIASES_RESOURCE);
+        if (!resource.exists()) {
+            return aliases;
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf('=');
+                if (line.isBlank() || line.startsWith("#") || separator < 0) {
+                    continue;
+                }
+                String alias = Job.toKey(line.substring(0, separator));
+                String skill = line.substring(separator + 1).trim();
+                if (alias != null && !skill.isEmpty()) {
+                    aliases.put(alias, skill);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + ALIASES_RESOURCE, e);
+        }
+        return aliases;
+    }
+
+    /**
+     * A compiled automaton and the skill ID of each of its patterns.
+     */
+    private record Vocabulary(AhoCorasick matcher, int[] skillIds) {
+        static final Vocabulary EMPTY = new Vocabulary(AhoCorasick.compile(List.of()), new int[0]);
+    }
+}
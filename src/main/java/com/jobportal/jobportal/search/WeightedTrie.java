@@ -0,0 +1,226 @@
+package com.jobportal.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Prefix tree of weighted entries, answering "best k entries starting with
+ * this prefix" without visiting the whole subtree under the prefix.
+ *
+ * Each node keeps its child edges as a sorted char array with a parallel
+ * array of children (binary searched, no per-node map), the entry ending at
+ * it if any, and the highest weight found anywhere below it. A lookup walks
+ * down the prefix, then expands nodes best-first by that maximum: entries come
+ * out in descending weight order, and only the branches that can still beat
+ * the current candidates are opened.
+ *
+ * Weights are adjusted in place, so the trie follows incremental changes; an
+ * entry whose weight drops to zero is removed and its empty branch pruned.
+ *
+ * Not thread-safe; callers guard reads and writes.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public final class WeightedTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    /** Expansion order: highest weight first; at equal weight, entries before branches */
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+        .comparingInt(Candidate::priority).reversed()
+        .thenComparing(Candidate::entry, Comparator.reverseOrder());
+
+    private Node root = new Node();
+    private int size;
+
+    /**
+     * An entry of the trie with its weight.
+     *
+     * @param value The entry as first added
+     * @param weight The entry's weight
+     */
+    public record Suggestion(String value, int weight) {
+    }
+
+    /**
+     * Adjusts the weight of an entry, adding it if absent.
+     *
+     * @param key Lookup key of the entry; prefixes are matched against it
+     * @param value Value reported for the entry; kept from the first add while the entry exists
+     * @param delta Change of weight; the entry is removed once its weight is no longer positive
+     */
+    public void adjust(String key, String value, int delta) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                if (delta <= 0) {
+                    return;
+                }
+                child = node.addChild(key.charAt(i));
+            }
+            node = child;
+            path[i + 1] = node;
+        }
+
+        if (node.value == null) {
+            if (delta <= 0) {
+                return;
+            }
+            node.value = value;
+            size++;
+        }
+        node.weight += delta;
+        if (node.weight <= 0) {
+            node.value = null;
+            node.weight = 0;
+            size--;
+        }
+
+        for (int i = key.length(); i >= 0; i--) {
+            path[i].updateBest();
+            if (i > 0 && path[i].best == 0) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            }
+        }
+    }
+
+    /**
+     * Returns the weight of an entry.
+     *
+     * @param key Lookup key of the entry
+     * @return The weight, or 0 if there is no such entry
+     */
+    public int weight(String key) {
+        Node node = find(key);
+        return node == null ? 0 : node.weight;
+    }
+
+    /**
+     * Returns the heaviest entries whose key starts with a prefix.
+     *
+     * @param prefix The key prefix; empty matches every entry
+     * @param limit Maximum number of entries to return
+     * @return Up to limit entries, heaviest first
+     */
+    public List<Suggestion> top(String prefix, int limit) {
+        Node start = find(prefix);
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, size));
+        if (start == null || limit <= 0) {
+            return result;
+        }
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(BEST_FIRST);
+        queue.add(new Candidate(start, false, start.best));
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate next = queue.poll();
+            Node node = next.node();
+            if (next.entry()) {
+                result.add(new Suggestion(node.value, node.weight));
+                continue;
+            }
+            if (node.value != null) {
+                queue.add(new Candidate(node, true, node.weight));
+            }
+            for (Node child : node.children) {
+                queue.add(new Candidate(child, false, child.best));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return Number of entries with a positive weight
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        root = new Node();
+        size = 0;
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * A node to expand, or an entry to report, in best-first order.
+     */
+    private record Candidate(Node node, boolean entry, int priority) {
+    }
+
+    private static final class Node {
+
+        private char[] keys = NO_KEYS;          // sorted edge labels
+        private Node[] children = NO_CHILDREN;  // child per edge label
+        private String value;                   // entry ending here, or null
+        private int weight;                     // weight of that entry
+        private int best;                       // highest entry weight in this subtree
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node addChild(char c) {
+            int i = -Arrays.binarySearch(keys, c) - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i, newKeys, i + 1, keys.length - i);
+            System.arraycopy(children, i, newChildren, i + 1, children.length - i);
+            Node child = new Node();
+            newKeys[i] = c;
+            newChildren[i] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) {
+                return;
+            }
+            if (keys.length == 1) {
+                keys = NO_KEYS;
+                children = NO_CHILDREN;
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        void updateBest() {
+            int max = weight;
+            for (Node child : children) {
+                max = Math.max(max, child.best);
+            }
+            best = max;
+        }
+    }
+}
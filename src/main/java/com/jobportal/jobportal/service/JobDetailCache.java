@@ -0,0 +1,348 @@
+package com.jobportal.jobportal.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobportal.jobportal.dto.JobDetailDTO;
+import com.jobportal.jobportal.dto.MatchFactorDTO;
+import com.jobportal.jobportal.dto.SimilarJobDTO;
+import com.jobportal.jobportal.event.CandidateProfileChangedEvent;
+import com.jobportal.jobportal.event.JobChangedEvent;
+import com.jobportal.jobportal.search.SimilarJobsIndex;
+import com.jobportal.jobportal.util.OffHeapByteStore;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache of the job detail page as ready-to-send JSON.
+ *
+ * The detail of each active job is rendered and serialized once, gzipped,
+ * and kept off the Java heap in an {@link OffHeapByteStore}, so a request
+ * costs a memory copy instead of formatting, a similar-jobs lookup and a
+ * Jackson run. The stored document is the anonymous view; the fields that
+ * depend on the viewer (matchScore, matchFactors, saved) are kept per user
+ * and job in a small on-heap overlay cache and spliced into the document.
+ *
+ * An entry is dropped once a write to its job, or to a job among its similar
+ * jobs, commits, and when the "posted ... ago" text it contains would change.
+ * Its listener runs after the in-memory indexes are updated, so re-rendering
+ * sees the new similar jobs. Overlays are dropped when the job or the user's
+ * profile changes. Details of inactive jobs, whose similar jobs are queried
+ * from the database, are not cached.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class JobDetailCache {
+
+    /** Size of each off-heap slab, and the largest gzipped document kept */
+    static final int SLAB_SIZE = 1 << 20;
+
+    private static final String MATCH_SCORE = "matchScore";
+    private static final String MATCH_FACTORS = "matchFactors";
+    private static final String SAVED = "saved";
+
+    private final OffHeapByteStore documents;
+    private final Map<Long, Rendered> rendered = new ConcurrentHashMap<>();
+    private final Cache<OverlayKey, byte[]> overlays;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final SimilarJobsIndex similarJobsIndex;
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final byte[] anonymousSuffix;
+
+    /**
+     * Constructor for JobDetailCache.
+     *
+     * @param maxBytes Off-heap memory for the documents, in bytes
+     * @param ttlMillis How long a document is kept without a write dropping it, in milliseconds
+     * @param maxOverlays Number of per-user overlays kept
+     * @param similarJobsIndex The similar-jobs graph the documents' similar jobs come from
+     * @param objectMapper Application ObjectMapper, so documents match regular JSON responses
+     * @param meterRegistry Registry the cache statistics are published to
+     */
+    @Autowired
+    public JobDetailCache(@Value("${job.detail.cache.max.bytes:67108864}") long maxBytes,
+                          @Value("${job.detail.cache.ttl:3600000}") long ttlMillis,
+                          @Value("${job.detail.cache.overlays:10000}") long maxOverlays,
+                          SimilarJobsIndex similarJobsIndex, ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry) {
+        this.documents = new OffHeapByteStore(SLAB_SIZE, maxBytes);
+        this.ttlMillis = ttlMillis;
+        this.similarJobsIndex = similarJobsIndex;
+        this.objectMapper = objectMapper;
+        this.overlays = Caffeine.newBuilder()
+            .maximumSize(maxOverlays)
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .recordStats()
+            .build();
+        this.anonymousSuffix = suffix(overlay(new Overlay(0, List.of(), false)));
+        CaffeineCacheMetrics.monitor(meterRegistry, overlays, "job.detail.overlays");
+        FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+            .tags("cache", "job.details", "result", "hit").register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+            .tags("cache", "job.details", "result", "miss").register(meterRegistry);
+        Gauge.builder("cache.size", documents, OffHeapByteStore::size)
+            .tags("cache", "job.details").register(meterRegistry);
+        Gauge.builder("job.details.offheap.bytes", documents, OffHeapByteStore::allocatedBytes)
+            .baseUnit("bytes").register(meterRegistry);
+    }
+
+    /**
+     * Returns the gzipped anonymous detail of a job, rendering it if not cached.
+     *
+     * @param jobId The ID of the job
+     * @param renderer Renders the anonymous detail; may throw if the job does not exist
+     * @return The gzipped JSON document
+     */
+    public byte[] gzipped(Long jobId, Supplier<Rendering> renderer) {
+        Rendered entry = rendered.get(jobId);
+        if (entry != null && Instant.now().isBefore(entry.expiresAt())) {
+            byte[] document = documents.get(jobId);
+            if (document != null) {
+                hits.incrementAndGet();
+                return document;
+            }
+        }
+        misses.incrementAndGet();
+        long generation = invalidations.get();
+        Rendering rendering = renderer.get();
+        byte[] document = gzip(render(rendering.detail()));
+        if (similarJobsIndex.contains(jobId)) {
+            store(jobId, rendering, document, generation);
+        }
+        return document;
+    }
+
+    /**
+     * Returns the anonymous detail of a job, rendering it if not cached.
+     *
+     * @param jobId The ID of the job
+     * @param renderer Renders the anonymous detail; may throw if the job does not exist
+     * @return The JSON document
+     */
+    public byte[] json(Long jobId, Supplier<Rendering> renderer) {
+        return gunzip(gzipped(jobId, renderer));
+    }
+
+    /**
+     * Returns the detail of a job as seen by a user: the cached anonymous
+     * document with the user's overlay in place of the anonymous fields.
+     *
+     * @param jobId The ID of the job
+     * @param userId The ID of the user
+     * @param renderer Renders the anonymous detail; may throw if the job does not exist
+     * @param overlay Computes the user's fields, only called if not cached
+     * @return The JSON document
+     */
+    public byte[] json(Long jobId, Long userId, Supplier<Rendering> renderer, Supplier<Overlay> overlay) {
+        byte[] document = json(jobId, renderer);
+        OverlayKey key = new OverlayKey(userId, jobId);
+        byte[] fields = overlays.getIfPresent(key);
+        if (fields == null) {
+            long generation = invalidations.get();
+            fields = overlay(overlay.get());
+            if (invalidations.get() == generation) {
+                overlays.put(key, fields);
+            }
+        }
+        // The document ends with the anonymous overlay and the closing brace
+        int prefix = document.length - anonymousSuffix.length;
+        byte[] personal = new byte[prefix + fields.length + 2];
+        System.arraycopy(document, 0, personal, 0, prefix);
+        personal[prefix] = ',';
+        System.arraycopy(fields, 0, personal, prefix + 1, fields.length);
+        personal[personal.length - 1] = '}';
+        return personal;
+    }
+
+    /**
+     * Returns the number of cached documents.
+     *
+     * @return Number of documents currently held
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Drops the details a committed job change can affect: the job's own, and
+     * those listing it as a similar job before or after the change.
+     * Runs directly if the change was published outside a transaction.
+     *
+     * @param event The job change
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Long jobId = event.jobId();
+        Set<Long> stale = new HashSet<>(similarJobsIndex.findJobsListing(jobId));
+        stale.add(jobId);
+        rendered.forEach((id, entry) -> {
+            if (entry.similarJobIds().contains(jobId)) {
+                stale.add(id);
+            }
+        });
+        invalidations.incrementAndGet();
+        for (Long id : stale) {
+            rendered.remove(id);
+            documents.remove(id);
+        }
+        overlays.asMap().keySet().removeIf(key -> key.jobId().equals(jobId));
+    }
+
+    /**
+     * Drops the overlays of a user whose profile or primary resume changed,
+     * once the change is committed.
+     *
+     * @param event The change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(CandidateProfileChangedEvent event) {
+        invalidations.incrementAndGet();
+        overlays.asMap().keySet().removeIf(key -> key.userId().equals(event.userId()));
+    }
+
+    private void store(Long jobId, Rendering rendering, byte[] document, long generation) {
+        Instant expiresAt = Instant.now().plusMillis(ttlMillis);
+        if (rendering.changesAt() != null && rendering.changesAt().isBefore(expiresAt)) {
+            expiresAt = rendering.changesAt();
+        }
+        Set<Long> similarJobIds = new HashSet<>();
+        for (SimilarJobDTO similarJob : rendering.detail().getSimilarJobs()) {
+            similarJobIds.add(Long.valueOf(similarJob.getId()));
+        }
+        // Known before the document is, so an invalidation can always find it
+        rendered.put(jobId, new Rendered(similarJobIds, expiresAt));
+        documents.put(jobId, document);
+        if (invalidations.get() != generation) {
+            // An invalidation raced with the rendering; do not keep a possibly stale document
+            rendered.remove(jobId);
+            documents.remove(jobId);
+        }
+    }
+
+    /**
+     * Serializes the detail with the viewer's fields last, as the anonymous overlay.
+     */
+    private byte[] render(JobDetailDTO detail) {
+        ObjectNode node = objectMapper.valueToTree(detail);
+        node.remove(List.of(MATCH_SCORE, MATCH_FACTORS, SAVED));
+        byte[] base = write(node);
+        // Drop the closing brace and append the anonymous overlay
+        byte[] document = new byte[base.length - 1 + anonymousSuffix.length];
+        System.arraycopy(base, 0, document, 0, base.length - 1);
+        System.arraycopy(anonymousSuffix, 0, document, base.length - 1, anonymousSuffix.length);
+        return document;
+    }
+
+    /**
+     * Serializes the viewer's fields as object members without the braces,
+     * e.g. "matchScore":80,"matchFactors":[...],"saved":false.
+     */
+    private byte[] overlay(Overlay overlay) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put(MATCH_SCORE, overlay.matchScore() != null ? overlay.matchScore() : 0);
+        node.set(MATCH_FACTORS, objectMapper.valueToTree(
+            overlay.matchFactors() != null ? overlay.matchFactors() : List.of()));
+        node.put(SAVED, overlay.saved() != null && overlay.saved());
+        byte[] members = write(node);
+        byte[] fields = new byte[members.length - 2];
+        System.arraycopy(members, 1, fields, 0, fields.length);
+        return fields;
+    }
+
+    private static byte[] suffix(byte[] fields) {
+        byte[] suffix = new byte[fields.length + 2];
+        suffix[0] = ',';
+        System.arraycopy(fields, 0, suffix, 1, fields.length);
+        suffix[suffix.length - 1] = '}';
+        return suffix;
+    }
+
+    private byte[] write(ObjectNode node) {
+        try {
+            return objectMapper.writeValueAsBytes(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize job detail", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] gzipped) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A rendered anonymous detail.
+     *
+     * @param detail The detail, with the anonymous match score, factors and saved flag
+     * @param changesAt When its "posted ... ago" text changes, or null if never
+     */
+    public record Rendering(JobDetailDTO detail, Instant changesAt) {
+    }
+
+    /**
+     * The fields of a detail that depend on the viewer.
+     *
+     * @param matchScore Match score (0-100)
+     * @param matchFactors Breakdown of the match score
+     * @param saved Whether the user saved the job
+     */
+    public record Overlay(Integer matchScore, List<MatchFactorDTO> matchFactors, Boolean saved) {
+    }
+
+    /**
+     * What is known on the heap about a cached document.
+     */
+    private record Rendered(Set<Long> similarJobIds, Instant expiresAt) {
+    }
+
+    private record OverlayKey(Long userId, Long jobId) {
+    }
+}
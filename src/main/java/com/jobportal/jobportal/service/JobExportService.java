@@ -0,0 +1,205 @@
+package com.jobportal.jobportal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.mapper.JobMapper;
+import com.jobportal.jobportal.repo.JobRepo;
+import com.jobportal.jobportal.repo.JobSummary;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Service class for writing job listings directly to an output stream.
+ *
+ * Jobs are read from a streaming repository query, mapped and serialized one at
+ * a time, and entities are detached from the persistence context once written.
+ * Memory use therefore stays constant regardless of how many jobs a listing
+ * contains, instead of holding the entity list, the DTO list and the serialized
+ * body at once. Summary variants select only the listing columns.
+ *
+ * Methods open their own read-only transaction, so they can be called from the
+ * thread that writes a StreamingResponseBody.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class JobExportService {
+
+    /**
+     * Output formats supported by the export methods.
+     */
+    public enum Format {
+        /** A single JSON array of jobs */
+        JSON_ARRAY,
+        /** Newline-delimited JSON: one job object per line */
+        NDJSON
+    }
+
+    private final JobRepo repo;
+    private final EntityManager entityManager;
+    private final ObjectWriter writer;
+
+    /**
+     * Constructor for JobExportService.
+     *
+     * @param repo The Job repository for database operations
+     * @param entityManager Entity manager used to detach jobs once written
+     * @param objectMapper Application ObjectMapper, so exports match regular JSON responses
+     */
+    @Autowired
+    public JobExportService(JobRepo repo, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.repo = repo;
+        this.entityManager = entityManager;
+        // Let the servlet buffer decide when to flush instead of flushing after every job
+        this.writer = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every job in the system, ordered by ID.
+     *
+     * @param out Stream to write to (not closed by this method)
+     * @param format Output format
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    public void writeAllJobs(OutputStream out, Format format) {
+        try (Stream<Job> jobs = repo.streamAll()) {
+            writeJobs(jobs, out, format);
+        }
+    }
+
+    /**
+     * Writes the jobs of a company (case-insensitive), ordered by ID.
+     *
+     * @param company The company name (URL-decoded if needed)
+     * @param out Stream to write to (not closed by this method)
+     * @param format Output format
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    public void writeJobsByCompany(String company, OutputStream out, Format format) {
+        if (company == null || company.trim().isEmpty()) {
+            write(Stream.empty(), out, format);
+            return;
+        }
+        try (Stream<Job> jobs = repo.streamByCompanyKey(Job.toKey(decode(company)))) {
+            writeJobs(jobs, out, format);
+        }
+    }
+
+    /**
+     * Writes summaries of the jobs of a company (case-insensitive), ordered by ID.
+     * Only the summary columns are read from the database.
+     *
+     * @param company The company name (URL-decoded if needed)
+     * @param out Stream to write to (not closed by this method)
+     * @param format Output format
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    public void writeJobSummariesByCompany(String company, OutputStream out, Format format) {
+        if (company == null || company.trim().isEmpty()) {
+            write(Stream.empty(), out, format);
+            return;
+        }
+        try (Stream<JobSummary> jobs = repo.streamSummariesByCompanyKey(Job.toKey(decode(company)))) {
+            write(jobs.map(JobMapper::summaryToDto), out, format);
+        }
+    }
+
+    /**
+     * Writes the jobs posted by a user, ordered by ID.
+     *
+     * @param userId The ID of the user who posted the jobs
+     * @param out Stream to write to (not closed by this method)
+     * @param format Output format
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    public void writeJobsByPostedBy(Long userId, OutputStream out, Format format) {
+        if (userId == null) {
+            write(Stream.empty(), out, format);
+            return;
+        }
+        try (Stream<Job> jobs = repo.streamByPostedBy(userId)) {
+            writeJobs(jobs, out, format);
+        }
+    }
+
+    /**
+     * Writes summaries of the jobs posted by a user, ordered by ID.
+     * Only the summary columns are read from the database.
+     *
+     * @param userId The ID of the user who posted the jobs
+     * @param out Stream to write to (not closed by this method)
+     * @param format Output format
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    public void writeJobSummariesByPostedBy(Long userId, OutputStream out, Format format) {
+        if (userId == null) {
+            write(Stream.empty(), out, format);
+            return;
+        }
+        try (Stream<JobSummary> jobs = repo.streamSummariesByPostedBy(userId)) {
+            write(jobs.map(JobMapper::summaryToDto), out, format);
+        }
+    }
+
+    private void writeJobs(Stream<Job> jobs, OutputStream out, Format format) {
+        write(jobs.map(job -> {
+            JobDTO dto = JobMapper.jobEntityToDto(job);
+            // Written jobs are never needed again; keep the persistence context from growing
+            entityManager.detach(job);
+            return dto;
+        }), out, format);
+    }
+
+    private void write(Stream<?> items, OutputStream out, Format format) {
+        try (JsonGenerator generator = writer.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // NDJSON separates root values with the newline written below, not with a space
+            generator.setRootValueSeparator(null);
+            if (format == Format.JSON_ARRAY) {
+                generator.writeStartArray();
+            }
+            items.forEach(item -> writeItem(generator, item, format));
+            if (format == Format.JSON_ARRAY) {
+                generator.writeEndArray();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeItem(JsonGenerator generator, Object item, Format format) {
+        try {
+            writer.writeValue(generator, item);
+            if (format == Format.NDJSON) {
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String decode(String value) {
+        // Same handling as JobService: values that are not URL-encoded are used as-is
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
+    }
+}
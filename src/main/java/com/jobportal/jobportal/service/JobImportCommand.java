@@ -0,0 +1,133 @@
+package com.jobportal.jobportal.service;
+
+import com.jobportal.jobportal.dto.JobImportDTO;
+import com.jobportal.jobportal.entity.JobImport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command line entry point of the bulk job import.
+ *
+ * Started with {@code --import=<file>}, the application imports the file and
+ * exits (status 0 on success, 1 on failure) instead of serving requests:
+ *
+ * <pre>
+ * java -jar jobportal.jar --spring.main.web-application-type=none --import=catalog.csv
+ * </pre>
+ *
+ * The format follows the file extension (.csv, or .ndjson/.jsonl), or
+ * {@code --import-format=csv|ndjson}. The import ID defaults to the file name
+ * and its modification time, so running the same command again after a failure
+ * resumes the import; {@code --import-id=<id>} sets it explicitly. Progress is
+ * logged after every committed chunk.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class JobImportCommand implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(JobImportCommand.class);
+
+    static final String FILE_OPTION = "import";
+    static final String FORMAT_OPTION = "import-format";
+    static final String ID_OPTION = "import-id";
+
+    private final JobImportService importService;
+    private final ConfigurableApplicationContext context;
+
+    /**
+     * Constructor for JobImportCommand.
+     *
+     * @param importService The service running the import
+     * @param context The application context, closed once the import has finished
+     */
+    @Autowired
+    public JobImportCommand(JobImportService importService, ConfigurableApplicationContext context) {
+        this.importService = importService;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(FILE_OPTION)) {
+            return;
+        }
+        System.exit(SpringApplication.exit(context, () -> runImport(args)));
+    }
+
+    /**
+     * Runs the import given on the command line.
+     *
+     * @param args The command line arguments, with the import options
+     * @return The exit status: 0 if the import completed, 1 otherwise
+     */
+    int runImport(ApplicationArguments args) {
+        String id = null;
+        try {
+            Path file = Paths.get(option(args, FILE_OPTION));
+            JobImport.Format format = args.containsOption(FORMAT_OPTION)
+                ? JobImport.Format.valueOf(option(args, FORMAT_OPTION).toUpperCase(Locale.ROOT))
+                : formatOf(file);
+            id = args.containsOption(ID_OPTION) ? option(args, ID_OPTION) : defaultId(file);
+            // Decoded leniently: malformed bytes become U+FFFD and fail validation in their record only
+            try (Reader in = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)) {
+                JobImportDTO result = importService.importJobs(id, format, in, progress ->
+                    log.info("Import {}: {} records, {} imported, {} rejected",
+                        progress.getId(), progress.getRecords(), progress.getImported(), progress.getRejected()));
+                log.info("Import {} {}: {} records, {} imported, {} rejected{}", result.getId(),
+                    result.getStatus().toLowerCase(Locale.ROOT), result.getRecords(), result.getImported(),
+                    result.getRejected(), result.getRejectFile() == null ? "" : " (see " + result.getRejectFile() + ")");
+            }
+            return 0;
+        } catch (IOException | RuntimeException e) {
+            log.error("Import {} failed: {}", id, e.getMessage());
+            return 1;
+        }
+    }
+
+    private static String option(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+        if (values.size() != 1 || values.get(0).isBlank()) {
+            throw new IllegalArgumentException("Expected one value for --" + name);
+        }
+        return values.get(0);
+    }
+
+    private static JobImport.Format formatOf(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return JobImport.Format.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return JobImport.Format.NDJSON;
+        }
+        throw new IllegalArgumentException("Cannot tell the format of " + file + "; pass --" + FORMAT_OPTION);
+    }
+
+    /**
+     * The file name and modification time, so a changed file is a new import.
+     */
+    static String defaultId(Path file) throws IOException {
+        String stamp = "-" + Long.toString(Files.getLastModifiedTime(file).toMillis(), 36);
+        String name = file.getFileName().toString().replaceAll("[^A-Za-z0-9._-]", "_");
+        int maxName = JobImport.MAX_ID_LENGTH - stamp.length();
+        return (name.length() > maxName ? name.substring(0, maxName) : name) + stamp;
+    }
+}
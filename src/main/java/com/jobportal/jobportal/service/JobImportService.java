@@ -0,0 +1,622 @@
+package com.jobportal.jobportal.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.jobportal.customexceptionhandler.ValidationException;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.dto.JobImportDTO;
+import com.jobportal.jobportal.entity.JobImport;
+import com.jobportal.jobportal.entity.JobImport.ImportStatus;
+import com.jobportal.jobportal.repo.JobImportRepo;
+import com.jobportal.jobportal.util.RecordReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for bulk imports of jobs from CSV or NDJSON files of any size.
+ *
+ * An import runs as two stages connected by a bounded queue. The calling
+ * thread streams the file one record at a time, converts and validates each
+ * record, and groups the records into chunks. A thread of the import executor
+ * takes the chunks off the queue and commits each in its own transaction: the
+ * valid jobs are inserted in JDBC batches (see {@link JobService#createAll(List)})
+ * and the checkpoint of the import advances past the chunk. While a chunk is
+ * written the next ones are being parsed; when writing falls behind, the full
+ * queue stops the reader. Memory use is therefore bounded by the queue
+ * capacity and chunk size, not by the size of the file.
+ *
+ * Invalid records do not stop the import. They are appended to a reject file,
+ * one JSON object per line with the record number, the errors and the record
+ * itself, before the chunk holding them commits. A record may therefore appear
+ * twice in the reject file if an import stopped between the two.
+ *
+ * An import that fails or is interrupted is resumed by importing the same file
+ * under the same ID: the records the checkpoint marks as done are skipped.
+ * A run claims the checkpoint with a conditional update and holds it under a
+ * lease it renews with every chunk, so a second run of the same import, in
+ * this or another process, is refused while the first one is alive.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Service
+public class JobImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobImportService.class);
+
+    /** Characters kept per record; the text fields of a valid job add up to about 25,000 */
+    public static final int MAX_RECORD_LENGTH = 65_536;
+
+    /** How long a run holds an import without committing a chunk before another run may take it over */
+    static final Duration LEASE = Duration.ofMinutes(10);
+
+    /** Import IDs, which also name the reject files */
+    private static final Pattern ID_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1," + JobImport.MAX_ID_LENGTH + "}");
+
+    /** Job fields a CSV header may name; fields set by the server only are not read from JSON either */
+    private static final Set<String> JOB_FIELDS = Arrays.stream(JobDTO.class.getDeclaredFields())
+        .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isAnnotationPresent(JsonIgnore.class))
+        .map(Field::getName)
+        .collect(Collectors.toUnmodifiableSet());
+
+    /** Put on the queue after the last chunk */
+    private static final Chunk END = new Chunk();
+
+    private final JobService jobService;
+    private final JobImportRepo importRepo;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor executor;
+    private final TransactionTemplate transaction;
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final Path rejectDirectory;
+
+    /**
+     * Constructor for JobImportService.
+     *
+     * @param jobService Creates the jobs of each chunk
+     * @param importRepo Repository of the import checkpoints
+     * @param validator Checks the field constraints of each record
+     * @param objectMapper Application ObjectMapper, so records are read like request bodies
+     * @param executor Executor writing the chunks, one thread per running import
+     * @param transactionManager Transaction manager for the chunk transactions
+     * @param chunkSize Number of records committed per transaction
+     * @param queueCapacity Number of parsed chunks that may wait to be written
+     * @param rejectDirectory Directory of the reject files
+     */
+    @Autowired
+    public JobImportService(JobService jobService,
+                            JobImportRepo importRepo,
+                            Validator validator,
+                            ObjectMapper objectMapper,
+                            @Qualifier("jobImportExecutor") TaskExecutor executor,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${job.import.chunk.size:500}") int chunkSize,
+                            @Value("${job.import.queue.capacity:4}") int queueCapacity,
+                            @Value("${job.import.reject.path:./imports/rejects}") String rejectDirectory) {
+        this.jobService = jobService;
+        this.importRepo = importRepo;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
+        this.rejectDirectory = Paths.get(rejectDirectory);
+    }
+
+    /**
+     * Imports the jobs of a file, or resumes an earlier import of it.
+     *
+     * A CSV file starts with a header row naming a job field per column (as in
+     * the JSON of a job); empty cells are left unset. An NDJSON file holds one
+     * job object per line. Blank lines are ignored in both.
+     *
+     * @param importId ID of the import; an existing one is resumed, or returned as is if it
+     *                 has completed. A new random ID is used if null or blank
+     * @param format Format of the file
+     * @param in The file (not closed by this method)
+     * @param progress Notified after each committed chunk, on the writing thread
+     * @return The completed import
+     * @throws ValidationException if the ID is invalid or running already, the file's format
+     *                             differs from the one the import started with, a CSV header
+     *                             names an unknown field, or no import thread is free
+     * @throws UncheckedIOException if reading the file or writing the reject file fails
+     */
+    public JobImportDTO importJobs(String importId, JobImport.Format format, Reader in,
+                                   Consumer<JobImportDTO> progress) {
+        String id = importId == null || importId.isBlank() ? UUID.randomUUID().toString() : importId;
+        if (!ID_PATTERN.matcher(id).matches()) {
+            throw new ValidationException("Import ID must be 1 to " + JobImport.MAX_ID_LENGTH
+                + " letters, digits, '.', '_' or '-'");
+        }
+        String owner = UUID.randomUUID().toString();
+        JobImport started;
+        try {
+            started = transaction.execute(status -> start(id, format, owner));
+        } catch (DataIntegrityViolationException e) {
+            // Another run created the checkpoint first
+            throw alreadyRunning(id);
+        }
+        if (started.getStatus() == ImportStatus.COMPLETED) {
+            return toDto(started);
+        }
+        return run(started, in, progress);
+    }
+
+    /**
+     * Retrieves the progress of an import.
+     *
+     * @param importId The ID of the import
+     * @return The import, or empty if no import has that ID
+     */
+    public Optional<JobImportDTO> getImport(String importId) {
+        return importRepo.findById(importId).map(this::toDto);
+    }
+
+    /**
+     * Creates the checkpoint of a new import, or claims an existing one for this run.
+     *
+     * @throws ValidationException if the format differs or another run holds the import
+     */
+    private JobImport start(String id, JobImport.Format format, String owner) {
+        Instant now = Instant.now();
+        JobImport existing = importRepo.findById(id).orElse(null);
+        if (existing == null) {
+            return importRepo.save(JobImport.builder()
+                .id(id)
+                .format(format)
+                .status(ImportStatus.RUNNING)
+                .owner(owner)
+                .leaseUntil(now.plus(LEASE))
+                .build());
+        }
+        if (existing.getFormat() != format) {
+            throw new ValidationException("Import " + id + " was started from a " + existing.getFormat() + " file");
+        }
+        if (existing.getStatus() == ImportStatus.COMPLETED) {
+            return existing;
+        }
+        if (importRepo.claim(id, ImportStatus.RUNNING, ImportStatus.COMPLETED, owner, now, now.plus(LEASE)) == 0) {
+            throw alreadyRunning(id);
+        }
+        return importRepo.findById(id).orElseThrow();
+    }
+
+    private static ValidationException alreadyRunning(String id) {
+        return new ValidationException("Import " + id + " is already running");
+    }
+
+    private JobImportDTO run(JobImport started, Reader in, Consumer<JobImportDTO> progress) {
+        String id = started.getId();
+        String owner = started.getOwner();
+        BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(queueCapacity);
+        CompletableFuture<Void> writer;
+        try {
+            writer = CompletableFuture.runAsync(() -> write(id, owner, queue, progress), executor);
+        } catch (RejectedExecutionException e) {
+            finish(id, owner, ImportStatus.FAILED, "No import thread was free");
+            throw new ValidationException("Too many imports are running, retry later");
+        }
+        log.info("Import {} of a {} file started after record {}", id, started.getFormat(), started.getRecordsDone());
+
+        RuntimeException failure = null;
+        Chunker chunker = new Chunker(queue, writer);
+        RecordReader records = new RecordReader(in, MAX_RECORD_LENGTH);
+        try {
+            if (started.getFormat() == JobImport.Format.CSV) {
+                readCsv(records, started.getRecordsDone(), chunker);
+            } else {
+                readNdjson(records, started.getRecordsDone(), chunker);
+            }
+            chunker.flush();
+        } catch (IOException e) {
+            failure = new UncheckedIOException("Could not read the file of import " + id, e);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        try {
+            // Lets the writer commit the chunks already queued, then stop
+            chunker.send(END);
+        } catch (IllegalStateException e) {
+            failure = failure == null ? e : failure;
+        }
+        try {
+            writer.join();
+        } catch (CompletionException e) {
+            failure = e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        }
+
+        if (failure != null) {
+            log.warn("Import {} failed: {}", id, failure.getMessage());
+            try {
+                finish(id, owner, ImportStatus.FAILED, failure.getMessage());
+            } catch (RuntimeException e) {
+                failure.addSuppressed(e);
+            }
+            throw failure;
+        }
+        JobImportDTO result = finish(id, owner, ImportStatus.COMPLETED, null);
+        log.info("Import {} completed: {} records, {} imported, {} rejected",
+            id, result.getRecords(), result.getImported(), result.getRejected());
+        return result;
+    }
+
+    private void readCsv(RecordReader records, long skip, Chunker chunker) throws IOException {
+        List<String> header = records.nextCsvRecord();
+        if (header == null) {
+            return;
+        }
+        List<String> columns = new ArrayList<>(header.size());
+        for (String column : header) {
+            // A byte order mark is decoded as the first character of the file
+            columns.add((columns.isEmpty() && column.startsWith("\uFEFF") ? column.substring(1) : column).strip());
+        }
+        List<String> unknown = columns.stream().filter(column -> !JOB_FIELDS.contains(column)).toList();
+        if (!unknown.isEmpty()) {
+            throw new ValidationException("Unknown CSV columns: " + String.join(", ", unknown));
+        }
+
+        long record = 0;
+        for (List<String> fields = records.nextCsvRecord(); fields != null; fields = records.nextCsvRecord()) {
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            if (++record <= skip) {
+                continue;
+            }
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < Math.min(columns.size(), fields.size()); i++) {
+                if (!fields.get(i).isEmpty()) {
+                    values.put(columns.get(i), fields.get(i));
+                }
+            }
+            boolean accepted;
+            if (records.truncated()) {
+                accepted = chunker.reject(record, tooLong(), values);
+            } else if (fields.size() != columns.size()) {
+                accepted = chunker.reject(record,
+                    "Expected " + columns.size() + " fields but found " + fields.size(), values);
+            } else {
+                try {
+                    accepted = chunker.add(record, objectMapper.convertValue(values, JobDTO.class), values);
+                } catch (IllegalArgumentException e) {
+                    accepted = chunker.reject(record, e.getCause() instanceof JsonProcessingException cause
+                        ? describe(cause) : e.getMessage(), values);
+                }
+            }
+            if (!accepted) {
+                return;
+            }
+        }
+    }
+
+    private void readNdjson(RecordReader records, long skip, Chunker chunker) throws IOException {
+        long record = 0;
+        for (String line = records.nextLine(); line != null; line = records.nextLine()) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (++record <= skip) {
+                continue;
+            }
+            boolean accepted;
+            if (records.truncated()) {
+                accepted = chunker.reject(record, tooLong(), line);
+            } else {
+                try {
+                    JobDTO job = objectMapper.readValue(line, JobDTO.class);
+                    accepted = job == null
+                        ? chunker.reject(record, "Expected a JSON object", line)
+                        : chunker.add(record, job, line);
+                } catch (JsonProcessingException e) {
+                    accepted = chunker.reject(record, describe(e), line);
+                }
+            }
+            if (!accepted) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks a job the way a request body is checked: the field constraints,
+     * then the business rules.
+     *
+     * @param job The job
+     * @return The errors, empty if the job is valid
+     */
+    private List<String> validate(JobDTO job) {
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<JobDTO> violation : validator.validate(job)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        if (errors.isEmpty()) {
+            try {
+                JobService.validateJobBusinessRules(job);
+            } catch (ValidationException e) {
+                errors.add(e.getMessage());
+            }
+        }
+        Collections.sort(errors);
+        return errors;
+    }
+
+    /**
+     * Writes the chunks of an import until the end of the file is reached.
+     * Runs on a thread of the import executor.
+     */
+    private void write(String id, String owner, BlockingQueue<Chunk> queue, Consumer<JobImportDTO> progress) {
+        Path rejectFile = rejectFile(id);
+        BufferedWriter rejects = null;
+        try {
+            while (true) {
+                Chunk chunk = take(queue);
+                if (chunk == END) {
+                    return;
+                }
+                if (!chunk.rejects.isEmpty()) {
+                    if (rejects == null) {
+                        Files.createDirectories(rejectDirectory);
+                        rejects = Files.newBufferedWriter(rejectFile, StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                    }
+                    for (Rejected rejected : chunk.rejects) {
+                        rejects.write(objectMapper.writeValueAsString(rejected));
+                        rejects.newLine();
+                    }
+                    rejects.flush();
+                }
+                JobImport state = transaction.execute(status -> {
+                    // Locks the checkpoint first, so a run that lost the import writes nothing
+                    if (importRepo.renew(id, ImportStatus.RUNNING, owner, Instant.now().plus(LEASE)) == 0) {
+                        throw takenOver(id);
+                    }
+                    if (!chunk.jobs.isEmpty()) {
+                        jobService.createAll(chunk.jobs);
+                    }
+                    JobImport jobImport = importRepo.findById(id).orElseThrow();
+                    jobImport.advance(chunk.lastRecord, chunk.jobs.size(), chunk.rejects.size());
+                    return jobImport;
+                });
+                log.debug("Import {} committed records up to {}", id, chunk.lastRecord);
+                progress.accept(toDto(state));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the reject file of import " + id, e);
+        } finally {
+            if (rejects != null) {
+                try {
+                    rejects.close();
+                } catch (IOException e) {
+                    log.warn("Could not close the reject file of import {}", id, e);
+                }
+            }
+        }
+    }
+
+    private JobImportDTO finish(String id, String owner, ImportStatus status, String error) {
+        return transaction.execute(tx -> {
+            JobImport jobImport = importRepo.findById(id).orElseThrow();
+            if (!owner.equals(jobImport.getOwner())) {
+                throw takenOver(id);
+            }
+            jobImport.setStatus(status);
+            jobImport.setLeaseUntil(null);
+            jobImport.setLastError(error == null || error.length() <= JobImport.MAX_ERROR_LENGTH
+                ? error : error.substring(0, JobImport.MAX_ERROR_LENGTH));
+            return toDto(jobImport);
+        });
+    }
+
+    private static IllegalStateException takenOver(String id) {
+        return new IllegalStateException("Import " + id + " was taken over by another run after its lease expired");
+    }
+
+    private JobImportDTO toDto(JobImport jobImport) {
+        return JobImportDTO.builder()
+            .id(jobImport.getId())
+            .format(jobImport.getFormat().name())
+            .status(jobImport.getStatus().name())
+            .records(jobImport.getRecordsDone())
+            .imported(jobImport.getImported())
+            .rejected(jobImport.getRejected())
+            .rejectFile(jobImport.getRejected() > 0 ? rejectFile(jobImport.getId()).toString() : null)
+            .lastError(jobImport.getLastError())
+            .startedAt(jobImport.getCreatedAt())
+            .updatedAt(jobImport.getUpdatedAt())
+            .build();
+    }
+
+    private Path rejectFile(String id) {
+        return rejectDirectory.resolve(id + ".rejects.ndjson");
+    }
+
+    private static String tooLong() {
+        return "Record exceeds " + MAX_RECORD_LENGTH + " characters";
+    }
+
+    /**
+     * Describes why a record could not be read as a job, naming the field if known.
+     * Syntax errors count as malformed JSON even when Jackson wraps them with the
+     * path of the field being read when the record ended.
+     */
+    private static String describe(JsonProcessingException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JsonParseException parse) {
+                return "Malformed JSON: " + parse.getOriginalMessage();
+            }
+        }
+        if (e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            String field = mapping.getPath().get(mapping.getPath().size() - 1).getFieldName();
+            if (field != null) {
+                return field + ": " + mapping.getOriginalMessage();
+            }
+        }
+        return "Malformed JSON: " + e.getOriginalMessage();
+    }
+
+    private static Chunk take(BlockingQueue<Chunk> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        }
+    }
+
+    /**
+     * Groups the records read into chunks and hands full chunks to the writer.
+     */
+    private final class Chunker {
+
+        private final BlockingQueue<Chunk> queue;
+        private final CompletableFuture<Void> writer;
+        private Chunk chunk = new Chunk();
+
+        Chunker(BlockingQueue<Chunk> queue, CompletableFuture<Void> writer) {
+            this.queue = queue;
+            this.writer = writer;
+        }
+
+        /**
+         * Adds a job read from a record, or rejects the record if the job is invalid.
+         *
+         * @return false if the writer has stopped and reading should stop too
+         */
+        boolean add(long record, JobDTO job, Object source) {
+            List<String> errors = validate(job);
+            if (errors.isEmpty()) {
+                chunk.jobs.add(job);
+                return next(record);
+            }
+            chunk.rejects.add(new Rejected(record, errors, source));
+            return next(record);
+        }
+
+        /**
+         * Rejects a record that could not be read as a job.
+         *
+         * @return false if the writer has stopped and reading should stop too
+         */
+        boolean reject(long record, String error, Object source) {
+            chunk.rejects.add(new Rejected(record, List.of(error), source));
+            return next(record);
+        }
+
+        /**
+         * Hands the last, partly filled chunk to the writer.
+         */
+        void flush() {
+            if (chunk.size() > 0) {
+                send(chunk);
+                chunk = new Chunk();
+            }
+        }
+
+        private boolean next(long record) {
+            chunk.lastRecord = record;
+            if (chunk.size() < chunkSize) {
+                return true;
+            }
+            boolean sent = send(chunk);
+            chunk = new Chunk();
+            return sent;
+        }
+
+        /**
+         * Puts a chunk on the queue, waiting while it is full.
+         *
+         * @return false if the writer has stopped, so the chunk will never be written
+         */
+        boolean send(Chunk next) {
+            if (writer.isDone()) {
+                return false;
+            }
+            try {
+                while (!queue.offer(next, 100, TimeUnit.MILLISECONDS)) {
+                    if (writer.isDone()) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // Drop the queued chunks (they are not committed, so a resumed import reads them again)
+                // and make room for the end marker, so the writer stops
+                queue.clear();
+                queue.offer(END);
+                throw new IllegalStateException("Import interrupted", e);
+            }
+        }
+    }
+
+    /**
+     * Records read and checked together, committed in one transaction.
+     */
+    private static final class Chunk {
+        final List<JobDTO> jobs = new ArrayList<>();
+        final List<Rejected> rejects = new ArrayList<>();
+        long lastRecord;
+
+        int size() {
+            return jobs.size() + rejects.size();
+        }
+    }
+
+    /**
+     * A line of the reject file.
+     *
+     * @param record Number of the record in the file, counting from 1 and skipping the CSV header and blank lines
+     * @param errors Why the record was rejected
+     * @param source The record: the fields of a CSV row or the line of an NDJSON file
+     */
+    private record Rejected(long record, List<String> errors, Object source) {
+    }
+}
@@ -0,0 +1,325 @@
+package com.jobportal.jobportal.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobportal.jobportal.dto.CursorPageDTO;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.dto.JobSummaryDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.event.JobChangedEvent;
+import com.jobportal.jobportal.event.JobIndexesRebuiltEvent;
+import com.jobportal.jobportal.repo.JobStamp;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Result cache of the job listings every visitor asks for: the first page
+ * of /active in both views, and the jobs at a location. Company listings are
+ * streamed from the database by {@link JobExportService} and not cached.
+ *
+ * Results are held in a Caffeine cache (W-TinyLFU admission and eviction)
+ * bounded by the total number of jobs they contain, so a few large listings
+ * cannot crowd out memory unnoticed. A missing result is loaded by exactly one
+ * caller while concurrent callers for the same result wait for it.
+ *
+ * Listings are dropped once a job write commits, precisely: the active
+ * listings when the job is or was active, and the listings of the job's
+ * location before and after the change. Each listing has a
+ * version that is part of its cache keys; a write bumps it, so a load that
+ * read the old data and finishes after the write lands under a key nobody
+ * asks for anymore. Versions are only recorded by writes and are forgotten
+ * twice the result lifetime after the last one, when no result loaded before
+ * that write can still be cached; reads never add one, so requests for
+ * arbitrary locations cannot grow the heap. Entries also expire
+ * after a while, so rows changed outside the application are eventually
+ * picked up. Hit and miss counts are published as the job.listings cache
+ * metrics.
+ *
+ * Results are stored as unmodifiable lists and every caller gets its own
+ * copy of the page and of each DTO, so a caller changing what it got cannot
+ * change what later callers see.
+ *
+ * The cache also holds the catalog stamp the listing validators (ETags) are
+ * built from, with a generation counter advanced after every applied change.
+ * Its listener runs after the in-memory indexes are updated, so a response
+ * built while any of them still showed the old data carries an older
+ * generation than every response built after. A rebuild of the indexes
+ * advances it too.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Component
+public class JobListingCache {
+
+    private final Cache<Key, Object> results;
+    private final Map<Listing, Long> versions;
+    /** Part of every key; advanced when a change may affect any listing */
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Instant changedAt = Instant.now();
+
+    /**
+     * Constructor for JobListingCache.
+     *
+     * @param maxJobs Total number of jobs held across all cached results
+     * @param ttlMillis How long a result is kept without a write dropping it, in milliseconds
+     * @param meterRegistry Registry the cache statistics are published to
+     */
+    @Autowired
+    public JobListingCache(@Value("${job.listing.cache.max.jobs:20000}") long maxJobs,
+                           @Value("${job.listing.cache.ttl:600000}") long ttlMillis,
+                           MeterRegistry meterRegistry) {
+        this.results = Caffeine.newBuilder()
+            .maximumWeight(maxJobs)
+            .weigher((Key key, Object result) -> Math.max(1, jobCount(result)))
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .recordStats()
+            .build();
+        this.versions = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(ttlMillis).multipliedBy(2))
+            .<Listing, Long>build()
+            .asMap();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "job.listings");
+    }
+
+    /**
+     * Returns the first page of active jobs, loading it if not cached.
+     *
+     * @param size The effective page size
+     * @param loader Reads the page from the database
+     * @return The first page
+     */
+    public CursorPageDTO<JobDTO> firstActiveJobsPage(int size, Supplier<CursorPageDTO<JobDTO>> loader) {
+        return get(Listing.ACTIVE, "jobs:" + size, loader);
+    }
+
+    /**
+     * Returns the first page of active job summaries, loading it if not cached.
+     *
+     * @param size The effective page size
+     * @param loader Reads the page from the database
+     * @return The first page
+     */
+    public CursorPageDTO<JobSummaryDTO> firstActiveJobSummariesPage(int size,
+                                                                    Supplier<CursorPageDTO<JobSummaryDTO>> loader) {
+        return get(Listing.ACTIVE, "summaries:" + size, loader);
+    }
+
+    /**
+     * Returns the jobs at a location, loading them if not cached.
+     *
+     * @param locationKey The normalized location, see {@link Job#toKey(String)}
+     * @param loader Reads the location's jobs from the database
+     * @return The location's jobs
+     */
+    public List<JobDTO> jobsByLocation(String locationKey, Supplier<List<JobDTO>> loader) {
+        return get(Listing.location(locationKey), "jobs", loader);
+    }
+
+    /**
+     * Returns the job summaries at a location, loading them if not cached.
+     *
+     * @param locationKey The normalized location, see {@link Job#toKey(String)}
+     * @param loader Reads the location's job summaries from the database
+     * @return The location's job summaries
+     */
+    public List<JobSummaryDTO> jobSummariesByLocation(String locationKey, Supplier<List<JobSummaryDTO>> loader) {
+        return get(Listing.location(locationKey), "summaries", loader);
+    }
+
+    /**
+     * Returns the stamp of the whole job catalog, loading it if not cached.
+     *
+     * @param loader Reads the stamp from the database
+     * @return The catalog stamp
+     */
+    public JobStamp catalogStamp(Supplier<JobStamp> loader) {
+        return get(Listing.CATALOG, "stamp", loader);
+    }
+
+    /**
+     * Returns the number of job changes applied since startup.
+     *
+     * @return The generation, advanced once every cached view reflects a change
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Returns when this instance last applied a job change, or its startup time.
+     * Unlike the latest updatedAt, this also moves on deletion.
+     *
+     * @return Time of the latest applied change
+     */
+    public Instant changedAt() {
+        return changedAt;
+    }
+
+    /**
+     * Returns the number of cached results.
+     *
+     * @return Number of results currently held
+     */
+    public long size() {
+        results.cleanUp();
+        return results.estimatedSize();
+    }
+
+    /**
+     * Drops the listings a committed job change can affect.
+     * Runs directly if the change was published outside a transaction.
+     *
+     * @param event The job change
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.type() != JobChangedEvent.ChangeType.CREATED && event.previous() == null) {
+            // Nothing is known about what the job looked like before the change
+            epoch.incrementAndGet();
+            results.invalidateAll();
+        } else {
+            Set<Listing> affected = new HashSet<>();
+            affected.add(Listing.CATALOG);
+            addListingsOf(event.previous(), affected);
+            addListingsOf(event.job(), affected);
+            for (Listing listing : affected) {
+                versions.merge(listing, 1L, Long::sum);
+            }
+            results.asMap().keySet().removeIf(key -> affected.contains(key.listing()));
+        }
+        changedAt = Instant.now();
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Advances the generation once the in-memory indexes are rebuilt, so
+     * responses built from the partly filled indexes are no longer current.
+     *
+     * @param event The end of the rebuild
+     */
+    @EventListener
+    public void onIndexesRebuilt(JobIndexesRebuiltEvent event) {
+        changedAt = Instant.now();
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of listings with a recorded version.
+     *
+     * @return Number of versions held
+     */
+    long versionCount() {
+        return versions.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Listing listing, String variant, Supplier<T> loader) {
+        Key key = new Key(listing, variant, epoch.get(), versions.getOrDefault(listing, 0L));
+        return (T) copy(results.get(key, ignored -> freeze(loader.get())));
+    }
+
+    /**
+     * Makes the lists of a loaded result unmodifiable before it is stored.
+     */
+    private static Object freeze(Object result) {
+        if (result instanceof CursorPageDTO<?> page) {
+            return new CursorPageDTO<>(List.copyOf(page.getItems()), page.getNextCursor(), page.getSize(),
+                page.isHasMore());
+        }
+        if (result instanceof List<?> list) {
+            return List.copyOf(list);
+        }
+        return result;
+    }
+
+    /**
+     * Copies a stored result for one caller: the page, and each job in it.
+     * The catalog stamp is a record and is shared as it is.
+     */
+    private static Object copy(Object result) {
+        if (result instanceof CursorPageDTO<?> page) {
+            return new CursorPageDTO<>(copyItems(page.getItems()), page.getNextCursor(), page.getSize(),
+                page.isHasMore());
+        }
+        if (result instanceof List<?> list) {
+            return copyItems(list);
+        }
+        return result;
+    }
+
+    private static List<Object> copyItems(List<?> items) {
+        List<Object> copies = new ArrayList<>(items.size());
+        for (Object item : items) {
+            if (item instanceof JobDTO job) {
+                copies.add(job.toBuilder().build());
+            } else if (item instanceof JobSummaryDTO summary) {
+                copies.add(summary.toBuilder().build());
+            } else {
+                copies.add(item);
+            }
+        }
+        return copies;
+    }
+
+    private static void addListingsOf(JobDTO job, Set<Listing> affected) {
+        if (job == null) {
+            return;
+        }
+        if (job.getStatus() == Job.JobStatus.ACTIVE) {
+            affected.add(Listing.ACTIVE);
+        }
+        affected.add(Listing.location(Job.toKey(job.getLocation())));
+    }
+
+    private static int jobCount(Object result) {
+        if (result instanceof CursorPageDTO<?> page) {
+            return page.getItems().size();
+        }
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+        return 1;
+    }
+
+    /**
+     * A set of jobs whose results are cached and dropped together.
+     */
+    private record Listing(String kind, String value) {
+
+        static final Listing ACTIVE = new Listing("active", "");
+        static final Listing CATALOG = new Listing("catalog", "");
+
+        static Listing location(String locationKey) {
+            return new Listing("location", locationKey);
+        }
+    }
+
+    /**
+     * One cached result: a variant (view, page size) of a listing at a version.
+     */
+    private record Key(Listing listing, String variant, long epoch, long version) {
+    }
+}
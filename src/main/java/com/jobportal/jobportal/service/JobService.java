@@ -2,24 +2,65 @@ package com.jobportal.jobportal.service;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jobportal.jobportal.customexceptionhandler.JobNotFoundException;
 import com.jobportal.jobportal.customexceptionhandler.ValidationException;
+import com.jobportal.jobportal.dto.CursorPageDTO;
 import com.jobportal.jobportal.dto.JobDTO;
 import com.jobportal.jobportal.dto.JobDetailDTO;
+import com.jobportal.jobportal.dto.JobFacetsDTO;
+import com.jobportal.jobportal.dto.JobSearchCriteria;
+import com.jobportal.jobportal.dto.JobSummaryDTO;
 import com.jobportal.jobportal.dto.MatchFactorDTO;
+import com.jobportal.jobportal.dto.PageResponseDTO;
+import com.jobportal.jobportal.dto.RecommendedJobDTO;
 import com.jobportal.jobportal.dto.SimilarJobDTO;
+import com.jobportal.jobportal.dto.SuggestionDTO;
 import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.event.JobChangedEvent;
 import com.jobportal.jobportal.mapper.JobMapper;
+import com.jobportal.jobportal.match.CandidateProfile;
+import com.jobportal.jobportal.match.RankedJob;
 import com.jobportal.jobportal.repo.JobRepo;
+import com.jobportal.jobportal.repo.JobSkill;
+import com.jobportal.jobportal.repo.JobSpecifications;
+import com.jobportal.jobportal.repo.JobStamp;
+import com.jobportal.jobportal.repo.JobSummary;
+import com.jobportal.jobportal.search.InvertedIndex;
+import com.jobportal.jobportal.search.JobFacetIndex;
+import com.jobportal.jobportal.search.JobSkillIndex;
+import com.jobportal.jobportal.search.JobSuggestIndex;
+import com.jobportal.jobportal.search.JobTextIndex;
+import com.jobportal.jobportal.search.SimilarJobsIndex;
+import com.jobportal.jobportal.search.SkillTagger;
+import com.jobportal.jobportal.util.JobCursor;
+import com.jobportal.jobportal.util.RankCursor;
 
 /**
  * Service class for Job entity operations.
@@ -33,16 +74,81 @@ import com.jobportal.jobportal.repo.JobRepo;
 @Transactional(readOnly = true)
 public class JobService {
 
+    /** Page size used when the client does not request one */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** Upper bound on the page size, enforced regardless of what the client requests */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** Maximum number of ranked full-text hits considered for one search request */
+    public static final int MAX_TEXT_HITS = 1000;
+
+    /** Number of similar jobs shown on the job detail page */
+    public static final int SIMILAR_JOBS_LIMIT = 5;
+
+    /** Number of typeahead suggestions returned when the client does not request a limit */
+    public static final int DEFAULT_SUGGESTIONS = 10;
+
+    /** Upper bound on the number of typeahead suggestions per request */
+    public static final int MAX_SUGGESTIONS = 50;
+
+    /** Job attributes that search results may be sorted by */
+    private static final Set<String> SORTABLE_FIELDS =
+        Set.of("createdAt", "updatedAt", "title", "company", "salaryMin", "salaryMax", "salary");
+
+    /** Sort field ordering jobs by pay across currencies, backed by the normalized salary */
+    private static final String SALARY_SORT_FIELD = "salary";
+
     private final JobRepo repo;
+    private final JobTextIndex textIndex;
+    private final JobFacetIndex facetIndex;
+    private final SimilarJobsIndex similarJobsIndex;
+    private final JobSkillIndex skillIndex;
+    private final JobSuggestIndex suggestIndex;
+    private final SkillService skillService;
+    private final SkillTagger skillTagger;
+    private final SalaryNormalizer salaryNormalizer;
+    private final MatchService matchService;
+    private final JobListingCache listingCache;
+    private final JobDetailCache detailCache;
+    private final ApplicationEventPublisher events;
     
     /**
      * Constructor for JobService.
      * 
      * @param repo The Job repository for database operations
+     * @param textIndex The in-memory full-text index of active jobs
+     * @param facetIndex The in-memory facet bitmaps of active jobs
+     * @param similarJobsIndex The precomputed similar-jobs graph of active jobs
+     * @param skillIndex The skill bitsets of active jobs
+     * @param suggestIndex The typeahead tries over active jobs
+     * @param skillService The skill dictionary maintained alongside job skills
+     * @param skillTagger Finds the skills mentioned in job descriptions and requirements
+     * @param salaryNormalizer Converts salaries to the base currency for filtering and sorting
+     * @param matchService Scores candidates against jobs
+     * @param listingCache Result cache of the active and location listings
+     * @param detailCache Off-heap cache of the serialized job details
+     * @param events Publisher for job change events consumed by indexes and caches
      */
     @Autowired
-    public JobService(JobRepo repo) {
+    public JobService(JobRepo repo, JobTextIndex textIndex, JobFacetIndex facetIndex,
+                      SimilarJobsIndex similarJobsIndex, JobSkillIndex skillIndex, JobSuggestIndex suggestIndex,
+                      SkillService skillService, SkillTagger skillTagger, SalaryNormalizer salaryNormalizer,
+                      MatchService matchService, JobListingCache listingCache, JobDetailCache detailCache,
+                      ApplicationEventPublisher events) {
         this.repo = repo;
+        this.textIndex = textIndex;
+        this.facetIndex = facetIndex;
+        this.similarJobsIndex = similarJobsIndex;
+        this.skillIndex = skillIndex;
+        this.suggestIndex = suggestIndex;
+        this.skillService = skillService;
+        this.skillTagger = skillTagger;
+        this.salaryNormalizer = salaryNormalizer;
+        this.matchService = matchService;
+        this.listingCache = listingCache;
+        this.detailCache = detailCache;
+        this.events = events;
     }
     
     /**
@@ -59,8 +165,56 @@ public class JobService {
     public JobDTO create(JobDTO jobDto) {
         validateJobBusinessRules(jobDto);
         Job entity = JobMapper.dtoToEntity(jobDto);
+        entity.setSkillIds(skillIdsOf(jobDto));
+        entity.setNormalizedSalary(normalizedSalaryOf(jobDto));
         Job saved = repo.save(entity);
-        return JobMapper.jobEntityToDto(saved);
+        JobDTO result = withSkillIds(JobMapper.jobEntityToDto(saved), saved);
+        events.publishEvent(new JobChangedEvent(result.getId(), JobChangedEvent.ChangeType.CREATED, result, null));
+        return result;
+    }
+
+    /**
+     * Creates many jobs in a single transaction.
+     * 
+     * The whole batch is validated before anything is written, so either every
+     * job is created or none is. The rows are then inserted in JDBC batches
+     * (see {@link JobRepo#insertAll(List)}), with IDs drawn from pooled blocks
+     * instead of one INSERT round trip per job.
+     * 
+     * @param jobDtos The jobs to create, in order. Each must be valid.
+     * @return The created jobs, in the same order
+     * @throws ValidationException if any job breaks a business rule; the message names each failing job by position
+     */
+    @Transactional
+    public List<JobDTO> createAll(List<JobDTO> jobDtos) {
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < jobDtos.size(); i++) {
+            try {
+                validateJobBusinessRules(jobDtos.get(i));
+            } catch (ValidationException e) {
+                errors.add("jobs[" + i + "]: " + e.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(String.join("; ", errors));
+        }
+        
+        List<Job> entities = new ArrayList<>(jobDtos.size());
+        for (JobDTO jobDto : jobDtos) {
+            Job entity = JobMapper.dtoToEntity(jobDto);
+            // Always new rows: an ID sent by the client is ignored
+            entity.setId(null);
+            entity.setSkillIds(skillIdsOf(jobDto));
+            entity.setNormalizedSalary(normalizedSalaryOf(jobDto));
+            entities.add(entity);
+        }
+        List<JobDTO> results = new ArrayList<>(entities.size());
+        for (Job saved : repo.insertAll(entities)) {
+            JobDTO result = withSkillIds(JobMapper.jobEntityToDto(saved), saved);
+            events.publishEvent(new JobChangedEvent(result.getId(), JobChangedEvent.ChangeType.CREATED, result, null));
+            results.add(result);
+        }
+        return results;
     }
 
     /**
@@ -76,6 +230,67 @@ public class JobService {
             .orElseThrow(() -> new JobNotFoundException(id));
     }
 
+    /**
+     * Returns the version of a single job, read without loading the job itself.
+     * 
+     * Read before the job when answering a request, so the response is never
+     * older than the version it is tagged with.
+     * 
+     * @param id The ID of the job
+     * @return The job's version, or empty if the job does not exist
+     */
+    public Optional<JobVersion> getJobVersion(Long id) {
+        return repo.findStampById(id)
+            .map(stamp -> new JobVersion("j" + id + "-" + micros(stamp.lastModified()), stamp.lastModified()));
+    }
+
+    /**
+     * Returns the version of the anonymous detail of a job.
+     * 
+     * The detail shows the job, similar jobs from the catalog, and when the job
+     * was posted relative to now ("3 days ago"), so the version combines the
+     * job's and the catalog's with the period in which that text stays the
+     * same: it moves on when the text next changes even if no job does.
+     * 
+     * @param id The ID of the job
+     * @return The version of the job's detail, or empty if the job does not exist
+     */
+    public Optional<JobVersion> getJobDetailVersion(Long id) {
+        JobVersion catalog = getCatalogVersion();
+        return getJobVersion(id).map(job -> {
+            Instant postedAt = repo.findCreatedAtById(id).orElse(null);
+            Instant postedAtChangesAt = JobMapper.postedAtChangesAt(postedAt);
+            Instant postedAtChangedAt = JobMapper.postedAtChangedAt(postedAt);
+            String tag = job.tag() + "." + catalog.tag()
+                + (postedAtChangesAt == null ? "" : ".p" + postedAtChangesAt.getEpochSecond());
+            Instant lastModified = latest(job.lastModified(), catalog.lastModified());
+            return new JobVersion(tag, postedAtChangedAt == null ? lastModified : latest(lastModified, postedAtChangedAt));
+        });
+    }
+
+    /**
+     * Returns the version of the whole job catalog, which every listing,
+     * search result and similar-jobs list is built from.
+     * 
+     * Combines the latest updatedAt and the number of jobs with the number of
+     * job changes and index rebuilds this instance has applied, so a listing
+     * served from an index that had not caught up with a write, or was still
+     * being built, is never tagged as current. The last-modified time also
+     * moves on deletions.
+     * 
+     * @return The catalog version
+     */
+    public JobVersion getCatalogVersion() {
+        long generation = listingCache.generation();
+        Instant changedAt = listingCache.changedAt();
+        JobStamp stamp = listingCache.catalogStamp(repo::findCatalogStamp);
+        Instant lastModified = stamp.lastModified() == null || stamp.lastModified().isBefore(changedAt)
+            ? changedAt
+            : stamp.lastModified();
+        return new JobVersion("c" + generation + "-" + micros(stamp.lastModified()) + "-" + stamp.count(),
+            lastModified);
+    }
+
     /**
      * Retrieves job detail by ID with match score and similar jobs.
      * 
@@ -94,17 +309,18 @@ public class JobService {
      * @throws JobNotFoundException if job is not found
      */
     public JobDetailDTO getJobDetailById(Long id, Long userId) {
-        Job job = repo.findById(id)
+        // One query for the job and its content (none when cached), one for the similar jobs
+        Job job = repo.findWithContentById(id)
             .orElseThrow(() -> new JobNotFoundException(id));
         
-        // Calculate match score (stub for now - can be enhanced with AI)
-        Integer matchScore = calculateMatchScore(job, userId);
-        
-        // Get match factors (stub for now - can be enhanced with AI)
-        List<MatchFactorDTO> matchFactors = getMatchFactors(job, userId);
+        // Match score and the factors explaining it, from the user's profile (built once)
+        Optional<CandidateProfile> profile = matchService.findProfile(userId);
+        Integer matchScore = profile.map(candidate -> matchService.score(candidate, job)).orElse(0);
+        List<MatchFactorDTO> matchFactors = profile.map(candidate -> matchService.factors(candidate, job))
+            .orElse(Collections.emptyList());
         
         // Get similar jobs
-        List<SimilarJobDTO> similarJobs = getSimilarJobs(job.getId(), 5);
+        List<SimilarJobDTO> similarJobs = getSimilarJobs(job, SIMILAR_JOBS_LIMIT);
         
         // Check if job is saved (stub for now - can be enhanced with saved jobs tracking)
         Boolean saved = false; // TODO: Implement saved jobs tracking
@@ -113,41 +329,96 @@ public class JobService {
     }
 
     /**
-     * Retrieves all jobs in the system.
+     * Retrieves the anonymous job detail as gzipped JSON, ready to be sent.
      * 
-     * @return List of JobDTO objects for all jobs
+     * Rendered and serialized once per job, then served from the off-heap
+     * detail cache until the job or one of its similar jobs changes.
+     * 
+     * @param id The ID of the job to retrieve
+     * @return The gzipped JSON of the job detail, as returned for a request without userId
+     * @throws JobNotFoundException if job is not found
      */
-    public List<JobDTO> getAllJobs() {
-        return repo.findAll().stream()
-            .map(JobMapper::jobEntityToDto)
-            .toList();
+    public byte[] getJobDetailGzip(Long id) {
+        return detailCache.gzipped(id, () -> renderJobDetail(id));
     }
 
     /**
-     * Retrieves jobs by company name (case-insensitive).
+     * Retrieves the job detail as JSON, ready to be sent.
      * 
-     * This method uses case-insensitive search to find jobs by company name.
-     * The company parameter is URL-decoded to handle URL-encoded values.
+     * The cached anonymous detail is reused; for a user, their match score,
+     * match factors and saved flag are put in place of the anonymous ones.
      * 
-     * @param company The company name to search for (case-insensitive, URL-decoded)
-     * @return List of JobDTO objects for jobs with the specified company name
+     * @param id The ID of the job to retrieve
+     * @param userId The ID of the user viewing the job (for match score calculation, can be null)
+     * @return The JSON of the job detail, the same as {@link #getJobDetailById(Long, Long)} serialized
+     * @throws JobNotFoundException if job is not found
      */
-    public List<JobDTO> getJobsByCompany(String company) {
-        if (company == null || company.trim().isEmpty()) {
-            return Collections.emptyList();
-        }
-        // URL decode the company name to handle URL-encoded values
-        // If decoding fails (not URL-encoded), use the original value
-        String decodedCompany = company;
-        try {
-            decodedCompany = URLDecoder.decode(company, StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            // Not URL-encoded, use original value
-            decodedCompany = company;
+    public byte[] getJobDetailJson(Long id, Long userId) {
+        if (userId == null) {
+            return detailCache.json(id, () -> renderJobDetail(id));
         }
-        return repo.findByCompanyIgnoreCase(decodedCompany).stream()
-            .map(JobMapper::jobEntityToDto)
-            .toList();
+        return detailCache.json(id, userId, () -> renderJobDetail(id), () -> {
+            Optional<CandidateProfile> profile = matchService.findProfile(userId);
+            if (profile.isEmpty()) {
+                return new JobDetailCache.Overlay(0, Collections.emptyList(), false);
+            }
+            Job job = repo.findById(id)
+                .orElseThrow(() -> new JobNotFoundException(id));
+            // Saved jobs are not tracked yet, see getJobDetailById
+            return new JobDetailCache.Overlay(matchService.score(profile.get(), job),
+                matchService.factors(profile.get(), job), false);
+        });
+    }
+
+    private JobDetailCache.Rendering renderJobDetail(Long id) {
+        Job job = repo.findWithContentById(id)
+            .orElseThrow(() -> new JobNotFoundException(id));
+        JobDetailDTO detail = JobMapper.toJobDetailDTO(job, 0, Collections.emptyList(),
+            getSimilarJobs(job, SIMILAR_JOBS_LIMIT), false);
+        return new JobDetailCache.Rendering(detail, JobMapper.postedAtChangesAt(job.getCreatedAt()));
+    }
+
+    /**
+     * Retrieves one page of all jobs using keyset (cursor) pagination.
+     * 
+     * Jobs are ordered newest first. Each page is fetched with an index seek past
+     * the last row of the previous page, so latency and memory use stay flat
+     * however deep the client pages.
+     * 
+     * @param cursor Opaque cursor returned with the previous page, or null for the first page
+     * @param size Requested page size; null uses the default and values above the cap are clamped
+     * @return CursorPageDTO containing the page of jobs and the cursor for the next page
+     * @throws ValidationException if the cursor is malformed or the size is not positive
+     */
+    public CursorPageDTO<JobDTO> getJobsPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+        List<Job> rows = after == null
+            ? repo.findFirstPage(limit)
+            : repo.findPageAfter(after.createdAt(), after.id(), limit);
+        return toCursorPage(rows, pageSize, JobMapper::jobEntityToDto,
+            job -> new JobCursor(job.getCreatedAt(), job.getId()));
+    }
+
+    /**
+     * Retrieves one page of job summaries using keyset (cursor) pagination.
+     * Same paging as {@link #getJobsPage(String, Integer)} without the long text fields.
+     * 
+     * @param cursor Opaque cursor returned with the previous page, or null for the first page
+     * @param size Requested page size; null uses the default and values above the cap are clamped
+     * @return CursorPageDTO containing the page of job summaries and the cursor for the next page
+     * @throws ValidationException if the cursor is malformed or the size is not positive
+     */
+    public CursorPageDTO<JobSummaryDTO> getJobSummariesPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+        List<JobSummary> rows = after == null
+            ? repo.findFirstSummaryPage(limit)
+            : repo.findSummaryPageAfter(after.createdAt(), after.id(), limit);
+        return toCursorPage(rows, pageSize, JobMapper::summaryToDto,
+            job -> new JobCursor(job.createdAt(), job.id()));
     }
 
     /**
@@ -155,6 +426,7 @@ public class JobService {
      * 
      * This method uses case-insensitive search to find jobs by location.
      * The location parameter is URL-decoded to handle URL-encoded values.
+     * Served from {@link JobListingCache}.
      * 
      * @param location The location to search for (case-insensitive, URL-decoded)
      * @return List of JobDTO objects for jobs with the specified location
@@ -172,9 +444,59 @@ public class JobService {
             // Not URL-encoded, use original value
             decodedLocation = location;
         }
-        return repo.findByLocationIgnoreCase(decodedLocation).stream()
+        String locationKey = Job.toKey(decodedLocation);
+        return listingCache.jobsByLocation(locationKey, () -> repo.findByLocationKey(locationKey).stream()
             .map(JobMapper::jobEntityToDto)
-            .toList();
+            .toList());
+    }
+
+    /**
+     * Retrieves summaries of jobs by location (case-insensitive).
+     * 
+     * @param location The location to search for (case-insensitive, URL-decoded)
+     * @return List of JobSummaryDTO objects for jobs with the specified location
+     */
+    public List<JobSummaryDTO> getJobSummariesByLocation(String location) {
+        if (location == null || location.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        String decodedLocation = location;
+        try {
+            decodedLocation = URLDecoder.decode(location, StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            // Not URL-encoded, use original value
+            decodedLocation = location;
+        }
+        String locationKey = Job.toKey(decodedLocation);
+        return listingCache.jobSummariesByLocation(locationKey, () -> repo.findSummariesByLocationKey(locationKey)
+            .stream()
+            .map(JobMapper::summaryToDto)
+            .toList());
+    }
+
+    /**
+     * Retrieves summaries of active jobs requiring a skill (case-insensitive), newest first.
+     * 
+     * @param skill The skill to search for (case-insensitive, URL-decoded)
+     * @return List of JobSummaryDTO objects for active jobs requiring the skill;
+     *         empty if no job uses the skill
+     */
+    public List<JobSummaryDTO> getJobSummariesBySkill(String skill) {
+        if (skill == null || skill.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        String decodedSkill = skill;
+        try {
+            decodedSkill = URLDecoder.decode(skill, StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            // Not URL-encoded, use original value
+            decodedSkill = skill;
+        }
+        return skillService.findId(decodedSkill)
+            .map(skillId -> repo.findSummariesBySkillIdAndStatus(skillId, Job.JobStatus.ACTIVE).stream()
+                .map(JobMapper::summaryToDto)
+                .toList())
+            .orElse(Collections.emptyList());
     }
 
     /**
@@ -193,41 +515,298 @@ public class JobService {
     }
 
     /**
-     * Retrieves all active jobs.
+     * Retrieves summaries of jobs by job type.
      * 
-     * @return List of JobDTO objects for all active jobs
+     * @param jobType The job type to search for
+     * @return List of JobSummaryDTO objects for jobs with the specified job type
      */
-    public List<JobDTO> getActiveJobs() {
-        return repo.findByStatus(Job.JobStatus.ACTIVE).stream()
-            .map(JobMapper::jobEntityToDto)
+    public List<JobSummaryDTO> getJobSummariesByJobType(Job.JobType jobType) {
+        if (jobType == null) {
+            return Collections.emptyList();
+        }
+        return repo.findSummariesByJobType(jobType).stream()
+            .map(JobMapper::summaryToDto)
             .toList();
     }
 
     /**
-     * Retrieves jobs posted by a specific user.
+     * Retrieves one page of active jobs using keyset (cursor) pagination.
      * 
-     * This method returns all jobs posted by the user with the specified ID.
-     * Useful for "My Job Postings" functionality.
+     * The first page, requested by every visitor, is served from {@link JobListingCache}.
      * 
-     * @param userId The ID of the user who posted the jobs
-     * @return List of JobDTO objects for jobs posted by the specified user
+     * @param cursor Opaque cursor returned with the previous page, or null for the first page
+     * @param size Requested page size; null uses the default and values above the cap are clamped
+     * @return CursorPageDTO containing the page of active jobs and the cursor for the next page
+     * @throws ValidationException if the cursor is malformed or the size is not positive
      */
-    public List<JobDTO> getJobsByPostedBy(Long userId) {
-        if (userId == null) {
-            return Collections.emptyList();
+    public CursorPageDTO<JobDTO> getActiveJobsPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+        if (after == null) {
+            return listingCache.firstActiveJobsPage(pageSize, () -> toCursorPage(
+                repo.findFirstPageByStatus(Job.JobStatus.ACTIVE, limit), pageSize, JobMapper::jobEntityToDto,
+                job -> new JobCursor(job.getCreatedAt(), job.getId())));
         }
-        return repo.findByPostedBy(userId).stream()
-            .map(JobMapper::jobEntityToDto)
+        List<Job> rows = repo.findPageByStatusAfter(Job.JobStatus.ACTIVE, after.createdAt(), after.id(), limit);
+        return toCursorPage(rows, pageSize, JobMapper::jobEntityToDto,
+            job -> new JobCursor(job.getCreatedAt(), job.getId()));
+    }
+
+    /**
+     * Retrieves one page of active jobs like {@link #getActiveJobsPage(String, Integer)},
+     * with the skill IDs of each job from job_skills, for building the job indexes.
+     * 
+     * @param cursor Opaque cursor returned with the previous page, or null for the first page
+     * @param size Requested page size; null uses the default and values above the cap are clamped
+     * @return CursorPageDTO containing the page of active jobs with their skill IDs
+     * @throws ValidationException if the cursor is malformed or the size is not positive
+     */
+    public CursorPageDTO<JobDTO> getActiveJobsPageWithSkillIds(String cursor, Integer size) {
+        CursorPageDTO<JobDTO> page = getActiveJobsPage(cursor, size);
+        if (page.getItems().isEmpty()) {
+            return page;
+        }
+        Map<Long, Set<Integer>> skillIds = new HashMap<>();
+        List<Long> jobIds = page.getItems().stream().map(JobDTO::getId).toList();
+        for (JobSkill row : repo.findSkillIdsByJobIdIn(jobIds)) {
+            skillIds.computeIfAbsent(row.jobId(), ignored -> new HashSet<>()).add(row.skillId());
+        }
+        for (JobDTO job : page.getItems()) {
+            job.setSkillIds(skillIds.getOrDefault(job.getId(), Set.of()));
+        }
+        return page;
+    }
+
+    /**
+     * Retrieves one page of active job summaries using keyset (cursor) pagination.
+     * 
+     * The first page, requested by every visitor, is served from {@link JobListingCache}.
+     * 
+     * @param cursor Opaque cursor returned with the previous page, or null for the first page
+     * @param size Requested page size; null uses the default and values above the cap are clamped
+     * @return CursorPageDTO containing the page of active job summaries and the cursor for the next page
+     * @throws ValidationException if the cursor is malformed or the size is not positive
+     */
+    public CursorPageDTO<JobSummaryDTO> getActiveJobSummariesPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        JobCursor after = JobCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+        if (after == null) {
+            return listingCache.firstActiveJobSummariesPage(pageSize, () -> toCursorPage(
+                repo.findFirstSummaryPageByStatus(Job.JobStatus.ACTIVE, limit), pageSize, JobMapper::summaryToDto,
+                job -> new JobCursor(job.createdAt(), job.id())));
+        }
+        List<JobSummary> rows = repo.findSummaryPageByStatusAfter(Job.JobStatus.ACTIVE,
+            after.createdAt(), after.id(), limit);
+        return toCursorPage(rows, pageSize, JobMapper::summaryToDto,
+            job -> new JobCursor(job.createdAt(), job.id()));
+    }
+
+    /**
+     * Searches jobs by any combination of attributes in a single query.
+     * 
+     * All supplied criteria (status, category, jobType, workMode, experienceLevel,
+     * location, salary range, normalized salary, postedBy) are combined with AND and evaluated by the
+     * database, so the work and response size grow with the number of matches
+     * rather than with the size of the whole catalog.
+     * 
+     * Results are sorted by the requested field (createdAt, updatedAt, title, company,
+     * salaryMin, salaryMax, or salary for pay in the base currency) with the job ID as a
+     * tie-breaker; newest first by default.
+     * When a free-text query (q) is supplied, the in-memory BM25 index ranks the active
+     * jobs instead and the other criteria filter the ranked hits.
+     * 
+     * @param criteria The search criteria and paging parameters. Can be null (matches all jobs).
+     * @return PageResponseDTO containing the requested page of matching jobs
+     * @throws ValidationException if the paging, sort or salary parameters are invalid
+     */
+    public PageResponseDTO<JobDTO> searchJobs(JobSearchCriteria criteria) {
+        return search(criteria,
+            (spec, pageable) -> repo.findAll(spec, pageable).map(JobMapper::jobEntityToDto),
+            ids -> repo.findAllById(ids).stream().map(JobMapper::jobEntityToDto).toList(),
+            JobDTO::getId);
+    }
+
+    /**
+     * Searches jobs like {@link #searchJobs(JobSearchCriteria)} but returns summaries.
+     * 
+     * Only the summary columns are selected, so the long text columns are neither
+     * read from the database nor sent to the client.
+     * 
+     * @param criteria The search criteria and paging parameters. Can be null (matches all jobs).
+     * @return PageResponseDTO containing the requested page of matching job summaries
+     * @throws ValidationException if the paging, sort or salary parameters are invalid
+     */
+    public PageResponseDTO<JobSummaryDTO> searchJobSummaries(JobSearchCriteria criteria) {
+        return search(criteria,
+            (spec, pageable) -> repo.findSummaries(spec, pageable).map(JobMapper::summaryToDto),
+            ids -> repo.findSummariesByIdIn(ids).stream().map(JobMapper::summaryToDto).toList(),
+            JobSummaryDTO::getId);
+    }
+
+    /**
+     * Runs a search, loading rows through the given queries.
+     * 
+     * @param criteria The search criteria. Can be null.
+     * @param byFilter Loads a page of rows matching a specification
+     * @param byIds Loads the rows with the given IDs, in any order
+     * @param idOf Extracts the job ID of a row
+     * @return PageResponseDTO containing the requested page of rows
+     */
+    private <T> PageResponseDTO<T> search(JobSearchCriteria criteria,
+                                          BiFunction<Specification<Job>, Pageable, Page<T>> byFilter,
+                                          Function<Collection<Long>, List<T>> byIds,
+                                          Function<T, Long> idOf) {
+        JobSearchCriteria effective = criteria != null ? criteria : new JobSearchCriteria();
+        int pageSize = resolvePageSize(effective.getSize());
+        int pageNumber = effective.getPage() != null ? effective.getPage() : 0;
+        if (pageNumber < 0) {
+            throw new ValidationException("Page number must not be negative");
+        }
+        validateSalaryFilters(effective);
+        if (effective.getQ() != null && !effective.getQ().isBlank()) {
+            return searchByText(effective, pageNumber, pageSize, byIds, idOf);
+        }
+        Pageable pageable = PageRequest.of(pageNumber, pageSize, resolveSort(effective.getSort()));
+        Page<T> result = byFilter.apply(JobSpecifications.fromCriteria(effective), pageable);
+        return PageResponseDTO.<T>builder()
+            .items(result.getContent())
+            .page(result.getNumber())
+            .size(pageSize)
+            .totalElements(result.getTotalElements())
+            .totalPages(result.getTotalPages())
+            .build();
+    }
+
+    /**
+     * Runs a free-text search against the in-memory index and pages over the ranked hits.
+     * 
+     * Only the requested page of jobs is loaded, by ID. With filters, the ranked
+     * candidates are first narrowed by one database query that selects just the
+     * IDs of the candidates matching them, and relevance order is preserved.
+     * 
+     * @param criteria The search criteria (q must be present)
+     * @param pageNumber Zero-based page number
+     * @param pageSize Effective page size
+     * @param byIds Loads the rows with the given IDs, in any order
+     * @param idOf Extracts the job ID of a row
+     * @return PageResponseDTO of matching rows in relevance order
+     */
+    private <T> PageResponseDTO<T> searchByText(JobSearchCriteria criteria, int pageNumber, int pageSize,
+                                                Function<Collection<Long>, List<T>> byIds,
+                                                Function<T, Long> idOf) {
+        List<Long> rankedIds = textIndex.search(criteria.getQ(), MAX_TEXT_HITS).stream()
+            .map(InvertedIndex.Hit::key)
+            .toList();
+
+        List<Long> matchingIds = rankedIds;
+        if (!rankedIds.isEmpty() && hasStructuredFilters(criteria)) {
+            Set<Long> filtered = new HashSet<>(repo.findIds(
+                JobSpecifications.fromCriteria(criteria).and(JobSpecifications.idIn(rankedIds))));
+            matchingIds = rankedIds.stream().filter(filtered::contains).toList();
+        }
+
+        int from = (int) Math.min((long) pageNumber * pageSize, matchingIds.size());
+        int to = Math.min(from + pageSize, matchingIds.size());
+        List<Long> pageIds = matchingIds.subList(from, to);
+        Map<Long, T> loaded = pageIds.isEmpty()
+            ? Collections.emptyMap()
+            : byIds.apply(pageIds).stream().collect(Collectors.toMap(idOf, Function.identity()));
+
+        List<T> items = pageIds.stream()
+            .map(loaded::get)
+            .filter(Objects::nonNull)
+            .toList();
+        return PageResponseDTO.<T>builder()
+            .items(items)
+            .page(pageNumber)
+            .size(pageSize)
+            .totalElements(matchingIds.size())
+            .totalPages((matchingIds.size() + pageSize - 1) / pageSize)
+            .build();
+    }
+
+    /**
+     * Counts active jobs per location, workMode, jobType, experienceLevel and category.
+     * 
+     * Counts are computed from in-memory bitmaps without querying the database.
+     * Each facet is counted with all supplied filters applied except its own, so a
+     * selected value does not hide its alternatives. When a free-text query (q) is
+     * supplied, every job matching it is counted, not only the top ranked hits
+     * a search returns.
+     * 
+     * @param criteria The search filter (paging and sort are ignored). Can be null (counts all active jobs).
+     * @return JobFacetsDTO with the total number of matches and the counts per facet value
+     * @throws ValidationException if a status other than ACTIVE is requested or salaryBetween is invalid
+     */
+    public JobFacetsDTO getFacetCounts(JobSearchCriteria criteria) {
+        JobSearchCriteria effective = criteria != null ? criteria : new JobSearchCriteria();
+        if (effective.getStatus() != null && effective.getStatus() != Job.JobStatus.ACTIVE) {
+            throw new ValidationException("Facet counts are only available for active jobs");
+        }
+        validateSalaryFilters(effective);
+        List<Long> candidateIds = null;
+        if (effective.getQ() != null && !effective.getQ().isBlank()) {
+            // Every hit, not only the top MAX_TEXT_HITS the search ranks, so the counts add up to the total
+            candidateIds = textIndex.matchingIds(effective.getQ());
+        }
+        return facetIndex.count(effective, candidateIds);
+    }
+
+    /**
+     * Suggests completions of a partially typed title, company, location or skill.
+     * 
+     * Answered from in-memory tries over the active jobs without querying the
+     * database; values carried by more jobs come first.
+     * 
+     * @param field "title", "company", "location" or "skill" (case-insensitive)
+     * @param prefix The typed text (case-insensitive). Can be null or empty for the most common values.
+     * @param limit Maximum number of suggestions (can be null; defaults to 10, capped at 50)
+     * @return Matching values with the number of active jobs carrying each
+     * @throws ValidationException if the field is unknown or the limit is not positive
+     */
+    // No transaction: a read-only one would borrow and prepare a connection on every keystroke
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SuggestionDTO> suggest(String field, String prefix, Integer limit) {
+        JobSuggestIndex.Field suggestField = JobSuggestIndex.Field.from(field);
+        int effectiveLimit = DEFAULT_SUGGESTIONS;
+        if (limit != null) {
+            if (limit < 1) {
+                throw new ValidationException("Limit must be at least 1");
+            }
+            effectiveLimit = Math.min(limit, MAX_SUGGESTIONS);
+        }
+        return suggestIndex.suggest(suggestField, prefix, effectiveLimit).stream()
+            .map(suggestion -> new SuggestionDTO(suggestion.value(), suggestion.weight()))
             .toList();
     }
 
+    /**
+     * Tells whether a search needs filtering beyond what the text index already
+     * guarantees (the index only holds active jobs).
+     */
+    private boolean hasStructuredFilters(JobSearchCriteria criteria) {
+        return (criteria.getStatus() != null && criteria.getStatus() != Job.JobStatus.ACTIVE)
+            || criteria.getCategory() != null
+            || criteria.getJobType() != null
+            || criteria.getWorkMode() != null
+            || criteria.getExperienceLevel() != null
+            || criteria.getLocation() != null
+            || criteria.getMinSalary() != null
+            || criteria.getMaxSalary() != null
+            || criteria.getSalaryAtLeast() != null
+            || criteria.getSalaryBetween() != null
+            || criteria.getPostedBy() != null;
+    }
+
     /**
      * Retrieves similar jobs for a given job.
      * 
-     * This method finds jobs that are similar to the given job based on:
-     * - Same category (if available)
-     * - Same job type (if available)
-     * - Active status only
+     * Active jobs are answered from the precomputed similar-jobs graph, which
+     * ranks other active jobs by overlap of skills, category and job type
+     * (at most {@link SimilarJobsIndex#NEIGHBORS_PER_JOB} jobs). Other jobs fall
+     * back to a database query for active jobs with the same category and job type.
      * 
      * Results are limited to the specified number and ordered by relevance.
      * Each similar job is converted to a SimilarJobDTO with a match percentage.
@@ -237,23 +816,31 @@ public class JobService {
      * @return List of SimilarJobDTO objects for similar jobs (up to limit)
      */
     public List<SimilarJobDTO> getSimilarJobs(Long jobId, int limit) {
-        if (jobId == null) {
+        if (jobId == null || limit <= 0) {
             return Collections.emptyList();
         }
         
-        Job job = repo.findById(jobId)
-            .orElseThrow(() -> new JobNotFoundException(jobId));
-        
-        // Find similar jobs based on category and job type
+        return similarJobsIndex.findSimilar(jobId, limit)
+            .orElseGet(() -> findSimilarJobs(repo.findById(jobId)
+                .orElseThrow(() -> new JobNotFoundException(jobId)), limit));
+    }
+
+    private List<SimilarJobDTO> getSimilarJobs(Job job, int limit) {
+        return similarJobsIndex.findSimilar(job.getId(), limit)
+            .orElseGet(() -> findSimilarJobs(job, limit));
+    }
+
+    private List<SimilarJobDTO> findSimilarJobs(Job job, int limit) {
+        // Find similar jobs based on category and job type; ordering and limit are applied in SQL
         List<Job> similarJobs = repo.findSimilarJobs(
-            jobId,
+            job.getId(),
             job.getCategory(),
-            job.getJobType()
+            job.getJobType(),
+            PageRequest.ofSize(limit)
         );
         
-        // Limit results and convert to SimilarJobDTO
+        // Convert to SimilarJobDTO
         return similarJobs.stream()
-            .limit(limit)
             .map(similarJob -> {
                 // Calculate match percentage (stub - can be enhanced)
                 int matchPercentage = calculateSimilarityMatch(job, similarJob);
@@ -271,83 +858,104 @@ public class JobService {
     /**
      * Calculates the match score between a job and a user's profile.
      * 
-     * This is a stub method that returns a default match score.
-     * Can be enhanced with AI/ML algorithms to calculate actual match scores
-     * based on user skills, experience, education, etc.
+     * Compares the user's skills, experience and education level, preferred
+     * location and work mode with the job; see {@link com.jobportal.jobportal.match.MatchScorer}.
      * 
      * @param job The job to calculate match score for
      * @param userId The ID of the user (can be null)
-     * @return Match score (0-100), or 0 if userId is null
+     * @return Match score (0-100), or 0 if userId is null or the user does not exist
      */
     public Integer calculateMatchScore(Job job, Long userId) {
         if (userId == null || job == null) {
             return 0; // No user provided, return 0 match score
         }
-        
-        // TODO: Implement actual match score calculation
-        // This can be enhanced with:
-        // - User skills vs job requirements
-        // - User experience vs job experience level
-        // - User education vs job education requirements
-        // - User location preferences vs job location
-        // - Machine learning algorithms for better matching
-        
-        // Stub implementation: Return a default score
-        // In a real implementation, this would:
-        // 1. Fetch user profile and resume
-        // 2. Compare user skills with job skills
-        // 3. Compare user experience with job experience level
-        // 4. Calculate weighted match score
-        
-        return 75; // Default match score (stub)
+        return matchService.findProfile(userId)
+            .map(profile -> matchService.score(profile, job))
+            .orElse(0);
     }
 
     /**
      * Calculates match factors explaining the match score.
      * 
-     * This is a stub method that returns default match factors.
-     * Can be enhanced with AI/ML algorithms to calculate actual match factors
-     * based on user skills, experience, education, etc.
+     * Returns one factor per job skill (scored 1 if the user has the skill),
+     * followed by experience level, education, location and work mode,
+     * wherever both the user and the job provide a value.
      * 
      * @param job The job to calculate match factors for
      * @param userId The ID of the user (can be null)
      * @return List of MatchFactorDTO objects explaining the match score
      */
     public List<MatchFactorDTO> getMatchFactors(Job job, Long userId) {
-        if (userId == null || job == null || job.getSkills() == null) {
+        if (userId == null || job == null) {
             return Collections.emptyList();
         }
-        
-        // TODO: Implement actual match factor calculation
-        // This can be enhanced with:
-        // - User skills vs job skills comparison
-        // - Skill weight calculation based on job requirements
-        // - Experience level matching
-        // - Education level matching
-        // - Location preference matching
-        
-        // Stub implementation: Return default match factors based on job skills
-        List<MatchFactorDTO> factors = new ArrayList<>();
-        
-        if (job.getSkills() != null && !job.getSkills().trim().isEmpty()) {
-            String[] skills = job.getSkills().split(",");
-            double weightPerSkill = 1.0 / skills.length; // Equal weight for each skill
-            
-            for (String skill : skills) {
-                String trimmedSkill = skill.trim();
-                if (!trimmedSkill.isEmpty()) {
-                    // Stub: Default score of 0.8 for each skill (80% match)
-                    // In a real implementation, this would compare with user skills
-                    factors.add(MatchFactorDTO.builder()
-                        .label(trimmedSkill)
-                        .weight(weightPerSkill)
-                        .score(0.8) // Default score (stub)
-                        .build());
-                }
+        return matchService.findProfile(userId)
+            .map(profile -> matchService.factors(profile, job))
+            .orElse(Collections.emptyList());
+    }
+
+    /**
+     * Scores a user against every active job in one request,
+     * for the match badges of job lists.
+     * 
+     * @param userId The ID of the user
+     * @return Match score (0-100) by job ID
+     * @throws com.jobportal.jobportal.customexceptionhandler.UserNotFoundException if the user does not exist
+     */
+    public Map<Long, Integer> getMatchScores(Long userId) {
+        return matchService.getMatchScores(userId);
+    }
+
+    /**
+     * Retrieves the active jobs best matching a user, one page at a time.
+     * 
+     * Pages walk the user's cached ranking (best first, ties broken by the
+     * higher ID), so only the summaries of one page are read from the database.
+     * Jobs closed since the ranking was computed are left out.
+     * 
+     * @param userId The ID of the user
+     * @param cursor Opaque cursor from the previous page, or null for the first page
+     * @param size Requested page size (null for the default)
+     * @return CursorPageDTO containing recommended jobs with their match score
+     * @throws com.jobportal.jobportal.customexceptionhandler.UserNotFoundException if the user does not exist
+     * @throws ValidationException if the cursor or page size is invalid
+     */
+    public CursorPageDTO<RecommendedJobDTO> getRecommendedJobs(Long userId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        RankCursor after = RankCursor.decode(cursor);
+        List<RankedJob> ranked = matchService.getRecommendations(userId);
+
+        int start = 0;
+        if (after != null) {
+            while (start < ranked.size() && !after.isBefore(ranked.get(start).score(), ranked.get(start).jobId())) {
+                start++;
             }
         }
-        
-        return factors;
+        int end = Math.min(ranked.size(), start + pageSize);
+        List<RankedJob> page = ranked.subList(start, end);
+        boolean hasMore = end < ranked.size();
+
+        Map<Long, JobSummary> summaries = repo.findSummariesByIdIn(page.stream().map(RankedJob::jobId).toList())
+            .stream()
+            .collect(Collectors.toMap(JobSummary::id, Function.identity()));
+        List<RecommendedJobDTO> items = page.stream()
+            .filter(entry -> {
+                JobSummary summary = summaries.get(entry.jobId());
+                return summary != null && summary.status() == Job.JobStatus.ACTIVE;
+            })
+            .map(entry -> RecommendedJobDTO.builder()
+                .job(JobMapper.summaryToDto(summaries.get(entry.jobId())))
+                .matchScore(entry.score())
+                .build())
+            .toList();
+
+        RankedJob last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CursorPageDTO.<RecommendedJobDTO>builder()
+            .items(items)
+            .nextCursor(hasMore && last != null ? new RankCursor(last.score(), last.jobId()).encode() : null)
+            .size(pageSize)
+            .hasMore(hasMore)
+            .build();
     }
 
     /**
@@ -384,18 +992,16 @@ public class JobService {
             }
         }
         
-        // Compare skills (partial match)
+        // Compare skills (partial match), as popcount over the skill bitsets
         if (job1.getSkills() != null && job2.getSkills() != null) {
             totalFactors++;
-            List<String> skills1 = JobMapper.skillsToKeywords(job1.getSkills());
-            List<String> skills2 = JobMapper.skillsToKeywords(job2.getSkills());
-            
-            long commonSkills = skills1.stream()
-                .filter(skills2::contains)
-                .count();
+            long[] skills1 = skillIndex.bitsetOf(job1.getId(), job1.getSkills());
+            long[] skills2 = skillIndex.bitsetOf(job2.getId(), job2.getSkills());
             
-            if (!skills1.isEmpty()) {
-                double skillMatchRatio = (double) commonSkills / skills1.size();
+            int skillCount = JobSkillIndex.cardinality(skills1);
+            if (skillCount > 0) {
+                int commonSkills = JobSkillIndex.intersectionCount(skills1, skills2);
+                double skillMatchRatio = (double) commonSkills / skillCount;
                 matchScore += (int)(skillMatchRatio * 30); // Skills match contributes up to 30%
             }
         }
@@ -413,24 +1019,173 @@ public class JobService {
         validateJobBusinessRules(dto);
         Job existing = repo.findById(id)
             .orElseThrow(() -> new JobNotFoundException(id));
+        JobDTO previous = JobMapper.jobEntityToDto(existing);
         
         JobMapper.apply(dto, existing);
-        return JobMapper.jobEntityToDto(repo.save(existing));
+        // Set explicitly: a change to the text fields alone only dirties the job's content
+        existing.setUpdatedAt(Instant.now());
+        existing.setNormalizedSalary(normalizedSalaryOf(dto));
+        Set<Integer> skillIds = skillIdsOf(dto);
+        existing.getSkillIds().retainAll(skillIds);
+        existing.getSkillIds().addAll(skillIds);
+        Job saved = repo.save(existing);
+        JobDTO result = withSkillIds(JobMapper.jobEntityToDto(saved), saved);
+        events.publishEvent(new JobChangedEvent(id, JobChangedEvent.ChangeType.UPDATED, result, previous));
+        return result;
     }
 
     @Transactional
     public void delete(Long id) {
-        if (!repo.existsById(id)) throw new JobNotFoundException(id);
-        repo.deleteById(id);
+        Job existing = repo.findById(id)
+            .orElseThrow(() -> new JobNotFoundException(id));
+        JobDTO previous = JobMapper.jobEntityToDto(existing);
+        repo.delete(existing);
+        events.publishEvent(new JobChangedEvent(id, JobChangedEvent.ChangeType.DELETED, null, previous));
+    }
+
+    /**
+     * Converts a timestamp to microseconds since the epoch, the precision it is stored with.
+     * 
+     * @param instant The timestamp, or null
+     * @return Microseconds since the epoch, or 0 for null
+     */
+    private static long micros(Instant instant) {
+        return instant == null ? 0 : instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    /** Sets the skill IDs persisted with a saved job on its DTO. */
+    private static JobDTO withSkillIds(JobDTO dto, Job saved) {
+        dto.setSkillIds(Set.copyOf(saved.getSkillIds()));
+        return dto;
+    }
+
+    /**
+     * Collects the skill IDs of a job: the skills typed in its skills field,
+     * added to the dictionary if new, and the dictionary skills mentioned in
+     * its description and requirements.
+     * 
+     * @param dto The job data
+     * @return Mutable set of the skill IDs
+     */
+    private Set<Integer> skillIdsOf(JobDTO dto) {
+        Set<Integer> skillIds = new HashSet<>(skillService.resolve(dto.getSkills()));
+        skillIds.addAll(skillTagger.tag(dto.getDescription(), dto.getRequirements()));
+        return skillIds;
+    }
+
+    /**
+     * Converts the salary of a job to the base currency.
+     * 
+     * @param dto The job data
+     * @return Top of the salary range in the base currency, or null if it cannot be compared
+     */
+    private Long normalizedSalaryOf(JobDTO dto) {
+        return salaryNormalizer.normalize(dto.getSalaryMin(), dto.getSalaryMax(), dto.getSalaryCurrency());
+    }
+
+    /**
+     * Checks the salary filters of a search request.
+     * 
+     * @param criteria The search criteria
+     * @throws ValidationException if salaryBetween is not two amounts, lowest first
+     */
+    private void validateSalaryFilters(JobSearchCriteria criteria) {
+        List<Long> range = criteria.getSalaryBetween();
+        if (range != null && (range.size() != 2 || range.stream().anyMatch(Objects::isNull) || range.get(0) > range.get(1))) {
+            throw new ValidationException("salaryBetween must be two amounts, lowest first (e.g. 80000,120000)");
+        }
+    }
+
+    /**
+     * Resolves the effective page size for a paginated request.
+     * 
+     * @param size The page size requested by the client (can be null)
+     * @return The default size if none was requested, otherwise the size capped at MAX_PAGE_SIZE
+     * @throws ValidationException if the requested size is not positive
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new ValidationException("Page size must be at least 1");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Parses a "field,direction" sort expression into a Sort.
+     * 
+     * Only whitelisted fields are accepted so clients cannot sort by unindexed
+     * LOB columns. The job ID is always appended as a tie-breaker to make the
+     * order stable across pages. "salary" sorts by the normalized salary, so
+     * jobs paid in different currencies are ranked together.
+     * 
+     * @param sort The sort expression (e.g. "salaryMax,desc"). Can be null for newest first.
+     * @return The resolved Sort
+     * @throws ValidationException if the field or direction is not supported
+     */
+    private Sort resolveSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        }
+        String[] parts = sort.split(",");
+        String field = parts[0].trim();
+        if (!SORTABLE_FIELDS.contains(field)) {
+            throw new ValidationException("Cannot sort by '" + field + "'. Allowed fields: " + SORTABLE_FIELDS);
+        }
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length > 1) {
+            String requested = parts[1].trim().toUpperCase(Locale.ROOT);
+            if (!requested.equals("ASC") && !requested.equals("DESC")) {
+                throw new ValidationException("Sort direction must be 'asc' or 'desc'");
+            }
+            direction = Sort.Direction.valueOf(requested);
+        }
+        String attribute = field.equals(SALARY_SORT_FIELD) ? "normalizedSalary" : field;
+        return Sort.by(new Sort.Order(direction, attribute), new Sort.Order(direction, "id"));
+    }
+
+    /**
+     * Builds a cursor page from rows fetched with one extra row of look-ahead.
+     * 
+     * The repository is asked for pageSize + 1 rows; the presence of the extra row
+     * tells whether another page follows without issuing a separate count query.
+     * 
+     * @param rows The fetched rows (at most pageSize + 1)
+     * @param pageSize The effective page size
+     * @param mapper Function converting a row to the item type returned to the client
+     * @param cursorOf Function extracting the keyset position of a row
+     * @return CursorPageDTO with at most pageSize items
+     */
+    private <R, T> CursorPageDTO<T> toCursorPage(List<R> rows, int pageSize,
+                                                 Function<R, T> mapper,
+                                                 Function<R, JobCursor> cursorOf) {
+        boolean hasMore = rows.size() > pageSize;
+        List<R> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore && !page.isEmpty()
+            ? cursorOf.apply(page.get(page.size() - 1)).encode()
+            : null;
+        return CursorPageDTO.<T>builder()
+            .items(page.stream().map(mapper).toList())
+            .nextCursor(nextCursor)
+            .size(pageSize)
+            .hasMore(hasMore)
+            .build();
     }
 
     /**
      * Validates business rules for job creation/update.
+     * Also used by JobImportService to reject records before they reach a chunk.
      * 
      * @param jobDto The job data to validate
      * @throws ValidationException if validation fails
      */
-    private void validateJobBusinessRules(JobDTO jobDto) {
+    static void validateJobBusinessRules(JobDTO jobDto) {
         // Validate salary range
         if (jobDto.getSalaryMin() != null && jobDto.getSalaryMax() != null) {
             if (jobDto.getSalaryMin().compareTo(jobDto.getSalaryMax()) >= 0) {
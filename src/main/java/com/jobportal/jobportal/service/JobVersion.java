@@ -0,0 +1,17 @@
+package com.jobportal.jobportal.service;
+
+import java.time.Instant;
+
+/**
+ * Validator of a job response: an opaque tag that changes whenever the
+ * response would, and the time it last changed. Used for the ETag and
+ * Last-Modified headers of conditional GET requests.
+ *
+ * @param tag Opaque version tag, safe to put inside a quoted ETag
+ * @param lastModified When the underlying jobs last changed
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record JobVersion(String tag, Instant lastModified) {
+}
@@ -0,0 +1,140 @@
+package com.jobportal.jobportal.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobportal.jobportal.customexceptionhandler.UserNotFoundException;
+import com.jobportal.jobportal.dto.MatchFactorDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.entity.User;
+import com.jobportal.jobportal.match.CandidateProfile;
+import com.jobportal.jobportal.match.MatchEngine;
+import com.jobportal.jobportal.match.MatchScorer;
+import com.jobportal.jobportal.match.RankedJob;
+import com.jobportal.jobportal.match.RecommendationCache;
+import com.jobportal.jobportal.repo.ResumeContentRepo;
+import com.jobportal.jobportal.repo.UserRepo;
+
+/**
+ * Service class for matching candidates to jobs.
+ *
+ * Builds a candidate's profile (skills, experience and education level,
+ * preferred location and work mode) from their user record, adding the skills
+ * extracted from their primary resume, and scores it
+ * against jobs with {@link MatchScorer}, one job at a time or against the
+ * whole active catalog through {@link MatchEngine}.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class MatchService {
+
+    /** Number of best matching jobs ranked per user; recommendations page through these */
+    public static final int RECOMMENDATIONS_LIMIT = 200;
+
+    private final UserRepo userRepo;
+    private final ResumeContentRepo resumeContentRepo;
+    private final SkillService skillService;
+    private final MatchEngine engine;
+    private final RecommendationCache recommendationCache;
+
+    /**
+     * Constructor for MatchService.
+     *
+     * @param userRepo Repository the candidate profiles are read from
+     * @param resumeContentRepo Repository of the skills extracted from resumes
+     * @param skillService The skill dictionary used to build skill bitsets
+     * @param engine The precomputed vectors of the active jobs
+     * @param recommendationCache Short-lived cache of each user's ranking
+     */
+    @Autowired
+    public MatchService(UserRepo userRepo, ResumeContentRepo resumeContentRepo, SkillService skillService,
+                        MatchEngine engine, RecommendationCache recommendationCache) {
+        this.userRepo = userRepo;
+        this.resumeContentRepo = resumeContentRepo;
+        this.skillService = skillService;
+        this.engine = engine;
+        this.recommendationCache = recommendationCache;
+    }
+
+    /**
+     * Builds the profile of a candidate.
+     *
+     * @param userId The ID of the user
+     * @return The profile, or empty if the user does not exist
+     */
+    public Optional<CandidateProfile> findProfile(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return userRepo.findById(userId).map(this::profileOf);
+    }
+
+    /**
+     * Scores a user against every active job in one pass.
+     *
+     * @param userId The ID of the user
+     * @return Match score (0-100) by job ID
+     * @throws UserNotFoundException if the user does not exist
+     */
+    public Map<Long, Integer> getMatchScores(Long userId) {
+        CandidateProfile profile = findProfile(userId)
+            .orElseThrow(() -> new UserNotFoundException(userId));
+        return engine.scoreAll(profile);
+    }
+
+    /**
+     * Ranks the active jobs for a user and returns the best ones.
+     *
+     * The ranking is cached for a short time per user, and dropped when the
+     * user's profile or primary resume changes.
+     *
+     * @param userId The ID of the user
+     * @return Up to {@link #RECOMMENDATIONS_LIMIT} jobs with a score above 0, best first
+     * @throws UserNotFoundException if the user does not exist
+     */
+    public List<RankedJob> getRecommendations(Long userId) {
+        return recommendationCache.get(userId, () -> {
+            CandidateProfile profile = findProfile(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+            return engine.topMatches(profile, RECOMMENDATIONS_LIMIT);
+        });
+    }
+
+    /**
+     * Scores a candidate against one job.
+     *
+     * @param profile The candidate
+     * @param job The job
+     * @return Match score (0-100)
+     */
+    public int score(CandidateProfile profile, Job job) {
+        return MatchScorer.score(profile, engine.vectorOf(job));
+    }
+
+    /**
+     * Explains the score of a candidate against one job.
+     *
+     * @param profile The candidate
+     * @param job The job
+     * @return Factors with their weight and score, job skills first
+     */
+    public List<MatchFactorDTO> factors(CandidateProfile profile, Job job) {
+        return MatchScorer.factors(profile, engine.vectorOf(job), skillService::nameOf);
+    }
+
+    private CandidateProfile profileOf(User user) {
+        String skills = resumeContentRepo.findSkillsOfPrimaryResume(user.getId())
+            .map(resumeSkills -> user.getSkills() == null ? resumeSkills : user.getSkills() + ", " + resumeSkills)
+            .orElse(user.getSkills());
+        return CandidateProfile.of(skillService.bitsetOf(skills), user.getExperienceLevel(),
+            user.getEducationLevel(), user.getPreferredLocation(), user.getPreferredWorkMode());
+    }
+}
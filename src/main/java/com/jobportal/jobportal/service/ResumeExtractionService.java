@@ -0,0 +1,218 @@
+package com.jobportal.jobportal.service;
+
+import com.jobportal.jobportal.entity.Resume;
+import com.jobportal.jobportal.entity.ResumeContent;
+import com.jobportal.jobportal.entity.ResumeContent.ExtractionStatus;
+import com.jobportal.jobportal.event.CandidateProfileChangedEvent;
+import com.jobportal.jobportal.event.ResumeUploadedEvent;
+import com.jobportal.jobportal.repo.ResumeContentRepo;
+import com.jobportal.jobportal.resume.ResumeAnalysis;
+import com.jobportal.jobportal.resume.ResumeAnalyzer;
+import com.jobportal.jobportal.resume.ResumeTextExtractor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Service class for the background extraction of resume content.
+ *
+ * An uploaded resume is queued on a bounded executor once its upload commits.
+ * Each attempt claims the resume in a short transaction, parses the file with
+ * no transaction open, and stores the result (or the error) in another short
+ * transaction. Failed attempts are retried with exponential backoff by a
+ * scheduled sweep, which also picks up work the executor rejected and attempts
+ * lost to a restart.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Service
+public class ResumeExtractionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeExtractionService.class);
+
+    /** How long an attempt may run before another one may claim the resume */
+    static final Duration PROCESSING_LEASE = Duration.ofMinutes(10);
+
+    /** Maximum number of due resumes queued per sweep */
+    static final int RETRY_BATCH_SIZE = 50;
+
+    private final ResumeContentRepo contentRepo;
+    private final ResumeTextExtractor extractor;
+    private final ResumeAnalyzer analyzer;
+    private final TaskExecutor executor;
+    private final TransactionTemplate transaction;
+    private final ApplicationEventPublisher events;
+    private final int maxAttempts;
+    private final Duration retryInterval;
+
+    /**
+     * Constructor for ResumeExtractionService.
+     *
+     * @param contentRepo Repository of the extracted content and its status
+     * @param extractor Reads the text of a resume file
+     * @param analyzer Finds sections, skills and tokens in the text
+     * @param executor Bounded executor running the extractions
+     * @param transactionManager Transaction manager for the claim and result transactions
+     * @param events Publisher notifying matching when a primary resume's skills change
+     * @param maxAttempts Number of attempts before a resume is left FAILED
+     * @param retryIntervalMillis Delay before the first retry, doubled for each further one
+     */
+    @Autowired
+    public ResumeExtractionService(ResumeContentRepo contentRepo,
+                                   ResumeTextExtractor extractor,
+                                   ResumeAnalyzer analyzer,
+                                   @Qualifier("resumeExtractionExecutor") TaskExecutor executor,
+                                   PlatformTransactionManager transactionManager,
+                                   ApplicationEventPublisher events,
+                                   @Value("${resume.extraction.max.attempts:3}") int maxAttempts,
+                                   @Value("${resume.extraction.retry.interval:60000}") long retryIntervalMillis) {
+        this.contentRepo = contentRepo;
+        this.extractor = extractor;
+        this.analyzer = analyzer;
+        this.executor = executor;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.events = events;
+        this.maxAttempts = maxAttempts;
+        this.retryInterval = Duration.ofMillis(retryIntervalMillis);
+    }
+
+    /**
+     * Queues the extraction of a resume once its upload has committed.
+     *
+     * @param event The upload
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResumeUploaded(ResumeUploadedEvent event) {
+        submit(event.resumeId());
+    }
+
+    /**
+     * Queues the resumes due for an attempt: failed ones whose backoff has
+     * elapsed, pending ones the executor rejected, and lost attempts. A lost
+     * attempt that was the last one allowed leaves its resume FAILED.
+     */
+    @Scheduled(initialDelayString = "${resume.extraction.retry.interval:60000}",
+               fixedDelayString = "${resume.extraction.retry.interval:60000}")
+    public void retryDue() {
+        Integer abandoned = transaction.execute(status -> contentRepo.failAbandoned(ExtractionStatus.PROCESSING,
+            ExtractionStatus.FAILED, maxAttempts, "Extraction did not finish within " + PROCESSING_LEASE.toMinutes()
+                + " minutes", Instant.now()));
+        if (abandoned != null && abandoned > 0) {
+            log.warn("Gave up extracting {} resume(s) whose last attempt did not finish", abandoned);
+        }
+        List<Long> due = contentRepo.findDueIds(ExtractionStatus.COMPLETED, maxAttempts, Instant.now(),
+            PageRequest.ofSize(RETRY_BATCH_SIZE));
+        due.forEach(this::submit);
+    }
+
+    /**
+     * Runs one extraction attempt for a resume, unless it is not due or
+     * another attempt has claimed it.
+     *
+     * @param resumeId The ID of the resume
+     */
+    public void extract(Long resumeId) {
+        Instant now = Instant.now();
+        StoredFile file = transaction.execute(status ->
+            contentRepo.claim(resumeId, ExtractionStatus.PROCESSING, ExtractionStatus.COMPLETED,
+                    maxAttempts, now, now.plus(PROCESSING_LEASE)) == 0
+                ? null
+                : contentRepo.findById(resumeId)
+                    .map(content -> new StoredFile(content.getResume().getFilePath(), content.getResume().getFileType()))
+                    .orElse(null));
+        if (file == null) {
+            return;
+        }
+
+        ResumeAnalysis analysis;
+        try {
+            analysis = analyzer.analyze(extractor.extract(Paths.get(file.path()), file.type()));
+        } catch (Exception e) {
+            transaction.executeWithoutResult(status -> fail(resumeId, e));
+            return;
+        }
+        transaction.executeWithoutResult(status -> complete(resumeId, analysis));
+    }
+
+    private void submit(Long resumeId) {
+        try {
+            executor.execute(() -> extract(resumeId));
+        } catch (TaskRejectedException e) {
+            log.debug("Extraction queue full, resume {} is left for the next retry", resumeId);
+        }
+    }
+
+    private void complete(Long resumeId, ResumeAnalysis analysis) {
+        contentRepo.findById(resumeId).ifPresent(content -> {
+            String previousSkills = content.getSkills();
+            content.setStatus(ExtractionStatus.COMPLETED);
+            content.setLastError(null);
+            content.setSections(join(analysis.sections(), ",", ResumeContent.MAX_SECTIONS_LENGTH));
+            content.setSkills(join(analysis.skills(), ", ", ResumeContent.MAX_SKILLS_LENGTH));
+            content.setTokens(String.join(" ", analysis.tokens()));
+            content.setTextLength(analysis.textLength());
+            content.setExtractedAt(Instant.now());
+
+            Resume resume = content.getResume();
+            if (Boolean.TRUE.equals(resume.getIsPrimary()) && !content.getSkills().equals(previousSkills)) {
+                events.publishEvent(new CandidateProfileChangedEvent(resume.getUser().getId()));
+            }
+        });
+    }
+
+    private void fail(Long resumeId, Exception error) {
+        contentRepo.findById(resumeId).ifPresent(content -> {
+            content.setStatus(ExtractionStatus.FAILED);
+            content.setLastError(truncate(String.valueOf(error), ResumeContent.MAX_ERROR_LENGTH));
+            content.setNextAttemptAt(Instant.now().plus(retryInterval.multipliedBy(1L << Math.min(content.getAttempts() - 1, 20))));
+            if (content.getAttempts() >= maxAttempts) {
+                log.warn("Giving up extracting resume {} after {} attempts: {}", resumeId, content.getAttempts(), error.toString());
+            } else {
+                log.debug("Extracting resume {} failed, will retry: {}", resumeId, error.toString());
+            }
+        });
+    }
+
+    /**
+     * Joins values up to a maximum length, dropping the values that no longer fit.
+     */
+    static String join(List<String> values, String separator, int maxLength) {
+        StringBuilder joined = new StringBuilder();
+        for (String value : values) {
+            int length = joined.length() + (joined.length() > 0 ? separator.length() : 0) + value.length();
+            if (length > maxLength) {
+                break;
+            }
+            if (joined.length() > 0) {
+                joined.append(separator);
+            }
+            joined.append(value);
+        }
+        return joined.toString();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private record StoredFile(String path, String type) {
+    }
+}
@@ -2,13 +2,19 @@ package com.jobportal.jobportal.service;
 
 import com.jobportal.jobportal.customexceptionhandler.UserNotFoundException;
 import com.jobportal.jobportal.dto.ResumeDTO;
+import com.jobportal.jobportal.dto.ResumeExtractionDTO;
 import com.jobportal.jobportal.entity.Resume;
+import com.jobportal.jobportal.entity.ResumeContent;
 import com.jobportal.jobportal.entity.User;
+import com.jobportal.jobportal.event.CandidateProfileChangedEvent;
+import com.jobportal.jobportal.event.ResumeUploadedEvent;
 import com.jobportal.jobportal.mapper.ResumeMapper;
+import com.jobportal.jobportal.repo.ResumeContentRepo;
 import com.jobportal.jobportal.repo.ResumeRepo;
 import com.jobportal.jobportal.repo.UserRepo;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,6 +24,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -33,8 +40,10 @@ import java.util.UUID;
 public class ResumeService {
 
     private final ResumeRepo resumeRepo;
+    private final ResumeContentRepo contentRepo;
     private final UserRepo userRepo;
     private final ResumeMapper resumeMapper;
+    private final ApplicationEventPublisher events;
 
     // Configuration properties from application.properties
     @Value("${resume.storage.path}")
@@ -50,20 +59,27 @@ public class ResumeService {
      * Constructor for ResumeService.
      * 
      * @param resumeRepo Repository for resume database operations
+     * @param contentRepo Repository for the content extracted from resumes
      * @param userRepo Repository for user database operations
      * @param resumeMapper MapStruct mapper for Resume conversions
+     * @param events Publisher notifying matching of primary resume changes
      */
     @Autowired
-    public ResumeService(ResumeRepo resumeRepo, UserRepo userRepo, ResumeMapper resumeMapper) {
+    public ResumeService(ResumeRepo resumeRepo, ResumeContentRepo contentRepo, UserRepo userRepo,
+                         ResumeMapper resumeMapper, ApplicationEventPublisher events) {
         this.resumeRepo = resumeRepo;
+        this.contentRepo = contentRepo;
         this.userRepo = userRepo;
         this.resumeMapper = resumeMapper;
+        this.events = events;
     }
 
     /**
      * Uploads a resume file for a specific user.
      * Validates the file, creates storage directory if needed, saves the file,
      * and stores resume metadata in the database.
+     * The text of the file is extracted in the background once the upload commits
+     * (see {@link ResumeExtractionService}).
      * 
      * @param userId The ID of the user uploading the resume
      * @param file The resume file to upload
@@ -109,6 +125,8 @@ public class ResumeService {
                 .build();
 
         Resume savedResume = resumeRepo.save(resume);
+        contentRepo.save(ResumeContent.pending(savedResume));
+        events.publishEvent(new ResumeUploadedEvent(savedResume.getId()));
         return resumeMapper.toDto(savedResume);
     }
 
@@ -136,6 +154,32 @@ public class ResumeService {
                 .orElse(null);
     }
 
+    /**
+     * Retrieves the state and result of the text extraction of a resume.
+     * 
+     * @param userId The ID of the user who owns the resume
+     * @param resumeId The ID of the resume
+     * @return ResumeExtractionDTO with the extraction status and, once completed, the sections and skills found
+     * @throws RuntimeException if resume not found
+     */
+    public ResumeExtractionDTO getExtraction(Long userId, Long resumeId) {
+        if (!resumeRepo.existsByUserIdAndId(userId, resumeId)) {
+            throw new RuntimeException("Resume not found for user");
+        }
+        return contentRepo.findById(resumeId)
+                .map(content -> ResumeExtractionDTO.builder()
+                        .resumeId(resumeId)
+                        .status(content.getStatus().name())
+                        .attempts(content.getAttempts())
+                        .lastError(content.getLastError())
+                        .sections(split(content.getSections(), ","))
+                        .skills(split(content.getSkills(), ", "))
+                        .textLength(content.getTextLength())
+                        .extractedAt(content.getExtractedAt())
+                        .build())
+                .orElseThrow(() -> new RuntimeException("Resume not found"));
+    }
+
     /**
      * Sets a specific resume as the primary resume for a user.
      * Automatically unsets any existing primary resume before setting the new one.
@@ -160,6 +204,7 @@ public class ResumeService {
         if (updated == 0) {
             throw new RuntimeException("Failed to set primary resume");
         }
+        events.publishEvent(new CandidateProfileChangedEvent(userId));
 
         return resumeRepo.findById(resumeId)
                 .map(resumeMapper::toDto)
@@ -188,6 +233,9 @@ public class ResumeService {
 
         // Delete from database
         resumeRepo.delete(resume);
+        if (Boolean.TRUE.equals(resume.getIsPrimary())) {
+            events.publishEvent(new CandidateProfileChangedEvent(userId));
+        }
     }
 
     /**
@@ -212,6 +260,10 @@ public class ResumeService {
         return Files.readAllBytes(filePath);
     }
 
+    private static List<String> split(String values, String separator) {
+        return values == null || values.isEmpty() ? List.of() : Arrays.asList(values.split(separator));
+    }
+
     /**
      * Validates uploaded file against system requirements.
      * Checks file size, type, and filename validity.
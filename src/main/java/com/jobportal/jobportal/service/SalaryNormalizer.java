@@ -0,0 +1,145 @@
+package com.jobportal.jobportal.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jobportal.jobportal.repo.JobRepo;
+
+/**
+ * Converts job salaries into one comparable amount.
+ *
+ * Salaries are posted in many currencies, so the raw amounts cannot be
+ * filtered or sorted against each other. Each job also stores its normalized
+ * salary: the top of its range (salaryMax, or salaryMin when no maximum is
+ * set) converted to whole units of the base currency with a locally configured
+ * rate table (salary.base.currency, salary.rates). Amounts are yearly figures.
+ *
+ * Jobs in a currency missing from the table have no normalized salary and are
+ * left out of salary filters. Stored values are recomputed at startup, before
+ * the in-memory indexes are built, so they follow changes to the rates.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Service
+public class SalaryNormalizer {
+
+    private static final Logger log = LoggerFactory.getLogger(SalaryNormalizer.class);
+
+    private final JobRepo repo;
+    private final String baseCurrency;
+    private final Map<String, BigDecimal> rates;
+
+    /**
+     * Constructor for SalaryNormalizer.
+     *
+     * @param repo Repository whose stored normalized salaries are kept in line with the rates
+     * @param baseCurrency Currency code normalized salaries are expressed in
+     * @param rates Comma-separated "CODE:rate" pairs, the rate being the value of one unit in the base currency
+     * @throws IllegalArgumentException if the rate table is malformed
+     */
+    @Autowired
+    public SalaryNormalizer(JobRepo repo,
+                            @Value("${salary.base.currency:USD}") String baseCurrency,
+                            @Value("${salary.rates:USD:1}") String rates) {
+        this.repo = repo;
+        this.baseCurrency = baseCurrency.trim().toUpperCase(Locale.ROOT);
+        Map<String, BigDecimal> table = parseRates(rates);
+        table.putIfAbsent(this.baseCurrency, BigDecimal.ONE);
+        this.rates = Collections.unmodifiableMap(table);
+    }
+
+    /**
+     * Returns the currency normalized salaries are expressed in.
+     *
+     * @return ISO currency code, e.g. "USD"
+     */
+    public String baseCurrency() {
+        return baseCurrency;
+    }
+
+    /**
+     * Normalizes a salary range.
+     *
+     * @param salaryMin Minimum salary (can be null)
+     * @param salaryMax Maximum salary (can be null)
+     * @param currency Currency of both amounts (case-insensitive)
+     * @return Top of the range in whole units of the base currency, or null if
+     *         there is no salary or the currency has no configured rate
+     */
+    public Long normalize(BigDecimal salaryMin, BigDecimal salaryMax, String currency) {
+        BigDecimal amount = salaryMax != null ? salaryMax : salaryMin;
+        BigDecimal rate = currency == null ? null : rates.get(currency.trim().toUpperCase(Locale.ROOT));
+        if (amount == null || rate == null) {
+            return null;
+        }
+        return amount.multiply(rate).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    /**
+     * Recomputes the stored normalized salary of every job from the current
+     * rate table. Only rows whose value changes are written. Runs before the
+     * job indexes are built from the stored values.
+     */
+    @Order(0)
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional
+    public void renormalizeAll() {
+        // Changed rows get a new updatedAt, so cached responses holding the old salary are revalidated
+        Instant now = Instant.now();
+        int updated = 0;
+        for (Map.Entry<String, BigDecimal> rate : rates.entrySet()) {
+            updated += repo.normalizeSalaries(rate.getKey(), rate.getValue(), now);
+        }
+        updated += repo.clearNormalizedSalariesExcept(rates.keySet(), now);
+        if (updated > 0) {
+            log.info("Renormalized the salary of {} jobs to {}", updated, baseCurrency);
+        }
+    }
+
+    /**
+     * Parses a rate table.
+     *
+     * @param rates Comma-separated "CODE:rate" pairs, e.g. "USD:1,EUR:1.08"
+     * @return Rate by upper-case currency code, in table order
+     * @throws IllegalArgumentException if a pair is malformed or a rate is not positive
+     */
+    static Map<String, BigDecimal> parseRates(String rates) {
+        Map<String, BigDecimal> table = new LinkedHashMap<>();
+        if (rates == null || rates.isBlank()) {
+            return table;
+        }
+        for (String pair : rates.split(",")) {
+            String[] parts = pair.split(":");
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("Salary rate must be CODE:rate, got '" + pair.trim() + "'");
+            }
+            BigDecimal rate;
+            try {
+                rate = new BigDecimal(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Salary rate of " + parts[0].trim() + " is not a number", e);
+            }
+            if (rate.signum() <= 0) {
+                throw new IllegalArgumentException("Salary rate of " + parts[0].trim() + " must be positive");
+            }
+            table.put(parts[0].trim().toUpperCase(Locale.ROOT), rate);
+        }
+        return table;
+    }
+}
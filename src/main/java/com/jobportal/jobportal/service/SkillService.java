@@ -0,0 +1,249 @@
+package com.jobportal.jobportal.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.entity.Skill;
+import com.jobportal.jobportal.event.SkillVocabularyChangedEvent;
+import com.jobportal.jobportal.mapper.JobMapper;
+import com.jobportal.jobportal.repo.SkillRepo;
+import com.jobportal.jobportal.search.JobSkillIndex;
+
+/**
+ * Service class for the skill dictionary.
+ *
+ * Maps skill names (trimmed, case-insensitive) to the dense integer IDs of the
+ * skills table. The whole dictionary is small and kept in memory, so turning a
+ * job's skills into IDs or a bitset needs no database access once a skill is known.
+ *
+ * New skills are inserted in their own transaction and cached only after it
+ * commits, so a rolled-back job write never leaves an ID in the cache that does
+ * not exist in the database.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+@Service
+public class SkillService {
+
+    private final SkillRepo repo;
+    private final TransactionTemplate newTransaction;
+    private final ApplicationEventPublisher events;
+
+    private final Map<String, Integer> idsByKey = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * Constructor for SkillService.
+     *
+     * @param repo The skill repository for database operations
+     * @param transactionManager Transaction manager used to insert new skills in their own transaction
+     * @param events Publisher announcing skills added to the cached dictionary
+     */
+    @Autowired
+    public SkillService(SkillRepo repo, PlatformTransactionManager transactionManager,
+                        ApplicationEventPublisher events) {
+        this.repo = repo;
+        this.events = events;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Loads the dictionary once the application has started,
+     * so the first request does not pay for it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loadIfNeeded();
+    }
+
+    /**
+     * Resolves a comma-separated skills string to dictionary IDs,
+     * adding skills that are not in the dictionary yet.
+     *
+     * Skills longer than {@link Skill#MAX_NAME_LENGTH} are not added.
+     *
+     * @param skills Comma-separated skills (can be null)
+     * @return Mutable set of the skill IDs; empty if there are no skills
+     */
+    public Set<Integer> resolve(String skills) {
+        Map<String, String> namesByKey = namesByKey(skills);
+        Set<Integer> ids = new HashSet<>();
+        if (namesByKey.isEmpty()) {
+            return ids;
+        }
+        loadIfNeeded();
+        Map<String, String> missing = new LinkedHashMap<>();
+        namesByKey.forEach((key, name) -> {
+            Integer id = idsByKey.get(key);
+            if (id != null) {
+                ids.add(id);
+            } else {
+                missing.put(key, name);
+            }
+        });
+        if (!missing.isEmpty()) {
+            create(missing).forEach(skill -> ids.add(skill.getId()));
+        }
+        return ids;
+    }
+
+    /**
+     * Looks up the dictionary ID of a skill.
+     *
+     * @param skill Skill name (case-insensitive)
+     * @return The skill ID, or empty if no job uses the skill
+     */
+    public Optional<Integer> findId(String skill) {
+        String key = Job.toKey(skill);
+        if (key == null) {
+            return Optional.empty();
+        }
+        loadIfNeeded();
+        Integer id = idsByKey.get(key);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        // Added outside this instance (another node, a seed script)
+        return repo.findByNameKeyIn(List.of(key)).stream()
+            .findFirst()
+            .map(found -> {
+                cache(found);
+                events.publishEvent(new SkillVocabularyChangedEvent(List.of(found.getId())));
+                return found.getId();
+            });
+    }
+
+    /**
+     * Looks up a skill in the cached dictionary only. Meant for scanning free
+     * text, where most phrases are not skills and a database lookup each is too costly.
+     *
+     * @param skill Skill name or phrase (case-insensitive)
+     * @return The skill ID, or null if the cached dictionary does not contain it
+     */
+    public Integer cachedId(String skill) {
+        String key = Job.toKey(skill);
+        if (key == null) {
+            return null;
+        }
+        loadIfNeeded();
+        return idsByKey.get(key);
+    }
+
+    /**
+     * Returns the display name of a skill.
+     *
+     * @param id Skill ID
+     * @return The name, or null if the ID is unknown
+     */
+    public String nameOf(int id) {
+        loadIfNeeded();
+        return namesById.get(id);
+    }
+
+    /**
+     * Returns the whole cached dictionary.
+     *
+     * @return Copy of the skill names by ID
+     */
+    public Map<Integer, String> vocabulary() {
+        loadIfNeeded();
+        return Map.copyOf(namesById);
+    }
+
+    /**
+     * Builds the skill bitset of a comma-separated skills string from the cached
+     * dictionary, without database access. Skills not in the dictionary are skipped.
+     *
+     * @param skills Comma-separated skills (can be null)
+     * @return Bitset with the bits of the skill IDs set (see {@link JobSkillIndex})
+     */
+    public long[] bitsetOf(String skills) {
+        loadIfNeeded();
+        List<Integer> ids = new ArrayList<>();
+        for (String key : namesByKey(skills).keySet()) {
+            Integer id = idsByKey.get(key);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return JobSkillIndex.toBitset(ids);
+    }
+
+    /**
+     * Inserts the missing skills and caches them once committed.
+     * Serialized so two writers never insert the same skill.
+     */
+    private synchronized List<Skill> create(Map<String, String> namesByKey) {
+        List<Skill> skills = newTransaction.execute(status -> {
+            Map<String, String> remaining = new LinkedHashMap<>(namesByKey);
+            List<Skill> result = new ArrayList<>();
+            for (Skill existing : repo.findByNameKeyIn(namesByKey.keySet())) {
+                remaining.remove(existing.getNameKey());
+                result.add(existing);
+            }
+            remaining.forEach((key, name) ->
+                result.add(repo.save(Skill.builder().name(name).nameKey(key).build())));
+            return result;
+        });
+        List<Integer> added = new ArrayList<>();
+        for (Skill skill : skills) {
+            if (!namesById.containsKey(skill.getId())) {
+                added.add(skill.getId());
+            }
+            cache(skill);
+        }
+        if (!added.isEmpty()) {
+            events.publishEvent(new SkillVocabularyChangedEvent(added));
+        }
+        return skills;
+    }
+
+    private void loadIfNeeded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                repo.findAll().forEach(this::cache);
+                loaded = true;
+            }
+        }
+    }
+
+    private void cache(Skill skill) {
+        idsByKey.put(skill.getNameKey(), skill.getId());
+        namesById.put(skill.getId(), skill.getName());
+    }
+
+    /**
+     * Splits a skills string into normalized key and first spelling, in order.
+     */
+    private static Map<String, String> namesByKey(String skills) {
+        Map<String, String> namesByKey = new LinkedHashMap<>();
+        for (String name : JobMapper.skillsToKeywords(skills)) {
+            if (name.length() <= Skill.MAX_NAME_LENGTH) {
+                namesByKey.putIfAbsent(Job.toKey(name), name);
+            }
+        }
+        return namesByKey;
+    }
+}
@@ -3,6 +3,7 @@ package com.jobportal.jobportal.service;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.jobportal.jobportal.customexceptionhandler.UserNotFoundException;
 import com.jobportal.jobportal.dto.UserDTO;
 import com.jobportal.jobportal.entity.User;
+import com.jobportal.jobportal.event.CandidateProfileChangedEvent;
 import com.jobportal.jobportal.mapper.UserMapper;
 import com.jobportal.jobportal.repo.UserRepo;
 
@@ -27,6 +29,7 @@ public class UserService {
     private final UserRepo repo;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher events;
 
     /**
      * Constructor for UserService.
@@ -34,12 +37,15 @@ public class UserService {
      * @param repo Repository for user database operations
      * @param userMapper MapStruct mapper for User conversions
      * @param passwordEncoder Password encoder for hashing passwords
+     * @param events Publisher notifying matching of profile changes
      */
     @Autowired
-    public UserService(UserRepo repo, UserMapper userMapper, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepo repo, UserMapper userMapper, PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher events) {
         this.repo = repo;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
+        this.events = events;
     }
     
     /**
@@ -120,7 +126,9 @@ public class UserService {
         User existing = repo.findById(id)
             .orElseThrow(() -> new UserNotFoundException(id));
         userMapper.updateEntity(dto, existing);
-        return userMapper.toDto(repo.save(existing));
+        User saved = repo.save(existing);
+        events.publishEvent(new CandidateProfileChangedEvent(id));
+        return userMapper.toDto(saved);
     }
 
     /**
@@ -133,5 +141,6 @@ public class UserService {
     public void delete(Long id) {
         if (!repo.existsById(id)) throw new UserNotFoundException(id);
         repo.deleteById(id);
+        events.publishEvent(new CandidateProfileChangedEvent(id));
     }
 }
@@ -0,0 +1,71 @@
+package com.jobportal.jobportal.util;
+
+import com.jobportal.jobportal.customexceptionhandler.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Keyset position used for cursor-based pagination of job listings.
+ *
+ * Job listings are ordered by (createdAt DESC, id DESC). A cursor stores the
+ * sort key of the last row of a page so the next page can be fetched with an
+ * index range seek instead of an OFFSET scan, which keeps the cost of a page
+ * constant no matter how deep the client pages.
+ *
+ * The encoded form is URL-safe Base64 and must be treated as opaque by clients.
+ *
+ * @param createdAt Creation timestamp of the last row of the previous page
+ * @param id ID of the last row of the previous page (tie-breaker)
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record JobCursor(Instant createdAt, Long id) {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Encodes this cursor to its opaque string form.
+     *
+     * Seconds and nanoseconds are kept separately so no precision is lost
+     * when comparing against the stored timestamp.
+     *
+     * @return URL-safe Base64 representation of the cursor
+     */
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + String.valueOf(SEPARATOR)
+                + createdAt.getNano() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor The opaque cursor string. Can be null or blank for the first page.
+     * @return The decoded cursor, or null if no cursor was supplied
+     * @throws ValidationException if the cursor is malformed
+     */
+    public static JobCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int first = raw.indexOf(SEPARATOR);
+            int second = raw.indexOf(SEPARATOR, first + 1);
+            if (first < 0 || second < 0) {
+                throw new ValidationException("Invalid pagination cursor");
+            }
+            long seconds = Long.parseLong(raw.substring(0, first));
+            int nanos = Integer.parseInt(raw.substring(first + 1, second));
+            long id = Long.parseLong(raw.substring(second + 1));
+            return new JobCursor(Instant.ofEpochSecond(seconds, nanos), id);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new ValidationException("Invalid pagination cursor", e);
+        }
+    }
+}
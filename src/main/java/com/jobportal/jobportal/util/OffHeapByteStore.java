@@ -0,0 +1,285 @@
+package com.jobportal.jobportal.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Byte arrays keyed by a long, stored outside the Java heap.
+ *
+ * Memory is taken from the operating system in direct {@link ByteBuffer} slabs
+ * of a fixed size, up to a total budget. Each slab is cut into chunks of one
+ * size class (powers of two from {@link #MIN_CHUNK_SIZE} up to the slab size),
+ * and a value occupies the smallest chunk it fits in. Freed chunks are reused
+ * by values of the same class; once the budget is spent, storing a value
+ * evicts the oldest value of its class (or, for a class owning no slab, the
+ * slab of the oldest value of the fullest class). Values larger than a slab
+ * are not stored.
+ *
+ * Only the key to chunk mapping lives on the heap, so the stored bytes add
+ * nothing to the garbage collector's work. Slabs are kept until the store is
+ * garbage collected. Reads run concurrently; writes take an exclusive lock.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public class OffHeapByteStore {
+
+    /** Smallest chunk size; smaller values still take a chunk of this size */
+    public static final int MIN_CHUNK_SIZE = 256;
+
+    private final int slabSize;
+    private final int maxSlabs;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final SizeClass[] classes;
+    private long storedBytes;
+
+    /**
+     * Creates an empty store. No memory is allocated until values are stored.
+     *
+     * @param slabSize Size of each slab in bytes, a power of two of at least {@link #MIN_CHUNK_SIZE};
+     *                 also the largest value that can be stored
+     * @param maxBytes Total size of all slabs in bytes; at least one slab is always allowed
+     * @throws IllegalArgumentException if slabSize is not a valid power of two
+     */
+    public OffHeapByteStore(int slabSize, long maxBytes) {
+        if (slabSize < MIN_CHUNK_SIZE || Integer.bitCount(slabSize) != 1) {
+            throw new IllegalArgumentException("Slab size must be a power of two of at least "
+                + MIN_CHUNK_SIZE + ": " + slabSize);
+        }
+        this.slabSize = slabSize;
+        this.maxSlabs = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxBytes / slabSize));
+        this.classes = new SizeClass[classOf(slabSize) + 1];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = new SizeClass(MIN_CHUNK_SIZE << i);
+        }
+    }
+
+    /**
+     * Stores a value, replacing any previous value of the key.
+     *
+     * @param key The key
+     * @param value The bytes to store
+     * @return true if stored, false if the value is larger than a slab (any previous value is removed)
+     */
+    public boolean put(long key, byte[] value) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            if (value.length > slabSize) {
+                return false;
+            }
+            SizeClass sizeClass = classes[classOf(value.length)];
+            long chunk = allocate(sizeClass);
+            slabs.get(slabOf(chunk)).put(offsetOf(chunk), value, 0, value.length);
+            Entry entry = new Entry(key, sizeClass, chunk, value.length);
+            entries.put(key, entry);
+            sizeClass.stored.put(key, entry);
+            storedBytes += value.length;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a copy of a stored value.
+     *
+     * @param key The key
+     * @return The bytes, or null if the key is not stored
+     */
+    public byte[] get(long key) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            byte[] value = new byte[entry.length()];
+            // Absolute bulk read: concurrent readers never move a shared position
+            slabs.get(slabOf(entry.chunk())).get(offsetOf(entry.chunk()), value, 0, entry.length());
+            return value;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a value and frees its chunk. Does nothing if the key is unknown.
+     *
+     * @param key The key
+     */
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all values. The slabs are kept for reuse.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            for (Long key : List.copyOf(entries.keySet())) {
+                removeInternal(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of stored values.
+     *
+     * @return Value count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the total length of the stored values.
+     *
+     * @return Stored bytes, not counting the unused tail of each chunk
+     */
+    public long storedBytes() {
+        lock.readLock().lock();
+        try {
+            return storedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the memory taken from the operating system.
+     *
+     * @return Total size of the allocated slabs in bytes
+     */
+    public long allocatedBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) slabs.size() * slabSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Takes a free chunk of a class: a freed one, else one cut from a new slab,
+     * else the chunk of the oldest value of the class, else one cut from a slab
+     * taken back from another class.
+     */
+    private long allocate(SizeClass sizeClass) {
+        if (sizeClass.free.isEmpty()) {
+            if (slabs.size() < maxSlabs) {
+                slabs.add(ByteBuffer.allocateDirect(slabSize));
+                cut(slabs.size() - 1, sizeClass);
+            } else if (!sizeClass.stored.isEmpty()) {
+                removeInternal(sizeClass.stored.keySet().iterator().next());
+            } else {
+                cut(reclaimSlab(), sizeClass);
+            }
+        }
+        return sizeClass.free.pop();
+    }
+
+    /**
+     * Empties the slab holding the oldest value of the class with the most
+     * values, so a class owning no slab can still store values once the
+     * budget is spent.
+     *
+     * @return Index of the emptied slab
+     */
+    private int reclaimSlab() {
+        // The asking class owns no chunk, so the donor is always another class
+        SizeClass donor = classes[0];
+        for (SizeClass candidate : classes) {
+            if (candidate.stored.size() > donor.stored.size()
+                    || (candidate.stored.size() == donor.stored.size() && candidate.free.size() > donor.free.size())) {
+                donor = candidate;
+            }
+        }
+        int slab = donor.stored.isEmpty()
+            ? slabOf(donor.free.peek())
+            : slabOf(donor.stored.values().iterator().next().chunk());
+        for (Entry entry : List.copyOf(donor.stored.values())) {
+            if (slabOf(entry.chunk()) == slab) {
+                removeInternal(entry.key());
+            }
+        }
+        donor.free.removeIf(chunk -> slabOf(chunk) == slab);
+        return slab;
+    }
+
+    private void cut(int slab, SizeClass sizeClass) {
+        for (int offset = slabSize - sizeClass.chunkSize; offset >= 0; offset -= sizeClass.chunkSize) {
+            sizeClass.free.push(chunkOf(slab, offset));
+        }
+    }
+
+    private void removeInternal(long key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return;
+        }
+        entry.sizeClass().stored.remove(key);
+        entry.sizeClass().free.push(entry.chunk());
+        storedBytes -= entry.length();
+    }
+
+    /** Index of the smallest class whose chunks hold the given number of bytes */
+    private static int classOf(int length) {
+        if (length <= MIN_CHUNK_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(length - 1) - Integer.numberOfTrailingZeros(MIN_CHUNK_SIZE);
+    }
+
+    private static long chunkOf(int slab, int offset) {
+        return ((long) slab << 32) | offset;
+    }
+
+    private static int slabOf(long chunk) {
+        return (int) (chunk >>> 32);
+    }
+
+    private static int offsetOf(long chunk) {
+        return (int) chunk;
+    }
+
+    /**
+     * Chunks of one size: the free ones, and the stored values oldest first.
+     */
+    private static final class SizeClass {
+
+        private final int chunkSize;
+        private final ArrayDeque<Long> free = new ArrayDeque<>();
+        private final LinkedHashMap<Long, Entry> stored = new LinkedHashMap<>();
+
+        SizeClass(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    private record Entry(long key, SizeClass sizeClass, long chunk, int length) {
+    }
+}
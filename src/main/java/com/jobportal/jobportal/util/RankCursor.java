@@ -0,0 +1,73 @@
+package com.jobportal.jobportal.util;
+
+import com.jobportal.jobportal.customexceptionhandler.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a ranked listing ordered by (score DESC, id DESC), used for
+ * cursor-based pagination of recommendations.
+ *
+ * Storing the position rather than an offset keeps paging consistent when the
+ * ranking is recomputed between two requests: the next page starts after the
+ * last job the client has seen, not after a fixed number of jobs.
+ *
+ * The encoded form is URL-safe Base64 and must be treated as opaque by clients.
+ *
+ * @param score Score of the last job of the previous page
+ * @param id ID of the last job of the previous page (tie-breaker)
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public record RankCursor(int score, long id) {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Encodes this cursor to its opaque string form.
+     *
+     * @return URL-safe Base64 representation of the cursor
+     */
+    public String encode() {
+        String raw = score + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Returns whether a ranked entry comes after this position.
+     *
+     * @param entryScore Score of the entry
+     * @param entryId ID of the entry
+     * @return true if the entry ranks below the position
+     */
+    public boolean isBefore(int entryScore, long entryId) {
+        return entryScore < score || (entryScore == score && entryId < id);
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor The opaque cursor string. Can be null or blank for the first page.
+     * @return The decoded cursor, or null if no cursor was supplied
+     * @throws ValidationException if the cursor is malformed
+     */
+    public static RankCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ValidationException("Invalid pagination cursor");
+            }
+            return new RankCursor(Integer.parseInt(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid pagination cursor", e);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.jobportal.jobportal.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads records one at a time from a character stream: CSV records
+ * (RFC 4180, with quoted fields that may contain commas, quotes and line
+ * breaks) or plain lines, e.g. of NDJSON.
+ *
+ * Memory use is bounded per record, not per stream. Characters beyond the
+ * maximum record length are dropped while the rest of the record is still
+ * consumed, so the next call starts at the next record and the caller can
+ * check {@link #truncated()} to skip the oversized one.
+ *
+ * Not thread-safe.
+ *
+ * @author Job Portal Team
+ * @version 1.0
+ */
+public class RecordReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader in;
+    private final int maxRecordLength;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder value = new StringBuilder();
+    private int position;
+    private int limit;
+    private int recordLength;
+    private boolean truncated;
+
+    /**
+     * Constructor for RecordReader.
+     *
+     * @param in The stream to read (closed by {@link #close()})
+     * @param maxRecordLength Maximum number of characters kept per record
+     */
+    public RecordReader(Reader in, int maxRecordLength) {
+        this.in = in;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Reads the next CSV record. An empty line is a record with one empty field.
+     *
+     * @return The fields of the record, or null at the end of the stream
+     * @throws IOException if reading the stream fails
+     */
+    public List<String> nextCsvRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        startRecord();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    // Unterminated quote: the field runs to the end of the stream
+                    break;
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                append((char) c);
+            } else if (c == -1 || c == '\n') {
+                break;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    read();
+                }
+                break;
+            } else if (c == ',') {
+                fields.add(value.toString());
+                value.setLength(0);
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else {
+                append((char) c);
+            }
+            fieldStart = false;
+            c = read();
+        }
+        fields.add(value.toString());
+        return fields;
+    }
+
+    /**
+     * Reads the next line, without its line terminator (\n, \r\n or \r).
+     *
+     * @return The line, or null at the end of the stream
+     * @throws IOException if reading the stream fails
+     */
+    public String nextLine() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        startRecord();
+        while (c != -1 && c != '\n') {
+            if (c == '\r') {
+                if (peek() == '\n') {
+                    read();
+                }
+                break;
+            }
+            append((char) c);
+            c = read();
+        }
+        return value.toString();
+    }
+
+    /**
+     * Tells whether the record last read was longer than the maximum record
+     * length; its content was cut off at that length.
+     *
+     * @return true if the last record was truncated
+     */
+    public boolean truncated() {
+        return truncated;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void startRecord() {
+        value.setLength(0);
+        recordLength = 0;
+        truncated = false;
+    }
+
+    private void append(char c) {
+        if (recordLength++ < maxRecordLength) {
+            value.append(c);
+        } else {
+            truncated = true;
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int n;
+        do {
+            n = in.read(buffer, 0, BUFFER_SIZE);
+        } while (n == 0);
+        if (n < 0) {
+            return false;
+        }
+        position = 0;
+        limit = n;
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+-- IDs of jobs and job contents are handed out by Hibernate from this table in blocks
+-- of 50 (pooled optimizer) instead of AUTO_INCREMENT. IDENTITY keys are only known
+-- after each INSERT, which makes Hibernate send inserts one by one; pre-allocated
+-- keys let it batch them (hibernate.jdbc.batch_size).
+--
+-- next_val is the highest ID of the next block to be handed out, so the first block
+-- starts right after the existing rows. AUTO_INCREMENT stays on the columns for rows
+-- inserted with plain SQL; such scripts must move next_val past them afterwards
+-- (see the end of seed-data.sql).
+
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'jobs', COALESCE(MAX(id), 0) + 50 FROM jobs;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'job_contents', COALESCE(MAX(id), 0) + 50 FROM job_contents;
@@ -0,0 +1,16 @@
+-- Checkpoints of bulk job imports from CSV/NDJSON files. Each chunk of records is
+-- committed together with its row here, so an interrupted import resumes after
+-- the last committed record instead of starting over.
+
+CREATE TABLE job_imports (
+    id           VARCHAR(64)   NOT NULL,
+    format       ENUM ('CSV','NDJSON') NOT NULL,
+    status       ENUM ('RUNNING','COMPLETED','FAILED') NOT NULL,
+    records_done BIGINT        NOT NULL,
+    imported     BIGINT        NOT NULL,
+    rejected     BIGINT        NOT NULL,
+    last_error   VARCHAR(500),
+    created_at   DATETIME(6)   NOT NULL,
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
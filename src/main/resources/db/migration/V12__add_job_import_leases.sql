@@ -0,0 +1,8 @@
+-- Owner and lease of a running bulk job import. A run claims the checkpoint row
+-- with a conditional update and renews the lease with every committed chunk, so
+-- two processes never import the same file at once; a run that dies without
+-- finishing releases the import when its lease expires.
+
+ALTER TABLE job_imports
+    ADD COLUMN owner       VARCHAR(64),
+    ADD COLUMN lease_until DATETIME(6);
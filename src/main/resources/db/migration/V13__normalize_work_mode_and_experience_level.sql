@@ -0,0 +1,7 @@
+-- workMode and experienceLevel are stored trimmed and upper-cased (Job.toCode),
+-- the form the search filters compare with exactly and the facet counts report.
+-- The application normalizes them on insert and update; this fixes older rows.
+
+UPDATE jobs
+SET work_mode        = NULLIF(UPPER(TRIM(work_mode)), ''),
+    experience_level = NULLIF(UPPER(TRIM(experience_level)), '');
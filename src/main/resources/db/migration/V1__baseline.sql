@@ -0,0 +1,63 @@
+-- Schema as previously generated by spring.jpa.hibernate.ddl-auto=update.
+-- IF NOT EXISTS keeps this a no-op on databases that already have the tables.
+
+CREATE TABLE IF NOT EXISTS users (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    email              VARCHAR(190) NOT NULL,
+    password           VARCHAR(255) NOT NULL,
+    first_name         VARCHAR(120) NOT NULL,
+    last_name          VARCHAR(120) NOT NULL,
+    phone_country_code VARCHAR(255),
+    phone_number       VARCHAR(255),
+    user_type          VARCHAR(255),
+    created_at         DATETIME(6)  NOT NULL,
+    updated_at         DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS resumes (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    file_name          VARCHAR(255) NOT NULL,
+    file_type          VARCHAR(100) NOT NULL,
+    file_size          BIGINT       NOT NULL,
+    file_path          VARCHAR(500) NOT NULL,
+    original_file_name VARCHAR(255),
+    is_primary         BIT          NOT NULL,
+    description        VARCHAR(500),
+    user_id            BIGINT       NOT NULL,
+    created_at         DATETIME(6)  NOT NULL,
+    updated_at         DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_resumes_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS jobs (
+    id                   BIGINT        NOT NULL AUTO_INCREMENT,
+    title                VARCHAR(200)  NOT NULL,
+    company              VARCHAR(100)  NOT NULL,
+    location             VARCHAR(100),
+    job_type             ENUM ('FULL_TIME','PART_TIME','CONTRACT','INTERNSHIP') NOT NULL,
+    status               ENUM ('ACTIVE','INACTIVE','CLOSED') NOT NULL,
+    experience_level     VARCHAR(50),
+    department           VARCHAR(100),
+    category             VARCHAR(100),
+    description          LONGTEXT,
+    requirements         LONGTEXT,
+    responsibilities     LONGTEXT,
+    benefits             LONGTEXT,
+    salary_min           DECIMAL(38, 2),
+    salary_max           DECIMAL(38, 2),
+    salary_currency      VARCHAR(255),
+    work_mode            VARCHAR(50),
+    education_level      VARCHAR(100),
+    skills               VARCHAR(500),
+    company_info         LONGTEXT,
+    company_logo_url     VARCHAR(500),
+    posted_by            BIGINT,
+    application_deadline DATETIME(6),
+    start_date           DATETIME(6),
+    created_at           DATETIME(6)   NOT NULL,
+    updated_at           DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
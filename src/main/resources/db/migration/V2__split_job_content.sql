@@ -0,0 +1,31 @@
+-- Moves the large text columns of jobs into job_contents, referenced by
+-- jobs.content_id, so reads of the listing columns only touch narrow rows.
+
+CREATE TABLE job_contents (
+    id               BIGINT   NOT NULL AUTO_INCREMENT,
+    description      LONGTEXT,
+    requirements     LONGTEXT,
+    responsibilities LONGTEXT,
+    benefits         LONGTEXT,
+    company_info     LONGTEXT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- Reuse the job ID as the content ID; AUTO_INCREMENT continues after the highest one
+INSERT INTO job_contents (id, description, requirements, responsibilities, benefits, company_info)
+SELECT id, description, requirements, responsibilities, benefits, company_info
+FROM jobs;
+
+ALTER TABLE jobs
+    ADD COLUMN content_id BIGINT NULL;
+
+UPDATE jobs SET content_id = id;
+
+ALTER TABLE jobs
+    ADD CONSTRAINT uk_jobs_content UNIQUE (content_id),
+    ADD CONSTRAINT fk_jobs_content FOREIGN KEY (content_id) REFERENCES job_contents (id),
+    DROP COLUMN description,
+    DROP COLUMN requirements,
+    DROP COLUMN responsibilities,
+    DROP COLUMN benefits,
+    DROP COLUMN company_info;
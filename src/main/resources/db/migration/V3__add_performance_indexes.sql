@@ -0,0 +1,24 @@
+-- Indexes matched to the finder queries in JobRepo and ResumeRepo.
+-- Keep in sync with the @Index declarations on Job and Resume.
+
+-- Keyset pages over all jobs: ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_jobs_created ON jobs (created_at, id);
+
+-- findByStatus and keyset pages over active jobs
+CREATE INDEX idx_jobs_status_created ON jobs (status, created_at, id);
+
+-- findSimilarJobs: status = 'ACTIVE' AND category = ? AND job_type = ?
+CREATE INDEX idx_jobs_status_category_type ON jobs (status, category, job_type);
+
+-- findByJobType
+CREATE INDEX idx_jobs_job_type ON jobs (job_type);
+
+-- findByPostedBy and the per-user export (ordered by id, the implicit index suffix)
+CREATE INDEX idx_jobs_posted_by ON jobs (posted_by);
+
+-- Exact company and location lookups
+CREATE INDEX idx_jobs_company ON jobs (company);
+CREATE INDEX idx_jobs_location ON jobs (location);
+
+-- findByUserIdAndIsPrimaryTrue; also serves the user_id foreign key
+CREATE INDEX idx_resumes_user_primary ON resumes (user_id, is_primary);
@@ -0,0 +1,25 @@
+-- Trimmed, lower-cased copies of company, location, category and department.
+-- Lookups compare these columns with a value normalized the same way (Job.toKey)
+-- instead of wrapping the column in UPPER()/LOWER(), which no index can serve.
+-- The application keeps them up to date on insert and update.
+
+ALTER TABLE jobs
+    ADD COLUMN company_key    VARCHAR(100) NULL,
+    ADD COLUMN location_key   VARCHAR(100) NULL,
+    ADD COLUMN category_key   VARCHAR(100) NULL,
+    ADD COLUMN department_key VARCHAR(100) NULL;
+
+UPDATE jobs
+SET company_key    = NULLIF(LOWER(TRIM(company)), ''),
+    location_key   = NULLIF(LOWER(TRIM(location)), ''),
+    category_key   = NULLIF(LOWER(TRIM(category)), ''),
+    department_key = NULLIF(LOWER(TRIM(department)), '');
+
+CREATE INDEX idx_jobs_company_key ON jobs (company_key);
+CREATE INDEX idx_jobs_location_key ON jobs (location_key);
+CREATE INDEX idx_jobs_category_key ON jobs (category_key);
+CREATE INDEX idx_jobs_department_key ON jobs (department_key);
+
+-- Superseded by the key indexes
+DROP INDEX idx_jobs_company ON jobs;
+DROP INDEX idx_jobs_location ON jobs;
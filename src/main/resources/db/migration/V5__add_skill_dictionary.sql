@@ -0,0 +1,54 @@
+-- Normalized skill dictionary. Every distinct skill (trimmed, case-insensitive)
+-- gets a dense integer ID; job_skills links jobs to the skills in their
+-- comma-separated skills column. The column stays the source for display,
+-- the application keeps job_skills in sync with it on every write.
+
+CREATE TABLE skills (
+    id       INT          NOT NULL AUTO_INCREMENT,
+    name     VARCHAR(100) NOT NULL,
+    -- Binary collation: keys compare exactly as Job.toKey produces them
+    name_key VARCHAR(100) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_skills_name_key UNIQUE (name_key)
+) ENGINE = InnoDB;
+
+CREATE TABLE job_skills (
+    job_id   BIGINT NOT NULL,
+    skill_id INT    NOT NULL,
+    PRIMARY KEY (job_id, skill_id),
+    CONSTRAINT fk_job_skills_job FOREIGN KEY (job_id) REFERENCES jobs (id) ON DELETE CASCADE,
+    CONSTRAINT fk_job_skills_skill FOREIGN KEY (skill_id) REFERENCES skills (id)
+) ENGINE = InnoDB;
+
+-- "Jobs requiring skill X"
+CREATE INDEX idx_job_skills_skill ON job_skills (skill_id, job_id);
+
+-- Backfill: split the skills column into rows by turning it into a JSON array
+-- (backslashes, quotes, newlines, carriage returns and tabs escaped first, as JSON
+-- strings cannot hold them raw). Names are trimmed of all surrounding whitespace,
+-- like String.trim in the application. The first spelling of a skill wins.
+CREATE TEMPORARY TABLE split_job_skills AS
+SELECT j.id AS job_id, REGEXP_REPLACE(s.name, '^[[:space:]]+|[[:space:]]+$', '') AS name
+FROM jobs j,
+     JSON_TABLE(
+         CONCAT('["',
+                REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(j.skills,
+                    '\\', '\\\\'), '"', '\\"'), '\n', '\\n'), '\r', '\\r'), '\t', '\\t'), ',', '","'),
+                '"]'),
+         '$[*]' COLUMNS (name VARCHAR(500) PATH '$')
+     ) s
+WHERE j.skills IS NOT NULL;
+
+DELETE FROM split_job_skills WHERE name = '' OR CHAR_LENGTH(name) > 100;
+
+INSERT IGNORE INTO skills (name, name_key)
+SELECT name, LOWER(name)
+FROM split_job_skills
+ORDER BY job_id;
+
+INSERT IGNORE INTO job_skills (job_id, skill_id)
+SELECT t.job_id, k.id
+FROM split_job_skills t
+JOIN skills k ON k.name_key = CONVERT(LOWER(t.name) USING utf8mb4) COLLATE utf8mb4_bin;
+
+DROP TEMPORARY TABLE split_job_skills;
@@ -0,0 +1,9 @@
+-- Candidate profile used to score jobs for a user: skills (comma-separated,
+-- like jobs.skills), experience and education level, preferred location and work mode.
+
+ALTER TABLE users
+    ADD COLUMN skills              VARCHAR(500) NULL,
+    ADD COLUMN experience_level    VARCHAR(50)  NULL,
+    ADD COLUMN education_level     VARCHAR(100) NULL,
+    ADD COLUMN preferred_location  VARCHAR(100) NULL,
+    ADD COLUMN preferred_work_mode VARCHAR(50)  NULL;
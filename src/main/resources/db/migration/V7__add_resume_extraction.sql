@@ -0,0 +1,28 @@
+-- Content extracted from uploaded resumes in the background: the extraction
+-- status with its retry bookkeeping, and a compact record of what was found
+-- (section headings, dictionary skills, distinct tokens) instead of the full text.
+
+CREATE TABLE resume_contents (
+    resume_id       BIGINT        NOT NULL,
+    status          ENUM ('PENDING','PROCESSING','COMPLETED','FAILED') NOT NULL,
+    attempts        INT           NOT NULL,
+    next_attempt_at DATETIME(6)   NOT NULL,
+    last_error      VARCHAR(500),
+    sections        VARCHAR(500),
+    skills          VARCHAR(1000),
+    tokens          LONGTEXT,
+    text_length     INT,
+    extracted_at    DATETIME(6),
+    created_at      DATETIME(6)   NOT NULL,
+    updated_at      DATETIME(6),
+    PRIMARY KEY (resume_id),
+    CONSTRAINT fk_resume_contents_resume FOREIGN KEY (resume_id) REFERENCES resumes (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- "Resumes due for an extraction attempt"
+CREATE INDEX idx_resume_contents_due ON resume_contents (status, next_attempt_at);
+
+-- Queue the resumes uploaded before this migration
+INSERT INTO resume_contents (resume_id, status, attempts, next_attempt_at, created_at, updated_at)
+SELECT id, 'PENDING', 0, NOW(6), NOW(6), NOW(6)
+FROM resumes;
@@ -0,0 +1,14 @@
+-- Top of each job's salary range converted to the base currency (salary.base.currency),
+-- so salaries posted in different currencies can be filtered and sorted together.
+-- Values come from the configured rate table (salary.rates): the application writes
+-- them on insert and update and recomputes them at startup, which also fills in
+-- the existing rows after this migration.
+
+ALTER TABLE jobs
+    ADD COLUMN normalized_salary BIGINT NULL;
+
+-- Salary filters and "sort=salary" without a status filter
+CREATE INDEX idx_jobs_salary ON jobs (normalized_salary, id);
+
+-- Same on one status, e.g. the best paid active jobs
+CREATE INDEX idx_jobs_status_salary ON jobs (status, normalized_salary, id);
@@ -0,0 +1,8 @@
+-- Validators for conditional GETs on the job endpoints (ETag / Last-Modified) are
+-- built from updated_at: per job, and as MAX(updated_at) with the row count for
+-- the listings. Rows written before updated_at was always set take their
+-- creation time, and the index turns MAX(updated_at) into a single index read.
+
+UPDATE jobs SET updated_at = created_at WHERE updated_at IS NULL;
+
+CREATE INDEX idx_jobs_updated ON jobs (updated_at);
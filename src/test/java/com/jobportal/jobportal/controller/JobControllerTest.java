@@ -2,25 +2,49 @@ package com.jobportal.jobportal.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobportal.jobportal.customexceptionhandler.JobNotFoundException;
+import com.jobportal.jobportal.dto.CursorPageDTO;
+import com.jobportal.jobportal.dto.FacetCountDTO;
 import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.dto.JobFacetsDTO;
+import com.jobportal.jobportal.dto.JobImportDTO;
+import com.jobportal.jobportal.dto.JobSearchCriteria;
+import com.jobportal.jobportal.dto.JobSummaryDTO;
+import com.jobportal.jobportal.dto.PageResponseDTO;
+import com.jobportal.jobportal.dto.RecommendedJobDTO;
+import com.jobportal.jobportal.dto.SuggestionDTO;
 import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.entity.JobImport;
+import com.jobportal.jobportal.service.JobExportService;
+import com.jobportal.jobportal.service.JobImportService;
 import com.jobportal.jobportal.service.JobService;
+import com.jobportal.jobportal.service.JobVersion;
+import com.jobportal.jobportal.util.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,10 +69,27 @@ class JobControllerTest {
     @MockBean
     private JobService jobService;
 
+    @MockBean
+    private JobExportService exportService;
+
+    @MockBean
+    private JobImportService importService;
+
+    // Needed by JwtAuthenticationFilter, which the MVC slice picks up as a servlet filter
+    @MockBean
+    private JwtUtil jwtUtil;
+
     private JobDTO validJob;
 
+    private JobSummaryDTO validSummary;
+
+    private static final Instant CHANGED_AT = Instant.parse("2025-01-15T10:00:00Z");
+    private static final String DETAIL_TAG = "j1-100.c3-100-2.p1736935200";
+
     @BeforeEach
     void setUp() {
+        when(jobService.getCatalogVersion()).thenReturn(new JobVersion("c3-100-2", CHANGED_AT));
+
         validJob = JobDTO.builder()
                 .id(1L)
                 .title("Senior Java Developer")
@@ -73,6 +114,15 @@ class JobControllerTest {
                 .applicationDeadline(Instant.now().plus(30, ChronoUnit.DAYS))
                 .startDate(Instant.now().plus(60, ChronoUnit.DAYS))
                 .build();
+
+        validSummary = JobSummaryDTO.builder()
+                .id(1L)
+                .title("Senior Java Developer")
+                .company("Tech Corp")
+                .location("New York, NY")
+                .jobType(Job.JobType.FULL_TIME)
+                .status(Job.JobStatus.ACTIVE)
+                .build();
     }
 
     // ==================== CREATE TESTS ====================
@@ -178,6 +228,95 @@ class JobControllerTest {
         verify(jobService, never()).create(any(JobDTO.class));
     }
 
+    @Test
+    void createJobs_WithValidBatch_ShouldReturnCreatedJobsInOrder() throws Exception {
+        JobDTO second = JobDTO.builder().id(2L).title("Frontend Developer").company("Web Inc")
+                .jobType(Job.JobType.CONTRACT).status(Job.JobStatus.ACTIVE).build();
+        when(jobService.createAll(anyList())).thenReturn(List.of(validJob, second));
+
+        mockMvc.perform(post("/api/v1/job/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("jobs", List.of(validJob, validJob)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].title").value("Frontend Developer"));
+
+        verify(jobService, times(1)).createAll(argThat(jobs -> jobs.size() == 2));
+    }
+
+    @Test
+    void createJobs_WithInvalidJob_ShouldNameItsPositionAndCreateNothing() throws Exception {
+        JobDTO invalidJob = JobDTO.builder()
+                .company("Tech Corp")
+                .description("This is a test job description that meets the minimum character requirement for validation purposes.")
+                .jobType(Job.JobType.FULL_TIME)
+                .status(Job.JobStatus.ACTIVE)
+                .postedBy(1L)
+                .build();
+
+        mockMvc.perform(post("/api/v1/job/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("jobs", List.of(validJob, invalidJob)))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['jobs[1].title']").value("Job title is required"));
+
+        verify(jobService, never()).createAll(anyList());
+    }
+
+    @Test
+    void createJobs_WithEmptyBatch_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/job/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"jobs\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.jobs").value("At least one job is required"));
+
+        verify(jobService, never()).createAll(anyList());
+    }
+
+    @Test
+    void importJobs_WithCsvBody_ShouldStreamItToTheImport() throws Exception {
+        JobImportDTO report = JobImportDTO.builder()
+                .id("catalog").format("CSV").status("COMPLETED").records(2).imported(1).rejected(1).build();
+        when(importService.importJobs(eq("catalog"), eq(JobImport.Format.CSV), any(), any())).thenAnswer(invocation -> {
+            Reader body = invocation.getArgument(2);
+            char[] text = new char[64];
+            assertThat(new String(text, 0, body.read(text))).startsWith("title,company\nJava Developer");
+            return report;
+        });
+
+        mockMvc.perform(post("/api/v1/job/import")
+                .param("importId", "catalog")
+                .contentType("text/csv")
+                .content("title,company\nJava Developer,Tech Corp\nGo,Tech Corp\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("catalog"))
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1));
+    }
+
+    @Test
+    void importJobs_WithNdjsonBody_ShouldImportItAsNdjson() throws Exception {
+        when(importService.importJobs(any(), eq(JobImport.Format.NDJSON), any(), any()))
+                .thenReturn(JobImportDTO.builder().id("generated").format("NDJSON").status("COMPLETED").build());
+
+        mockMvc.perform(post("/api/v1/job/import")
+                .contentType("application/x-ndjson;charset=UTF-8")
+                .content("{\"title\":\"Java Developer\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.format").value("NDJSON"));
+    }
+
+    @Test
+    void getImport_WithUnknownId_ShouldReturnNotFound() throws Exception {
+        when(importService.getImport("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/job/import/missing"))
+                .andExpect(status().isNotFound());
+    }
+
     // ==================== GET TESTS ====================
 
     @Test
@@ -204,29 +343,152 @@ class JobControllerTest {
     }
 
     @Test
-    void getAllJobs_ShouldReturnJobList() throws Exception {
-        List<JobDTO> jobs = Arrays.asList(validJob);
-        when(jobService.getAllJobs()).thenReturn(jobs);
+    void getAllJobs_ShouldReturnSummaryPageByDefault() throws Exception {
+        CursorPageDTO<JobSummaryDTO> page = CursorPageDTO.<JobSummaryDTO>builder()
+                .items(Arrays.asList(validSummary))
+                .nextCursor("next-cursor")
+                .size(20)
+                .hasMore(true)
+                .build();
+        when(jobService.getJobSummariesPage(null, null)).thenReturn(page);
 
         mockMvc.perform(get("/api/v1/job"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].title").value("Senior Java Developer"));
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title").value("Senior Java Developer"))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+
+        verify(jobService, times(1)).getJobSummariesPage(null, null);
+        verify(jobService, never()).getJobsPage(any(), any());
+    }
 
-        verify(jobService, times(1)).getAllJobs();
+    @Test
+    void getAllJobs_WithCursorAndSize_ShouldPassThemToService() throws Exception {
+        CursorPageDTO<JobDTO> page = CursorPageDTO.<JobDTO>builder()
+                .items(List.of())
+                .size(5)
+                .hasMore(false)
+                .build();
+        when(jobService.getJobsPage("abc", 5)).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/job").param("cursor", "abc").param("size", "5").param("view", "full"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        verify(jobService, times(1)).getJobsPage("abc", 5);
     }
 
     @Test
-    void getJobsByCompany_ShouldReturnFilteredJobs() throws Exception {
-        List<JobDTO> jobs = Arrays.asList(validJob);
-        when(jobService.getJobsByCompany("Tech Corp")).thenReturn(jobs);
+    void getAllJobs_WithUnknownView_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/job").param("view", "compact"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(jobService);
+    }
+
+    @Test
+    void searchJobs_ShouldBindFiltersAndReturnPage() throws Exception {
+        PageResponseDTO<JobSummaryDTO> page = PageResponseDTO.<JobSummaryDTO>builder()
+                .items(Arrays.asList(validSummary))
+                .page(0)
+                .size(20)
+                .totalElements(1)
+                .totalPages(1)
+                .build();
+        when(jobService.searchJobSummaries(any(JobSearchCriteria.class))).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/job/search")
+                .param("status", "ACTIVE")
+                .param("jobType", "FULL_TIME")
+                .param("workMode", "HYBRID")
+                .param("minSalary", "90000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.totalElements").value(1));
+
+        verify(jobService).searchJobSummaries(argThat(criteria ->
+                criteria.getStatus() == Job.JobStatus.ACTIVE
+                        && criteria.getJobType() == Job.JobType.FULL_TIME
+                        && "HYBRID".equals(criteria.getWorkMode())
+                        && new BigDecimal("90000").compareTo(criteria.getMinSalary()) == 0));
+    }
+
+    @Test
+    void getFacets_ShouldBindFiltersAndReturnCounts() throws Exception {
+        JobFacetsDTO facets = JobFacetsDTO.builder()
+                .total(3)
+                .facets(Map.of("workMode", List.of(new FacetCountDTO("REMOTE", 3), new FacetCountDTO("HYBRID", 2))))
+                .build();
+        when(jobService.getFacetCounts(any(JobSearchCriteria.class))).thenReturn(facets);
+
+        mockMvc.perform(get("/api/v1/job/facets")
+                .param("workMode", "REMOTE")
+                .param("q", "java"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.facets.workMode", hasSize(2)))
+                .andExpect(jsonPath("$.facets.workMode[0].value").value("REMOTE"))
+                .andExpect(jsonPath("$.facets.workMode[0].count").value(3));
+
+        verify(jobService).getFacetCounts(argThat(criteria ->
+                "REMOTE".equals(criteria.getWorkMode()) && "java".equals(criteria.getQ())));
+    }
+
+    @Test
+    void suggest_ShouldReturnSuggestions() throws Exception {
+        when(jobService.suggest("title", "jav", null))
+                .thenReturn(List.of(new SuggestionDTO("Java Developer", 3), new SuggestionDTO("JavaScript Engineer", 1)));
+
+        mockMvc.perform(get("/api/v1/job/suggest")
+                .param("field", "title")
+                .param("prefix", "jav"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].value").value("Java Developer"))
+                .andExpect(jsonPath("$[0].weight").value(3));
+    }
 
-        mockMvc.perform(get("/api/v1/job/company/Tech Corp"))
+    @Test
+    void getJobsByCompany_ShouldStreamFilteredJobs() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(objectMapper.writeValueAsBytes(List.of(validJob)));
+            return null;
+        }).when(exportService).writeJobSummariesByCompany(eq("Tech Corp"), any(OutputStream.class),
+                eq(JobExportService.Format.JSON_ARRAY));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/job/company/Tech Corp"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].company").value("Tech Corp"));
+    }
+
+    @Test
+    void exportAll_WithNdjsonAccept_ShouldStreamCatalog() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).writeAllJobs(any(OutputStream.class), eq(JobExportService.Format.NDJSON));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/job").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
 
-        verify(jobService, times(1)).getJobsByCompany("Tech Corp");
+        verify(jobService, never()).getJobsPage(any(), any());
     }
 
     @Test
@@ -234,37 +496,218 @@ class JobControllerTest {
         List<JobDTO> jobs = Arrays.asList(validJob);
         when(jobService.getJobsByLocation("New York, NY")).thenReturn(jobs);
 
-        mockMvc.perform(get("/api/v1/job/location/New York, NY"))
+        mockMvc.perform(get("/api/v1/job/location/New York, NY").param("view", "full"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)));
 
         verify(jobService, times(1)).getJobsByLocation("New York, NY");
     }
 
+    @Test
+    void getJobsBySkill_ShouldReturnSummaries() throws Exception {
+        when(jobService.getJobSummariesBySkill("Spring Boot")).thenReturn(List.of(validSummary));
+
+        mockMvc.perform(get("/api/v1/job/skill/Spring Boot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value(validSummary.getTitle()));
+
+        verify(jobService, times(1)).getJobSummariesBySkill("Spring Boot");
+    }
+
+    @Test
+    void getMatchScores_ShouldReturnScoresKeyedByJobId() throws Exception {
+        when(jobService.getMatchScores(5L)).thenReturn(Map.of(1L, 80, 2L, 35));
+
+        mockMvc.perform(get("/api/v1/job/match-scores").param("userId", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['1']").value(80))
+                .andExpect(jsonPath("$['2']").value(35));
+    }
+
+    @Test
+    void getRecommendedJobs_ShouldReturnRankedPage() throws Exception {
+        CursorPageDTO<RecommendedJobDTO> page = CursorPageDTO.<RecommendedJobDTO>builder()
+                .items(List.of(RecommendedJobDTO.builder().job(validSummary).matchScore(92).build()))
+                .nextCursor("next")
+                .size(1)
+                .hasMore(true)
+                .build();
+        when(jobService.getRecommendedJobs(5L, null, 1)).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/job/recommended").param("userId", "5").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].job.id").value(1))
+                .andExpect(jsonPath("$.items[0].matchScore").value(92))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
     @Test
     void getJobsByJobType_ShouldReturnFilteredJobs() throws Exception {
-        List<JobDTO> jobs = Arrays.asList(validJob);
-        when(jobService.getJobsByJobType(Job.JobType.FULL_TIME)).thenReturn(jobs);
+        List<JobSummaryDTO> jobs = Arrays.asList(validSummary);
+        when(jobService.getJobSummariesByJobType(Job.JobType.FULL_TIME)).thenReturn(jobs);
 
         mockMvc.perform(get("/api/v1/job/type/FULL_TIME"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].jobType").value("FULL_TIME"));
 
-        verify(jobService, times(1)).getJobsByJobType(Job.JobType.FULL_TIME);
+        verify(jobService, times(1)).getJobSummariesByJobType(Job.JobType.FULL_TIME);
     }
 
     @Test
     void getActiveJobs_ShouldReturnOnlyActiveJobs() throws Exception {
-        List<JobDTO> jobs = Arrays.asList(validJob);
-        when(jobService.getActiveJobs()).thenReturn(jobs);
+        CursorPageDTO<JobSummaryDTO> page = CursorPageDTO.<JobSummaryDTO>builder()
+                .items(Arrays.asList(validSummary))
+                .size(20)
+                .hasMore(false)
+                .build();
+        when(jobService.getActiveJobSummariesPage(null, null)).thenReturn(page);
 
         mockMvc.perform(get("/api/v1/job/active"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].status").value("ACTIVE"));
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].status").value("ACTIVE"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(jobService, times(1)).getActiveJobSummariesPage(null, null);
+    }
+
+    // ==================== CONDITIONAL GET TESTS ====================
+
+    @Test
+    void getJobById_ShouldSendValidatorsAndCacheHeaders() throws Exception {
+        when(jobService.getJobVersion(1L)).thenReturn(Optional.of(new JobVersion("j1-100", CHANGED_AT)));
+        when(jobService.getById(1L)).thenReturn(validJob);
+
+        mockMvc.perform(get("/api/v1/job/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"j1-100-json\""))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, CHANGED_AT.toEpochMilli()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andExpect(jsonPath("$.id").value(1));
+    }
 
-        verify(jobService, times(1)).getActiveJobs();
+    @Test
+    void getJobById_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutLoadingJob() throws Exception {
+        when(jobService.getJobVersion(1L)).thenReturn(Optional.of(new JobVersion("j1-100", CHANGED_AT)));
+
+        mockMvc.perform(get("/api/v1/job/1").header(HttpHeaders.IF_NONE_MATCH, "\"j1-100-json\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"j1-100-json\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+                .andExpect(content().string(""));
+
+        verify(jobService, never()).getById(any());
+    }
+
+    @Test
+    void getJobById_WithStaleIfNoneMatch_ShouldReturnJob() throws Exception {
+        when(jobService.getJobVersion(1L)).thenReturn(Optional.of(new JobVersion("j1-200", CHANGED_AT)));
+        when(jobService.getById(1L)).thenReturn(validJob);
+
+        mockMvc.perform(get("/api/v1/job/1").header(HttpHeaders.IF_NONE_MATCH, "\"j1-100-json\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"j1-200-json\""))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void getJobById_WithIfModifiedSince_ShouldReturnNotModified() throws Exception {
+        when(jobService.getJobVersion(1L)).thenReturn(Optional.of(new JobVersion("j1-100", CHANGED_AT)));
+
+        mockMvc.perform(get("/api/v1/job/1").header(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 15 Jan 2025 10:00:00 GMT"))
+                .andExpect(status().isNotModified());
+
+        verify(jobService, never()).getById(any());
+    }
+
+    @Test
+    void getJobDetail_WithoutUser_ShouldBeValidatedAgainstJobCatalogAndPostedDate() throws Exception {
+        when(jobService.getJobDetailVersion(1L)).thenReturn(Optional.of(new JobVersion(DETAIL_TAG, CHANGED_AT)));
+
+        mockMvc.perform(get("/api/v1/job/1/detail").header(HttpHeaders.IF_NONE_MATCH, "\"" + DETAIL_TAG + "-json\""))
+                .andExpect(status().isNotModified());
+
+        verify(jobService, never()).getJobDetailJson(any(), any());
+    }
+
+    @Test
+    void getJobDetail_WithGzipAccepted_ShouldSendCachedDocumentAsStored() throws Exception {
+        byte[] gzipped = {0x1f, (byte) 0x8b, 8, 0};
+        when(jobService.getJobDetailVersion(1L)).thenReturn(Optional.of(new JobVersion(DETAIL_TAG, CHANGED_AT)));
+        when(jobService.getJobDetailGzip(1L)).thenReturn(gzipped);
+
+        mockMvc.perform(get("/api/v1/job/1/detail").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + DETAIL_TAG + "-json.gz\""))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(gzipped));
+
+        verify(jobService, never()).getJobDetailById(any(), any());
+        verify(jobService, never()).getJobDetailJson(any(), any());
+    }
+
+    @Test
+    void getJobDetail_WithGzipRefused_ShouldSendPlainJson() throws Exception {
+        when(jobService.getJobDetailVersion(1L)).thenReturn(Optional.of(new JobVersion(DETAIL_TAG, CHANGED_AT)));
+        when(jobService.getJobDetailJson(1L, null)).thenReturn("{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/v1/job/1/detail").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + DETAIL_TAG + "-json\""))
+                .andExpect(jsonPath("$.id").value("1"));
+
+        verify(jobService, never()).getJobDetailGzip(any());
+    }
+
+    @Test
+    void getJobDetail_WithUser_ShouldOnlyBeCachedPrivately() throws Exception {
+        when(jobService.getJobDetailJson(1L, 5L))
+                .thenReturn("{\"id\":\"1\",\"matchScore\":80}".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/v1/job/1/detail").param("userId", "5")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + DETAIL_TAG + "-json\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$.matchScore").value(80));
+
+        verify(jobService, never()).getJobDetailVersion(any());
+    }
+
+    @Test
+    void getActiveJobs_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutLoadingJobs() throws Exception {
+        mockMvc.perform(get("/api/v1/job/active").header(HttpHeaders.IF_NONE_MATCH, "\"c3-100-2-json\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)));
+
+        verify(jobService, never()).getActiveJobSummariesPage(any(), any());
+    }
+
+    @Test
+    void getJobsByCompany_WithMatchingIfNoneMatch_ShouldNotStream() throws Exception {
+        mockMvc.perform(get("/api/v1/job/company/Tech Corp").header(HttpHeaders.IF_NONE_MATCH, "\"c3-100-2-json\""))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(exportService);
+    }
+
+    @Test
+    void exportAll_WithListingETag_ShouldStillStream() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/job").accept(MediaType.APPLICATION_NDJSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"c3-100-2-json\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"c3-100-2-ndjson\""));
     }
 
     // ==================== UPDATE TESTS ====================
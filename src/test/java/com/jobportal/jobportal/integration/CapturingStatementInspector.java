@@ -0,0 +1,42 @@
+package com.jobportal.jobportal.integration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate sends while a test action runs on the current thread.
+ * Registered for the test profile through hibernate.session_factory.statement_inspector;
+ * outside {@link #capture(Runnable)} it passes statements through untouched.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Runs an action and returns the statements Hibernate prepared for it, in order.
+     *
+     * @param action The action, typically one repository call
+     * @return The SQL of each statement, with ? for bind parameters
+     */
+    static List<String> capture(Runnable action) {
+        List<String> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return captured;
+    }
+}
@@ -0,0 +1,86 @@
+package com.jobportal.jobportal.integration;
+
+import com.jobportal.jobportal.dto.JobBatchDTO;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.repo.JobRepo;
+import com.jobportal.jobportal.service.JobService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for bulk job creation.
+ * Creates a full batch of 10,000 jobs and checks that the inserts are sent in JDBC batches.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class JobBatchIntegrationTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void createAll_WithFullBatch_ShouldSendInsertsInJdbcBatches() {
+        List<JobDTO> jobs = new ArrayList<>(JobBatchDTO.MAX_JOBS);
+        for (int i = 0; i < JobBatchDTO.MAX_JOBS; i++) {
+            jobs.add(job(i));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<JobDTO> created = jobService.createAll(jobs);
+
+        // One job, one content and two skill links per job; sent one by one, that is 40,000 statements
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2L * JobBatchDTO.MAX_JOBS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(JobBatchDTO.MAX_JOBS / 4);
+        assertThat(created).hasSize(JobBatchDTO.MAX_JOBS);
+        assertThat(created).extracting(JobDTO::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(created.get(42).getTitle()).isEqualTo("Engineer 42");
+
+        entityManager.clear();
+        Job stored = jobRepo.findWithContentById(created.get(42).getId()).orElseThrow();
+        assertThat(stored.getDescription()).startsWith("Description of the Engineer 42 role");
+        assertThat(stored.getSkillIds()).isNotEmpty();
+    }
+
+    private static JobDTO job(int i) {
+        return JobDTO.builder()
+                .title("Engineer " + i)
+                .company("Company " + (i % 100))
+                .location("Remote")
+                .jobType(Job.JobType.FULL_TIME)
+                .status(Job.JobStatus.ACTIVE)
+                .category("IT")
+                .description("Description of the Engineer " + i + " role, long enough for validation.")
+                .requirements("Java\nSpring Boot")
+                .skills("Java, Spring Boot")
+                .salaryMin(new BigDecimal("90000"))
+                .salaryMax(new BigDecimal("120000"))
+                .salaryCurrency("USD")
+                .postedBy(1L)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.jobportal.jobportal.integration;
+
+import com.jobportal.jobportal.dto.JobDetailDTO;
+import com.jobportal.jobportal.dto.SimilarJobDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.entity.JobContent;
+import com.jobportal.jobportal.repo.JobRepo;
+import com.jobportal.jobportal.service.JobService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the job detail page.
+ * Counts the SQL statements issued to assemble one JobDetailDTO.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class JobDetailIntegrationTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void getJobDetailById_ShouldUseAtMostTwoQueries() {
+        Job job = jobRepo.save(job("Backend Engineer", "IT"));
+        for (int i = 0; i < 8; i++) {
+            jobRepo.save(job("Similar Engineer " + i, "IT"));
+        }
+        jobRepo.save(job("Accountant", "Finance"));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        JobDetailDTO detail = jobService.getJobDetailById(job.getId(), null);
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(detail.getDescription()).startsWith("Description of the Backend Engineer role");
+        assertThat(detail.getRequirements()).containsExactly("Java", "Spring Boot");
+        assertThat(detail.getSimilarJobs())
+                .hasSize(JobService.SIMILAR_JOBS_LIMIT)
+                .extracting(SimilarJobDTO::getTitle)
+                .allMatch(title -> title.startsWith("Similar Engineer"));
+    }
+
+    private static Job job(String title, String category) {
+        return Job.builder()
+                .title(title)
+                .company("Acme")
+                .location("Remote")
+                .jobType(Job.JobType.FULL_TIME)
+                .status(Job.JobStatus.ACTIVE)
+                .category(category)
+                .skills("Java, Spring Boot")
+                .content(JobContent.builder()
+                        .description("Description of the " + title + " role.")
+                        .requirements("Java\nSpring Boot")
+                        .build())
+                .postedBy(1L)
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.jobportal.jobportal.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.jobportal.customexceptionhandler.ValidationException;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.dto.JobImportDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.entity.JobImport;
+import com.jobportal.jobportal.repo.JobImportRepo;
+import com.jobportal.jobportal.repo.JobRepo;
+import com.jobportal.jobportal.service.JobImportService;
+import com.jobportal.jobportal.service.JobService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for bulk job imports.
+ * Imports an NDJSON file spanning several chunks into the H2 test database, resumes one from its checkpoint
+ * and refuses one another run holds.
+ * Not transactional: each chunk commits on the import thread.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JobImportIntegrationTest {
+
+    private static final int RECORDS = 1205;
+
+    @Autowired
+    private JobImportService importService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private JobImportRepo importRepo;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Job job : jobRepo.findAll()) {
+            if (job.getTitle().startsWith("Imported Engineer")) {
+                jobService.delete(job.getId());
+            }
+        }
+        for (JobImport jobImport : importRepo.findAll()) {
+            String rejectFile = importService.getImport(jobImport.getId()).orElseThrow().getRejectFile();
+            if (rejectFile != null) {
+                Files.deleteIfExists(Path.of(rejectFile));
+            }
+        }
+        importRepo.deleteAll();
+    }
+
+    @Test
+    void importJobs_ShouldCommitEveryChunkAndRejectInvalidRecords() throws IOException {
+        long before = jobRepo.count();
+        List<JobImportDTO> progress = new ArrayList<>();
+
+        JobImportDTO result = importService.importJobs("it-catalog", JobImport.Format.NDJSON,
+                new StringReader(ndjson()), progress::add);
+
+        // Every 100th record has no title: records 100, 200, ..., 1200
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getRecords()).isEqualTo(RECORDS);
+        assertThat(result.getImported()).isEqualTo(RECORDS - 12);
+        assertThat(result.getRejected()).isEqualTo(12);
+        assertThat(progress).extracting(JobImportDTO::getRecords).containsExactly(500L, 1000L, (long) RECORDS);
+        assertThat(jobRepo.count()).isEqualTo(before + RECORDS - 12);
+        assertThat(Files.readAllLines(Path.of(result.getRejectFile()))).hasSize(12)
+                .allSatisfy(line -> assertThat(line).contains("title: Job title is required"));
+
+        JobImport checkpoint = importRepo.findById("it-catalog").orElseThrow();
+        assertThat(checkpoint.getStatus()).isEqualTo(JobImport.ImportStatus.COMPLETED);
+        assertThat(checkpoint.getRecordsDone()).isEqualTo(RECORDS);
+
+        JobImportDTO again = importService.importJobs("it-catalog", JobImport.Format.NDJSON,
+                new StringReader(ndjson()), progress::add);
+
+        assertThat(again.getImported()).isEqualTo(RECORDS - 12);
+        assertThat(jobRepo.count()).isEqualTo(before + RECORDS - 12);
+    }
+
+    @Test
+    void importJobs_FromCheckpoint_ShouldImportOnlyTheRemainingRecords() throws IOException {
+        importRepo.save(JobImport.builder()
+                .id("it-resumed")
+                .format(JobImport.Format.NDJSON)
+                .status(JobImport.ImportStatus.FAILED)
+                .recordsDone(1000)
+                .imported(990)
+                .rejected(10)
+                .lastError("Connection reset")
+                .build());
+        long before = jobRepo.count();
+
+        JobImportDTO result = importService.importJobs("it-resumed", JobImport.Format.NDJSON,
+                new StringReader(ndjson()), progress -> { });
+
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getRecords()).isEqualTo(RECORDS);
+        assertThat(result.getImported()).isEqualTo(990 + 203);
+        assertThat(result.getRejected()).isEqualTo(10 + 2);
+        assertThat(result.getLastError()).isNull();
+        assertThat(jobRepo.count()).isEqualTo(before + 203);
+    }
+
+    @Test
+    void importJobs_HeldByAnotherRun_ShouldBeRefusedUntilItsLeaseExpires() throws IOException {
+        importRepo.save(JobImport.builder()
+                .id("it-held")
+                .format(JobImport.Format.NDJSON)
+                .status(JobImport.ImportStatus.RUNNING)
+                .recordsDone(1000)
+                .imported(990)
+                .rejected(10)
+                .owner("other-process")
+                .leaseUntil(Instant.now().plus(Duration.ofMinutes(5)))
+                .build());
+        long before = jobRepo.count();
+
+        assertThatThrownBy(() -> importService.importJobs("it-held", JobImport.Format.NDJSON,
+                new StringReader(ndjson()), progress -> { }))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Import it-held is already running");
+        assertThat(jobRepo.count()).isEqualTo(before);
+        assertThat(importRepo.findById("it-held").orElseThrow().getOwner()).isEqualTo("other-process");
+
+        JobImport held = importRepo.findById("it-held").orElseThrow();
+        held.setLeaseUntil(Instant.now().minusSeconds(1));
+        importRepo.save(held);
+
+        JobImportDTO result = importService.importJobs("it-held", JobImport.Format.NDJSON,
+                new StringReader(ndjson()), progress -> { });
+
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(jobRepo.count()).isEqualTo(before + 203);
+    }
+
+    private String ndjson() throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        for (int record = 1; record <= RECORDS; record++) {
+            JobDTO job = JobDTO.builder()
+                    .title(record % 100 == 0 ? null : "Imported Engineer " + record)
+                    .company("Company " + (record % 10))
+                    .location("Remote")
+                    .jobType(Job.JobType.FULL_TIME)
+                    .status(Job.JobStatus.ACTIVE)
+                    .description("Description of the imported engineer role " + record + ", long enough for validation.")
+                    .skills("Java, SQL")
+                    .postedBy(1L)
+                    .build();
+            ndjson.append(objectMapper.writeValueAsString(job)).append('\n');
+        }
+        return ndjson.toString();
+    }
+}
@@ -0,0 +1,186 @@
+package com.jobportal.jobportal.integration;
+
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.dto.JobSearchCriteria;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.entity.JobContent;
+import com.jobportal.jobportal.repo.JobRepo;
+import com.jobportal.jobportal.repo.JobSpecifications;
+import com.jobportal.jobportal.repo.JobSummary;
+import com.jobportal.jobportal.service.JobService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for job listing endpoints and their summary projections.
+ * Runs the projection queries against the H2 test database.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class JobListingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        jobRepo.deleteAll();
+        jobRepo.save(job("Backend Engineer", "Acme", "Engineering", "120000"));
+        jobRepo.save(job("Data Analyst", "Acme", "Analytics", "90000"));
+        jobRepo.save(job("Designer", "Globex", "Design", "80000"));
+    }
+
+    @Test
+    void summaryQueries_ShouldReturnProjectionsWithoutTextColumns() {
+        Page<JobSummary> page = jobRepo.findSummaries(
+                JobSpecifications.fromCriteria(JobSearchCriteria.builder().minSalary(new BigDecimal("85000")).build()),
+                PageRequest.of(0, 1, Sort.by(Sort.Order.desc("salaryMax"))));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(JobSummary::title).containsExactly("Backend Engineer");
+        assertThat(jobRepo.findFirstSummaryPage(PageRequest.ofSize(10))).hasSize(3);
+        assertThat(jobRepo.findSummariesByJobType(Job.JobType.FULL_TIME)).hasSize(3);
+    }
+
+    @Test
+    void listEndpoints_ShouldReturnSummariesUnlessFullViewRequested() throws Exception {
+        mockMvc.perform(get("/api/v1/job/search").param("category", "engineering"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title").value("Backend Engineer"))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/job/active").param("view", "full"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.items[0].description", startsWith("Long description")));
+
+        mockMvc.perform(get("/api/v1/job/type/FULL_TIME"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].requirements").doesNotExist());
+    }
+
+    @Test
+    void findById_ShouldLoadContentOnlyWhenRead() {
+        Long id = jobRepo.findFirstSummaryPage(PageRequest.ofSize(1)).get(0).id();
+        entityManager.flush();
+        entityManager.clear();
+
+        Job job = jobRepo.findById(id).orElseThrow();
+
+        assertThat(Hibernate.isInitialized(job.getContent())).isFalse();
+        assertThat(job.getRequirements()).isEqualTo("Requirement one\nRequirement two");
+        assertThat(Hibernate.isInitialized(job.getContent())).isTrue();
+
+        entityManager.clear();
+        assertThat(jobRepo.findByStatus(Job.JobStatus.ACTIVE))
+                .allSatisfy(active -> assertThat(Hibernate.isInitialized(active.getContent())).isTrue());
+    }
+
+    @Test
+    void lookupKeys_ShouldBeMaintainedOnInsertAndUpdate() throws Exception {
+        Job job = jobRepo.save(job("Platform Engineer", "  Initech Labs ", "Engineering", "110000"));
+        entityManager.flush();
+
+        assertThat(job.getCompanyKey()).isEqualTo("initech labs");
+        assertThat(job.getLocationKey()).isEqualTo("remote");
+        assertThat(jobRepo.findByCompanyKey(Job.toKey("INITECH LABS"))).hasSize(1);
+
+        job.setCompany("Globex");
+        entityManager.flush();
+
+        assertThat(jobRepo.findByCompanyKey("initech labs")).isEmpty();
+        assertThat(jobRepo.findByCompanyKey("globex")).hasSize(2);
+        mockMvc.perform(get("/api/v1/job/location/{location}", "REMOTE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)));
+    }
+
+    @Test
+    void skillDictionary_ShouldServeJobsRequiringSkill() throws Exception {
+        JobDTO first = jobService.create(jobDto("Kafka Engineer", "Java, Spring Boot, Kafka"));
+        JobDTO second = jobService.create(jobDto("Spring Developer", "spring boot , JAVA"));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(jobRepo.findById(second.getId()).orElseThrow().getSkillIds())
+                .hasSize(2)
+                .isSubsetOf(jobRepo.findById(first.getId()).orElseThrow().getSkillIds());
+        mockMvc.perform(get("/api/v1/job/skill/{skill}", "SPRING BOOT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("Spring Developer"));
+
+        jobService.update(first.getId(), jobDto("Kafka Engineer", "Kafka"));
+        entityManager.flush();
+
+        mockMvc.perform(get("/api/v1/job/skill/{skill}", "java"))
+                .andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/api/v1/job/skill/{skill}", "Fortran"))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    private static JobDTO jobDto(String title, String skills) {
+        return JobDTO.builder()
+                .title(title)
+                .company("Initech")
+                .location("Remote")
+                .jobType(Job.JobType.FULL_TIME)
+                .status(Job.JobStatus.ACTIVE)
+                .description("Long description of the " + title + " role.")
+                .skills(skills)
+                .postedBy(1L)
+                .build();
+    }
+
+    private static Job job(String title, String company, String category, String salaryMax) {
+        return Job.builder()
+                .title(title)
+                .company(company)
+                .location("Remote")
+                .jobType(Job.JobType.FULL_TIME)
+                .status(Job.JobStatus.ACTIVE)
+                .category(category)
+                .workMode("REMOTE")
+                .content(JobContent.builder()
+                        .description("Long description of the " + title + " role. ".repeat(20))
+                        .requirements(String.join("\n", List.of("Requirement one", "Requirement two")))
+                        .build())
+                .salaryMin(new BigDecimal("50000"))
+                .salaryMax(new BigDecimal(salaryMax))
+                .salaryCurrency("USD")
+                .postedBy(1L)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.jobportal.jobportal.integration;
+
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.repo.JobRepo;
+import com.jobportal.jobportal.repo.JobSpecifications;
+import com.jobportal.jobportal.repo.ResumeRepo;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the query plans of hot finder queries.
+ * Calls the JobRepo and ResumeRepo finders, captures the SQL Hibernate sends
+ * for them ({@link CapturingStatementInspector}) and runs EXPLAIN on it in H2,
+ * failing if a statement no longer uses an index.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class QueryPlanIntegrationTest {
+
+    private static final Sort BY_SALARY = Sort.by(Sort.Direction.DESC, "normalizedSalary", "id");
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private ResumeRepo resumeRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        // A cached query result would be returned without sending any SQL
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+
+    @Test
+    void activeJobsPage_ShouldUseStatusIndex() {
+        assertUsesIndex(() -> jobRepo.findFirstPageByStatus(Job.JobStatus.ACTIVE, PageRequest.ofSize(21)));
+        assertUsesIndex(() -> jobRepo.findPageByStatusAfter(Job.JobStatus.ACTIVE, Instant.now(), 10L,
+                PageRequest.ofSize(21)));
+    }
+
+    @Test
+    void findSimilarJobs_ShouldUseStatusCategoryTypeIndex() {
+        assertUsesIndex(() -> jobRepo.findSimilarJobs(1L, "IT", Job.JobType.FULL_TIME, PageRequest.ofSize(6)));
+    }
+
+    @Test
+    void jobFinders_ShouldUseIndexes() {
+        assertUsesIndex(() -> jobRepo.findByJobType(Job.JobType.CONTRACT));
+        assertUsesIndex(() -> jobRepo.findByPostedBy(1L));
+        assertUsesIndex(() -> jobRepo.findByCompanyKey("tech corp"));
+        assertUsesIndex(() -> jobRepo.findByLocationKey("remote"));
+        assertUsesIndex(() -> jobRepo.findByCategoryKey("it"));
+        assertUsesIndex(() -> jobRepo.findByDepartmentKey("engineering"));
+    }
+
+    @Test
+    void salaryFiltersAndSort_ShouldUseSalaryIndexes() {
+        assertUsesIndex(() -> jobRepo.findAll(JobSpecifications.paysBetween(List.of(80_000L, 120_000L)),
+                PageRequest.of(0, 20, BY_SALARY)));
+        assertUsesIndex(() -> jobRepo.findAll(Specification.allOf(JobSpecifications.hasStatus(Job.JobStatus.ACTIVE),
+                JobSpecifications.paysAtLeast(80_000L)), PageRequest.of(0, 20, BY_SALARY)));
+    }
+
+    @Test
+    void jobsRequiringSkill_ShouldUseSkillIndex() {
+        assertUsesIndex(() -> jobRepo.findSummariesBySkillIdAndStatus(7, Job.JobStatus.ACTIVE));
+    }
+
+    @Test
+    void findPrimaryResume_ShouldUseUserPrimaryIndex() {
+        assertUsesIndex(() -> resumeRepo.findByUserIdAndIsPrimaryTrue(1L));
+    }
+
+    private void assertUsesIndex(Runnable finder) {
+        List<String> statements = CapturingStatementInspector.capture(finder);
+
+        assertThat(statements).as("statements sent by the finder").isNotEmpty();
+        for (String sql : statements) {
+            // Bind parameters stay unset: H2 only checks them for EXPLAIN ANALYZE
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+            assertThat(plan).as("plan for %s", sql).doesNotContain("tableScan");
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.jobportal.jobportal.integration;
+
+import com.jobportal.jobportal.customexceptionhandler.JobNotFoundException;
+import com.jobportal.jobportal.customexceptionhandler.UserNotFoundException;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.dto.UserDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.entity.User;
+import com.jobportal.jobportal.repo.JobRepo;
+import com.jobportal.jobportal.repo.UserRepo;
+import com.jobportal.jobportal.service.JobService;
+import com.jobportal.jobportal.service.UserService;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for the Hibernate second-level and query cache.
+ * Not transactional: entries are only cached once a transaction commits, so
+ * every step goes through the services like a request would, and the rows
+ * created are deleted afterwards.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JobRepo jobRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Cache cache;
+    private Statistics statistics;
+    private final List<Long> jobIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        cache = entityManagerFactory.getCache();
+        cache.evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobIds.forEach(id -> {
+            try {
+                jobService.delete(id);
+            } catch (JobNotFoundException ignored) {
+                // Deleted by the test
+            }
+        });
+        userIds.forEach(id -> {
+            try {
+                userService.delete(id);
+            } catch (UserNotFoundException ignored) {
+                // Deleted by the test
+            }
+        });
+    }
+
+    @Test
+    void getJobById_SecondRead_ShouldBeServedFromCacheWithoutQuery() {
+        Long id = createJob("Backend Engineer");
+        cache.evictAll();
+        statistics.clear();
+
+        jobService.getById(id);
+        long statements = statistics.getPrepareStatementCount();
+        JobDTO again = jobService.getById(id);
+
+        assertThat(cache.contains(Job.class, id)).isTrue();
+        assertThat(statistics.getEntityStatistics(Job.class.getName()).getCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(again.getTitle()).isEqualTo("Backend Engineer");
+        assertThat(again.getDescription()).startsWith("Description of the Backend Engineer role");
+    }
+
+    @Test
+    void updateJob_ShouldNotServeTheCachedVersion() {
+        Long id = createJob("Backend Engineer");
+        jobService.getById(id);
+
+        JobDTO changed = jobService.getById(id);
+        changed.setTitle("Platform Engineer");
+        changed.setSkills("Go, Kubernetes");
+        jobService.update(id, changed);
+
+        JobDTO reread = jobService.getById(id);
+        assertThat(reread.getTitle()).isEqualTo("Platform Engineer");
+        assertThat(reread.getSkills()).isEqualTo("Go, Kubernetes");
+        assertThat(jobService.getJobDetailById(id, null).getRole()).isEqualTo("Platform Engineer");
+    }
+
+    @Test
+    void deleteJob_ShouldEvictItFromCache() {
+        Long id = createJob("Backend Engineer");
+        jobService.getById(id);
+        assertThat(cache.contains(Job.class, id)).isTrue();
+
+        jobService.delete(id);
+        statistics.clear();
+
+        // READ_WRITE leaves a soft lock under the key, so check what a reader gets instead
+        assertThat(jobRepo.findById(id)).isEmpty();
+        assertThat(statistics.getEntityStatistics(Job.class.getName()).getCacheHitCount()).isZero();
+        assertThatThrownBy(() -> jobService.getById(id)).isInstanceOf(JobNotFoundException.class);
+        assertThatThrownBy(() -> jobService.getJobDetailById(id, null)).isInstanceOf(JobNotFoundException.class);
+    }
+
+    @Test
+    void getUserById_SecondRead_ShouldBeServedFromCache() {
+        Long id = createUser("Ada");
+        cache.evictAll();
+        statistics.clear();
+
+        userService.getById(id);
+        long statements = statistics.getPrepareStatementCount();
+        UserDTO again = userService.getById(id);
+
+        assertThat(cache.contains(User.class, id)).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(again.getFirstName()).isEqualTo("Ada");
+    }
+
+    @Test
+    void updateUser_ShouldNotServeTheCachedVersion() {
+        Long id = createUser("Ada");
+        UserDTO changed = userService.getById(id);
+
+        changed.setFirstName("Grace");
+        changed.setSkills("COBOL");
+        userService.update(id, changed);
+
+        UserDTO reread = userService.getById(id);
+        assertThat(reread.getFirstName()).isEqualTo("Grace");
+        assertThat(reread.getSkills()).isEqualTo("COBOL");
+    }
+
+    @Test
+    void deleteUser_ShouldEvictItFromCache() {
+        Long id = createUser("Ada");
+        userService.getById(id);
+        assertThat(cache.contains(User.class, id)).isTrue();
+
+        userService.delete(id);
+        statistics.clear();
+
+        assertThat(userRepo.findById(id)).isEmpty();
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getCacheHitCount()).isZero();
+        assertThatThrownBy(() -> userService.getById(id)).isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    void activeJobsPage_ShouldComeFromQueryCacheUntilAJobChanges() {
+        // Straight through the repository: JobService serves this page from its own result cache
+        Long id = createJob("Backend Engineer");
+
+        firstActivePage();
+        statistics.clear();
+        List<Job> cached = firstActivePage();
+
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(cached).extracting(Job::getId).contains(id);
+
+        JobDTO changed = jobService.getById(id);
+        changed.setTitle("Platform Engineer");
+        jobService.update(id, changed);
+        statistics.clear();
+        List<Job> reread = firstActivePage();
+
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+        assertThat(reread).filteredOn(job -> job.getId().equals(id))
+                .extracting(Job::getTitle)
+                .containsExactly("Platform Engineer");
+
+        jobService.delete(id);
+        assertThat(firstActivePage()).extracting(Job::getId).doesNotContain(id);
+    }
+
+    private List<Job> firstActivePage() {
+        return jobRepo.findFirstPageByStatus(Job.JobStatus.ACTIVE, PageRequest.ofSize(5));
+    }
+
+    private Long createJob(String title) {
+        JobDTO created = jobService.create(JobDTO.builder()
+                .title(title)
+                .company("Acme")
+                .location("Remote")
+                .jobType(Job.JobType.FULL_TIME)
+                .status(Job.JobStatus.ACTIVE)
+                .category("IT")
+                .skills("Java, Spring Boot")
+                .description("Description of the " + title + " role, long enough to be valid.")
+                .postedBy(1L)
+                .build());
+        jobIds.add(created.getId());
+        return created.getId();
+    }
+
+    private Long createUser(String firstName) {
+        UserDTO user = new UserDTO();
+        user.setFirstName(firstName);
+        user.setLastName("Lovelace");
+        user.setEmail(firstName.toLowerCase() + "-" + UUID.randomUUID() + "@example.com");
+        user.setUserType("candidate");
+        user.setSkills("Java");
+        UserDTO created = userService.create(user);
+        userIds.add(created.getId());
+        return created.getId();
+    }
+}
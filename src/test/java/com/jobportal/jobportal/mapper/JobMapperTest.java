@@ -0,0 +1,75 @@
+package com.jobportal.jobportal.mapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for JobMapper.
+ * Tests the hand-written formatters and parsers used for every job in a response.
+ */
+class JobMapperTest {
+
+    @Test
+    void formatCompensation_ShouldFormatRangesInCompactUnits() {
+        assertThat(JobMapper.formatCompensation(new BigDecimal("150000"), new BigDecimal("190000"), "USD"))
+                .isEqualTo("$150k–$190k");
+        assertThat(JobMapper.formatCompensation(new BigDecimal("1250000"), null, "eur")).isEqualTo("€1.3M");
+        assertThat(JobMapper.formatCompensation(new BigDecimal("1000000"), null, null)).isEqualTo("$1.0M");
+        assertThat(JobMapper.formatCompensation(null, new BigDecimal("500"), "CAD")).isEqualTo("Up to CAD 500");
+        assertThat(JobMapper.formatCompensation(null, null, "USD")).isEqualTo("Not specified");
+    }
+
+    @Test
+    void formatCompensation_ShouldNotCarryOverPreviousResults() {
+        JobMapper.formatCompensation(new BigDecimal("1500000"), new BigDecimal("2500000"), "GBP");
+
+        assertThat(JobMapper.formatCompensation(new BigDecimal("90000"), null, "INR")).isEqualTo("₹90k");
+    }
+
+    @Test
+    void formatPostedAt_ShouldUseTheLargestUnit() {
+        Instant now = Instant.now();
+
+        assertThat(JobMapper.formatPostedAt(now.minusSeconds(10))).isEqualTo("Just now");
+        assertThat(JobMapper.formatPostedAt(now.minus(Duration.ofMinutes(5)))).isEqualTo("5 minutes ago");
+        assertThat(JobMapper.formatPostedAt(now.minus(Duration.ofHours(1)))).isEqualTo("1 hour ago");
+        assertThat(JobMapper.formatPostedAt(now.minus(Duration.ofDays(16)))).isEqualTo("2 weeks ago");
+        assertThat(JobMapper.formatPostedAt(null)).isEmpty();
+    }
+
+    @Test
+    void postedAtChangedAndChangesAt_ShouldBoundThePeriodOfTheCurrentText() {
+        Instant postedAt = Instant.now().minus(Duration.ofMinutes(5)).minusSeconds(30);
+
+        assertThat(JobMapper.postedAtChangedAt(postedAt)).isEqualTo(postedAt.plus(Duration.ofMinutes(5)));
+        assertThat(JobMapper.postedAtChangesAt(postedAt)).isEqualTo(postedAt.plus(Duration.ofMinutes(6)));
+
+        Instant dayOld = Instant.now().minus(Duration.ofDays(2)).minus(Duration.ofHours(3));
+        assertThat(JobMapper.postedAtChangedAt(dayOld)).isEqualTo(dayOld.plus(Duration.ofDays(2)));
+        assertThat(JobMapper.postedAtChangedAt(null)).isNull();
+    }
+
+    @Test
+    void requirementsToArray_ShouldSplitOnLinesBulletsNumbersAndDashes() {
+        String requirements = "5+ years of experience\n• React expertise\r\n1. TypeScript knowledge"
+                + "\n12. Node.js 18 or later - REST APIs * Git";
+
+        assertThat(JobMapper.requirementsToArray(requirements)).containsExactly(
+                "5+ years of experience", "React expertise", "TypeScript knowledge",
+                "Node.js 18 or later", "REST APIs");
+        assertThat(JobMapper.requirementsToArray("  \n ")).isEmpty();
+        assertThat(JobMapper.requirementsToArray(null)).isEmpty();
+    }
+
+    @Test
+    void skillsToKeywords_ShouldTrimAndDropEmptyEntries() {
+        assertThat(JobMapper.skillsToKeywords(" React, TypeScript,, Node.js ,")).containsExactly("React", "TypeScript", "Node.js");
+        assertThat(JobMapper.skillsToKeywords(" ")).isEmpty();
+        assertThat(JobMapper.skillsToKeywords(null)).isEmpty();
+    }
+}
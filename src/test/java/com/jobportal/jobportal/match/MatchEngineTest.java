@@ -0,0 +1,103 @@
+package com.jobportal.jobportal.match;
+
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.search.JobSkillIndex;
+import com.jobportal.jobportal.service.SkillService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MatchEngine.
+ * Tests batch scoring over the indexed active jobs and vectors of jobs that are not indexed.
+ */
+@ExtendWith(MockitoExtension.class)
+class MatchEngineTest {
+
+    @Mock
+    private SkillService skillService;
+
+    @InjectMocks
+    private MatchEngine engine;
+
+    @Test
+    void scoreAll_ShouldScoreEveryActiveJob() {
+        when(skillService.bitsetOf(any())).thenReturn(JobSkillIndex.toBitset(List.of(1)));
+        for (long id = 1; id <= 500; id++) {
+            engine.index(job(id, Job.JobStatus.ACTIVE, id % 2 == 0 ? "SENIOR" : "ENTRY"));
+        }
+        engine.index(job(501L, Job.JobStatus.CLOSED, "ENTRY"));
+        engine.index(job(499L, Job.JobStatus.INACTIVE, "ENTRY"));
+        CandidateProfile candidate = CandidateProfile.of(JobSkillIndex.toBitset(List.of(1)), "ENTRY", null, null, null);
+
+        Map<Long, Integer> scores = engine.scoreAll(candidate);
+
+        assertThat(scores).hasSize(499).doesNotContainKeys(499L, 501L);
+        assertThat(scores.get(1L)).isEqualTo(100);
+        // skills 0.5 + experience 0.2 * 0 (two levels below)
+        assertThat(scores.get(2L)).isEqualTo(71);
+    }
+
+    @Test
+    void topMatches_ShouldKeepBestJobsBestFirst() {
+        when(skillService.bitsetOf(any())).thenReturn(JobSkillIndex.toBitset(List.of(1)));
+        for (long id = 1; id <= 10; id++) {
+            engine.index(job(id, Job.JobStatus.ACTIVE, id % 2 == 0 ? "SENIOR" : "ENTRY"));
+        }
+        CandidateProfile candidate = CandidateProfile.of(JobSkillIndex.toBitset(List.of(1)), "ENTRY", null, null, null);
+        CandidateProfile unrelated = CandidateProfile.of(new long[0], null, null, null, null);
+
+        // Equal scores rank the higher job ID first
+        assertThat(engine.topMatches(candidate, 7)).containsExactly(
+            new RankedJob(9, 100), new RankedJob(7, 100), new RankedJob(5, 100), new RankedJob(3, 100),
+            new RankedJob(1, 100), new RankedJob(10, 71), new RankedJob(8, 71));
+        assertThat(engine.topMatches(candidate, 20)).hasSize(10);
+        assertThat(engine.topMatches(candidate, 0)).isEmpty();
+        assertThat(engine.topMatches(unrelated, 5)).isEmpty();
+    }
+
+    @Test
+    void index_ShouldScoreTheSkillsTaggedFromTheDescription() {
+        JobDTO tagged = job(1L, Job.JobStatus.ACTIVE, "ENTRY");
+        // Typed "Java" (1) and tagged "Kafka" (2)
+        tagged.setSkillIds(Set.of(1, 2));
+        engine.index(tagged);
+        CandidateProfile kafka = CandidateProfile.of(JobSkillIndex.toBitset(List.of(2)), "ENTRY", null, null, null);
+
+        assertThat(engine.scoreAll(kafka)).containsKey(1L);
+        assertThat(engine.scoreAll(kafka).get(1L)).isGreaterThan(
+                engine.scoreAll(CandidateProfile.of(new long[0], "ENTRY", null, null, null)).get(1L));
+        verifyNoInteractions(skillService);
+    }
+
+    @Test
+    void vectorOf_WithJobNotIndexed_ShouldUseItsSkillIds() {
+        Job closed = Job.builder().id(7L).status(Job.JobStatus.CLOSED).skills("Java").skillIds(Set.of(1, 2)).build();
+
+        assertThat(engine.vectorOf(closed).skills()).isEqualTo(JobSkillIndex.toBitset(List.of(1, 2)));
+        verifyNoInteractions(skillService);
+    }
+
+    @Test
+    void vectorOf_WithJobWithoutSkillIds_ShouldParseItsSkills() {
+        when(skillService.bitsetOf("Java")).thenReturn(JobSkillIndex.toBitset(List.of(1)));
+        Job unsaved = Job.builder().skills("Java").build();
+
+        assertThat(engine.vectorOf(unsaved).skills()).isEqualTo(JobSkillIndex.toBitset(List.of(1)));
+    }
+
+    private static JobDTO job(Long id, Job.JobStatus status, String experienceLevel) {
+        return JobDTO.builder().id(id).status(status).skills("Java").experienceLevel(experienceLevel).build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.jobportal.jobportal.match;
+
+import com.jobportal.jobportal.dto.MatchFactorDTO;
+import com.jobportal.jobportal.search.JobSkillIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for MatchScorer.
+ * Tests the weighting of the factors and that the factors explain the score.
+ */
+class MatchScorerTest {
+
+    private static final long[] JAVA_SPRING = JobSkillIndex.toBitset(List.of(1, 2));
+    private static final long[] JAVA_SPRING_KAFKA_DOCKER = JobSkillIndex.toBitset(List.of(1, 2, 3, 70));
+
+    @Test
+    void score_ShouldWeighAllFactors() {
+        CandidateProfile candidate = CandidateProfile.of(JAVA_SPRING, "MID", "MASTER", "Berlin", "HYBRID");
+        JobVector job = JobVector.of(1L, JAVA_SPRING_KAFKA_DOCKER, "SENIOR", "bachelor", " berlin ", "HYBRID");
+
+        // skills 0.5 * 2/4 + experience 0.2 * 0.5 + education 0.1 + location 0.1 + work mode 0.1
+        assertThat(MatchScorer.score(candidate, job)).isEqualTo(65);
+    }
+
+    @Test
+    void score_ShouldLeaveOutFactorsEitherSideLacks() {
+        CandidateProfile candidate = CandidateProfile.of(JAVA_SPRING, null, null, "Berlin", null);
+
+        assertThat(MatchScorer.score(candidate, JobVector.of(1L, JAVA_SPRING, "SENIOR", null, "Paris", "REMOTE")))
+                .isEqualTo(100);
+        assertThat(MatchScorer.score(candidate, JobVector.of(2L, new long[0], null, null, "Paris", "ONSITE")))
+                .isZero();
+        assertThat(MatchScorer.score(CandidateProfile.of(new long[0], null, null, null, null),
+                JobVector.of(3L, new long[0], "ENTRY", null, null, null))).isZero();
+    }
+
+    @Test
+    void factors_ShouldExplainScore() {
+        CandidateProfile candidate = CandidateProfile.of(JAVA_SPRING, "ENTRY", null, null, "ONSITE");
+        JobVector job = JobVector.of(1L, JAVA_SPRING_KAFKA_DOCKER, "SENIOR", "PHD", "Berlin", "REMOTE");
+
+        List<MatchFactorDTO> factors = MatchScorer.factors(candidate, job, id -> "skill-" + id);
+
+        assertThat(factors).extracting(MatchFactorDTO::getLabel)
+                .containsExactly("skill-1", "skill-2", "skill-3", "skill-70", "Experience level", "Work mode");
+        assertThat(factors.stream().mapToDouble(MatchFactorDTO::getWeight).sum()).isCloseTo(1.0, within(1e-9));
+        double weighted = factors.stream().mapToDouble(f -> f.getWeight() * f.getScore()).sum();
+        assertThat(Math.round(100 * weighted)).isEqualTo(MatchScorer.score(candidate, job));
+    }
+}
@@ -0,0 +1,77 @@
+package com.jobportal.jobportal.match;
+
+import com.jobportal.jobportal.event.CandidateProfileChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for RecommendationCache.
+ * Tests reuse of a user's ranking, expiry, the size bound and invalidation on profile changes.
+ */
+class RecommendationCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_ShouldReuseRankingUntilProfileChanges() {
+        RecommendationCache cache = new RecommendationCache(100, 60_000);
+
+        List<RankedJob> first = cache.get(1L, loader(List.of(new RankedJob(10, 90))));
+        List<RankedJob> second = cache.get(1L, loader(List.of(new RankedJob(11, 80))));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+
+        cache.onProfileChanged(new CandidateProfileChangedEvent(1L));
+
+        assertThat(cache.get(1L, loader(List.of(new RankedJob(11, 80))))).containsExactly(new RankedJob(11, 80));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_WithExpiredRanking_ShouldRecompute() {
+        RecommendationCache cache = new RecommendationCache(100, 0);
+
+        cache.get(1L, loader(List.of()));
+        cache.get(1L, loader(List.of()));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_WithMoreUsersThanTheBound_ShouldEvict() {
+        RecommendationCache cache = new RecommendationCache(2, 60_000);
+
+        for (long userId = 1; userId <= 5; userId++) {
+            cache.get(userId, loader(List.of()));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void get_WithInvalidationDuringLoad_ShouldNotKeepRanking() {
+        RecommendationCache cache = new RecommendationCache(100, 60_000);
+
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            cache.invalidate(1L);
+            return List.of();
+        });
+        cache.get(1L, loader(List.of()));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private Supplier<List<RankedJob>> loader(List<RankedJob> ranking) {
+        return () -> {
+            loads.incrementAndGet();
+            return ranking;
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.jobportal.jobportal.resume;
+
+import com.jobportal.jobportal.search.SkillTagger;
+import com.jobportal.jobportal.service.SkillService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ResumeAnalyzer.
+ * Tests detection of section headings, dictionary skills and tokens in resume text.
+ */
+@ExtendWith(MockitoExtension.class)
+class ResumeAnalyzerTest {
+
+    @Mock
+    private SkillService skillService;
+
+    @Mock
+    private SkillTagger skillTagger;
+
+    @InjectMocks
+    private ResumeAnalyzer analyzer;
+
+    @Test
+    void analyze_ShouldFindSectionsSkillsAndTokens() {
+        String text = String.join("\n",
+            "Jane Doe",
+            "Summary",
+            "Backend developer.",
+            "Technical   Skills:",
+            "Spring Boot, C++ and Java",
+            "EXPERIENCE",
+            "Built services in Java.");
+
+        when(skillTagger.tag(text)).thenReturn(new LinkedHashSet<>(List.of(2, 3, 1)));
+        when(skillService.nameOf(1)).thenReturn("Java");
+        when(skillService.nameOf(2)).thenReturn("Spring Boot");
+        when(skillService.nameOf(3)).thenReturn("C++");
+
+        ResumeAnalysis analysis = analyzer.analyze(text);
+
+        assertThat(analysis.sections()).containsExactly("summary", "technical skills", "experience");
+        assertThat(analysis.skills()).containsExactly("Spring Boot", "C++", "Java");
+        assertThat(analysis.tokens()).containsExactly(
+            "jane", "doe", "backend", "developer", "spring", "boot", "c++", "and", "java", "built", "services", "in");
+        assertThat(analysis.textLength()).isEqualTo(text.length());
+    }
+}
@@ -0,0 +1,49 @@
+package com.jobportal.jobportal.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for AhoCorasick.
+ * Tests that every occurrence of every pattern is reported in one pass.
+ */
+class AhoCorasickTest {
+
+    @Test
+    void scan_ShouldReportOverlappingMatchesThroughFailureLinks() {
+        AhoCorasick automaton = AhoCorasick.compile(List.of("he", "she", "his", "hers"));
+
+        assertThat(matches(automaton, "ushers")).containsExactly("she@1", "he@2", "hers@2");
+        assertThat(matches(automaton, "ahishers")).containsExactly("his@1", "she@3", "he@4", "hers@4");
+    }
+
+    @Test
+    void scan_ShouldIgnoreCaseAndKeepOriginalOffsets() {
+        List<String> patterns = List.of("c", "c++", "", "Spring Boot", "SPRING BOOT");
+        AhoCorasick automaton = AhoCorasick.compile(patterns);
+        List<String> found = new ArrayList<>();
+
+        automaton.scan("C++ and spring BOOT", (pattern, start, end) ->
+                found.add(patterns.get(pattern) + "@" + start + "-" + end));
+
+        assertThat(found).containsExactly("c@0-1", "c++@0-3", "Spring Boot@8-19");
+    }
+
+    @Test
+    void scan_WithoutPatterns_ShouldFindNothing() {
+        AhoCorasick automaton = AhoCorasick.compile(List.of());
+
+        assertThat(matches(automaton, "anything")).isEmpty();
+        assertThat(automaton.size()).isEqualTo(1);
+    }
+
+    private static List<String> matches(AhoCorasick automaton, String text) {
+        List<String> found = new ArrayList<>();
+        automaton.scan(text, (pattern, start, end) -> found.add(text.substring(start, end) + "@" + start));
+        return found;
+    }
+}
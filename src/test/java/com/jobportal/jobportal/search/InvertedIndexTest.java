@@ -0,0 +1,122 @@
+package com.jobportal.jobportal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for InvertedIndex.
+ * Tests tokenization, BM25 ranking, reuse of the scoring buffers, and document replacement and removal.
+ */
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.put(1L, new InvertedIndex.TermCounter()
+                .add("Senior Java Developer", 3)
+                .add("Java Spring Boot MySQL", 2)
+                .add("Build backend services", 1));
+        index.put(2L, new InvertedIndex.TermCounter()
+                .add("Frontend Engineer", 3)
+                .add("React JavaScript", 2)
+                .add("Work with our Java backend team", 1));
+        index.put(3L, new InvertedIndex.TermCounter()
+                .add("Data Analyst", 3)
+                .add("SQL Python", 2));
+    }
+
+    @Test
+    void tokenize_ShouldLowerCaseKeepSymbolsAndDropStopWords() {
+        List<String> terms = new ArrayList<>();
+
+        InvertedIndex.tokenize("The C++ and C# developer, Node.js", terms::add);
+
+        assertThat(terms).containsExactly("c++", "c#", "developer", "node", "js");
+    }
+
+    @Test
+    void search_ShouldRankTitleAndSkillMatchesFirst() {
+        List<InvertedIndex.Hit> hits = index.search("java", 10);
+
+        assertThat(hits).extracting(InvertedIndex.Hit::key).containsExactly(1L, 2L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void search_ShouldRespectLimit() {
+        assertThat(index.search("java react python", 2)).hasSize(2);
+    }
+
+    @Test
+    void search_Repeated_ShouldNotCarryScoresOverFromEarlierQueries() {
+        List<InvertedIndex.Hit> first = index.search("java", 10);
+        index.search("java react python", 10);
+        InvertedIndex larger = new InvertedIndex();
+        for (long key = 1; key <= 5_000; key++) {
+            larger.put(key, new InvertedIndex.TermCounter().add("Java Developer " + key, 1));
+        }
+        larger.search("java", 10);
+
+        assertThat(index.search("java", 10)).isEqualTo(first);
+    }
+
+    @Test
+    void search_WithUnknownOrEmptyQuery_ShouldReturnNoHits() {
+        assertThat(index.search("cobol", 10)).isEmpty();
+        assertThat(index.search("the and", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+    }
+
+    @Test
+    void matchingKeys_ShouldReturnEveryDocumentSearchMatchesWithoutLimit() {
+        for (long key = 100; key < 1600; key++) {
+            index.put(key, new InvertedIndex.TermCounter().add("Kotlin job " + key, 1));
+        }
+        index.remove(100L);
+
+        assertThat(index.matchingKeys("kotlin")).hasSize(1499).doesNotContain(100L);
+        assertThat(index.matchingKeys("java python")).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.matchingKeys("the and")).isEmpty();
+        assertThat(index.matchingKeys(null)).isEmpty();
+    }
+
+    @Test
+    void put_WithExistingKey_ShouldReplaceDocument() {
+        index.put(1L, new InvertedIndex.TermCounter().add("Python Developer", 3));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("java", 10)).extracting(InvertedIndex.Hit::key).containsExactly(2L);
+        assertThat(index.search("python", 10)).extracting(InvertedIndex.Hit::key).contains(1L, 3L);
+    }
+
+    @Test
+    void remove_ShouldExcludeDocumentFromResults() {
+        index.remove(1L);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("java", 10)).extracting(InvertedIndex.Hit::key).containsExactly(2L);
+    }
+
+    @Test
+    void remove_AfterManyReplacements_ShouldCompactAndKeepResultsCorrect() {
+        for (int round = 0; round < 3; round++) {
+            for (long key = 100; key < 1100; key++) {
+                index.put(key, new InvertedIndex.TermCounter().add("Kotlin job " + key, 1));
+            }
+        }
+        for (long key = 100; key < 1099; key++) {
+            index.remove(key);
+        }
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.search("kotlin", 10)).extracting(InvertedIndex.Hit::key).containsExactly(1099L);
+        assertThat(index.search("java", 10)).extracting(InvertedIndex.Hit::key).containsExactly(1L, 2L);
+    }
+}
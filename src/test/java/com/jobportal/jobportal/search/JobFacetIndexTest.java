@@ -0,0 +1,131 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.dto.FacetCountDTO;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.dto.JobFacetsDTO;
+import com.jobportal.jobportal.dto.JobSearchCriteria;
+import com.jobportal.jobportal.entity.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for JobFacetIndex.
+ * Tests facet counting, filter intersection, and incremental updates.
+ */
+class JobFacetIndexTest {
+
+    private JobFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobFacetIndex();
+        index.index(job(1L, "New York", "REMOTE", Job.JobType.FULL_TIME, "Engineering", "90000"));
+        index.index(job(2L, "new york", "HYBRID", Job.JobType.FULL_TIME, "Engineering", "120000"));
+        index.index(job(3L, "Boston", "REMOTE", Job.JobType.CONTRACT, "Design", "70000"));
+        index.index(job(4L, "Boston", "ONSITE", Job.JobType.FULL_TIME, "Engineering", "150000"));
+    }
+
+    @Test
+    void count_WithoutFilters_ShouldCountAllActiveJobsPerValue() {
+        JobFacetsDTO result = index.count(new JobSearchCriteria(), null);
+
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getFacets().get("location")).extracting(FacetCountDTO::getCount).containsExactly(2L, 2L);
+        assertThat(result.getFacets().get("jobType"))
+                .containsExactly(new FacetCountDTO("FULL_TIME", 3), new FacetCountDTO("CONTRACT", 1));
+        assertThat(result.getFacets().get("category"))
+                .containsExactly(new FacetCountDTO("Engineering", 3), new FacetCountDTO("Design", 1));
+    }
+
+    @Test
+    void count_WithFacetFilter_ShouldNotApplyFilterToItsOwnFacet() {
+        JobSearchCriteria criteria = JobSearchCriteria.builder().workMode("remote").build();
+
+        JobFacetsDTO result = index.count(criteria, null);
+
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getFacets().get("workMode"))
+                .containsExactly(new FacetCountDTO("REMOTE", 2), new FacetCountDTO("HYBRID", 1),
+                        new FacetCountDTO("ONSITE", 1));
+        assertThat(result.getFacets().get("category"))
+                .containsExactly(new FacetCountDTO("Design", 1), new FacetCountDTO("Engineering", 1));
+    }
+
+    @Test
+    void count_WithSalaryFilterAndCandidates_ShouldIntersectAll() {
+        JobSearchCriteria criteria = JobSearchCriteria.builder().minSalary(new BigDecimal("100000")).build();
+
+        JobFacetsDTO result = index.count(criteria, List.of(1L, 2L, 3L));
+
+        assertThat(result.getTotal()).isEqualTo(1);
+        assertThat(result.getFacets().get("workMode")).containsExactly(new FacetCountDTO("HYBRID", 1));
+    }
+
+    @Test
+    void count_WithNormalizedSalaryFilters_ShouldMatchPayWithinBounds() {
+        JobSearchCriteria between = JobSearchCriteria.builder().salaryBetween(List.of(90000L, 120000L)).build();
+        JobSearchCriteria atLeast = JobSearchCriteria.builder().salaryAtLeast(120000L).workMode("onsite").build();
+
+        assertThat(index.count(between, null).getFacets().get("workMode"))
+                .containsExactly(new FacetCountDTO("HYBRID", 1), new FacetCountDTO("REMOTE", 1));
+        assertThat(index.count(atLeast, null).getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void count_WithUnknownValue_ShouldReturnZeroTotal() {
+        JobFacetsDTO result = index.count(JobSearchCriteria.builder().location("Paris").build(), null);
+
+        assertThat(result.getTotal()).isZero();
+        assertThat(result.getFacets().get("location")).hasSize(2);
+        assertThat(result.getFacets().get("workMode")).isEmpty();
+    }
+
+    @Test
+    void index_WhenJobChangesOrCloses_ShouldUpdateCounts() {
+        index.index(job(3L, "Boston", "HYBRID", Job.JobType.CONTRACT, "Design", "70000"));
+        JobDTO closed = job(4L, "Boston", "ONSITE", Job.JobType.FULL_TIME, "Engineering", "150000");
+        closed.setStatus(Job.JobStatus.CLOSED);
+        index.index(closed);
+        index.remove(1L);
+
+        JobFacetsDTO result = index.count(new JobSearchCriteria(), null);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(result.getFacets().get("workMode")).containsExactly(new FacetCountDTO("HYBRID", 2));
+    }
+
+    @Test
+    void count_WithWorkModeInAnyCase_ShouldReportTheValueTheSearchFilterMatches() {
+        index.index(job(5L, "Boston", " Remote ", Job.JobType.FULL_TIME, "Design", "80000"));
+
+        JobFacetsDTO result = index.count(JobSearchCriteria.builder().workMode("Remote").build(), null);
+
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getFacets().get("workMode")).extracting(FacetCountDTO::getValue)
+                .containsExactly("REMOTE", "HYBRID", "ONSITE");
+    }
+
+    private static JobDTO job(Long id, String location, String workMode, Job.JobType jobType,
+                              String category, String salaryMax) {
+        return JobDTO.builder()
+                .id(id)
+                .title("Job " + id)
+                .company("Tech Corp")
+                .location(location)
+                .workMode(workMode)
+                .jobType(jobType)
+                .experienceLevel("MID")
+                .category(category)
+                .salaryMin(new BigDecimal("50000"))
+                .salaryMax(new BigDecimal(salaryMax))
+                .normalizedSalary(Long.valueOf(salaryMax))
+                .status(Job.JobStatus.ACTIVE)
+                .postedBy(1L)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.dto.CursorPageDTO;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.event.JobChangedEvent;
+import com.jobportal.jobportal.event.JobIndexesRebuiltEvent;
+import com.jobportal.jobportal.service.JobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JobIndexMaintainer.
+ * Tests the paged rebuild and that changes committed while the indexes are
+ * rebuilt survive the rebuild.
+ */
+class JobIndexMaintainerTest {
+
+    private final JobService jobService = mock(JobService.class);
+    private final RecordingIndex index = new RecordingIndex();
+    private final ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+    private final JobIndexMaintainer maintainer = new JobIndexMaintainer(jobService, List.of(index), events);
+
+    @Test
+    void rebuildAll_ShouldIndexEveryPage() {
+        when(jobService.getActiveJobsPageWithSkillIds(isNull(), anyInt())).thenReturn(page("next", job(1L, "Java")));
+        when(jobService.getActiveJobsPageWithSkillIds(eq("next"), anyInt())).thenReturn(page(null, job(2L, "Go")));
+        index.index(job(9L, "Stale"));
+
+        maintainer.rebuildAll();
+
+        assertThat(index.jobs).containsOnlyKeys(1L, 2L);
+        verify(events).publishEvent(new JobIndexesRebuiltEvent(2));
+    }
+
+    @Test
+    void rebuildAll_WithJobDeletedAfterItsPageWasRead_ShouldNotIndexIt() {
+        when(jobService.getActiveJobsPageWithSkillIds(isNull(), anyInt())).thenAnswer(invocation -> {
+            CursorPageDTO<JobDTO> page = page(null, job(1L, "Java"), job(2L, "Go"));
+            // Committed after the page was read, before it is indexed
+            maintainer.onJobChanged(new JobChangedEvent(1L, JobChangedEvent.ChangeType.DELETED, null, job(1L, "Java")));
+            maintainer.onJobChanged(new JobChangedEvent(2L, JobChangedEvent.ChangeType.UPDATED, job(2L, "Rust"),
+                    job(2L, "Go")));
+            return page;
+        });
+
+        maintainer.rebuildAll();
+
+        assertThat(index.jobs).containsOnlyKeys(2L);
+        assertThat(index.jobs.get(2L).getTitle()).isEqualTo("Rust");
+    }
+
+    @Test
+    void onJobChanged_AfterARebuild_ShouldOnlyApplyTheChangeOnce() {
+        when(jobService.getActiveJobsPageWithSkillIds(isNull(), anyInt())).thenReturn(page(null));
+        maintainer.rebuildAll();
+        index.indexed = 0;
+
+        maintainer.onJobChanged(new JobChangedEvent(3L, JobChangedEvent.ChangeType.CREATED, job(3L, "Kotlin"), null));
+        maintainer.rebuildAll();
+
+        assertThat(index.indexed).isEqualTo(1);
+        assertThat(index.jobs).isEmpty();
+    }
+
+    private static CursorPageDTO<JobDTO> page(String nextCursor, JobDTO... jobs) {
+        return CursorPageDTO.<JobDTO>builder().items(List.of(jobs)).nextCursor(nextCursor).size(jobs.length).build();
+    }
+
+    private static JobDTO job(Long id, String title) {
+        return JobDTO.builder().id(id).title(title).status(Job.JobStatus.ACTIVE).build();
+    }
+
+    private static final class RecordingIndex implements JobIndex {
+
+        private final Map<Long, JobDTO> jobs = new ConcurrentHashMap<>();
+        private int indexed;
+
+        @Override
+        public void clear() {
+            jobs.clear();
+        }
+
+        @Override
+        public void index(JobDTO job) {
+            indexed++;
+            jobs.put(job.getId(), job);
+        }
+
+        @Override
+        public void remove(Long jobId) {
+            jobs.remove(jobId);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.service.SkillService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JobSkillIndex.
+ * Tests the bitset operations and which jobs keep an indexed bitset.
+ */
+@ExtendWith(MockitoExtension.class)
+class JobSkillIndexTest {
+
+    @Mock
+    private SkillService skillService;
+
+    @InjectMocks
+    private JobSkillIndex index;
+
+    @Test
+    void bitsetOperations_ShouldCountAcrossWords() {
+        long[] java = JobSkillIndex.toBitset(List.of(1, 5, 64, 130));
+        long[] other = JobSkillIndex.toBitset(List.of(5, 130, 200));
+
+        assertThat(java).hasSize(3);
+        assertThat(JobSkillIndex.cardinality(java)).isEqualTo(4);
+        assertThat(JobSkillIndex.intersectionCount(java, other)).isEqualTo(2);
+        assertThat(JobSkillIndex.intersectionCount(other, java)).isEqualTo(2);
+        assertThat(JobSkillIndex.ids(other).boxed().toList()).containsExactly(5, 130, 200);
+        assertThat(JobSkillIndex.toBitset(List.of())).isEmpty();
+    }
+
+    @Test
+    void bitsetOf_ShouldUseIndexedBitsetOfActiveJobsOnly() {
+        long[] indexed = JobSkillIndex.toBitset(List.of(3));
+        long[] computed = JobSkillIndex.toBitset(List.of(4));
+        when(skillService.bitsetOf("Java")).thenReturn(indexed);
+        when(skillService.bitsetOf("Kotlin")).thenReturn(computed);
+
+        index.index(job(1L, Job.JobStatus.ACTIVE, "Java"));
+        index.index(job(2L, Job.JobStatus.CLOSED, "Java"));
+
+        assertThat(index.bitsetOf(1L, "Kotlin")).isSameAs(indexed);
+        assertThat(index.bitsetOf(2L, "Kotlin")).isSameAs(computed);
+
+        index.remove(1L);
+        assertThat(index.bitsetOf(1L, "Kotlin")).isSameAs(computed);
+    }
+
+    @Test
+    void index_ShouldUseTheLinkedSkillIdsIncludingTaggedOnes() {
+        JobDTO job = job(1L, Job.JobStatus.ACTIVE, "Java");
+        job.setSkillIds(Set.of(3, 70));
+
+        index.index(job);
+
+        assertThat(JobSkillIndex.ids(index.bitsetOf(1L, "Java")).boxed().toList()).containsExactly(3, 70);
+        verifyNoInteractions(skillService);
+    }
+
+    private static JobDTO job(Long id, Job.JobStatus status, String skills) {
+        return JobDTO.builder().id(id).status(status).skills(skills).build();
+    }
+}
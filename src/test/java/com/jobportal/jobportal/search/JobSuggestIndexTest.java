@@ -0,0 +1,75 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.customexceptionhandler.ValidationException;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.entity.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for JobSuggestIndex.
+ * Tests per-field suggestions, their weights, and incremental updates.
+ */
+class JobSuggestIndexTest {
+
+    private JobSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSuggestIndex();
+        index.index(job(1L, "Java Developer", "Tech Corp", "New York", "Java, Spring"));
+        index.index(job(2L, "java developer", "Data Inc", "new york", "Java, SQL, java"));
+        index.index(job(3L, "JavaScript Engineer", "Tech Corp", "Boston", "JavaScript"));
+    }
+
+    @Test
+    void suggest_ShouldRankValuesByNumberOfJobs() {
+        assertThat(index.suggest(JobSuggestIndex.Field.TITLE, "JAV", 10)).containsExactly(
+                new WeightedTrie.Suggestion("Java Developer", 2),
+                new WeightedTrie.Suggestion("JavaScript Engineer", 1));
+        assertThat(index.suggest(JobSuggestIndex.Field.SKILL, "java", 10)).containsExactly(
+                new WeightedTrie.Suggestion("Java", 2),
+                new WeightedTrie.Suggestion("JavaScript", 1));
+        assertThat(index.suggest(JobSuggestIndex.Field.LOCATION, "new ", 10))
+                .containsExactly(new WeightedTrie.Suggestion("New York", 2));
+        assertThat(index.suggest(JobSuggestIndex.Field.COMPANY, "", 1))
+                .containsExactly(new WeightedTrie.Suggestion("Tech Corp", 2));
+    }
+
+    @Test
+    void index_WhenJobChangesOrCloses_ShouldUpdateWeights() {
+        index.index(job(1L, "Senior Java Developer", "Tech Corp", "Remote", "Kotlin"));
+        JobDTO closed = job(3L, "JavaScript Engineer", "Tech Corp", "Boston", "JavaScript");
+        closed.setStatus(Job.JobStatus.CLOSED);
+        index.index(closed);
+        index.remove(2L);
+
+        assertThat(index.suggest(JobSuggestIndex.Field.TITLE, "java", 10)).isEmpty();
+        assertThat(index.suggest(JobSuggestIndex.Field.TITLE, "senior", 10))
+                .containsExactly(new WeightedTrie.Suggestion("Senior Java Developer", 1));
+        assertThat(index.size(JobSuggestIndex.Field.SKILL)).isEqualTo(1);
+        assertThat(index.size(JobSuggestIndex.Field.LOCATION)).isEqualTo(1);
+    }
+
+    @Test
+    void fieldFrom_ShouldParseCaseInsensitivelyAndRejectUnknownFields() {
+        assertThat(JobSuggestIndex.Field.from(" Skill ")).isEqualTo(JobSuggestIndex.Field.SKILL);
+        assertThatThrownBy(() -> JobSuggestIndex.Field.from("salary"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("title, company, location, skill");
+    }
+
+    private static JobDTO job(Long id, String title, String company, String location, String skills) {
+        return JobDTO.builder()
+                .id(id)
+                .title(title)
+                .company(company)
+                .location(location)
+                .skills(skills)
+                .jobType(Job.JobType.FULL_TIME)
+                .status(Job.JobStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.jobportal.jobportal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for MinHashLsh.
+ * Tests neighbor ranking, incremental replacement and removal, and reverse lookups.
+ */
+class MinHashLshTest {
+
+    private MinHashLsh graph;
+
+    @BeforeEach
+    void setUp() {
+        graph = new MinHashLsh(3);
+        graph.put(1L, List.of("java", "spring", "mysql", "category:it", "type:FULL_TIME"));
+        graph.put(2L, List.of("java", "spring", "mysql", "docker", "category:it", "type:FULL_TIME"));
+        graph.put(3L, List.of("react", "css", "category:design", "type:CONTRACT"));
+        graph.put(4L, List.of("java", "spring", "kafka", "category:it", "type:FULL_TIME"));
+    }
+
+    @Test
+    void neighbors_ShouldBeOrderedByJaccardSimilarity() {
+        List<MinHashLsh.Neighbor> neighbors = graph.neighbors(1L, 5);
+
+        assertThat(neighbors).extracting(MinHashLsh.Neighbor::key).containsExactly(2L, 4L);
+        assertThat(neighbors.get(0).similarity()).isCloseTo(5.0 / 6, within(1e-9));
+        assertThat(graph.neighbors(3L, 5)).isEmpty();
+    }
+
+    @Test
+    void neighbors_ShouldRespectLimitAndUnknownKeys() {
+        assertThat(graph.neighbors(1L, 1)).extracting(MinHashLsh.Neighbor::key).containsExactly(2L);
+        assertThat(graph.neighbors(99L, 5)).isEmpty();
+    }
+
+    @Test
+    void put_WhenItemChanges_ShouldUpdateNeighborsOfOtherItems() {
+        graph.put(2L, List.of("react", "css", "category:design", "type:CONTRACT"));
+
+        assertThat(graph.neighbors(1L, 5)).extracting(MinHashLsh.Neighbor::key).containsExactly(4L);
+        assertThat(graph.neighbors(3L, 5)).extracting(MinHashLsh.Neighbor::key).containsExactly(2L);
+        assertThat(graph.neighbors(2L, 5).get(0).similarity()).isEqualTo(1.0);
+    }
+
+    @Test
+    void remove_ShouldDropItemFromNeighborLists() {
+        graph.remove(2L);
+        graph.put(4L, List.of());
+
+        assertThat(graph.size()).isEqualTo(2);
+        assertThat(graph.contains(4L)).isFalse();
+        assertThat(graph.neighbors(1L, 5)).isEmpty();
+    }
+
+    @Test
+    void listedBy_ShouldReturnItemsHavingTheItemAsNeighbor() {
+        assertThat(graph.listedBy(2L)).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(graph.listedBy(3L)).isEmpty();
+        assertThat(graph.listedBy(99L)).isEmpty();
+
+        graph.put(2L, List.of("react", "css", "category:design", "type:CONTRACT"));
+
+        assertThat(graph.listedBy(2L)).containsExactly(3L);
+    }
+}
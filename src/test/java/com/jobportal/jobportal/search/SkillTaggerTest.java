@@ -0,0 +1,54 @@
+package com.jobportal.jobportal.search;
+
+import com.jobportal.jobportal.service.SkillService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SkillTagger.
+ * Tests whole-word tagging, aliases and rebuilding from the dictionary.
+ */
+@ExtendWith(MockitoExtension.class)
+class SkillTaggerTest {
+
+    @Mock
+    private SkillService skillService;
+
+    private SkillTagger tagger;
+
+    @BeforeEach
+    void setUp() {
+        tagger = new SkillTagger(skillService, Map.of("js", "JavaScript", "k8s", "Kubernetes"));
+    }
+
+    @Test
+    void tag_ShouldFindWholeWordSkillsAndAliases() {
+        when(skillService.vocabulary()).thenReturn(Map.of(
+                1, "Java", 2, "JavaScript", 3, "C", 4, "C++", 5, "Spring Boot"));
+        when(skillService.cachedId("JavaScript")).thenReturn(2);
+        when(skillService.cachedId("Kubernetes")).thenReturn(null);
+        tagger.rebuild();
+
+        assertThat(tagger.tag("Senior C++ developer (JS, k8s); spring boot and Java.", null))
+                .containsExactly(4, 2, 5, 1);
+        assertThat(tagger.tag("Javanese, JSON, CSS")).isEmpty();
+    }
+
+    @Test
+    void tag_ShouldUseVocabularyOfLastRebuild() {
+        assertThat(tagger.tag("Kotlin")).isEmpty();
+
+        when(skillService.vocabulary()).thenReturn(Map.of(6, "Kotlin"));
+        tagger.rebuild();
+
+        assertThat(tagger.tag("Kotlin", "kotlin")).containsExactly(6);
+    }
+}
@@ -0,0 +1,52 @@
+package com.jobportal.jobportal.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for WeightedTrie.
+ * Tests best-first prefix lookups and incremental weight changes.
+ */
+class WeightedTrieTest {
+
+    @Test
+    void top_ShouldReturnHeaviestEntriesUnderPrefix() {
+        WeightedTrie trie = new WeightedTrie();
+        trie.adjust("java developer", "Java Developer", 3);
+        trie.adjust("java", "Java", 5);
+        trie.adjust("javascript engineer", "JavaScript Engineer", 4);
+        trie.adjust("data engineer", "Data Engineer", 1);
+
+        assertThat(trie.top("ja", 10)).containsExactly(
+                new WeightedTrie.Suggestion("Java", 5),
+                new WeightedTrie.Suggestion("JavaScript Engineer", 4),
+                new WeightedTrie.Suggestion("Java Developer", 3));
+        assertThat(trie.top("", 1)).containsExactly(new WeightedTrie.Suggestion("Java", 5));
+        assertThat(trie.top("python", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(4);
+    }
+
+    @Test
+    void adjust_ShouldKeepFirstValueAndRemoveEntriesWithoutWeight() {
+        WeightedTrie trie = new WeightedTrie();
+        trie.adjust("java", "Java", 1);
+        trie.adjust("java", "JAVA", 1);
+        trie.adjust("javascript", "JavaScript", 1);
+
+        assertThat(trie.top("j", 10)).containsExactly(
+                new WeightedTrie.Suggestion("Java", 2), new WeightedTrie.Suggestion("JavaScript", 1));
+
+        trie.adjust("java", null, -2);
+        trie.adjust("kotlin", null, -1);
+
+        assertThat(trie.weight("java")).isZero();
+        assertThat(trie.top("j", 10)).containsExactly(new WeightedTrie.Suggestion("JavaScript", 1));
+        assertThat(trie.size()).isEqualTo(1);
+
+        trie.adjust("javascript", null, -1);
+
+        assertThat(trie.top("", 10)).isEmpty();
+        assertThat(trie.size()).isZero();
+    }
+}
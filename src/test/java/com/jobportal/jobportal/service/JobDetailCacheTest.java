@@ -0,0 +1,168 @@
+package com.jobportal.jobportal.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.jobportal.dto.JobDetailDTO;
+import com.jobportal.jobportal.dto.MatchFactorDTO;
+import com.jobportal.jobportal.dto.SimilarJobDTO;
+import com.jobportal.jobportal.event.CandidateProfileChangedEvent;
+import com.jobportal.jobportal.event.JobChangedEvent;
+import com.jobportal.jobportal.search.SimilarJobsIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JobDetailCache.
+ * Tests reuse of rendered documents, invalidation on job and profile changes,
+ * expiry with the posted text and splicing of per-user overlays.
+ */
+class JobDetailCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimilarJobsIndex similarJobsIndex = mock(SimilarJobsIndex.class);
+    private final AtomicInteger renders = new AtomicInteger();
+    private final AtomicInteger overlays = new AtomicInteger();
+    private final JobDetailCache cache = new JobDetailCache(1 << 22, 60_000, 100,
+            similarJobsIndex, objectMapper, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        when(similarJobsIndex.contains(anyLong())).thenReturn(true);
+        when(similarJobsIndex.findJobsListing(anyLong())).thenReturn(Set.of());
+    }
+
+    @Test
+    void gzipped_ShouldRenderOnceAndServeTheSameDocument() throws IOException {
+        byte[] first = cache.gzipped(1L, renderer(detail(1L, "Platform Engineer", 2L), null));
+        byte[] second = cache.gzipped(1L, renderer(detail(1L, "Other", 2L), null));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(renders).hasValue(1);
+        assertThat(cache.size()).isEqualTo(1);
+
+        JsonNode json = objectMapper.readTree(new GZIPInputStream(new ByteArrayInputStream(first)));
+        assertThat(json.get("role").asText()).isEqualTo("Platform Engineer");
+        assertThat(json.get("matchScore").asInt()).isZero();
+        assertThat(json.get("saved").asBoolean()).isFalse();
+    }
+
+    @Test
+    void json_ShouldMatchTheSerializedDetail() throws IOException {
+        JobDetailDTO detail = detail(1L, "Platform Engineer", 2L);
+
+        byte[] json = cache.json(1L, renderer(detail, null));
+
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.valueToTree(detail));
+    }
+
+    @Test
+    void onJobChanged_ShouldDropTheJobAndDetailsListingIt() {
+        cache.json(1L, renderer(detail(1L, "Platform Engineer", 2L), null));
+        cache.json(3L, renderer(detail(3L, "Data Engineer"), null));
+        cache.json(4L, renderer(detail(4L, "Designer"), null));
+        when(similarJobsIndex.findJobsListing(2L)).thenReturn(Set.of(3L));
+
+        cache.onJobChanged(new JobChangedEvent(2L, JobChangedEvent.ChangeType.UPDATED, null, null));
+
+        assertThat(cache.size()).isEqualTo(1);
+        cache.json(4L, renderer(detail(4L, "Designer"), null));
+        assertThat(renders).hasValue(3);
+        cache.json(1L, renderer(detail(1L, "Platform Engineer"), null));
+        assertThat(renders).hasValue(4);
+    }
+
+    @Test
+    void gzipped_WhenPostedTextChanges_ShouldRenderAgain() {
+        cache.gzipped(1L, renderer(detail(1L, "Platform Engineer"), Instant.now().minusSeconds(1)));
+        cache.gzipped(1L, renderer(detail(1L, "Platform Engineer"), null));
+
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void gzipped_WithJobOutsideTheIndex_ShouldNotCacheIt() {
+        when(similarJobsIndex.contains(1L)).thenReturn(false);
+
+        cache.gzipped(1L, renderer(detail(1L, "Platform Engineer"), null));
+        cache.gzipped(1L, renderer(detail(1L, "Platform Engineer"), null));
+
+        assertThat(renders).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void json_WithUser_ShouldSpliceTheUsersFieldsIntoTheDocument() throws IOException {
+        MatchFactorDTO factor = MatchFactorDTO.builder().label("Java").weight(0.5).score(1.0).build();
+        Supplier<JobDetailCache.Overlay> overlay = overlay(new JobDetailCache.Overlay(80, List.of(factor), true));
+
+        byte[] json = cache.json(1L, 5L, renderer(detail(1L, "Platform Engineer", 2L), null), overlay);
+        cache.json(1L, 5L, renderer(detail(1L, "Platform Engineer"), null), overlay);
+
+        JsonNode node = objectMapper.readTree(json);
+        assertThat(node.get("role").asText()).isEqualTo("Platform Engineer");
+        assertThat(node.get("similarJobs")).hasSize(1);
+        assertThat(node.get("matchScore").asInt()).isEqualTo(80);
+        assertThat(node.get("matchFactors").get(0).get("label").asText()).isEqualTo("Java");
+        assertThat(node.get("saved").asBoolean()).isTrue();
+        assertThat(renders).hasValue(1);
+        assertThat(overlays).hasValue(1);
+    }
+
+    @Test
+    void onProfileChanged_ShouldDropTheUsersOverlaysOnly() {
+        Supplier<JobDetailCache.Rendering> renderer = renderer(detail(1L, "Platform Engineer"), null);
+        Supplier<JobDetailCache.Overlay> overlay = overlay(new JobDetailCache.Overlay(80, List.of(), false));
+        cache.json(1L, 5L, renderer, overlay);
+        cache.json(1L, 6L, renderer, overlay);
+
+        cache.onProfileChanged(new CandidateProfileChangedEvent(5L));
+        cache.json(1L, 5L, renderer, overlay);
+        cache.json(1L, 6L, renderer, overlay);
+
+        assertThat(overlays).hasValue(3);
+        assertThat(renders).hasValue(1);
+    }
+
+    private Supplier<JobDetailCache.Rendering> renderer(JobDetailDTO detail, Instant changesAt) {
+        return () -> {
+            renders.incrementAndGet();
+            return new JobDetailCache.Rendering(detail, changesAt);
+        };
+    }
+
+    private Supplier<JobDetailCache.Overlay> overlay(JobDetailCache.Overlay overlay) {
+        return () -> {
+            overlays.incrementAndGet();
+            return overlay;
+        };
+    }
+
+    private static JobDetailDTO detail(Long id, String role, Long... similarJobIds) {
+        List<SimilarJobDTO> similarJobs = Arrays.stream(similarJobIds)
+                .map(similarId -> SimilarJobDTO.builder().id(String.valueOf(similarId)).title("Similar").match(70).build())
+                .toList();
+        return JobDetailDTO.builder()
+                .id(String.valueOf(id))
+                .role(role)
+                .description("Build the platform")
+                .similarJobs(similarJobs)
+                .matchScore(0)
+                .matchFactors(List.of())
+                .saved(false)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.jobportal.jobportal.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.repo.JobRepo;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JobExportService.
+ * Tests JSON array and NDJSON output and that written jobs are detached.
+ */
+@ExtendWith(MockitoExtension.class)
+class JobExportServiceTest {
+
+    @Mock
+    private JobRepo jobRepo;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private JobExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new JobExportService(jobRepo, entityManager, objectMapper);
+    }
+
+    @Test
+    void writeJobsByCompany_ShouldWriteJsonArrayAndDetachJobs() throws Exception {
+        Job first = job(1L, "Tech Corp");
+        Job second = job(2L, "Tech Corp");
+        when(jobRepo.streamByCompanyKey("tech corp")).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writeJobsByCompany("Tech%20Corp", out, JobExportService.Format.JSON_ARRAY);
+
+        JsonNode array = objectMapper.readTree(out.toByteArray());
+        assertThat(array.isArray()).isTrue();
+        assertThat(array).hasSize(2);
+        assertThat(array.get(1).get("id").asLong()).isEqualTo(2L);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void writeAllJobs_AsNdjson_ShouldWriteOneJobPerLine() throws Exception {
+        when(jobRepo.streamAll()).thenReturn(Stream.of(job(1L, "Tech Corp"), job(2L, "Data Inc")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writeAllJobs(out, JobExportService.Format.NDJSON);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("company").asText()).isEqualTo("Tech Corp");
+        assertThat(objectMapper.readTree(lines[1]).get("company").asText()).isEqualTo("Data Inc");
+    }
+
+    @Test
+    void writeJobsByPostedBy_WithNullUser_ShouldWriteEmptyArray() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writeJobsByPostedBy(null, out, JobExportService.Format.JSON_ARRAY);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[]");
+        verifyNoInteractions(jobRepo);
+    }
+
+    private static Job job(Long id, String company) {
+        return Job.builder()
+                .id(id)
+                .title("Job " + id)
+                .company(company)
+                .jobType(Job.JobType.FULL_TIME)
+                .status(Job.JobStatus.ACTIVE)
+                .postedBy(1L)
+                .build();
+    }
+}
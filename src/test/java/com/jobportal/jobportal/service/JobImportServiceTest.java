@@ -0,0 +1,305 @@
+package com.jobportal.jobportal.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.jobportal.jobportal.customexceptionhandler.ValidationException;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.dto.JobImportDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.entity.JobImport;
+import com.jobportal.jobportal.entity.JobImport.ImportStatus;
+import com.jobportal.jobportal.repo.JobImportRepo;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JobImportService.
+ * Tests parsing, rejects, chunked commits with checkpoints, resuming, claiming and failures.
+ */
+@ExtendWith(MockitoExtension.class)
+class JobImportServiceTest {
+
+    private static final String DESCRIPTION = "Build and run the services behind the job portal from end to end.";
+
+    private static final String CSV_HEADER = "title,company,jobType,status,description,postedBy,salaryMin,salaryMax,salaryCurrency\n";
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private JobImportRepo importRepo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path rejectDirectory;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final AtomicReference<JobImport> stored = new AtomicReference<>();
+    private final List<List<String>> committedChunks = new ArrayList<>();
+    private final List<JobImportDTO> progress = new ArrayList<>();
+    private JobImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new JobImportService(jobService, importRepo,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper,
+                new SimpleAsyncTaskExecutor("job-import-"), transactionManager, 2, 1, rejectDirectory.toString());
+        lenient().when(importRepo.findById("catalog")).thenAnswer(invocation -> Optional.ofNullable(stored.get()));
+        lenient().when(importRepo.save(any(JobImport.class))).thenAnswer(invocation -> {
+            stored.set(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        lenient().when(importRepo.claim(eq("catalog"), eq(ImportStatus.RUNNING), eq(ImportStatus.COMPLETED), anyString(),
+                any(Instant.class), any(Instant.class))).thenAnswer(invocation -> {
+            JobImport jobImport = stored.get();
+            Instant now = invocation.getArgument(4);
+            if (jobImport.getStatus() == ImportStatus.RUNNING && jobImport.getLeaseUntil().isAfter(now)) {
+                return 0;
+            }
+            jobImport.setStatus(ImportStatus.RUNNING);
+            jobImport.setOwner(invocation.getArgument(3));
+            jobImport.setLeaseUntil(invocation.getArgument(5));
+            jobImport.setLastError(null);
+            return 1;
+        });
+        lenient().when(importRepo.renew(eq("catalog"), eq(ImportStatus.RUNNING), anyString(), any(Instant.class)))
+                .thenAnswer(invocation -> invocation.getArgument(2).equals(stored.get().getOwner()) ? 1 : 0);
+        lenient().when(jobService.createAll(anyList())).thenAnswer(invocation -> {
+            List<JobDTO> jobs = invocation.getArgument(0);
+            committedChunks.add(jobs.stream().map(JobDTO::getTitle).toList());
+            return jobs;
+        });
+    }
+
+    @Test
+    void importJobs_WithCsv_ShouldCommitValidJobsInChunksAndRejectTheRest() throws IOException {
+        String csv = CSV_HEADER
+                + "Java Developer,Tech Corp,FULL_TIME,ACTIVE,\"" + DESCRIPTION + "\nRemote, worldwide.\",1,,,\n"
+                + "\n"
+                + "Go Developer,Tech Corp,FREELANCE,ACTIVE," + DESCRIPTION + ",1,,,\n"
+                + "Data Engineer,Data Inc,FULL_TIME,ACTIVE," + DESCRIPTION + ",2,150000,90000,USD\n"
+                + "QA Engineer,Data Inc,CONTRACT,ACTIVE," + DESCRIPTION + ",2,,,\n"
+                + "DevOps Engineer,Cloud Co,CONTRACT,ACTIVE\n";
+
+        JobImportDTO result = service.importJobs("catalog", JobImport.Format.CSV, new StringReader(csv), progress::add);
+
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getRecords()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(committedChunks).containsExactly(List.of("Java Developer"), List.of("QA Engineer"));
+        assertThat(progress).extracting(JobImportDTO::getRecords).containsExactly(2L, 4L, 5L);
+
+        List<JsonNode> rejects = rejects("catalog");
+        assertThat(rejects).extracting(reject -> reject.get("record").asLong()).containsExactly(2L, 3L, 5L);
+        assertThat(rejects.get(0).get("errors").get(0).asText()).startsWith("jobType: ");
+        assertThat(rejects.get(0).get("source").get("title").asText()).isEqualTo("Go Developer");
+        assertThat(rejects.get(1).get("errors").get(0).asText())
+                .isEqualTo("Minimum salary must be less than maximum salary");
+        assertThat(rejects.get(2).get("errors").get(0).asText()).isEqualTo("Expected 9 fields but found 4");
+        assertThat(result.getRejectFile()).isEqualTo(rejectDirectory.resolve("catalog.rejects.ndjson").toString());
+    }
+
+    @Test
+    void importJobs_WithNdjson_ShouldRejectMalformedLinesAndConstraintViolations() throws IOException {
+        String ndjson = job("Java Developer") + "\n"
+                + "{\"title\": \"Broken\n"
+                + objectMapper.writeValueAsString(JobDTO.builder().title("QA").company("Tech Corp")
+                        .jobType(Job.JobType.FULL_TIME).status(Job.JobStatus.ACTIVE).description("Too short").build())
+                + "\n";
+
+        JobImportDTO result = service.importJobs("catalog", JobImport.Format.NDJSON, new StringReader(ndjson), progress::add);
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(2);
+        List<JsonNode> rejects = rejects("catalog");
+        assertThat(rejects.get(0).get("errors").get(0).asText()).startsWith("Malformed JSON: ");
+        assertThat(rejects.get(0).get("source").asText()).isEqualTo("{\"title\": \"Broken");
+        assertThat(rejects.get(1).get("errors")).extracting(JsonNode::asText).containsExactly(
+                "description: Description must be between 50 and 5000 characters",
+                "postedBy: Posted by user ID is required",
+                "title: Job title must be between 3 and 200 characters");
+    }
+
+    @Test
+    void importJobs_WithCheckpoint_ShouldSkipTheRecordsAlreadyDone() {
+        stored.set(JobImport.builder().id("catalog").format(JobImport.Format.NDJSON)
+                .status(ImportStatus.FAILED).recordsDone(2).imported(2).lastError("Connection reset").build());
+        String ndjson = job("First") + "\n" + job("Second") + "\n\n" + job("Third") + "\n";
+
+        JobImportDTO result = service.importJobs("catalog", JobImport.Format.NDJSON, new StringReader(ndjson), progress::add);
+
+        assertThat(committedChunks).containsExactly(List.of("Third"));
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getRecords()).isEqualTo(3);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getLastError()).isNull();
+    }
+
+    @Test
+    void importJobs_WhenAChunkFails_ShouldKeepTheCheckpointOfTheLastCommittedChunk() {
+        when(jobService.createAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DataAccessResourceFailureException("Connection reset"));
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            ndjson.append(job("Engineer " + i)).append('\n');
+        }
+
+        assertThatThrownBy(() -> service.importJobs("catalog", JobImport.Format.NDJSON,
+                new StringReader(ndjson.toString()), progress::add))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(stored.get().getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(stored.get().getLastError()).isEqualTo("Connection reset");
+        assertThat(stored.get().getRecordsDone()).isEqualTo(2);
+        assertThat(stored.get().getImported()).isEqualTo(2);
+    }
+
+    @Test
+    void importJobs_WithUnknownCsvColumn_ShouldFailBeforeImportingAnything() {
+        String csv = "title,company,salary\nJava Developer,Tech Corp,100000\n";
+
+        assertThatThrownBy(() -> service.importJobs("catalog", JobImport.Format.CSV, new StringReader(csv), progress::add))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Unknown CSV columns: salary");
+
+        verify(jobService, never()).createAll(anyList());
+        assertThat(stored.get().getStatus()).isEqualTo(ImportStatus.FAILED);
+    }
+
+    @Test
+    void importJobs_WhileAnotherRunHoldsTheLease_ShouldBeRefused() {
+        stored.set(JobImport.builder().id("catalog").format(JobImport.Format.NDJSON)
+                .status(ImportStatus.RUNNING).owner("other-run").leaseUntil(Instant.now().plusSeconds(60)).build());
+
+        assertThatThrownBy(() -> service.importJobs("catalog", JobImport.Format.NDJSON,
+                new StringReader(job("First") + "\n"), progress::add))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Import catalog is already running");
+
+        verify(jobService, never()).createAll(anyList());
+        assertThat(stored.get().getOwner()).isEqualTo("other-run");
+    }
+
+    @Test
+    void importJobs_AfterTheLeaseOfAnotherRunExpired_ShouldTakeItOver() {
+        stored.set(JobImport.builder().id("catalog").format(JobImport.Format.NDJSON)
+                .status(ImportStatus.RUNNING).owner("dead-run").leaseUntil(Instant.now().minusSeconds(1))
+                .recordsDone(1).imported(1).build());
+
+        JobImportDTO result = service.importJobs("catalog", JobImport.Format.NDJSON,
+                new StringReader(job("First") + "\n" + job("Second") + "\n"), progress::add);
+
+        assertThat(committedChunks).containsExactly(List.of("Second"));
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(stored.get().getOwner()).isNotEqualTo("dead-run");
+        assertThat(stored.get().getLeaseUntil()).isNull();
+    }
+
+    @Test
+    void importJobs_WhenTakenOverWhileRunning_ShouldStopWithoutCommitting() {
+        when(importRepo.renew(eq("catalog"), eq(ImportStatus.RUNNING), anyString(), any(Instant.class))).thenReturn(0);
+
+        assertThatThrownBy(() -> service.importJobs("catalog", JobImport.Format.NDJSON,
+                new StringReader(job("First") + "\n"), progress::add))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("taken over");
+
+        verify(jobService, never()).createAll(anyList());
+    }
+
+    @Test
+    void importJobs_WithServerOnlyCsvColumn_ShouldFailBeforeImportingAnything() {
+        String csv = "title,skillIds\nJava Developer,3\n";
+
+        assertThatThrownBy(() -> service.importJobs("catalog", JobImport.Format.CSV, new StringReader(csv), progress::add))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Unknown CSV columns: skillIds");
+    }
+
+    @Test
+    void importJobs_WhenCompleted_ShouldReturnItWithoutReadingTheFile() {
+        stored.set(JobImport.builder().id("catalog").format(JobImport.Format.CSV)
+                .status(ImportStatus.COMPLETED).recordsDone(10).imported(10).build());
+
+        JobImportDTO result = service.importJobs("catalog", JobImport.Format.CSV, new StringReader("not,a,header\n"), progress::add);
+
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getImported()).isEqualTo(10);
+        verify(jobService, never()).createAll(anyList());
+    }
+
+    @Test
+    void importJobs_WithOtherFormatThanTheCheckpoint_ShouldBeRejected() {
+        stored.set(JobImport.builder().id("catalog").format(JobImport.Format.CSV)
+                .status(ImportStatus.FAILED).recordsDone(10).build());
+
+        assertThatThrownBy(() -> service.importJobs("catalog", JobImport.Format.NDJSON, new StringReader(""), progress::add))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Import catalog was started from a CSV file");
+    }
+
+    @Test
+    void importJobs_WithInvalidId_ShouldBeRejected() {
+        assertThatThrownBy(() -> service.importJobs("../etc/passwd", JobImport.Format.CSV, new StringReader(""), progress::add))
+                .isInstanceOf(ValidationException.class);
+
+        verifyNoInteractions(importRepo);
+    }
+
+    private String job(String title) {
+        try {
+            return objectMapper.writeValueAsString(JobDTO.builder()
+                    .title(title)
+                    .company("Tech Corp")
+                    .jobType(Job.JobType.FULL_TIME)
+                    .status(Job.JobStatus.ACTIVE)
+                    .description(DESCRIPTION)
+                    .postedBy(1L)
+                    .build());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<JsonNode> rejects(String importId) throws IOException {
+        List<JsonNode> rejects = new ArrayList<>();
+        for (String line : Files.readAllLines(rejectDirectory.resolve(importId + ".rejects.ndjson"))) {
+            rejects.add(objectMapper.readTree(line));
+        }
+        return rejects;
+    }
+}
@@ -0,0 +1,257 @@
+package com.jobportal.jobportal.service;
+
+import com.jobportal.jobportal.dto.CursorPageDTO;
+import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.event.JobChangedEvent;
+import com.jobportal.jobportal.event.JobIndexesRebuiltEvent;
+import com.jobportal.jobportal.repo.JobStamp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for JobListingCache.
+ * Tests reuse of listings and first pages, precise invalidation on job changes,
+ * single loading of a cold listing, the size bound, the bound on listing versions,
+ * per-caller copies of cached results and the catalog validator.
+ */
+class JobListingCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final JobListingCache cache = new JobListingCache(1000, 60_000, new SimpleMeterRegistry());
+
+    @Test
+    void listings_ShouldBeReusedUntilAJobChanges() {
+        List<JobDTO> first = cache.jobsByLocation("remote", loader(job(1L, "Acme", "Remote", Job.JobStatus.ACTIVE)));
+        List<JobDTO> second = cache.jobsByLocation("remote", loader());
+
+        assertThat(second).usingRecursiveComparison().isEqualTo(first);
+        assertThat(loads).hasValue(1);
+
+        JobDTO created = job(2L, "Globex", "Remote", Job.JobStatus.ACTIVE);
+        cache.onJobChanged(new JobChangedEvent(2L, JobChangedEvent.ChangeType.CREATED, created, null));
+
+        assertThat(cache.jobsByLocation("remote", loader(created))).extracting(JobDTO::getId).containsExactly(2L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void firstActivePages_ShouldBeCachedPerViewAndSize() {
+        CursorPageDTO<JobDTO> page = CursorPageDTO.<JobDTO>builder().items(List.of()).size(10).build();
+        Supplier<CursorPageDTO<JobDTO>> pageLoader = () -> {
+            loads.incrementAndGet();
+            return page;
+        };
+
+        assertThat(cache.firstActiveJobsPage(10, pageLoader)).isEqualTo(page);
+        assertThat(cache.firstActiveJobsPage(10, pageLoader)).isEqualTo(page);
+        cache.firstActiveJobsPage(20, pageLoader);
+        assertThat(loads).hasValue(2);
+
+        cache.onJobChanged(new JobChangedEvent(1L, JobChangedEvent.ChangeType.UPDATED,
+                job(1L, "Acme", "Remote", Job.JobStatus.CLOSED), job(1L, "Acme", "Remote", Job.JobStatus.ACTIVE)));
+
+        cache.firstActiveJobsPage(10, pageLoader);
+        cache.firstActiveJobsPage(20, pageLoader);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void onJobChanged_ShouldDropOnlyTheListingsOfTheJobBeforeAndAfter() {
+        cache.firstActiveJobsPage(10, pageLoader());
+        cache.jobsByLocation("remote", loader());
+        cache.jobsByLocation("berlin", loader());
+        cache.jobsByLocation("paris", loader());
+        loads.set(0);
+
+        // A closed job moves from Remote to Berlin; the active listing is unaffected
+        JobDTO before = job(1L, "Acme", "Remote", Job.JobStatus.CLOSED);
+        JobDTO after = job(1L, "Acme", "Berlin", Job.JobStatus.CLOSED);
+        cache.onJobChanged(new JobChangedEvent(1L, JobChangedEvent.ChangeType.UPDATED, after, before));
+
+        cache.firstActiveJobsPage(10, pageLoader());
+        cache.jobsByLocation("paris", loader());
+        assertThat(loads).hasValue(0);
+
+        cache.jobsByLocation("remote", loader());
+        cache.jobsByLocation("berlin", loader());
+        assertThat(loads).hasValue(2);
+
+        // Deleting an active job drops the active listing
+        cache.onJobChanged(new JobChangedEvent(3L, JobChangedEvent.ChangeType.DELETED, null,
+                job(3L, "Initech", "Paris", Job.JobStatus.ACTIVE)));
+        cache.firstActiveJobsPage(10, pageLoader());
+        cache.jobsByLocation("paris", loader());
+        cache.jobsByLocation("berlin", loader());
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void coldListing_RequestedConcurrently_ShouldBeLoadedOnce() throws Exception {
+        int callers = 8;
+        CountDownLatch started = new CountDownLatch(callers);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<List<JobDTO>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> {
+                    started.countDown();
+                    return cache.jobsByLocation("remote", () -> {
+                        loads.incrementAndGet();
+                        await(release);
+                        return List.of(job(1L, "Acme", "Remote", Job.JobStatus.ACTIVE));
+                    });
+                }));
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(50);
+            release.countDown();
+
+            List<JobDTO> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<List<JobDTO>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).usingRecursiveComparison().isEqualTo(first);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void listings_ShouldBeBoundedByTheirTotalNumberOfJobs() {
+        JobListingCache small = new JobListingCache(10, 60_000, new SimpleMeterRegistry());
+        List<JobDTO> six = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            six.add(job(id, "Acme", "Remote", Job.JobStatus.ACTIVE));
+        }
+
+        small.jobsByLocation("remote", () -> six);
+        small.jobsByLocation("berlin", () -> six);
+
+        assertThat(small.size()).isEqualTo(1);
+    }
+
+    @Test
+    void cachedResults_ChangedByACaller_ShouldNotChangeForLaterCallers() {
+        List<JobDTO> first = cache.jobsByLocation("remote", loader(job(1L, "Acme", "Remote", Job.JobStatus.ACTIVE)));
+        first.get(0).setTitle("Changed");
+        first.clear();
+
+        List<JobDTO> second = cache.jobsByLocation("remote", loader());
+        assertThat(second).extracting(JobDTO::getTitle).containsExactly("Job 1");
+        assertThat(loads).hasValue(1);
+
+        CursorPageDTO<JobDTO> page = cache.firstActiveJobsPage(10, () -> CursorPageDTO.<JobDTO>builder()
+                .items(new ArrayList<>(List.of(job(2L, "Acme", "Remote", Job.JobStatus.ACTIVE)))).size(10).build());
+        page.getItems().get(0).setStatus(Job.JobStatus.CLOSED);
+        page.setItems(List.of());
+
+        assertThat(cache.firstActiveJobsPage(10, () -> null).getItems())
+                .extracting(JobDTO::getStatus).containsExactly(Job.JobStatus.ACTIVE);
+    }
+
+    @Test
+    void versions_ShouldOnlyBeRecordedForChangedListings() {
+        for (int i = 0; i < 100; i++) {
+            cache.jobsByLocation("location-" + i, loader());
+        }
+        assertThat(cache.versionCount()).isZero();
+
+        cache.onJobChanged(new JobChangedEvent(1L, JobChangedEvent.ChangeType.CREATED,
+                job(1L, "Acme", "Remote", Job.JobStatus.ACTIVE), null));
+
+        // Catalog, active listings and location
+        assertThat(cache.versionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void loadFinishingAfterAWrite_ShouldNotBeServedAfterIt() {
+        JobDTO created = job(1L, "Acme", "Remote", Job.JobStatus.ACTIVE);
+        cache.jobsByLocation("remote", () -> {
+            loads.incrementAndGet();
+            // The job is created while the listing is read without it
+            cache.onJobChanged(new JobChangedEvent(1L, JobChangedEvent.ChangeType.CREATED, created, null));
+            return List.of();
+        });
+
+        assertThat(cache.jobsByLocation("remote", loader(created))).extracting(JobDTO::getId).containsExactly(1L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void catalogStamp_ShouldBeReusedUntilAnyJobChangesAndAdvanceTheGeneration() {
+        JobStamp stamp = new JobStamp(Instant.parse("2025-01-15T10:00:00Z"), 3L);
+        Supplier<JobStamp> stampLoader = () -> {
+            loads.incrementAndGet();
+            return stamp;
+        };
+        Instant startedAt = cache.changedAt();
+
+        assertThat(cache.catalogStamp(stampLoader)).isSameAs(stamp);
+        assertThat(cache.catalogStamp(stampLoader)).isSameAs(stamp);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.generation()).isZero();
+
+        // A closed job belongs to no cached listing but still changes the catalog
+        JobDTO closed = job(1L, "Acme", "Remote", Job.JobStatus.CLOSED);
+        cache.onJobChanged(new JobChangedEvent(1L, JobChangedEvent.ChangeType.DELETED, null, closed));
+
+        cache.catalogStamp(stampLoader);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.generation()).isEqualTo(1);
+        assertThat(cache.changedAt()).isAfterOrEqualTo(startedAt);
+    }
+
+    @Test
+    void onIndexesRebuilt_ShouldAdvanceTheGeneration() {
+        cache.onIndexesRebuilt(new JobIndexesRebuiltEvent(3));
+
+        assertThat(cache.generation()).isEqualTo(1);
+    }
+
+    private Supplier<List<JobDTO>> loader(JobDTO... jobs) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(jobs);
+        };
+    }
+
+    private Supplier<CursorPageDTO<JobDTO>> pageLoader() {
+        return () -> {
+            loads.incrementAndGet();
+            return CursorPageDTO.<JobDTO>builder().items(List.of()).size(10).build();
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static JobDTO job(Long id, String company, String location, Job.JobStatus status) {
+        return JobDTO.builder()
+                .id(id)
+                .title("Job " + id)
+                .company(company)
+                .location(location)
+                .status(status)
+                .build();
+    }
+}
@@ -2,23 +2,73 @@ package com.jobportal.jobportal.service;
 
 import com.jobportal.jobportal.customexceptionhandler.JobNotFoundException;
 import com.jobportal.jobportal.customexceptionhandler.ValidationException;
+import com.jobportal.jobportal.dto.CursorPageDTO;
 import com.jobportal.jobportal.dto.JobDTO;
+import com.jobportal.jobportal.dto.JobDetailDTO;
+import com.jobportal.jobportal.dto.JobFacetsDTO;
+import com.jobportal.jobportal.dto.JobSearchCriteria;
+import com.jobportal.jobportal.dto.JobSummaryDTO;
+import com.jobportal.jobportal.dto.MatchFactorDTO;
+import com.jobportal.jobportal.dto.PageResponseDTO;
+import com.jobportal.jobportal.dto.RecommendedJobDTO;
+import com.jobportal.jobportal.dto.SimilarJobDTO;
+import com.jobportal.jobportal.dto.SuggestionDTO;
 import com.jobportal.jobportal.entity.Job;
+import com.jobportal.jobportal.entity.JobContent;
+import com.jobportal.jobportal.event.JobChangedEvent;
+import com.jobportal.jobportal.match.CandidateProfile;
+import com.jobportal.jobportal.mapper.JobMapper;
+import com.jobportal.jobportal.match.RankedJob;
 import com.jobportal.jobportal.repo.JobRepo;
+import com.jobportal.jobportal.repo.JobSkill;
+import com.jobportal.jobportal.repo.JobStamp;
+import com.jobportal.jobportal.repo.JobSummary;
+import com.jobportal.jobportal.search.InvertedIndex;
+import com.jobportal.jobportal.search.JobFacetIndex;
+import com.jobportal.jobportal.search.JobSkillIndex;
+import com.jobportal.jobportal.search.JobSuggestIndex;
+import com.jobportal.jobportal.search.JobTextIndex;
+import com.jobportal.jobportal.search.SimilarJobsIndex;
+import com.jobportal.jobportal.search.SkillTagger;
+import com.jobportal.jobportal.search.WeightedTrie;
+import com.jobportal.jobportal.util.JobCursor;
+import com.jobportal.jobportal.util.RankCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,6 +81,42 @@ class JobServiceTest {
     @Mock
     private JobRepo jobRepo;
 
+    @Mock
+    private JobTextIndex textIndex;
+
+    @Mock
+    private JobFacetIndex facetIndex;
+
+    @Mock
+    private SimilarJobsIndex similarJobsIndex;
+
+    @Mock
+    private JobSkillIndex skillIndex;
+
+    @Mock
+    private JobSuggestIndex suggestIndex;
+
+    @Mock
+    private SkillService skillService;
+
+    @Mock
+    private SkillTagger skillTagger;
+
+    @Mock
+    private SalaryNormalizer salaryNormalizer;
+
+    @Mock
+    private MatchService matchService;
+
+    @Spy
+    private JobListingCache listingCache = new JobListingCache(1000, 60_000, new SimpleMeterRegistry());
+
+    @Mock
+    private JobDetailCache detailCache;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
     @InjectMocks
     private JobService jobService;
 
@@ -47,7 +133,9 @@ class JobServiceTest {
                 .jobType(Job.JobType.FULL_TIME)
                 .status(Job.JobStatus.ACTIVE)
                 .experienceLevel("SENIOR")
-                .description("Test description that is long enough to meet validation requirements.")
+                .content(JobContent.builder()
+                        .description("Test description that is long enough to meet validation requirements.")
+                        .build())
                 .salaryMin(new BigDecimal("100000"))
                 .salaryMax(new BigDecimal("150000"))
                 .salaryCurrency("USD")
@@ -83,6 +171,57 @@ class JobServiceTest {
         assertThat(result.getTitle()).isEqualTo("Senior Java Developer");
         assertThat(result.getCompany()).isEqualTo("Tech Corp");
         verify(jobRepo, times(1)).save(any(Job.class));
+        verify(events).publishEvent(argThat((Object e) -> e instanceof JobChangedEvent changed
+                && changed.type() == JobChangedEvent.ChangeType.CREATED && changed.jobId().equals(1L)));
+    }
+
+    @Test
+    void create_ShouldLinkSkillsFromDictionary() {
+        jobDTO.setSkills("Java, Spring Boot");
+        when(skillService.resolve("Java, Spring Boot")).thenReturn(new HashSet<>(Set.of(3, 7)));
+        when(jobRepo.save(any(Job.class))).thenReturn(job);
+
+        jobService.create(jobDTO);
+
+        verify(jobRepo).save(argThat((Job saved) -> saved.getSkillIds().equals(Set.of(3, 7))));
+    }
+
+    @Test
+    void create_ShouldLinkSkillsMentionedInDescriptionAndRequirements() {
+        jobDTO.setSkills("Java");
+        jobDTO.setRequirements("Experience with Kafka and JS");
+        when(skillService.resolve("Java")).thenReturn(new HashSet<>(Set.of(3)));
+        when(skillTagger.tag(jobDTO.getDescription(), "Experience with Kafka and JS")).thenReturn(Set.of(3, 8, 9));
+        when(jobRepo.save(any(Job.class))).thenReturn(job);
+
+        jobService.create(jobDTO);
+
+        verify(jobRepo).save(argThat((Job saved) -> saved.getSkillIds().equals(Set.of(3, 8, 9))));
+    }
+
+    @Test
+    void create_ShouldPublishTheLinkedSkillIdsForTheIndexes() {
+        jobDTO.setSkills("Java");
+        when(skillService.resolve("Java")).thenReturn(new HashSet<>(Set.of(3)));
+        when(skillTagger.tag(jobDTO.getDescription(), null)).thenReturn(Set.of(8));
+        when(jobRepo.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        JobDTO result = jobService.create(jobDTO);
+
+        assertThat(result.getSkillIds()).containsExactlyInAnyOrder(3, 8);
+        verify(events).publishEvent(argThat((Object e) -> e instanceof JobChangedEvent changed
+                && changed.job().getSkillIds().equals(Set.of(3, 8))));
+    }
+
+    @Test
+    void create_ShouldStoreSalaryInBaseCurrency() {
+        jobDTO.setSalaryCurrency("EUR");
+        when(salaryNormalizer.normalize(new BigDecimal("100000"), new BigDecimal("150000"), "EUR")).thenReturn(162000L);
+        when(jobRepo.save(any(Job.class))).thenReturn(job);
+
+        jobService.create(jobDTO);
+
+        verify(jobRepo).save(argThat((Job saved) -> Long.valueOf(162000L).equals(saved.getNormalizedSalary())));
     }
 
     @Test
@@ -165,6 +304,46 @@ class JobServiceTest {
         verify(jobRepo, times(1)).save(any(Job.class));
     }
 
+    @Test
+    void createAll_ShouldInsertNewJobsInOneBatchAndPublishEachCreation() {
+        JobDTO second = JobDTO.builder().title("Frontend Developer").company("Web Inc")
+                .jobType(Job.JobType.CONTRACT).status(Job.JobStatus.ACTIVE)
+                .description("Another description that is long enough for validation.").build();
+        when(skillService.resolve(any())).thenReturn(new HashSet<>(Set.of(3)));
+        AtomicLong ids = new AtomicLong(100);
+        when(jobRepo.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Job> jobs = invocation.getArgument(0);
+            jobs.forEach(inserted -> inserted.setId(ids.incrementAndGet()));
+            return jobs;
+        });
+
+        List<JobDTO> result = jobService.createAll(List.of(jobDTO, second));
+
+        assertThat(result).extracting(JobDTO::getId).containsExactly(101L, 102L);
+        assertThat(result).extracting(JobDTO::getTitle).containsExactly("Senior Java Developer", "Frontend Developer");
+        // The ID sent with the first job is not reused
+        verify(jobRepo).insertAll(argThat(jobs -> jobs.size() == 2 && jobs.get(0).getSkillIds().equals(Set.of(3))));
+        verify(jobRepo, never()).save(any(Job.class));
+        verify(events, times(2)).publishEvent(argThat((Object e) -> e instanceof JobChangedEvent changed
+                && changed.type() == JobChangedEvent.ChangeType.CREATED));
+    }
+
+    @Test
+    void createAll_WithInvalidJobs_ShouldNameEachAndInsertNothing() {
+        JobDTO noCurrency = JobDTO.builder().title("Analyst").company("Bank")
+                .salaryMin(new BigDecimal("50000")).build();
+        JobDTO invertedRange = JobDTO.builder().title("Trader").company("Bank").salaryCurrency("USD")
+                .salaryMin(new BigDecimal("90000")).salaryMax(new BigDecimal("80000")).build();
+
+        assertThatThrownBy(() -> jobService.createAll(List.of(jobDTO, noCurrency, invertedRange)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("jobs[1]: Currency must be specified")
+                .hasMessageContaining("jobs[2]: Minimum salary must be less than maximum salary");
+
+        verify(jobRepo, never()).insertAll(anyList());
+        verifyNoInteractions(events);
+    }
+
     // ==================== GET BY ID TESTS ====================
 
     @Test
@@ -190,53 +369,120 @@ class JobServiceTest {
         verify(jobRepo, times(1)).findById(999L);
     }
 
-    // ==================== GET ALL TESTS ====================
-
     @Test
-    void getAllJobs_ShouldReturnAllJobs() {
-        Job job2 = Job.builder()
-                .id(2L)
-                .title("Junior Developer")
-                .company("Startup Inc")
-                .jobType(Job.JobType.FULL_TIME)
-                .status(Job.JobStatus.ACTIVE)
-                .description("Junior position")
-                .postedBy(1L)
-                .build();
+    void getJobDetailById_ShouldLoadJobOnceAndLimitSimilarJobsInQuery() {
+        job.setCategory("IT");
+        Job similar = Job.builder().id(2L).title("Java Developer").company("Data Inc")
+                .jobType(Job.JobType.FULL_TIME).status(Job.JobStatus.ACTIVE).category("IT").build();
+        when(jobRepo.findWithContentById(1L)).thenReturn(Optional.of(job));
+        when(jobRepo.findSimilarJobs(1L, "IT", Job.JobType.FULL_TIME, PageRequest.ofSize(JobService.SIMILAR_JOBS_LIMIT)))
+                .thenReturn(List.of(similar));
+
+        JobDetailDTO result = jobService.getJobDetailById(1L, null);
+
+        assertThat(result.getRole()).isEqualTo("Senior Java Developer");
+        assertThat(result.getDescription()).startsWith("Test description");
+        assertThat(result.getSimilarJobs()).extracting(SimilarJobDTO::getTitle).containsExactly("Java Developer");
+        verify(jobRepo, never()).findById(anyLong());
+    }
 
-        List<Job> jobs = Arrays.asList(job, job2);
-        when(jobRepo.findAll()).thenReturn(jobs);
+    @Test
+    void getJobDetailById_WithIndexedJob_ShouldTakeSimilarJobsFromIndex() {
+        SimilarJobDTO similar = SimilarJobDTO.builder().id("2").title("Java Developer").company("Data Inc").match(80).build();
+        when(jobRepo.findWithContentById(1L)).thenReturn(Optional.of(job));
+        when(similarJobsIndex.findSimilar(1L, JobService.SIMILAR_JOBS_LIMIT)).thenReturn(Optional.of(List.of(similar)));
 
-        List<JobDTO> result = jobService.getAllJobs();
+        JobDetailDTO result = jobService.getJobDetailById(1L, null);
 
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getTitle()).isEqualTo("Senior Java Developer");
-        assertThat(result.get(1).getTitle()).isEqualTo("Junior Developer");
-        verify(jobRepo, times(1)).findAll();
+        assertThat(result.getSimilarJobs()).containsExactly(similar);
+        verify(jobRepo, never()).findSimilarJobs(any(), any(), any(), any());
     }
 
     @Test
-    void getJobsByCompany_ShouldReturnFilteredJobs() {
-        List<Job> jobs = Arrays.asList(job);
-        when(jobRepo.findByCompany("Tech Corp")).thenReturn(jobs);
+    void getJobDetailById_WithNonExistentId_ShouldThrowException() {
+        when(jobRepo.findWithContentById(999L)).thenReturn(Optional.empty());
 
-        List<JobDTO> result = jobService.getJobsByCompany("Tech Corp");
+        assertThatThrownBy(() -> jobService.getJobDetailById(999L, null))
+                .isInstanceOf(JobNotFoundException.class);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getCompany()).isEqualTo("Tech Corp");
-        verify(jobRepo, times(1)).findByCompany("Tech Corp");
+        verify(jobRepo, never()).findSimilarJobs(any(), any(), any(), any());
     }
 
+    @Test
+    void getJobDetailGzip_ShouldRenderAnonymousDetailForTheCache() {
+        job.setCreatedAt(Instant.now().minus(3, ChronoUnit.HOURS));
+        when(jobRepo.findWithContentById(1L)).thenReturn(Optional.of(job));
+        when(similarJobsIndex.findSimilar(1L, JobService.SIMILAR_JOBS_LIMIT)).thenReturn(Optional.of(List.of()));
+        when(detailCache.gzipped(eq(1L), any())).thenAnswer(invocation -> {
+            Supplier<JobDetailCache.Rendering> renderer = invocation.getArgument(1);
+            JobDetailCache.Rendering rendering = renderer.get();
+            assertThat(rendering.detail().getMatchScore()).isZero();
+            assertThat(rendering.detail().getSaved()).isFalse();
+            assertThat(rendering.changesAt()).isEqualTo(JobMapper.postedAtChangesAt(job.getCreatedAt()));
+            return new byte[] {1};
+        });
+
+        assertThat(jobService.getJobDetailGzip(1L)).containsExactly(1);
+
+        verify(matchService, never()).findProfile(any());
+    }
+
+    // ==================== LISTING TESTS ====================
+
     @Test
     void getJobsByLocation_ShouldReturnFilteredJobs() {
         List<Job> jobs = Arrays.asList(job);
-        when(jobRepo.findByLocation("New York, NY")).thenReturn(jobs);
+        when(jobRepo.findByLocationKey("new york, ny")).thenReturn(jobs);
 
         List<JobDTO> result = jobService.getJobsByLocation("New York, NY");
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getLocation()).isEqualTo("New York, NY");
-        verify(jobRepo, times(1)).findByLocation("New York, NY");
+        verify(jobRepo, times(1)).findByLocationKey("new york, ny");
+    }
+
+    @Test
+    void getJobSummariesBySkill_ShouldQueryBySkillId() {
+        when(skillService.findId("Spring Boot")).thenReturn(Optional.of(4));
+        when(jobRepo.findSummariesBySkillIdAndStatus(4, Job.JobStatus.ACTIVE))
+                .thenReturn(List.of(summary(1L, Instant.now())));
+
+        List<JobSummaryDTO> result = jobService.getJobSummariesBySkill("Spring%20Boot");
+
+        assertThat(result).extracting(JobSummaryDTO::getId).containsExactly(1L);
+    }
+
+    @Test
+    void getJobSummariesBySkill_WithUnknownSkill_ShouldNotQuery() {
+        when(skillService.findId("Cobol")).thenReturn(Optional.empty());
+
+        assertThat(jobService.getJobSummariesBySkill("Cobol")).isEmpty();
+        verify(jobRepo, never()).findSummariesBySkillIdAndStatus(any(), any());
+    }
+
+    @Test
+    void getJobDetailById_WithUser_ShouldBuildProfileOnceForScoreAndFactors() {
+        CandidateProfile profile = CandidateProfile.of(new long[0], "SENIOR", null, null, null);
+        List<MatchFactorDTO> factors = List.of(MatchFactorDTO.builder().label("Experience level").weight(1.0).score(1.0).build());
+        when(jobRepo.findWithContentById(1L)).thenReturn(Optional.of(job));
+        when(matchService.findProfile(5L)).thenReturn(Optional.of(profile));
+        when(matchService.score(profile, job)).thenReturn(100);
+        when(matchService.factors(profile, job)).thenReturn(factors);
+
+        JobDetailDTO result = jobService.getJobDetailById(1L, 5L);
+
+        assertThat(result.getMatchScore()).isEqualTo(100);
+        assertThat(result.getMatchFactors()).isEqualTo(factors);
+        verify(matchService, times(1)).findProfile(5L);
+    }
+
+    @Test
+    void calculateMatchScore_WithUnknownUser_ShouldReturnZero() {
+        when(matchService.findProfile(99L)).thenReturn(Optional.empty());
+
+        assertThat(jobService.calculateMatchScore(job, 99L)).isZero();
+        assertThat(jobService.getMatchFactors(job, 99L)).isEmpty();
+        assertThat(jobService.calculateMatchScore(job, null)).isZero();
     }
 
     @Test
@@ -252,15 +498,392 @@ class JobServiceTest {
     }
 
     @Test
-    void getActiveJobs_ShouldReturnOnlyActiveJobs() {
-        List<Job> jobs = Arrays.asList(job);
-        when(jobRepo.findByStatus(Job.JobStatus.ACTIVE)).thenReturn(jobs);
+    void getActiveJobsPage_FirstPageCalledTwice_ShouldLoadOnce() {
+        when(jobRepo.findFirstPageByStatus(eq(Job.JobStatus.ACTIVE), any(Pageable.class))).thenReturn(List.of(job));
 
-        List<JobDTO> result = jobService.getActiveJobs();
+        CursorPageDTO<JobDTO> first = jobService.getActiveJobsPage(null, 10);
+        CursorPageDTO<JobDTO> second = jobService.getActiveJobsPage(null, 10);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getStatus()).isEqualTo(Job.JobStatus.ACTIVE);
-        verify(jobRepo, times(1)).findByStatus(Job.JobStatus.ACTIVE);
+        assertThat(second).isNotSameAs(first).usingRecursiveComparison().isEqualTo(first);
+        verify(jobRepo, times(1)).findFirstPageByStatus(eq(Job.JobStatus.ACTIVE), any(Pageable.class));
+    }
+
+    // ==================== VERSION TESTS ====================
+
+    @Test
+    void getJobVersion_ShouldBeTaggedWithIdAndUpdateTime() {
+        Instant updatedAt = Instant.parse("2024-05-01T10:15:30.123456Z");
+        when(jobRepo.findStampById(1L)).thenReturn(Optional.of(new JobStamp(updatedAt, 1L)));
+
+        JobVersion version = jobService.getJobVersion(1L).orElseThrow();
+
+        assertThat(version.tag()).isEqualTo("j1-1714558530123456");
+        assertThat(version.lastModified()).isEqualTo(updatedAt);
+        verify(jobRepo, never()).findById(any());
+    }
+
+    @Test
+    void getJobDetailVersion_ShouldMoveOnWhenThePostedDateTextChanges() {
+        Instant updatedAt = Instant.parse("2024-05-01T10:15:30Z");
+        Instant createdAt = Instant.now().minus(Duration.ofDays(3)).minus(Duration.ofHours(1)).truncatedTo(ChronoUnit.SECONDS);
+        when(jobRepo.findCatalogStamp()).thenReturn(new JobStamp(updatedAt, 2L));
+        when(jobRepo.findStampById(1L)).thenReturn(Optional.of(new JobStamp(updatedAt, 1L)));
+        when(jobRepo.findCreatedAtById(1L)).thenReturn(Optional.of(createdAt));
+
+        JobVersion version = jobService.getJobDetailVersion(1L).orElseThrow();
+
+        // "3 days ago" until the fourth day is complete
+        assertThat(version.tag()).startsWith("j1-1714558530000000.c0-1714558530000000-2")
+                .endsWith(".p" + createdAt.plus(Duration.ofDays(4)).getEpochSecond());
+        assertThat(version.lastModified()).isAfterOrEqualTo(createdAt.plus(Duration.ofDays(3)));
+    }
+
+    @Test
+    void getCatalogVersion_ShouldChangeWhenAJobChanges() {
+        Instant updatedAt = Instant.parse("2024-05-01T10:15:30Z");
+        when(jobRepo.findCatalogStamp()).thenReturn(new JobStamp(updatedAt, 2L));
+
+        JobVersion before = jobService.getCatalogVersion();
+        assertThat(jobService.getCatalogVersion()).isEqualTo(before);
+        listingCache.onJobChanged(new JobChangedEvent(1L, JobChangedEvent.ChangeType.DELETED, null,
+                JobDTO.builder().id(1L).company("Acme").location("Remote").build()));
+        JobVersion after = jobService.getCatalogVersion();
+
+        assertThat(after.tag()).isNotEqualTo(before.tag());
+        // Deletions leave MAX(updatedAt) unchanged, the last-modified time still moves
+        assertThat(after.lastModified()).isAfter(updatedAt);
+        verify(jobRepo, times(2)).findCatalogStamp();
+    }
+
+    // ==================== CURSOR PAGINATION TESTS ====================
+
+    @Test
+    void getJobsPage_WithoutCursor_ShouldReturnFirstPageAndNextCursor() {
+        Instant now = Instant.parse("2024-05-01T10:15:30.123456Z");
+        Job newer = Job.builder().id(3L).title("Newest").createdAt(now).build();
+        Job older = Job.builder().id(2L).title("Older").createdAt(now.minusSeconds(60)).build();
+        Job lookAhead = Job.builder().id(1L).title("Oldest").createdAt(now.minusSeconds(120)).build();
+        when(jobRepo.findFirstPage(any(Pageable.class))).thenReturn(Arrays.asList(newer, older, lookAhead));
+
+        CursorPageDTO<JobDTO> page = jobService.getJobsPage(null, 2);
+
+        assertThat(page.getItems()).extracting(JobDTO::getId).containsExactly(3L, 2L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getSize()).isEqualTo(2);
+        JobCursor next = JobCursor.decode(page.getNextCursor());
+        assertThat(next.id()).isEqualTo(2L);
+        assertThat(next.createdAt()).isEqualTo(older.getCreatedAt());
+        verify(jobRepo).findFirstPage(argThat(p -> p.getPageSize() == 3));
+    }
+
+    @Test
+    void getJobsPage_WithCursor_ShouldSeekPastCursorPosition() {
+        Instant createdAt = Instant.parse("2024-05-01T10:15:30Z");
+        String cursor = new JobCursor(createdAt, 7L).encode();
+        when(jobRepo.findPageAfter(eq(createdAt), eq(7L), any(Pageable.class))).thenReturn(Arrays.asList(job));
+
+        CursorPageDTO<JobDTO> page = jobService.getJobsPage(cursor, null);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getSize()).isEqualTo(JobService.DEFAULT_PAGE_SIZE);
+        verify(jobRepo, never()).findFirstPage(any(Pageable.class));
+    }
+
+    @Test
+    void getActiveJobsPage_WithOversizedRequest_ShouldClampToMaxPageSize() {
+        when(jobRepo.findFirstPageByStatus(eq(Job.JobStatus.ACTIVE), any(Pageable.class))).thenReturn(Arrays.asList(job));
+
+        CursorPageDTO<JobDTO> page = jobService.getActiveJobsPage(null, 10_000);
+
+        assertThat(page.getSize()).isEqualTo(JobService.MAX_PAGE_SIZE);
+        verify(jobRepo).findFirstPageByStatus(eq(Job.JobStatus.ACTIVE),
+                argThat(p -> p.getPageSize() == JobService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void getActiveJobsPageWithSkillIds_ShouldAttachTheSkillIdsOfEveryJob() {
+        Job other = Job.builder().id(2L).title("QA Engineer").status(Job.JobStatus.ACTIVE)
+                .createdAt(Instant.parse("2024-05-01T10:15:30Z")).build();
+        when(jobRepo.findFirstPageByStatus(eq(Job.JobStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(Arrays.asList(job, other));
+        when(jobRepo.findSkillIdsByJobIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(new JobSkill(1L, 3), new JobSkill(1L, 8)));
+
+        CursorPageDTO<JobDTO> page = jobService.getActiveJobsPageWithSkillIds(null, 10);
+
+        assertThat(page.getItems()).extracting(JobDTO::getSkillIds).containsExactly(Set.of(3, 8), Set.of());
+        // The cached first page is not changed for other callers
+        assertThat(jobService.getActiveJobsPage(null, 10).getItems()).extracting(JobDTO::getSkillIds)
+                .containsOnlyNulls();
+    }
+
+    @Test
+    void getJobSummariesPage_WithoutCursor_ShouldUseSummaryQuery() {
+        Instant now = Instant.parse("2024-05-01T10:15:30Z");
+        JobSummary newer = summary(3L, now);
+        JobSummary lookAhead = summary(2L, now.minusSeconds(60));
+        when(jobRepo.findFirstSummaryPage(any(Pageable.class))).thenReturn(Arrays.asList(newer, lookAhead));
+
+        CursorPageDTO<JobSummaryDTO> page = jobService.getJobSummariesPage(null, 1);
+
+        assertThat(page.getItems()).extracting(JobSummaryDTO::getId).containsExactly(3L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(JobCursor.decode(page.getNextCursor())).isEqualTo(new JobCursor(now, 3L));
+        verify(jobRepo, never()).findFirstPage(any(Pageable.class));
+    }
+
+    @Test
+    void getJobsPage_WithMalformedCursor_ShouldThrowValidationException() {
+        assertThatThrownBy(() -> jobService.getJobsPage("not-a-cursor", 10))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Invalid pagination cursor");
+
+        verifyNoInteractions(jobRepo);
+    }
+
+    @Test
+    void getJobsPage_WithNonPositiveSize_ShouldThrowValidationException() {
+        assertThatThrownBy(() -> jobService.getJobsPage(null, 0))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Page size");
+
+        verifyNoInteractions(jobRepo);
+    }
+
+    // ==================== SEARCH TESTS ====================
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchJobs_ShouldRunSingleQueryAndReturnPage() {
+        JobSearchCriteria criteria = JobSearchCriteria.builder()
+                .status(Job.JobStatus.ACTIVE)
+                .location("new york, ny")
+                .workMode("remote")
+                .page(1)
+                .size(10)
+                .sort("salaryMax,desc")
+                .build();
+        when(jobRepo.findAll(any(Specification.class), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(job), invocation.getArgument(1), 11));
+
+        PageResponseDTO<JobDTO> result = jobService.searchJobs(criteria);
+
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getPage()).isEqualTo(1);
+        assertThat(result.getSize()).isEqualTo(10);
+        assertThat(result.getTotalElements()).isEqualTo(11);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+        verify(jobRepo, times(1)).findAll(any(Specification.class), argThat((Pageable p) ->
+                p.getPageNumber() == 1
+                        && p.getSort().equals(Sort.by(Sort.Order.desc("salaryMax"), Sort.Order.desc("id")))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchJobs_WithNoCriteria_ShouldSortNewestFirst() {
+        when(jobRepo.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(job), PageRequest.of(0, JobService.DEFAULT_PAGE_SIZE), 1));
+
+        PageResponseDTO<JobDTO> result = jobService.searchJobs(null);
+
+        assertThat(result.getItems()).hasSize(1);
+        verify(jobRepo).findAll(any(Specification.class), argThat((Pageable p) ->
+                p.getSort().equals(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")))));
+    }
+
+    @Test
+    void searchJobs_WithTextQueryOnly_ShouldLoadRankedPageById() {
+        Job second = Job.builder().id(2L).title("Java Engineer").status(Job.JobStatus.ACTIVE).build();
+        when(textIndex.search("java", JobService.MAX_TEXT_HITS)).thenReturn(List.of(
+                new InvertedIndex.Hit(2L, 5.0f), new InvertedIndex.Hit(1L, 3.0f)));
+        when(jobRepo.findAllById(List.of(2L, 1L))).thenReturn(List.of(job, second));
+
+        PageResponseDTO<JobDTO> result = jobService.searchJobs(JobSearchCriteria.builder().q("java").build());
+
+        assertThat(result.getItems()).extracting(JobDTO::getId).containsExactly(2L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        verify(jobRepo, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchJobs_WithTextQueryAndFilters_ShouldKeepRelevanceOrderOfFilteredHits() {
+        Job second = Job.builder().id(2L).title("Java Engineer").status(Job.JobStatus.ACTIVE).build();
+        when(textIndex.search("java", JobService.MAX_TEXT_HITS)).thenReturn(List.of(
+                new InvertedIndex.Hit(3L, 9.0f), new InvertedIndex.Hit(2L, 5.0f), new InvertedIndex.Hit(1L, 3.0f)));
+        when(jobRepo.findIds(any(Specification.class))).thenReturn(List.of(1L, 2L));
+        when(jobRepo.findAllById(List.of(2L))).thenReturn(List.of(second));
+
+        PageResponseDTO<JobDTO> result = jobService.searchJobs(
+                JobSearchCriteria.builder().q("java").workMode("REMOTE").size(1).build());
+
+        assertThat(result.getItems()).extracting(JobDTO::getId).containsExactly(2L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        // Only the IDs of the filtered hits are queried, then only the requested page is loaded
+        verify(jobRepo, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchJobSummaries_ShouldSelectSummariesOnly() {
+        when(jobRepo.findSummaries(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(summary(1L, Instant.now())), PageRequest.of(0, 20), 1));
+
+        PageResponseDTO<JobSummaryDTO> result = jobService.searchJobSummaries(
+                JobSearchCriteria.builder().category("IT").build());
+
+        assertThat(result.getItems()).extracting(JobSummaryDTO::getId).containsExactly(1L);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(jobRepo, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void searchJobSummaries_WithTextQueryOnly_ShouldLoadRankedSummariesById() {
+        when(textIndex.search("java", JobService.MAX_TEXT_HITS)).thenReturn(List.of(
+                new InvertedIndex.Hit(2L, 5.0f), new InvertedIndex.Hit(1L, 3.0f)));
+        when(jobRepo.findSummariesByIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(summary(1L, Instant.now()), summary(2L, Instant.now())));
+
+        PageResponseDTO<JobSummaryDTO> result = jobService.searchJobSummaries(
+                JobSearchCriteria.builder().q("java").build());
+
+        assertThat(result.getItems()).extracting(JobSummaryDTO::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void getRecommendedJobs_ShouldPageThroughRankingAndSkipGoneJobs() {
+        when(matchService.getRecommendations(1L)).thenReturn(List.of(
+                new RankedJob(9L, 100), new RankedJob(7L, 100), new RankedJob(5L, 90), new RankedJob(3L, 80)));
+        when(jobRepo.findSummariesByIdIn(List.of(9L, 7L)))
+                .thenReturn(List.of(summary(7L, Instant.now()), summary(9L, Instant.now())));
+        when(jobRepo.findSummariesByIdIn(List.of(5L, 3L)))
+                .thenReturn(List.of(summary(3L, Instant.now())));
+
+        CursorPageDTO<RecommendedJobDTO> first = jobService.getRecommendedJobs(1L, null, 2);
+
+        assertThat(first.getItems()).extracting(item -> item.getJob().getId()).containsExactly(9L, 7L);
+        assertThat(first.getItems()).extracting(RecommendedJobDTO::getMatchScore).containsExactly(100, 100);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(RankCursor.decode(first.getNextCursor())).isEqualTo(new RankCursor(100, 7L));
+
+        CursorPageDTO<RecommendedJobDTO> second = jobService.getRecommendedJobs(1L, first.getNextCursor(), 2);
+
+        assertThat(second.getItems()).extracting(item -> item.getJob().getId()).containsExactly(3L);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void searchJobs_WithTextQueryWithoutHits_ShouldReturnEmptyPage() {
+        when(textIndex.search("cobol", JobService.MAX_TEXT_HITS)).thenReturn(List.of());
+
+        PageResponseDTO<JobDTO> result = jobService.searchJobs(JobSearchCriteria.builder().q("cobol").build());
+
+        assertThat(result.getItems()).isEmpty();
+        assertThat(result.getTotalElements()).isZero();
+        verifyNoInteractions(jobRepo);
+    }
+
+    @Test
+    void getFacetCounts_WithTextQuery_ShouldRestrictCountsToEveryTextHit() {
+        JobSearchCriteria criteria = JobSearchCriteria.builder().q("java").workMode("REMOTE").build();
+        List<Long> hits = LongStream.rangeClosed(1, JobService.MAX_TEXT_HITS + 500).boxed().toList();
+        JobFacetsDTO facets = JobFacetsDTO.builder().total(hits.size()).facets(Map.of()).build();
+        when(textIndex.matchingIds("java")).thenReturn(hits);
+        when(facetIndex.count(criteria, hits)).thenReturn(facets);
+
+        JobFacetsDTO result = jobService.getFacetCounts(criteria);
+
+        assertThat(result.getTotal()).isEqualTo(JobService.MAX_TEXT_HITS + 500);
+        verify(textIndex, never()).search(anyString(), anyInt());
+        verifyNoInteractions(jobRepo);
+    }
+
+    @Test
+    void getFacetCounts_WithoutTextQuery_ShouldCountAllActiveJobs() {
+        JobSearchCriteria criteria = JobSearchCriteria.builder().category("Engineering").build();
+        when(facetIndex.count(criteria, null)).thenReturn(JobFacetsDTO.builder().total(5).facets(Map.of()).build());
+
+        assertThat(jobService.getFacetCounts(criteria).getTotal()).isEqualTo(5);
+        verifyNoInteractions(textIndex);
+    }
+
+    @Test
+    void getFacetCounts_WithInactiveStatus_ShouldThrowValidationException() {
+        JobSearchCriteria criteria = JobSearchCriteria.builder().status(Job.JobStatus.CLOSED).build();
+
+        assertThatThrownBy(() -> jobService.getFacetCounts(criteria))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("active jobs");
+        verifyNoInteractions(facetIndex);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchJobs_SortedBySalary_ShouldOrderByNormalizedSalary() {
+        JobSearchCriteria criteria = JobSearchCriteria.builder()
+                .status(Job.JobStatus.ACTIVE)
+                .salaryAtLeast(80000L)
+                .sort("salary,desc")
+                .build();
+        when(jobRepo.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(job), PageRequest.of(0, JobService.DEFAULT_PAGE_SIZE), 1));
+
+        jobService.searchJobs(criteria);
+
+        verify(jobRepo).findAll(any(Specification.class), argThat((Pageable p) ->
+                p.getSort().equals(Sort.by(Sort.Order.desc("normalizedSalary"), Sort.Order.desc("id")))));
+    }
+
+    @Test
+    void searchJobs_WithInvalidSalaryBetween_ShouldThrowValidationException() {
+        JobSearchCriteria reversed = JobSearchCriteria.builder().salaryBetween(List.of(120000L, 80000L)).build();
+        JobSearchCriteria single = JobSearchCriteria.builder().salaryBetween(List.of(80000L)).build();
+
+        assertThatThrownBy(() -> jobService.searchJobs(reversed))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("salaryBetween");
+        assertThatThrownBy(() -> jobService.getFacetCounts(single))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("salaryBetween");
+
+        verifyNoInteractions(jobRepo, facetIndex);
+    }
+
+    @Test
+    void suggest_ShouldCapLimitAndMapSuggestions() {
+        when(suggestIndex.suggest(JobSuggestIndex.Field.COMPANY, "te", JobService.MAX_SUGGESTIONS))
+                .thenReturn(List.of(new WeightedTrie.Suggestion("Tech Corp", 4)));
+
+        List<SuggestionDTO> result = jobService.suggest("company", "te", 500);
+
+        assertThat(result).containsExactly(new SuggestionDTO("Tech Corp", 4));
+        verifyNoInteractions(jobRepo);
+    }
+
+    @Test
+    void suggest_WithUnknownFieldOrBadLimit_ShouldThrowValidationException() {
+        assertThatThrownBy(() -> jobService.suggest("description", "a", null))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Field must be one of");
+        assertThatThrownBy(() -> jobService.suggest("title", "a", 0))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Limit");
+
+        verifyNoInteractions(suggestIndex);
+    }
+
+    @Test
+    void searchJobs_WithUnsupportedSortField_ShouldThrowValidationException() {
+        JobSearchCriteria criteria = JobSearchCriteria.builder().sort("description,asc").build();
+
+        assertThatThrownBy(() -> jobService.searchJobs(criteria))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Cannot sort by 'description'");
+
+        verifyNoInteractions(jobRepo);
     }
 
     // ==================== UPDATE TESTS ====================
@@ -327,26 +950,32 @@ class JobServiceTest {
 
     @Test
     void delete_WithExistingId_ShouldDeleteJob() {
-        when(jobRepo.existsById(1L)).thenReturn(true);
-        doNothing().when(jobRepo).deleteById(1L);
+        when(jobRepo.findById(1L)).thenReturn(Optional.of(job));
 
         assertThatCode(() -> jobService.delete(1L))
                 .doesNotThrowAnyException();
 
-        verify(jobRepo, times(1)).existsById(1L);
-        verify(jobRepo, times(1)).deleteById(1L);
+        verify(jobRepo, times(1)).delete(job);
+        verify(events).publishEvent(argThat((Object e) -> e instanceof JobChangedEvent changed
+                && changed.type() == JobChangedEvent.ChangeType.DELETED && changed.job() == null
+                && changed.previous().getCompany().equals("Tech Corp")));
     }
 
     @Test
     void delete_WithNonExistentId_ShouldThrowException() {
-        when(jobRepo.existsById(999L)).thenReturn(false);
+        when(jobRepo.findById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> jobService.delete(999L))
                 .isInstanceOf(JobNotFoundException.class)
                 .hasMessageContaining("999");
 
-        verify(jobRepo, times(1)).existsById(999L);
-        verify(jobRepo, never()).deleteById(anyLong());
+        verify(jobRepo, times(1)).findById(999L);
+        verify(jobRepo, never()).delete(any(Job.class));
+    }
+
+    private static JobSummary summary(Long id, Instant createdAt) {
+        return new JobSummary(id, "Job " + id, "Tech Corp", "New York, NY", Job.JobType.FULL_TIME,
+                Job.JobStatus.ACTIVE, "SENIOR", null, "IT", null, null, null, "REMOTE", null,
+                "Java", null, 1L, null, null, createdAt, createdAt);
     }
 }
-
@@ -0,0 +1,159 @@
+package com.jobportal.jobportal.service;
+
+import com.jobportal.jobportal.entity.Resume;
+import com.jobportal.jobportal.entity.ResumeContent;
+import com.jobportal.jobportal.entity.ResumeContent.ExtractionStatus;
+import com.jobportal.jobportal.entity.User;
+import com.jobportal.jobportal.event.CandidateProfileChangedEvent;
+import com.jobportal.jobportal.event.ResumeUploadedEvent;
+import com.jobportal.jobportal.repo.ResumeContentRepo;
+import com.jobportal.jobportal.resume.ResumeAnalysis;
+import com.jobportal.jobportal.resume.ResumeAnalyzer;
+import com.jobportal.jobportal.resume.ResumeTextExtractor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ResumeExtractionService.
+ * Tests claiming, storing results, retry bookkeeping and the bounded queue.
+ */
+@ExtendWith(MockitoExtension.class)
+class ResumeExtractionServiceTest {
+
+    private static final long RETRY_INTERVAL_MILLIS = 60_000;
+
+    @Mock
+    private ResumeContentRepo contentRepo;
+
+    @Mock
+    private ResumeTextExtractor extractor;
+
+    @Mock
+    private ResumeAnalyzer analyzer;
+
+    @Mock
+    private TaskExecutor executor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    private ResumeExtractionService service;
+    private ResumeContent content;
+
+    @BeforeEach
+    void setUp() {
+        service = new ResumeExtractionService(contentRepo, extractor, analyzer, executor,
+                transactionManager, events, 3, RETRY_INTERVAL_MILLIS);
+        Resume resume = Resume.builder()
+                .id(1L)
+                .filePath("uploads/resumes/1.pdf")
+                .fileType("PDF")
+                .isPrimary(true)
+                .user(User.builder().id(5L).build())
+                .build();
+        content = ResumeContent.pending(resume);
+        content.setId(1L);
+    }
+
+    @Test
+    void extract_ShouldStoreAnalysisAndNotifyMatchingForPrimaryResume() throws IOException {
+        claim(1);
+        content.setAttempts(1);
+        when(extractor.extract(Paths.get("uploads/resumes/1.pdf"), "PDF")).thenReturn("text");
+        when(analyzer.analyze("text")).thenReturn(new ResumeAnalysis(
+                List.of("experience", "skills"), List.of("Java", "SQL"), List.of("java", "sql"), 4));
+
+        service.extract(1L);
+
+        assertThat(content.getStatus()).isEqualTo(ExtractionStatus.COMPLETED);
+        assertThat(content.getSections()).isEqualTo("experience,skills");
+        assertThat(content.getSkills()).isEqualTo("Java, SQL");
+        assertThat(content.getTokens()).isEqualTo("java sql");
+        assertThat(content.getExtractedAt()).isNotNull();
+        verify(events).publishEvent(new CandidateProfileChangedEvent(5L));
+    }
+
+    @Test
+    void extract_WhenFileCannotBeParsed_ShouldRetryWithBackoff() throws IOException {
+        claim(1);
+        content.setAttempts(2);
+        when(extractor.extract(any(), any())).thenThrow(new IOException("Corrupt file"));
+
+        Instant before = Instant.now();
+        service.extract(1L);
+
+        assertThat(content.getStatus()).isEqualTo(ExtractionStatus.FAILED);
+        assertThat(content.getLastError()).contains("Corrupt file");
+        // Second attempt failed: wait twice the retry interval
+        assertThat(content.getNextAttemptAt()).isAfterOrEqualTo(before.plus(Duration.ofMillis(2 * RETRY_INTERVAL_MILLIS)));
+        verifyNoInteractions(analyzer, events);
+    }
+
+    @Test
+    void extract_WhenNotClaimed_ShouldNotReadFile() {
+        claim(0);
+
+        service.extract(1L);
+
+        verifyNoInteractions(extractor, analyzer, events);
+        verify(contentRepo, never()).findById(any());
+    }
+
+    @Test
+    void onResumeUploaded_WhenQueueIsFull_ShouldLeaveResumeForRetry() {
+        doThrow(new TaskRejectedException("full")).when(executor).execute(any(Runnable.class));
+
+        assertThatCode(() -> service.onResumeUploaded(new ResumeUploadedEvent(1L))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void retryDue_ShouldFailResumesWhoseLastAttemptWasLostAndQueueTheDueOnes() {
+        when(contentRepo.failAbandoned(eq(ExtractionStatus.PROCESSING), eq(ExtractionStatus.FAILED), eq(3),
+                contains("did not finish"), any(Instant.class))).thenReturn(1);
+        when(contentRepo.findDueIds(eq(ExtractionStatus.COMPLETED), eq(3), any(Instant.class), any()))
+                .thenReturn(List.of(7L, 8L));
+
+        service.retryDue();
+
+        verify(contentRepo).failAbandoned(eq(ExtractionStatus.PROCESSING), eq(ExtractionStatus.FAILED), eq(3),
+                contains("did not finish"), any(Instant.class));
+        verify(executor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void join_ShouldDropValuesBeyondMaxLength() {
+        assertThat(ResumeExtractionService.join(List.of("Java", "SQL", "Kotlin"), ", ", 9)).isEqualTo("Java, SQL");
+        assertThat(ResumeExtractionService.join(List.of(), ", ", 9)).isEmpty();
+    }
+
+    private void claim(int claimed) {
+        when(contentRepo.claim(eq(1L), eq(ExtractionStatus.PROCESSING), eq(ExtractionStatus.COMPLETED),
+                eq(3), any(Instant.class), any(Instant.class))).thenReturn(claimed);
+        if (claimed > 0) {
+            when(contentRepo.findById(1L)).thenReturn(Optional.of(content));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.jobportal.jobportal.service;
+
+import com.jobportal.jobportal.repo.JobRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SalaryNormalizer.
+ * Tests currency conversion, the rate table format, and startup renormalization.
+ */
+@ExtendWith(MockitoExtension.class)
+class SalaryNormalizerTest {
+
+    @Mock
+    private JobRepo jobRepo;
+
+    private SalaryNormalizer normalizer;
+
+    @BeforeEach
+    void setUp() {
+        normalizer = new SalaryNormalizer(jobRepo, "usd", "EUR:1.08, gbp:1.27,JPY:0.0067");
+    }
+
+    @Test
+    void normalize_ShouldConvertTopOfRangeToBaseCurrency() {
+        assertThat(normalizer.baseCurrency()).isEqualTo("USD");
+        assertThat(normalizer.normalize(new BigDecimal("50000"), new BigDecimal("60000"), "EUR")).isEqualTo(64800L);
+        assertThat(normalizer.normalize(new BigDecimal("40000"), null, "GBP")).isEqualTo(50800L);
+        assertThat(normalizer.normalize(null, new BigDecimal("9000000"), "jpy")).isEqualTo(60300L);
+        assertThat(normalizer.normalize(new BigDecimal("100000.50"), null, "USD")).isEqualTo(100001L);
+    }
+
+    @Test
+    void normalize_WithoutSalaryOrRate_ShouldReturnNull() {
+        assertThat(normalizer.normalize(null, null, "USD")).isNull();
+        assertThat(normalizer.normalize(new BigDecimal("50000"), null, "CHF")).isNull();
+        assertThat(normalizer.normalize(new BigDecimal("50000"), null, null)).isNull();
+    }
+
+    @Test
+    void parseRates_WithMalformedTable_ShouldThrow() {
+        assertThatThrownBy(() -> SalaryNormalizer.parseRates("EUR=1.08"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("CODE:rate");
+        assertThatThrownBy(() -> SalaryNormalizer.parseRates("EUR:abc"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SalaryNormalizer.parseRates("EUR:0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("positive");
+    }
+
+    @Test
+    void renormalizeAll_ShouldRecomputeEachCurrencyAndClearTheOthers() {
+        when(jobRepo.normalizeSalaries(anyString(), any(BigDecimal.class), any(Instant.class))).thenReturn(1);
+
+        normalizer.renormalizeAll();
+
+        verify(jobRepo).normalizeSalaries(eq("EUR"), eq(new BigDecimal("1.08")), any(Instant.class));
+        verify(jobRepo).normalizeSalaries(eq("GBP"), eq(new BigDecimal("1.27")), any(Instant.class));
+        verify(jobRepo).normalizeSalaries(eq("JPY"), eq(new BigDecimal("0.0067")), any(Instant.class));
+        verify(jobRepo).normalizeSalaries(eq("USD"), eq(BigDecimal.ONE), any(Instant.class));
+        verify(jobRepo).clearNormalizedSalariesExcept(eq(Set.of("EUR", "GBP", "JPY", "USD")), any(Instant.class));
+    }
+}
@@ -3,8 +3,10 @@ package com.jobportal.jobportal.service;
 import com.jobportal.jobportal.customexceptionhandler.UserNotFoundException;
 import com.jobportal.jobportal.dto.UserDTO;
 import com.jobportal.jobportal.entity.User;
+import com.jobportal.jobportal.event.CandidateProfileChangedEvent;
 import com.jobportal.jobportal.mapper.UserMapper;
 import com.jobportal.jobportal.repo.UserRepo;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +39,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher events;
+
     @InjectMocks
     private UserService userService;
 
@@ -246,6 +251,7 @@ class UserServiceTest {
         verify(userMapper, times(1)).updateEntity(any(UserDTO.class), any(User.class));
         verify(userRepo, times(1)).save(any(User.class));
         verify(userMapper, times(1)).toDto(any(User.class));
+        verify(events).publishEvent(new CandidateProfileChangedEvent(1L));
     }
 
     @Test
@@ -0,0 +1,104 @@
+package com.jobportal.jobportal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for OffHeapByteStore.
+ * Tests storing and replacing values, the memory budget and eviction.
+ */
+class OffHeapByteStoreTest {
+
+    @Test
+    void put_ShouldStoreAndReplaceValues() {
+        OffHeapByteStore store = new OffHeapByteStore(1024, 4096);
+
+        store.put(1L, bytes(100, 1));
+        store.put(2L, bytes(700, 2));
+        store.put(1L, bytes(200, 3));
+
+        assertThat(store.get(1L)).isEqualTo(bytes(200, 3));
+        assertThat(store.get(2L)).isEqualTo(bytes(700, 2));
+        assertThat(store.get(3L)).isNull();
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.storedBytes()).isEqualTo(900);
+        // One slab for the 256-byte class, one for the 1024-byte class
+        assertThat(store.allocatedBytes()).isEqualTo(2048);
+    }
+
+    @Test
+    void remove_ShouldFreeTheChunkForReuse() {
+        OffHeapByteStore store = new OffHeapByteStore(1024, 1024);
+        for (long key = 0; key < 4; key++) {
+            store.put(key, bytes(256, (int) key));
+        }
+
+        store.remove(0L);
+        store.put(9L, bytes(200, 9));
+
+        assertThat(store.get(9L)).isEqualTo(bytes(200, 9));
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.allocatedBytes()).isEqualTo(1024);
+
+        store.clear();
+        assertThat(store.size()).isZero();
+        assertThat(store.storedBytes()).isZero();
+    }
+
+    @Test
+    void put_WhenBudgetIsSpent_ShouldEvictTheOldestValueOfTheClass() {
+        OffHeapByteStore store = new OffHeapByteStore(1024, 2048);
+        for (long key = 0; key < 8; key++) {
+            store.put(key, bytes(256, (int) key));
+        }
+
+        store.put(8L, bytes(256, 8));
+
+        assertThat(store.get(0L)).isNull();
+        assertThat(store.get(1L)).isEqualTo(bytes(256, 1));
+        assertThat(store.get(8L)).isEqualTo(bytes(256, 8));
+        assertThat(store.allocatedBytes()).isEqualTo(2048);
+    }
+
+    @Test
+    void put_WhenAnotherClassOwnsAllSlabs_ShouldTakeOneBack() {
+        OffHeapByteStore store = new OffHeapByteStore(1024, 1024);
+        for (long key = 0; key < 4; key++) {
+            store.put(key, bytes(200, (int) key));
+        }
+
+        store.put(10L, bytes(1000, 10));
+
+        assertThat(store.get(10L)).isEqualTo(bytes(1000, 10));
+        assertThat(store.size()).isEqualTo(1);
+
+        store.put(0L, bytes(200, 0));
+        assertThat(store.get(0L)).isEqualTo(bytes(200, 0));
+        assertThat(store.get(10L)).isNull();
+    }
+
+    @Test
+    void put_WithValueLargerThanASlab_ShouldNotStoreIt() {
+        OffHeapByteStore store = new OffHeapByteStore(1024, 4096);
+        store.put(1L, bytes(10, 1));
+
+        assertThat(store.put(1L, bytes(2000, 1))).isFalse();
+        assertThat(store.get(1L)).isNull();
+    }
+
+    @Test
+    void constructor_WithSlabSizeNotAPowerOfTwo_ShouldThrow() {
+        assertThatThrownBy(() -> new OffHeapByteStore(1000, 4096))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] bytes(int length, int seed) {
+        byte[] value = new byte[length];
+        Arrays.fill(value, (byte) seed);
+        value[0] = (byte) (seed + 1);
+        return value;
+    }
+}
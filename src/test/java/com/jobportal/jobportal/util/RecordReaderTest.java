@@ -0,0 +1,89 @@
+package com.jobportal.jobportal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for RecordReader.
+ * Tests CSV quoting rules, line terminators and the bound on record length.
+ */
+class RecordReaderTest {
+
+    @Test
+    void nextCsvRecord_ShouldHandleQuotedCommasQuotesAndLineBreaks() throws IOException {
+        RecordReader reader = new RecordReader(new StringReader(
+                "title,description\r\n\"Engineer, Senior\",\"Say \"\"hi\"\"\nto the team\"\r\nplain,\n"), 1000);
+
+        assertThat(reader.nextCsvRecord()).containsExactly("title", "description");
+        assertThat(reader.nextCsvRecord()).containsExactly("Engineer, Senior", "Say \"hi\"\nto the team");
+        assertThat(reader.nextCsvRecord()).containsExactly("plain", "");
+        assertThat(reader.nextCsvRecord()).isNull();
+    }
+
+    @Test
+    void nextCsvRecord_ShouldReadEmptyLinesAndALastRecordWithoutLineBreak() throws IOException {
+        RecordReader reader = new RecordReader(new StringReader("a,b\n\nc,\"d\""), 1000);
+
+        assertThat(reader.nextCsvRecord()).containsExactly("a", "b");
+        assertThat(reader.nextCsvRecord()).containsExactly("");
+        assertThat(reader.nextCsvRecord()).containsExactly("c", "d");
+        assertThat(reader.nextCsvRecord()).isNull();
+    }
+
+    @Test
+    void nextCsvRecord_WithTooLongRecord_ShouldTruncateItAndContinueWithTheNext() throws IOException {
+        RecordReader reader = new RecordReader(new StringReader("abcdef,\"gh\nij\"\nk,l\n"), 4);
+
+        assertThat(reader.nextCsvRecord()).containsExactly("abcd", "");
+        assertThat(reader.truncated()).isTrue();
+        assertThat(reader.nextCsvRecord()).containsExactly("k", "l");
+        assertThat(reader.truncated()).isFalse();
+    }
+
+    @Test
+    void nextLine_ShouldSplitOnAnyLineTerminator() throws IOException {
+        RecordReader reader = new RecordReader(new StringReader("{\"a\":1}\r\n\n{\"b\":\"x,\\\"y\"}\r{\"c\":3}"), 1000);
+
+        assertThat(reader.nextLine()).isEqualTo("{\"a\":1}");
+        assertThat(reader.nextLine()).isEmpty();
+        assertThat(reader.nextLine()).isEqualTo("{\"b\":\"x,\\\"y\"}");
+        assertThat(reader.nextLine()).isEqualTo("{\"c\":3}");
+        assertThat(reader.nextLine()).isNull();
+    }
+
+    @Test
+    void nextLine_ShouldReadAcrossReadsOfOneCharacter() throws IOException {
+        RecordReader reader = new RecordReader(new OneCharReader("first\r\nsecond line\n"), 6);
+
+        assertThat(reader.nextLine()).isEqualTo("first");
+        assertThat(reader.truncated()).isFalse();
+        assertThat(reader.nextLine()).isEqualTo("second");
+        assertThat(reader.truncated()).isTrue();
+        assertThat(reader.nextLine()).isNull();
+    }
+
+    /** Hands out one character per read, like a slow network stream */
+    private static final class OneCharReader extends Reader {
+
+        private final StringReader in;
+
+        OneCharReader(String text) {
+            this.in = new StringReader(text);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return in.read(buffer, offset, Math.min(length, 1));
+        }
+
+        @Override
+        public void close() {
+            in.close();
+        }
+    }
+}